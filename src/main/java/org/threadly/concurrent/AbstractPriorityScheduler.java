@@ -2,15 +2,27 @@ package org.threadly.concurrent;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
-import org.threadly.concurrent.collections.ConcurrentArrayList;
+import org.threadly.concurrent.collections.ConcurrentSingleConsumerQueue;
+import org.threadly.concurrent.collections.ConcurrentSortedArrayList;
 import org.threadly.concurrent.future.ListenableFuture;
 import org.threadly.concurrent.future.ListenableFutureTask;
 import org.threadly.concurrent.future.ListenableRunnableFuture;
@@ -36,6 +48,10 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
   // tuned for performance of scheduled tasks
   protected static final int QUEUE_FRONT_PADDING = 0;
   protected static final int QUEUE_REAR_PADDING = 2;
+  protected static final long DEFAULT_TIMING_WHEEL_TICK_MILLIS = 10;
+  protected static final int DEFAULT_TIMING_WHEEL_SIZE = 1024;
+  protected static final long DEADLINE_TASK_MAX_PRECEDENCE_NANOS = 
+      TimeUnit.MILLISECONDS.toNanos(100);
 
   protected final TaskPriority defaultPriority;
   
@@ -68,6 +84,39 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
   public TaskPriority getDefaultPriority() {
     return defaultPriority;
   }
+  
+  /**
+   * Enables a hashed timing wheel in front of the sorted schedule queues, using a tick of 
+   * {@value #DEFAULT_TIMING_WHEEL_TICK_MILLIS} milliseconds and 
+   * {@value #DEFAULT_TIMING_WHEEL_SIZE} buckets.  See 
+   * {@link #enableScheduleTimingWheel(long, int)} for more details.
+   * 
+   * @since 5.33
+   */
+  public void enableScheduleTimingWheel() {
+    enableScheduleTimingWheel(DEFAULT_TIMING_WHEEL_TICK_MILLIS, DEFAULT_TIMING_WHEEL_SIZE);
+  }
+  
+  /**
+   * Enables a hashed timing wheel in front of the sorted schedule queues.  Once enabled delayed 
+   * and recurring tasks which are not due within the next tick are added into a wheel bucket in 
+   * constant time, rather than being inserted into the sorted schedule queue.  As the wheel 
+   * advances tasks are moved into the sorted queue before they are ready to run, so execution 
+   * order and timing is unchanged.  This is most useful when there are a large quantity of tasks 
+   * scheduled far into the future (for example timeouts which are usually removed before they 
+   * run).
+   * <p>
+   * Tasks already scheduled when this is invoked will remain where they are.  Once enabled the 
+   * timing wheel can not be disabled.
+   * 
+   * @since 5.33
+   * @param tickMillis Time window in milliseconds each bucket represents
+   * @param wheelSize Quantity of buckets in the wheel
+   * @throws IllegalStateException Thrown if the timing wheel has already been enabled
+   */
+  public void enableScheduleTimingWheel(long tickMillis, int wheelSize) {
+    getQueueManager().enableTimingWheel(tickMillis, wheelSize);
+  }
 
   @Override
   protected final void doSchedule(Runnable task, long delayInMillis) {
@@ -87,6 +136,31 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
   protected abstract OneTimeTaskWrapper doSchedule(Runnable task, 
                                                    long delayInMillis, TaskPriority priority);
 
+  @Override
+  protected final void doScheduleNanos(Runnable task, long delayInNanos) {
+    doScheduleNanos(task, delayInNanos, defaultPriority);
+  }
+  
+  /**
+   * Constructs a {@link OneTimeTaskWrapper} which will run with nanosecond precision, and adds it 
+   * to the schedule queue.  This is only invoked when the delay is not a whole number of 
+   * milliseconds, otherwise {@link #doSchedule(Runnable, long, TaskPriority)} is used.  By 
+   * default this will round the delay up to the next millisecond, implementations should 
+   * override this if they are able to schedule with nanosecond precision.
+   * 
+   * @since 5.33
+   * @param task Runnable to be executed
+   * @param delayInNanos delay in nanoseconds to wait before task is run
+   * @param priority Priority for task execution
+   * @return Wrapper that was scheduled
+   */
+  protected OneTimeTaskWrapper doScheduleNanos(Runnable task, 
+                                               long delayInNanos, TaskPriority priority) {
+    return doSchedule(task, 
+                      SchedulingUtils.toMillisRoundingUp(delayInNanos, TimeUnit.NANOSECONDS), 
+                      priority);
+  }
+  
   @Override
   public void execute(Runnable task, TaskPriority priority) {
     schedule(task, 0, priority);
@@ -102,6 +176,57 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
     return submitScheduled(task, 0, priority);
   }
 
+  @Override
+  public void executeAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+    ArgumentVerifier.assertNotNull(tasks, "tasks");
+    for (Runnable task : tasks) {
+      ArgumentVerifier.assertNotNull(task, "task");
+    }
+    if (priority == null) {
+      priority = defaultPriority;
+    }
+    
+    if (! tasks.isEmpty()) {
+      doExecuteAll(tasks, priority);
+    }
+  }
+  
+  @Override
+  public <T> List<ListenableFuture<T>> submitAll(Collection<? extends Callable<T>> tasks, 
+                                                 TaskPriority priority) {
+    ArgumentVerifier.assertNotNull(tasks, "tasks");
+    List<ListenableFutureTask<T>> futures = new ArrayList<>(tasks.size());
+    for (Callable<T> task : tasks) {
+      ArgumentVerifier.assertNotNull(task, "task");
+      futures.add(new ListenableFutureTask<>(false, task, this));
+    }
+    if (priority == null) {
+      priority = defaultPriority;
+    }
+    
+    if (! futures.isEmpty()) {
+      doExecuteAll(futures, priority);
+    }
+    
+    return Collections.unmodifiableList(futures);
+  }
+  
+  /**
+   * Queues a batch of tasks for immediate execution.  Arguments have already been verified at 
+   * this point.  By default this just invokes {@link #doSchedule(Runnable, long, TaskPriority)} 
+   * with no delay for each task.  Implementations which can queue the batch at once should 
+   * override this.
+   * 
+   * @since 5.33
+   * @param tasks Tasks to execute, will not be empty or contain {@code null}
+   * @param priority Priority for tasks (will not be {@code null})
+   */
+  protected void doExecuteAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+    for (Runnable task : tasks) {
+      doSchedule(task, 0, priority);
+    }
+  }
+  
   @Override
   public void schedule(Runnable task, long delayInMs, TaskPriority priority) {
     ArgumentVerifier.assertNotNull(task, "task");
@@ -113,6 +238,16 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
     doSchedule(task, delayInMs, priority);
   }
 
+  @Override
+  public <T> ListenableFuture<T> submitScheduled(Callable<T> task, long delayInMs) {
+    return submitScheduled(task, delayInMs, defaultPriority);
+  }
+  
+  @Override
+  public <T> ListenableFuture<T> submitScheduled(Callable<T> task, long delay, TimeUnit unit) {
+    return submitScheduled(task, delay, unit, defaultPriority);
+  }
+  
   @Override
   public <T> ListenableFuture<T> submitScheduled(Runnable task, T result, 
                                                  long delayInMs, TaskPriority priority) {
@@ -128,20 +263,164 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
       priority = defaultPriority;
     }
 
-    ListenableRunnableFuture<T> rf = new ListenableFutureTask<>(false, task, this);
-    doSchedule(rf, delayInMs, priority);
+    if (delayInMs == 0) {
+      ListenableRunnableFuture<T> rf = new ListenableFutureTask<>(false, task, this);
+      doSchedule(rf, 0, priority);
+      return rf;
+    }
+    
+    ScheduledFutureTask<T> rf = new ScheduledFutureTask<>(task, this, getQueueManager());
+    rf.setTaskWrapper(doSchedule(rf, delayInMs, priority));
+    
+    return rf;
+  }
+  
+  /**
+   * Submit a task which is only worth running if it can start before a deadline.  Ready tasks 
+   * with a deadline are run in order of their deadline (earliest deadline first), ahead of other 
+   * ready tasks of the same priority.  So that a steady stream of deadline tasks can not starve 
+   * other work, a deadline task will only run ahead of tasks which have been ready for less 
+   * than 100 milliseconds longer than it.  If the deadline has passed once the task is reached 
+   * it will be dropped rather than run, and the returned future will complete in error with a 
+   * {@link TimeoutException} as the cause.  Dropped tasks are counted, see 
+   * {@link #getShedTaskCount()}.
+   * 
+   * @since 5.33
+   * @param <T> type of result returned from the future
+   * @param task callable to be executed
+   * @param deadlineInMs time in milliseconds from now which the task must start by
+   * @param priority priority for task to get available thread to run on
+   * @return a future to know when the task has completed or was dropped
+   */
+  @Override
+  public <T> ListenableFuture<T> submitWithDeadline(Callable<T> task, long deadlineInMs, 
+                                                    TaskPriority priority) {
+    ArgumentVerifier.assertNotNull(task, "task");
+    ArgumentVerifier.assertNotNegative(deadlineInMs, "deadlineInMs");
+    if (priority == null) {
+      priority = defaultPriority;
+    }
+    
+    DeadlineFutureTask<T> rf = new DeadlineFutureTask<>(task, this);
+    doScheduleWithDeadline(rf, Clock.accurateForwardProgressingNanos() + 
+                                 TimeUnit.MILLISECONDS.toNanos(deadlineInMs), priority);
+    
+    return rf;
+  }
+  
+  /**
+   * Queues a task which was submitted with a deadline.  Arguments have already been verified at 
+   * this point.  Implementations which need to reject tasks after shutdown should override this.
+   * 
+   * @since 5.33
+   * @param task Future task to execute
+   * @param deadlineNanos Time from {@link Clock#accurateForwardProgressingNanos()} the task must start by
+   * @param priority Priority for task (will not be {@code null})
+   */
+  protected void doScheduleWithDeadline(DeadlineFutureTask<?> task, long deadlineNanos, 
+                                        TaskPriority priority) {
+    QueueSet queueSet = getQueueManager().getQueueSet(priority);
+    queueSet.addDeadline(new DeadlineTaskWrapper(task, queueSet, deadlineNanos));
+  }
+  
+  /**
+   * Returns the total quantity of tasks submitted with a deadline which were dropped because 
+   * their deadline had passed before they could start.  See 
+   * {@link #submitWithDeadline(Callable, long, TaskPriority)}.
+   * 
+   * @since 5.33
+   * @return Quantity of dropped deadline tasks
+   */
+  public long getShedTaskCount() {
+    long result = 0;
+    for (TaskPriority p : TaskPriority.values()) {
+      result += getShedTaskCount(p);
+    }
+    return result;
+  }
+  
+  /**
+   * Returns the quantity of tasks of a given priority which were dropped because their deadline 
+   * had passed before they could start.  See 
+   * {@link #submitWithDeadline(Callable, long, TaskPriority)}.
+   * 
+   * @since 5.33
+   * @param priority Priority of tasks to count, {@code null} to count all priorities
+   * @return Quantity of dropped deadline tasks
+   */
+  public long getShedTaskCount(TaskPriority priority) {
+    if (priority == null) {
+      return getShedTaskCount();
+    }
+    
+    return getQueueManager().getQueueSet(priority).shedTaskCount.sum();
+  }
+  
+  @Override
+  public void schedule(Runnable task, long delay, TimeUnit unit, TaskPriority priority) {
+    ArgumentVerifier.assertNotNull(task, "task");
+    ArgumentVerifier.assertNotNegative(delay, "delay");
+    if (priority == null) {
+      priority = defaultPriority;
+    }
+    
+    if (requiresNanoPrecision(delay, unit)) {
+      doScheduleNanos(task, unit.toNanos(delay), priority);
+    } else {
+      doSchedule(task, unit.toMillis(delay), priority);
+    }
+  }
+  
+  @Override
+  public <T> ListenableFuture<T> submitScheduled(Runnable task, T result, long delay, 
+                                                 TimeUnit unit, TaskPriority priority) {
+    return submitScheduled(RunnableCallableAdapter.adapt(task, result), delay, unit, priority);
+  }
+  
+  @Override
+  public <T> ListenableFuture<T> submitScheduled(Callable<T> task, long delay, TimeUnit unit, 
+                                                 TaskPriority priority) {
+    ArgumentVerifier.assertNotNull(task, "task");
+    ArgumentVerifier.assertNotNegative(delay, "delay");
+    if (priority == null) {
+      priority = defaultPriority;
+    }
+    
+    if (delay == 0) {
+      ListenableRunnableFuture<T> rf = new ListenableFutureTask<>(false, task, this);
+      doSchedule(rf, 0, priority);
+      return rf;
+    }
+    
+    ScheduledFutureTask<T> rf = new ScheduledFutureTask<>(task, this, getQueueManager());
+    if (requiresNanoPrecision(delay, unit)) {
+      rf.setTaskWrapper(doScheduleNanos(rf, unit.toNanos(delay), priority));
+    } else {
+      rf.setTaskWrapper(doSchedule(rf, unit.toMillis(delay), priority));
+    }
     
     return rf;
   }
   
   @Override
   public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay) {
-    scheduleWithFixedDelay(task, initialDelay, recurringDelay, null);
+    scheduleWithFixedDelay(task, initialDelay, recurringDelay, (TaskPriority)null);
+  }
+  
+  @Override
+  public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit) {
+    scheduleWithFixedDelay(task, initialDelay, recurringDelay, unit, null);
   }
   
   @Override
   public void scheduleAtFixedRate(Runnable task, long initialDelay, long period) {
-    scheduleAtFixedRate(task, initialDelay, period, null);
+    scheduleAtFixedRate(task, initialDelay, period, (TaskPriority)null);
+  }
+  
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+    scheduleAtFixedRate(task, initialDelay, period, unit, null);
   }
 
   @Override
@@ -166,7 +445,7 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
   
   @Override
   public int getQueuedTaskCount() {
-    int result = 0;
+    int result = getQueueManager().getAdditionalClassQueueSize();
     for (TaskPriority p : TaskPriority.values()) {
       result += getQueueManager().getQueueSet(p).queueSize();
     }
@@ -188,6 +467,12 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
     for (TaskPriority p : TaskPriority.values()) {
       result += getWaitingForExecutionTaskCount(p);
     }
+    WeightedPriorityClasses wpc = getQueueManager().getWeightedPriorityClasses();
+    if (wpc != null) {
+      for (int i = 2; i < wpc.queueSets.length; i++) {
+        result += getWaitingForExecutionTaskCount(wpc.queueSets[i]);
+      }
+    }
     return result;
   }
   
@@ -197,11 +482,14 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
       return getWaitingForExecutionTaskCount();
     }
     
-    QueueSet qs = getQueueManager().getQueueSet(priority);
-    int result = qs.executeQueue.size();
+    return getWaitingForExecutionTaskCount(getQueueManager().getQueueSet(priority));
+  }
+  
+  private static int getWaitingForExecutionTaskCount(QueueSet qs) {
+    int result = qs.executeQueue.size() + qs.deadlineQueue.size();
     for (int i = 0; i < qs.scheduleQueue.size(); i++) {
       try {
-        if (qs.scheduleQueue.get(i).getScheduleDelay() > 0) {
+        if (qs.scheduleQueue.get(i).getScheduleDelayNanos() > 0) {
           break;
         } else {
           result++;
@@ -224,6 +512,36 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
      * blocking threads waiting for tasks to consume.
      */
     public void handleQueueUpdate();
+    
+    /**
+     * Invoked when a scheduled task has become the head of a schedule queue.  By default this 
+     * just invokes {@link #handleQueueUpdate()}.  Listeners which have a thread waiting for a 
+     * delayed task can use the run time to only wake that thread when the new task is due sooner.
+     * 
+     * @since 5.33
+     * @param runTimeNanos Run time of the new head task, as returned from {@link TaskWrapper#getRunTimeNanos()}
+     */
+    public default void handleScheduleQueueUpdate(long runTimeNanos) {
+      handleQueueUpdate();
+    }
+    
+    /**
+     * Returns the current time which queued task run times are relative to.  This is used by a 
+     * {@link ScheduleTimingWheel} to know which windows are due.  By default this is 
+     * {@link Clock#accurateForwardProgressingNanos()}, schedulers which track time differently 
+     * must override this.
+     * 
+     * @since 5.33
+     * @param accurate {@code false} if the last known (possibly slightly stale) time is acceptable
+     * @return Current time in nanoseconds
+     */
+    public default long nowInNanos(boolean accurate) {
+      if (accurate) {
+        return Clock.accurateForwardProgressingNanos();
+      } else {
+        return Clock.lastKnownForwardProgressingNanos();
+      }
+    }
   }
 
   /**
@@ -237,15 +555,85 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
    */
   protected static class QueueSet {
     protected final QueueSetListener queueListener;
-    protected final ConcurrentLinkedQueue<OneTimeTaskWrapper> executeQueue;
-    protected final ConcurrentArrayList<TaskWrapper> scheduleQueue;
-    protected final Function<Integer, Long> scheduleQueueRunTimeByIndex;
+    protected final Queue<OneTimeTaskWrapper> executeQueue;
+    // sorted by pure run time, which unlike the run time does not change while a task is queued
+    protected final ConcurrentSortedArrayList<TaskWrapper> scheduleQueue;
+    // ready tasks which were submitted with a deadline, sorted by that deadline
+    protected final ConcurrentSkipListSet<DeadlineTaskWrapper> deadlineQueue;
+    // used to order deadline tasks with equal deadlines by their submission order
+    protected final AtomicLong deadlineSequence;
+    protected final LongAdder shedTaskCount;
+    // recurring tasks which have been claimed from the schedule queue and not yet rescheduled
+    protected final Set<RecurringTaskWrapper> executingRecurringTasks;
+    protected volatile ScheduleTimingWheel timingWheel;
+    // index of the weighted priority class, stored on tasks as they are queued
+    protected final int priorityClass;
     
     public QueueSet(QueueSetListener queueListener) {
+      this(queueListener, false);
+    }
+    
+    /**
+     * Constructs a new {@link QueueSet} which is not part of any weighted priority class.  See 
+     * {@link #QueueSet(QueueSetListener, boolean, int)}.
+     * 
+     * @since 5.33
+     * @param queueListener Listener to be invoked when the queues are updated
+     * @param singleConsumer {@code true} if only a single thread will consume tasks from this set
+     */
+    public QueueSet(QueueSetListener queueListener, boolean singleConsumer) {
+      this(queueListener, singleConsumer, -1);
+    }
+    
+    /**
+     * Constructs a new {@link QueueSet}.  If only a single thread will ever be consuming tasks 
+     * from this queue set, a {@link ConcurrentSingleConsumerQueue} will be used for the execute 
+     * queue.  This avoids allocating a queue node for each task, and the contention of multiple 
+     * producers attempting to update the queue tail.
+     * 
+     * @since 5.33
+     * @param queueListener Listener to be invoked when the queues are updated
+     * @param singleConsumer {@code true} if only a single thread will consume tasks from this set
+     * @param priorityClass Index of the weighted priority class for this set, or {@code -1} if none
+     */
+    public QueueSet(QueueSetListener queueListener, boolean singleConsumer, int priorityClass) {
       this.queueListener = queueListener;
-      this.executeQueue = new ConcurrentLinkedQueue<>();
-      this.scheduleQueue = new ConcurrentArrayList<>(QUEUE_FRONT_PADDING, QUEUE_REAR_PADDING);
-      scheduleQueueRunTimeByIndex = (index) -> scheduleQueue.get(index).getRunTime();
+      this.priorityClass = priorityClass;
+      if (singleConsumer) {
+        this.executeQueue = new ConcurrentSingleConsumerQueue<>();
+      } else {
+        this.executeQueue = new ConcurrentLinkedQueue<>();
+      }
+      this.scheduleQueue = new ConcurrentSortedArrayList<>(TaskWrapper::getPureRunTimeNanos, 
+                                                           QUEUE_FRONT_PADDING, QUEUE_REAR_PADDING);
+      this.executingRecurringTasks = ConcurrentHashMap.newKeySet();
+      this.deadlineQueue = new ConcurrentSkipListSet<>((tw1, tw2) -> {
+        if (tw1.deadlineNanos == tw2.deadlineNanos) {
+          return Long.compare(tw1.sequence, tw2.sequence);
+        } else {
+          return Long.compare(tw1.deadlineNanos, tw2.deadlineNanos);
+        }
+      });
+      this.deadlineSequence = new AtomicLong();
+      this.shedTaskCount = new LongAdder();
+      timingWheel = null;
+    }
+    
+    /**
+     * Enables a {@link ScheduleTimingWheel} to accept delayed tasks before they are added into the 
+     * sorted schedule queue.
+     * 
+     * @param tickMillis Time window in milliseconds each bucket represents
+     * @param wheelSize Quantity of buckets in the wheel
+     * @throws IllegalStateException Thrown if the timing wheel has already been enabled
+     */
+    public void enableTimingWheel(long tickMillis, int wheelSize) {
+      synchronized (scheduleQueue.getModificationLock()) {
+        if (timingWheel != null) {
+          throw new IllegalStateException("Timing wheel already enabled");
+        }
+        timingWheel = new ScheduleTimingWheel(this, tickMillis, wheelSize);
+      }
     }
 
     /**
@@ -255,11 +643,29 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
      * @param task Task to add to end of execute queue
      */
     public void addExecute(OneTimeTaskWrapper task) {
+      task.priorityClass = priorityClass;
       executeQueue.add(task);
 
       queueListener.handleQueueUpdate();
     }
 
+    /**
+     * Adds a batch of tasks for immediate execution.  No safety checks are done at this point.  
+     * Unlike invoking {@link #addExecute(OneTimeTaskWrapper)} for each task, the listener will 
+     * only be notified once for the entire batch.
+     * 
+     * @since 5.33
+     * @param tasks Tasks to add to end of execute queue
+     */
+    public void addExecuteAll(Collection<? extends OneTimeTaskWrapper> tasks) {
+      for (OneTimeTaskWrapper task : tasks) {
+        task.priorityClass = priorityClass;
+      }
+      executeQueue.addAll(tasks);
+      
+      queueListener.handleQueueUpdate();
+    }
+    
     /**
      * Adds a task for delayed execution.  No safety checks are done at this point.  This call 
      * will safely find the insertion point in the scheduled queue and insert it into that 
@@ -268,19 +674,32 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
      * @param task Task to insert into the schedule queue
      */
     public void addScheduled(TaskWrapper task) {
-      int insertionIndex;
-      synchronized (scheduleQueue.getModificationLock()) {
-        insertionIndex = SortUtils.getInsertionEndIndex(scheduleQueueRunTimeByIndex, 
-                                                        scheduleQueue.size() - 1, 
-                                                        task.getRunTime(), true);
-        scheduleQueue.add(insertionIndex, task);
+      task.priorityClass = priorityClass;
+      ScheduleTimingWheel wheel = timingWheel;
+      if (wheel != null && wheel.add(task, task.getPureRunTime())) {
+        return;
       }
       
-      if (insertionIndex == 0) {
-        queueListener.handleQueueUpdate();
+      if (scheduleQueue.addAndGetIndex(task) == 0) {
+        queueListener.handleScheduleQueueUpdate(task.getRunTimeNanos());
       }
     }
 
+    /**
+     * Adds a task which is ready to execute, but which must start before a deadline.  No safety 
+     * checks are done at this point.  The task will be inserted in deadline order, see 
+     * {@link #getNextTask()} for how it is ordered against other ready tasks.
+     * 
+     * @since 5.33
+     * @param task Task to insert into the deadline queue
+     */
+    public void addDeadline(DeadlineTaskWrapper task) {
+      task.priorityClass = priorityClass;
+      deadlineQueue.add(task);
+      
+      queueListener.handleQueueUpdate();
+    }
+    
     /**
      * Removes a given callable from the internal queues (if it exists).
      * 
@@ -298,6 +717,10 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
           }
         }
       }
+      if (! deadlineQueue.isEmpty() && 
+          removeDeadlineTask((tw) -> ContainerHelper.isContained(tw.task, task))) {
+        return true;
+      }
       synchronized (scheduleQueue.getModificationLock()) {
         Iterator<? extends TaskWrapper> it = scheduleQueue.iterator();
         while (it.hasNext()) {
@@ -309,9 +732,14 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
             return true;
           }
         }
+        
+        ScheduleTimingWheel wheel = timingWheel;
+        if (wheel != null && wheel.remove((tw) -> ContainerHelper.isContained(tw.task, task))) {
+          return true;
+        }
+        
+        return removeExecutingRecurringTask((tw) -> ContainerHelper.isContained(tw.task, task));
       }
-      
-      return false;
     }
 
     /**
@@ -331,6 +759,10 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
           }
         }
       }
+      if (! deadlineQueue.isEmpty() && 
+          removeDeadlineTask((tw) -> ContainerHelper.isContained(tw.task, task))) {
+        return true;
+      }
       synchronized (scheduleQueue.getModificationLock()) {
         Iterator<? extends TaskWrapper> it = scheduleQueue.iterator();
         while (it.hasNext()) {
@@ -342,6 +774,78 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
             return true;
           }
         }
+        
+        ScheduleTimingWheel wheel = timingWheel;
+        if (wheel != null && wheel.remove((tw) -> ContainerHelper.isContained(tw.task, task))) {
+          return true;
+        }
+        
+        return removeExecutingRecurringTask((tw) -> ContainerHelper.isContained(tw.task, task));
+      }
+    }
+    
+    /**
+     * Removes a specific task from the schedule queue (or timing wheel).  Rather than checking 
+     * every queued task, the task is found with a binary search on its run time.  The removed 
+     * task will be invalidated.
+     * 
+     * @since 5.33
+     * @param task Task wrapper to search for and remove
+     * @return {@code true} if the task was found and removed
+     */
+    public boolean removeScheduled(TaskWrapper task) {
+      synchronized (scheduleQueue.getModificationLock()) {
+        int index = scheduleQueue.indexOfIdentity(task);
+        if (index >= 0) {
+          scheduleQueue.remove(index);
+          task.invalidate();
+          
+          return true;
+        }
+        
+        ScheduleTimingWheel wheel = timingWheel;
+        if (wheel != null && wheel.remove(task)) {
+          task.invalidate();
+          
+          return true;
+        }
+      }
+      
+      return false;
+    }
+    
+    private boolean removeDeadlineTask(Predicate<TaskWrapper> filter) {
+      Iterator<DeadlineTaskWrapper> it = deadlineQueue.iterator();
+      while (it.hasNext()) {
+        DeadlineTaskWrapper tw = it.next();
+        if (filter.test(tw) && deadlineQueue.remove(tw)) {
+          tw.invalidate();
+          
+          return true;
+        }
+      }
+      
+      return false;
+    }
+    
+    /**
+     * Removes a recurring task which is currently executing, so that it will not be rescheduled 
+     * once the current execution completes.  This must be invoked while holding the schedule 
+     * queue's modification lock.
+     * 
+     * @param filter Filter to find the recurring task to remove
+     * @return {@code true} if a matching task was found and removed
+     */
+    private boolean removeExecutingRecurringTask(Predicate<TaskWrapper> filter) {
+      Iterator<RecurringTaskWrapper> it = executingRecurringTasks.iterator();
+      while (it.hasNext()) {
+        RecurringTaskWrapper tw = it.next();
+        if (filter.test(tw)) {
+          tw.invalidate();
+          it.remove();
+          
+          return true;
+        }
       }
       
       return false;
@@ -355,13 +859,44 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
      * @return Total quantity of tasks queued
      */
     public int queueSize() {
-      return executeQueue.size() + scheduleQueue.size();
+      int size = executeQueue.size() + scheduleQueue.size() + deadlineQueue.size();
+      if (! executingRecurringTasks.isEmpty()) {
+        size += executingRecurringTasks.size();
+      }
+      ScheduleTimingWheel wheel = timingWheel;
+      if (wheel == null) {
+        return size;
+      } else {
+        return size + wheel.queuedTaskCount();
+      }
+    }
+    
+    /**
+     * Checks if there are any tasks queued which are not scheduled with a delay.  This only 
+     * checks if the execute or deadline queues are empty, so it is much cheaper than 
+     * {@link #getNextTask()}.
+     * 
+     * @since 5.33
+     * @return {@code true} if there is an execute or deadline task queued
+     */
+    public boolean hasUnscheduledTasks() {
+      return ! executeQueue.isEmpty() || ! deadlineQueue.isEmpty();
     }
 
     public void drainQueueInto(List<TaskWrapper> removedTasks) {
       clearQueue(executeQueue, removedTasks);
-      synchronized (scheduleQueue.getModificationLock()) {
-        clearQueue(scheduleQueue, removedTasks);
+      clearQueue(deadlineQueue, removedTasks);
+      ScheduleTimingWheel wheel = timingWheel;
+      if (wheel == null) {
+        synchronized (scheduleQueue.getModificationLock()) {
+          clearQueue(scheduleQueue, removedTasks);
+          clearQueue(executingRecurringTasks, removedTasks);
+        }
+      } else {
+        wheel.drainQueueInto(removedTasks);
+        synchronized (scheduleQueue.getModificationLock()) {
+          clearQueue(executingRecurringTasks, removedTasks);
+        }
       }
     }
   
@@ -380,9 +915,9 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
               resultList.add(tw);
             } else {
               resultList.add(SortUtils.getInsertionEndIndex((index) -> 
-                                                              resultList.get(index).getRunTime(), 
+                                                              resultList.get(index).getRunTimeNanos(), 
                                                             resultList.size() - 1, 
-                                                            tw.getRunTime(), true), 
+                                                            tw.getRunTimeNanos(), true), 
                              tw);
             }
           }
@@ -397,47 +932,658 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
      * next.
      * <p>
      * The task returned from this may not be ready to executed, but at the time of calling it 
-     * will be the next one to execute.
+     * will be the next one to execute.  Tasks with a deadline are always ready, and are returned 
+     * ahead of other tasks unless those tasks have been ready for more than 
+     * {@link #DEADLINE_TASK_MAX_PRECEDENCE_NANOS} longer.  Deadline tasks which are past their 
+     * deadline are still returned, they are shed by the consumer which claims them.
      * 
      * @return TaskWrapper which will be executed next, or {@code null} if there are no tasks
      */
     public TaskWrapper getNextTask() {
+      TaskWrapper nextTask;
       TaskWrapper scheduledTask = scheduleQueue.peekFirst();
       TaskWrapper executeTask = executeQueue.peek();
       if (executeTask != null) {
-        if (scheduledTask != null && scheduledTask.getRunTime() < executeTask.getRunTime()) {
-          return scheduledTask;
+        if (scheduledTask != null && 
+            scheduledTask.getRunTimeNanos() < executeTask.getRunTimeNanos()) {
+          nextTask = scheduledTask;
         } else {
-          return executeTask;
+          nextTask = executeTask;
         }
       } else {
-        return scheduledTask;
+        nextTask = scheduledTask;
+      }
+      if (deadlineQueue.isEmpty()) {
+        return nextTask;
+      }
+      
+      TaskWrapper deadlineTask = peekDeadlineTask();
+      if (deadlineTask != null && 
+          (nextTask == null || 
+             deadlineTask.getRunTimeNanos() - DEADLINE_TASK_MAX_PRECEDENCE_NANOS <= 
+               nextTask.getRunTimeNanos())) {
+        return deadlineTask;
+      } else {
+        return nextTask;
+      }
+    }
+    
+    /**
+     * Returns the deadline task with the earliest deadline.  The task may already be past its 
+     * deadline, in which case it will be shed by the consumer which claims it (see 
+     * {@link DeadlineTaskWrapper#canExecute(short)}).  That way no clock is checked, and no 
+     * future listeners are invoked while inspecting the queue.
+     * 
+     * @return Deadline task with the earliest deadline, or {@code null} if none are queued
+     */
+    private DeadlineTaskWrapper peekDeadlineTask() {
+      try {
+        return deadlineQueue.first();
+      } catch (NoSuchElementException e) {
+        // removed concurrently
+        return null;
       }
     }
   }
   
   /**
-   * A service which manages the execute queues.  It runs a task to consume from the queues and 
-   * execute those tasks as workers become available.  It also manages the queues as tasks are 
-   * added, removed, or rescheduled.
+   * Hashed timing wheel which can be used in front of the sorted schedule queue in a 
+   * {@link QueueSet}.  Tasks which are not due within the current window are hashed into a bucket 
+   * by their run time (a constant time operation), and are only moved into the sorted schedule 
+   * queue once the window for that bucket has been reached.  This keeps the sorted queue small 
+   * even when there are a large quantity of tasks scheduled far into the future.  Tasks which 
+   * need more than one rotation of the wheel simply stay in their bucket until a rotation where 
+   * they are within the window.
+   * <p>
+   * The wheel is advanced by a single internal task which is kept in the schedule queue at the 
+   * start of the next window which has tasks.  When a consumer attempts to execute that task the 
+   * due buckets are moved into the schedule queue, and the consumer will find the now sorted tasks 
+   * on its next invocation of {@link QueueSet#getNextTask()}.
+   * <p>
+   * Each bucket is an intrusive doubly linked list through the links in {@link TaskWrapper}, so 
+   * adding a task does not allocate, and a specific task can be unlinked in constant time.  Time 
+   * is provided by {@link QueueSetListener#nowInNanos(boolean)}, so that the wheel advances with 
+   * the owning scheduler's clock. 
+   * <p>
+   * Locks must be acquired in the order of {@code promotionLock}, the schedule queue modification 
+   * lock, then a bucket lock.
    * 
-   * @since 3.4.0
+   * @since 5.33
    */
-  protected static class QueueManager {
+  protected static class ScheduleTimingWheel {
+    private static final InternalRunnable PROMOTION_RUNNABLE = new InternalRunnable() {
+      @Override
+      public void run() {
+        // promotion is done when the task is attempted to be executed, not when it is run
+      }
+    };
+    
+    protected final QueueSet queueSet;
+    protected final long tickMillis;
+    protected final TimingWheelBucket[] buckets;
+    protected final AtomicInteger size;
+    protected final Object promotionLock;
+    protected final PromotionTaskWrapper promotionTask;
+    // tasks with a run time before this have been promoted, and must go directly to the queue
+    private volatile long promotedThrough;
+    // tasks with a window start before this must verify the promotion task position
+    private volatile long promotionGate;
+    private boolean promotionTaskQueued; // guarded by promotionLock
+    
+    protected ScheduleTimingWheel(QueueSet queueSet, long tickMillis, int wheelSize) {
+      ArgumentVerifier.assertGreaterThanZero(tickMillis, "tickMillis");
+      ArgumentVerifier.assertGreaterThanZero(wheelSize, "wheelSize");
+      
+      this.queueSet = queueSet;
+      this.tickMillis = tickMillis;
+      this.buckets = new TimingWheelBucket[wheelSize];
+      for (int i = 0; i < wheelSize; i++) {
+        buckets[i] = new TimingWheelBucket();
+      }
+      this.size = new AtomicInteger(0);
+      this.promotionLock = new Object();
+      this.promotionTask = new PromotionTaskWrapper(this);
+      this.promotedThrough = windowStart(nowInMillis());
+      this.promotionGate = Long.MAX_VALUE;
+      this.promotionTaskQueued = false;
+    }
+    
+    private long windowStart(long time) {
+      return time - Math.floorMod(time, tickMillis);
+    }
+    
+    private TimingWheelBucket bucketFor(long time) {
+      return buckets[(int)Math.floorMod(time / tickMillis, (long)buckets.length)];
+    }
+    
+    private long nowInMillis() {
+      return queueSet.queueListener.nowInNanos(false) / Clock.NANOS_IN_MILLISECOND;
+    }
+    
+    /**
+     * Call to get the quantity of tasks which are waiting in the wheel.  Because the internal 
+     * promotion task is stored in the schedule queue, it's presence is subtracted from this count 
+     * so that the result can be added to the size of the schedule queue.
+     * 
+     * @return Quantity of tasks in the wheel, possibly offset by the internal promotion task
+     */
+    public int queuedTaskCount() {
+      int result = size.get();
+      if (promotionGate != Long.MAX_VALUE) {
+        result--;
+      }
+      return result;
+    }
+    
+    /**
+     * Attempt to add a task into the timing wheel.  If the task is due too soon to be added into 
+     * the wheel, {@code false} will be returned and the task must instead be added into the 
+     * schedule queue directly.
+     * 
+     * @param task Task to be added
+     * @param runTime The time the task should be run at
+     * @return {@code true} if the task was accepted by the wheel
+     */
+    public boolean add(TaskWrapper task, long runTime) {
+      if (addToBucket(task, runTime)) {
+        addedToBucket(runTime);
+        return true;
+      } else {
+        return false;
+      }
+    }
+    
+    /**
+     * First half of {@link #add(TaskWrapper, long)}.  This will add the task into the bucket, but 
+     * if accepted the caller MUST invoke {@link #addedToBucket(long)} once any schedule queue 
+     * lock has been released.
+     * 
+     * @param task Task to be added
+     * @param runTime The time the task should be run at
+     * @return {@code true} if the task was accepted by the wheel
+     */
+    protected boolean addToBucket(TaskWrapper task, long runTime) {
+      if (runTime < promotedThrough || 
+          runTime - nowInMillis() < tickMillis) {
+        return false;
+      }
+      
+      TimingWheelBucket bucket = bucketFor(runTime);
+      size.incrementAndGet();
+      synchronized (bucket) {
+        // check again now that the bucket can not be promoted concurrently
+        if (runTime < promotedThrough) {
+          size.decrementAndGet();
+          return false;
+        }
+        bucket.link(task);
+      }
+      return true;
+    }
+    
+    /**
+     * Second half of {@link #add(TaskWrapper, long)}.  Ensures the promotion task will run before 
+     * the window of a newly added task.  This must NOT be invoked while holding the schedule queue 
+     * lock.
+     * 
+     * @param runTime The time the added task should be run at
+     */
+    protected void addedToBucket(long runTime) {
+      long windowStart = windowStart(runTime);
+      if (windowStart < promotionGate) {
+        boolean headUpdated = false;
+        synchronized (promotionLock) {
+          if (! promotionTaskQueued || windowStart < promotionTask.runTime) {
+            synchronized (queueSet.scheduleQueue.getModificationLock()) {
+              headUpdated = queuePromotionTask(queueSet.scheduleQueue, windowStart);
+            }
+          }
+        }
+        
+        if (headUpdated) {
+          queueSet.queueListener.handleScheduleQueueUpdate(windowStart * Clock.NANOS_IN_MILLISECOND);
+        }
+      }
+    }
+    
+    /**
+     * Queues (or re-positions) the promotion task in the schedule queue.  Both the 
+     * {@code promotionLock} and the schedule queue lock must be held while invoking.
+     * 
+     * @param scheduleQueue The schedule queue, or a working copy of it being mutated
+     * @param runTime Time the promotion task should run at
+     * @return {@code true} if the promotion task is now at the head of the schedule queue
+     */
+    private boolean queuePromotionTask(List<TaskWrapper> scheduleQueue, long runTime) {
+      if (promotionTaskQueued) {
+        scheduleQueue.remove(promotionTask);
+      }
+      promotionTask.runTime = runTime;
+      // both the schedule queue and its working copies insert in sorted order
+      scheduleQueue.add(promotionTask);
+      promotionTaskQueued = true;
+      promotionGate = runTime;
+      
+      return scheduleQueue.get(0) == promotionTask;
+    }
+    
+    /**
+     * Moves the tasks from the windows up through the current promotion task window into the 
+     * schedule queue.  Invalidated tasks found in those windows are discarded.  Once finished the 
+     * promotion task will be re-positioned to the start of the next window which contains tasks.  
+     * All the schedule queue changes are published as a single update.
+     */
+    protected void promote() {
+      boolean headUpdated;
+      synchronized (promotionLock) {
+        if (! promotionTaskQueued || 
+            promotionTask.runTime > nowInMillis()) {
+          // queue was drained, or promotion was already done by another consumer
+          return;
+        }
+        // until finished, force adders to verify the promotion task position
+        promotionGate = Long.MAX_VALUE;
+        long previousThrough = promotedThrough;
+        long through = windowStart(promotionTask.runTime) + tickMillis;
+        promotedThrough = through;
+        
+        synchronized (queueSet.scheduleQueue.getModificationLock()) {
+          List<TaskWrapper> promoted = new ArrayList<>();
+          long windowCount = Math.min(buckets.length, (through - previousThrough) / tickMillis);
+          for (long i = 0; i < windowCount; i++) {
+            TimingWheelBucket bucket = bucketFor(previousThrough + (i * tickMillis));
+            if (bucket.isEmpty()) {
+              continue;
+            }
+            synchronized (bucket) {
+              TaskWrapper tw = bucket.head;
+              while (tw != null) {
+                TaskWrapper next = tw.wheelNext;
+                if (tw.invalidated) {
+                  bucket.unlink(tw);
+                  size.decrementAndGet();
+                } else if (tw.getPureRunTime() < through) {
+                  bucket.unlink(tw);
+                  size.decrementAndGet();
+                  promoted.add(tw);
+                }
+                tw = next;
+              }
+            }
+          }
+          
+          long nextWindow = -1;
+          if (size.get() > 0) {
+            nextWindow = through;
+            for (int i = 0; i < buckets.length; i++) {
+              if (! bucketFor(nextWindow).isEmpty()) {
+                break;
+              }
+              nextWindow += tickMillis;
+            }
+          }
+          
+          final long finalNextWindow = nextWindow;
+          headUpdated = queueSet.scheduleQueue.mutateAndGet((queue) -> {
+            queue.remove(promotionTask);
+            promotionTaskQueued = false;
+            TaskWrapper previousHead = queue.isEmpty() ? null : queue.get(0);
+            
+            // the working copy inserts each task in sorted order
+            queue.addAll(promoted);
+            
+            if (finalNextWindow >= 0) {
+              queuePromotionTask(queue, finalNextWindow);
+            }
+            return ! queue.isEmpty() && queue.get(0) != previousHead;
+          });
+        }
+      }
+      
+      if (headUpdated) {
+        queueSet.queueListener.handleQueueUpdate();
+      }
+    }
+    
+    /**
+     * Removes the first task from the wheel which matches the provided filter.  The removed task 
+     * will be invalidated.  Since the filter may match on any task contained within a wrapper, 
+     * the tasks in the wheel must be checked one by one, but empty buckets are skipped without 
+     * being locked.  To remove a known wrapper use {@link #remove(TaskWrapper)} instead.
+     * 
+     * @param filter Filter to test if task should be removed
+     * @return {@code true} if a task was found and removed
+     */
+    public boolean remove(Predicate<TaskWrapper> filter) {
+      if (size.get() == 0) {
+        return false;
+      }
+      for (TimingWheelBucket bucket : buckets) {
+        if (bucket.isEmpty()) {
+          continue;
+        }
+        synchronized (bucket) {
+          TaskWrapper tw = bucket.head;
+          while (tw != null) {
+            if (filter.test(tw)) {
+              tw.invalidate();
+              bucket.unlink(tw);
+              size.decrementAndGet();
+              
+              return true;
+            }
+            tw = tw.wheelNext;
+          }
+        }
+      }
+      
+      return false;
+    }
+    
+    /**
+     * Removes a specific task wrapper from the wheel.  The wrapper references the bucket it is 
+     * in, so this is a constant time operation.
+     * 
+     * @param task Task wrapper to remove
+     * @return {@code true} if the task was in the wheel and removed
+     */
+    public boolean remove(TaskWrapper task) {
+      TimingWheelBucket bucket = task.wheelBucket;
+      if (bucket == null) {
+        return false;
+      }
+      synchronized (bucket) {
+        if (task.wheelBucket != bucket) {
+          // removed or promoted concurrently
+          return false;
+        }
+        bucket.unlink(task);
+      }
+      size.decrementAndGet();
+      return true;
+    }
+    
+    /**
+     * Removes all tasks from the wheel, as well as the schedule queue, and adds them into the 
+     * provided list.
+     * 
+     * @param removedTasks List to add removed tasks into
+     */
+    public void drainQueueInto(List<TaskWrapper> removedTasks) {
+      synchronized (promotionLock) {
+        synchronized (queueSet.scheduleQueue.getModificationLock()) {
+          QueueSet.clearQueue(queueSet.scheduleQueue, removedTasks);
+          promotionTaskQueued = false;
+          promotionGate = Long.MAX_VALUE;
+          
+          List<TaskWrapper> wheelTasks = new ArrayList<>();
+          for (TimingWheelBucket bucket : buckets) {
+            synchronized (bucket) {
+              TaskWrapper tw;
+              while ((tw = bucket.head) != null) {
+                bucket.unlink(tw);
+                size.decrementAndGet();
+                wheelTasks.add(tw);
+              }
+            }
+          }
+          QueueSet.clearQueue(wheelTasks, removedTasks);
+        }
+      }
+    }
+  }
+  
+  /**
+   * A single bucket of a {@link ScheduleTimingWheel}.  Tasks are linked through their own 
+   * {@link TaskWrapper} fields rather than being stored in a collection, so no node is allocated 
+   * per task.  All modifications must be done while synchronized on the bucket.
+   * 
+   * @since 5.33
+   */
+  protected static class TimingWheelBucket {
+    // only modified while synchronized on this, volatile so empty buckets can be skipped
+    protected volatile TaskWrapper head;
+    
+    /**
+     * Checks if the bucket has any tasks.  This may be invoked without holding the bucket lock.
+     * 
+     * @return {@code true} if there are no tasks in the bucket
+     */
+    public boolean isEmpty() {
+      return head == null;
+    }
+    
+    /**
+     * Adds the task to the front of the bucket.  The task must not be in any bucket.
+     * 
+     * @param task Task to add
+     */
+    protected void link(TaskWrapper task) {
+      TaskWrapper oldHead = head;
+      task.wheelPrev = null;
+      task.wheelNext = oldHead;
+      if (oldHead != null) {
+        oldHead.wheelPrev = task;
+      }
+      head = task;
+      task.wheelBucket = this;
+    }
+    
+    /**
+     * Removes the task from the bucket.  The task must currently be in this bucket.
+     * 
+     * @param task Task to remove
+     */
+    protected void unlink(TaskWrapper task) {
+      TaskWrapper prev = task.wheelPrev;
+      TaskWrapper next = task.wheelNext;
+      if (prev == null) {
+        head = next;
+      } else {
+        prev.wheelNext = next;
+      }
+      if (next != null) {
+        next.wheelPrev = prev;
+      }
+      task.wheelPrev = null;
+      task.wheelNext = null;
+      task.wheelBucket = null;
+    }
+  }
+  
+  /**
+   * Internal task which represents the next window of a {@link ScheduleTimingWheel} within the 
+   * sorted schedule queue.  This task never executes, instead when a consumer attempts to execute 
+   * it the tasks for the window are moved into the schedule queue.
+   * 
+   * @since 5.33
+   */
+  protected static class PromotionTaskWrapper extends TaskWrapper {
+    protected final ScheduleTimingWheel timingWheel;
+    // only modified while holding the schedule queue lock
+    protected volatile long runTime;
+    
+    protected PromotionTaskWrapper(ScheduleTimingWheel timingWheel) {
+      super(ScheduleTimingWheel.PROMOTION_RUNNABLE);
+      
+      this.timingWheel = timingWheel;
+      this.runTime = Long.MAX_VALUE;
+    }
+
+    @Override
+    public void runTask() {
+      // never executed, see canExecute
+    }
+
+    @Override
+    public short getExecuteReference() {
+      return 0;
+    }
+
+    @Override
+    public boolean canExecute(short executeReference) {
+      timingWheel.promote();
+      // the consumer must now check the queue again to find the promoted tasks
+      return false;
+    }
+
+    @Override
+    public long getRunTime() {
+      return runTime;
+    }
+
+    @Override
+    public long getPureRunTime() {
+      return runTime;
+    }
+    
+    @Override
+    public long getScheduleDelayNanos() {
+      // must use the same clock as the wheel, which may differ from the system clock
+      long runTimeNanos = getRunTimeNanos();
+      QueueSetListener listener = timingWheel.queueSet.queueListener;
+      if (runTimeNanos > listener.nowInNanos(false)) {
+        return runTimeNanos - listener.nowInNanos(true);
+      } else {
+        return 0;
+      }
+    }
+  }
+  
+  /**
+   * A service which manages the execute queues.  It runs a task to consume from the queues and 
+   * execute those tasks as workers become available.  It also manages the queues as tasks are 
+   * added, removed, or rescheduled.
+   * 
+   * @since 3.4.0
+   */
+  protected static class QueueManager {
+    protected final QueueSetListener queueSetListener;
     protected final QueueSet highPriorityQueueSet;
     protected final QueueSet lowPriorityQueueSet;
     protected final QueueSet starvablePriorityQueueSet;
     private volatile long maxWaitForLowPriorityInMs;
+    // null unless enabled, can only be set while synchronized on this
+    private volatile WeightedPriorityClasses weightedPriorityClasses;
+    private long timingWheelTickMillis; // only accessed while synchronized on this
+    private int timingWheelSize;  // only accessed while synchronized on this
+    protected final boolean singleConsumer;
     
     public QueueManager(QueueSetListener queueSetListener, long maxWaitForLowPriorityInMs) {
-      this.highPriorityQueueSet = new QueueSet(queueSetListener);
-      this.lowPriorityQueueSet = new QueueSet(queueSetListener);
-      this.starvablePriorityQueueSet = new QueueSet(queueSetListener);
+      this(queueSetListener, maxWaitForLowPriorityInMs, false);
+    }
+    
+    /**
+     * Constructs a new {@link QueueManager}.  See 
+     * {@link QueueSet#QueueSet(QueueSetListener, boolean)} for details on the single consumer 
+     * optimization.
+     * 
+     * @since 5.33
+     * @param queueSetListener Listener to be invoked when the queues are updated
+     * @param maxWaitForLowPriorityInMs time low priority tasks to wait if there are high priority tasks ready to run
+     * @param singleConsumer {@code true} if only a single thread will consume tasks at a time
+     */
+    public QueueManager(QueueSetListener queueSetListener, long maxWaitForLowPriorityInMs, 
+                        boolean singleConsumer) {
+      this.queueSetListener = queueSetListener;
+      this.singleConsumer = singleConsumer;
+      // high and low priority are always the first two weighted priority classes
+      this.highPriorityQueueSet = new QueueSet(queueSetListener, singleConsumer, 0);
+      this.lowPriorityQueueSet = new QueueSet(queueSetListener, singleConsumer, 1);
+      this.starvablePriorityQueueSet = new QueueSet(queueSetListener, singleConsumer);
+      this.weightedPriorityClasses = null;
+      this.timingWheelTickMillis = -1;
+      this.timingWheelSize = -1;
       
       // call to verify and set values
       setMaxWaitForLowPriority(maxWaitForLowPriorityInMs);
     }
     
+    /**
+     * Enables weighted fair scheduling between a configurable number of priority classes.  See 
+     * {@link PriorityScheduler#enableWeightedPriorityClasses(int...)} for details.
+     * 
+     * @since 5.33
+     * @param classWeights Weight for each priority class, at least two must be provided
+     * @throws IllegalStateException Thrown if weighted priority classes have already been enabled
+     */
+    public synchronized void enableWeightedPriorityClasses(int[] classWeights) {
+      if (weightedPriorityClasses != null) {
+        throw new IllegalStateException("Weighted priority classes already enabled");
+      }
+      
+      WeightedPriorityClasses wpc = new WeightedPriorityClasses(this, classWeights);
+      if (timingWheelTickMillis > 0) {
+        for (int i = 2; i < wpc.queueSets.length; i++) {
+          wpc.queueSets[i].enableTimingWheel(timingWheelTickMillis, timingWheelSize);
+        }
+      }
+      weightedPriorityClasses = wpc;
+    }
+    
+    /**
+     * Returns the weighted priority classes if they have been enabled.
+     * 
+     * @since 5.33
+     * @return Weighted priority classes or {@code null} if not enabled
+     */
+    public WeightedPriorityClasses getWeightedPriorityClasses() {
+      return weightedPriorityClasses;
+    }
+    
+    /**
+     * Returns the {@link QueueSet} for a weighted priority class.  Class {@code 0} is the 
+     * {@link TaskPriority#High} queue set, and class {@code 1} is the {@link TaskPriority#Low} 
+     * queue set.
+     * 
+     * @since 5.33
+     * @param priorityClass Index of the priority class
+     * @return {@link QueueSet} for the priority class
+     * @throws IllegalStateException Thrown if weighted priority classes have not been enabled
+     */
+    public QueueSet getQueueSet(int priorityClass) {
+      WeightedPriorityClasses wpc = weightedPriorityClasses;
+      if (wpc == null) {
+        throw new IllegalStateException("Weighted priority classes not enabled");
+      }
+      return wpc.getQueueSet(priorityClass);
+    }
+    
+    /**
+     * Invoked once a task returned from {@link #getNextTask()} has been claimed for execution 
+     * (ie {@link TaskWrapper#canExecute(short)} returned {@code true}).  This is used to account 
+     * the execution against the task's priority class when weighted priority classes are enabled.
+     * 
+     * @since 5.33
+     * @param task Task which is about to be executed
+     */
+    public void taskClaimed(TaskWrapper task) {
+      WeightedPriorityClasses wpc = weightedPriorityClasses;
+      if (wpc != null) {
+        wpc.taskClaimed(task);
+      }
+    }
+    
+    /**
+     * Returns the quantity of tasks queued in the additional priority classes added by 
+     * {@link #enableWeightedPriorityClasses(int[])}.  Tasks in the classes which map to 
+     * {@link TaskPriority} values are not included.
+     * 
+     * @since 5.33
+     * @return Quantity of tasks queued only in weighted priority classes
+     */
+    public int getAdditionalClassQueueSize() {
+      WeightedPriorityClasses wpc = weightedPriorityClasses;
+      if (wpc == null) {
+        return 0;
+      }
+      int result = 0;
+      for (int i = 2; i < wpc.queueSets.length; i++) {
+        result += wpc.queueSets[i].queueSize();
+      }
+      return result;
+    }
+    
     /**
      * Returns the {@link QueueSet} for a specified priority.
      * 
@@ -454,6 +1600,30 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
       }
     }
     
+    /**
+     * Enables a {@link ScheduleTimingWheel} on every {@link QueueSet} managed by this instance.
+     * 
+     * @param tickMillis Time window in milliseconds each bucket represents
+     * @param wheelSize Quantity of buckets in the wheel
+     * @throws IllegalStateException Thrown if the timing wheel has already been enabled
+     */
+    public synchronized void enableTimingWheel(long tickMillis, int wheelSize) {
+      ArgumentVerifier.assertGreaterThanZero(tickMillis, "tickMillis");
+      ArgumentVerifier.assertGreaterThanZero(wheelSize, "wheelSize");
+      
+      highPriorityQueueSet.enableTimingWheel(tickMillis, wheelSize);
+      lowPriorityQueueSet.enableTimingWheel(tickMillis, wheelSize);
+      starvablePriorityQueueSet.enableTimingWheel(tickMillis, wheelSize);
+      WeightedPriorityClasses wpc = weightedPriorityClasses;
+      if (wpc != null) {
+        for (int i = 2; i < wpc.queueSets.length; i++) {
+          wpc.queueSets[i].enableTimingWheel(tickMillis, wheelSize);
+        }
+      }
+      timingWheelTickMillis = tickMillis;
+      timingWheelSize = wheelSize;
+    }
+    
     /**
      * Removes any tasks waiting to be run.  Will not interrupt any tasks currently running.  But 
      * will avoid additional tasks from being run (unless they are allowed to be added during or 
@@ -466,10 +1636,17 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
     public List<Runnable> clearQueue() {
       List<TaskWrapper> wrapperList = new ArrayList<>(highPriorityQueueSet.queueSize() + 
                                                         lowPriorityQueueSet.queueSize() + 
-                                                        starvablePriorityQueueSet.queueSize());
+                                                        starvablePriorityQueueSet.queueSize() + 
+                                                        getAdditionalClassQueueSize());
       highPriorityQueueSet.drainQueueInto(wrapperList);
       lowPriorityQueueSet.drainQueueInto(wrapperList);
       starvablePriorityQueueSet.drainQueueInto(wrapperList);
+      WeightedPriorityClasses wpc = weightedPriorityClasses;
+      if (wpc != null) {
+        for (int i = 2; i < wpc.queueSets.length; i++) {
+          wpc.queueSets[i].drainQueueInto(wrapperList);
+        }
+      }
       
       return ContainerHelper.getContainedRunnables(wrapperList);
     }
@@ -482,8 +1659,40 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
      * @return Task to be executed next, or {@code null} if no tasks at all are queued
      */
     public TaskWrapper getNextTask() {
-      // First compare between high and low priority task queues
+      // First compare between high and low priority task queues (or the weighted classes)
       // then depending on that state, we may check starvable
+      TaskWrapper nextTask = getNextHighOrLowPriorityTask();
+      if (nextTask == null) {
+        return starvablePriorityQueueSet.getNextTask();
+      } else {
+        long nextTaskDelay = nextTask.getScheduleDelayNanos();
+        if (nextTaskDelay > 0) {
+          TaskWrapper nextStarvableTask = starvablePriorityQueueSet.getNextTask();
+          if (nextStarvableTask != null && 
+              nextStarvableTask.getPureRunTimeNanos() < nextTask.getPureRunTimeNanos()) {
+            return nextStarvableTask;
+          } else {
+            return nextTask;
+          }
+        } else {
+          return nextTask;
+        }
+      }
+    }
+    
+    /**
+     * Gets the next task from either the high or low priority queues, ignoring any starvable 
+     * tasks.  This follows the same rules for choosing between high and low priority tasks as 
+     * {@link #getNextTask()}.
+     * 
+     * @since 5.33
+     * @return Next high or low priority task, or {@code null} if neither queue has a task
+     */
+    public TaskWrapper getNextHighOrLowPriorityTask() {
+      WeightedPriorityClasses wpc = weightedPriorityClasses;
+      if (wpc != null) {
+        return wpc.getNextTask();
+      }
       TaskWrapper nextTask;
       TaskWrapper nextHighPriorityTask = highPriorityQueueSet.getNextTask();
       TaskWrapper nextLowPriorityTask = lowPriorityQueueSet.getNextTask();
@@ -491,9 +1700,9 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
         nextTask = nextHighPriorityTask;
       } else if (nextHighPriorityTask == null) {
         nextTask = nextLowPriorityTask;
-      } else if (nextHighPriorityTask.getRunTime() <= nextLowPriorityTask.getRunTime()) {
+      } else if (nextHighPriorityTask.getRunTimeNanos() <= nextLowPriorityTask.getRunTimeNanos()) {
         nextTask = nextHighPriorityTask;
-      } else if (nextHighPriorityTask.getScheduleDelay() > 0 || 
+      } else if (nextHighPriorityTask.getScheduleDelayNanos() > 0 || 
           // before the above check we know the low priority has been waiting longer than the high 
           // priority, but since the high priority is not ready to run, we can just return the low 
           // priority a clock call was invoked IF the high priority task was not already known to 
@@ -514,23 +1723,51 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
         // task is ready to run, low priority is also ready, but has not been waiting long enough
         nextTask = nextHighPriorityTask;
       }
-      
-      if (nextTask == null) {
-        return starvablePriorityQueueSet.getNextTask();
-      } else {
-        long nextTaskDelay = nextTask.getScheduleDelay();
-        if (nextTaskDelay > 0) {
-          TaskWrapper nextStarvableTask = starvablePriorityQueueSet.getNextTask();
-          if (nextStarvableTask != null && 
-              nextStarvableTask.getPureRunTime() < nextTask.getPureRunTime()) {
-            return nextStarvableTask;
-          } else {
-            return nextTask;
+      return nextTask;
+    }
+    
+    /**
+     * Checks if the next low priority task has been waiting longer than the max wait for low 
+     * priority tasks.  This only uses the last known time from {@link Clock}, so it may be 
+     * slightly behind.
+     * 
+     * @since 5.33
+     * @return {@code true} if a low priority task has been waiting past its max wait
+     */
+    public boolean isLowPriorityTaskPastMaxWait() {
+      if (weightedPriorityClasses != null) {
+        // class shares are enforced by weight, there is no max wait
+        return false;
+      }
+      TaskWrapper nextLowPriorityTask = lowPriorityQueueSet.getNextTask();
+      return nextLowPriorityTask != null && 
+               Clock.lastKnownForwardProgressingMillis() - nextLowPriorityTask.getRunTime() > 
+                 maxWaitForLowPriorityInMs;
+    }
+    
+    /**
+     * Checks if any queue set has a task queued which is not scheduled with a delay.  See 
+     * {@link QueueSet#hasUnscheduledTasks()}.
+     * 
+     * @since 5.33
+     * @return {@code true} if there is an execute or deadline task queued in any queue set
+     */
+    public boolean hasUnscheduledTasks() {
+      if (highPriorityQueueSet.hasUnscheduledTasks() || 
+          lowPriorityQueueSet.hasUnscheduledTasks() || 
+          starvablePriorityQueueSet.hasUnscheduledTasks()) {
+        return true;
+      }
+      WeightedPriorityClasses wpc = weightedPriorityClasses;
+      if (wpc != null) {
+        // high and low priority sets are the first two classes, and were already checked
+        for (int i = 2; i < wpc.queueSets.length; i++) {
+          if (wpc.queueSets[i].hasUnscheduledTasks()) {
+            return true;
           }
-        } else {
-          return nextTask;
         }
       }
+      return false;
     }
     
     /**
@@ -545,8 +1782,19 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
      * @return {@code true} if the runnable was found and removed
      */
     public boolean remove(Runnable task) {
-      return highPriorityQueueSet.remove(task) || lowPriorityQueueSet.remove(task) || 
-               starvablePriorityQueueSet.remove(task);
+      if (highPriorityQueueSet.remove(task) || lowPriorityQueueSet.remove(task) || 
+          starvablePriorityQueueSet.remove(task)) {
+        return true;
+      }
+      WeightedPriorityClasses wpc = weightedPriorityClasses;
+      if (wpc != null) {
+        for (int i = 2; i < wpc.queueSets.length; i++) {
+          if (wpc.queueSets[i].remove(task)) {
+            return true;
+          }
+        }
+      }
+      return false;
     }
     
     /**
@@ -561,8 +1809,49 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
      * @return {@code true} if the callable was found and removed
      */
     public boolean remove(Callable<?> task) {
-      return highPriorityQueueSet.remove(task) || lowPriorityQueueSet.remove(task) || 
-               starvablePriorityQueueSet.remove(task);
+      if (highPriorityQueueSet.remove(task) || lowPriorityQueueSet.remove(task) || 
+          starvablePriorityQueueSet.remove(task)) {
+        return true;
+      }
+      WeightedPriorityClasses wpc = weightedPriorityClasses;
+      if (wpc != null) {
+        for (int i = 2; i < wpc.queueSets.length; i++) {
+          if (wpc.queueSets[i].remove(task)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+    
+    /**
+     * Removes a one time task which was added to a schedule queue.  This is much cheaper than 
+     * {@link #remove(Runnable)} since it does not need to search every queue, instead finding 
+     * the task by its run time.  If the task is not in a schedule queue (for example it is in an 
+     * execute queue) it will only be invalidated so that it does not run.
+     * 
+     * @since 5.33
+     * @param task Task wrapper to remove
+     * @return {@code true} if the task was found and removed from a schedule queue
+     */
+    public boolean removeScheduled(OneTimeTaskWrapper task) {
+      if (task.taskQueue == highPriorityQueueSet.scheduleQueue) {
+        return highPriorityQueueSet.removeScheduled(task);
+      } else if (task.taskQueue == lowPriorityQueueSet.scheduleQueue) {
+        return lowPriorityQueueSet.removeScheduled(task);
+      } else if (task.taskQueue == starvablePriorityQueueSet.scheduleQueue) {
+        return starvablePriorityQueueSet.removeScheduled(task);
+      }
+      WeightedPriorityClasses wpc = weightedPriorityClasses;
+      if (wpc != null) {
+        for (int i = 2; i < wpc.queueSets.length; i++) {
+          if (task.taskQueue == wpc.queueSets[i].scheduleQueue) {
+            return wpc.queueSets[i].removeScheduled(task);
+          }
+        }
+      }
+      task.invalidate();
+      return false;
     }
     
     /**
@@ -570,7 +1859,7 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
      * priority task will wait if there are ready to execute high priority tasks.  After a low 
      * priority task has waited this amount of time, it will be executed fairly with high priority 
      * tasks (meaning it will only execute the high priority task if it has been waiting longer than 
-     * the low priority task).
+     * the low priority task).  This is not used once weighted priority classes are enabled.
      * 
      * @param maxWaitForLowPriorityInMs new wait time in milliseconds for low priority tasks during thread contention
      */
@@ -591,6 +1880,235 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
     }
   }
   
+  /**
+   * Stride scheduler across a configurable quantity of priority classes, each with its own 
+   * {@link QueueSet}.  Every class has a stride inversely proportional to its weight, and a pass 
+   * value which is advanced by that stride each time a task from the class is claimed for 
+   * execution.  Among the classes with a task ready to run, the one with the lowest pass is chosen.  
+   * Under saturation this gives each class a share of executions proportional to its weight, while 
+   * a class with no ready work does not hold back the others.  
+   * <p>
+   * In order to prevent a class which has been idle from accumulating credit (and then starving 
+   * other classes once it has work again), a virtual time is tracked as the highest pass a task 
+   * was started at.  A class pass below this virtual time is treated as the virtual time. 
+   * <p>
+   * Class {@code 0} uses the {@link TaskPriority#High} queue set and class {@code 1} the 
+   * {@link TaskPriority#Low} queue set, so that the existing priority API maps onto the first two 
+   * classes.  {@link TaskPriority#Starvable} tasks are not part of the weighting, and still only 
+   * run when no other task is ready.
+   * 
+   * @since 5.33
+   */
+  protected static class WeightedPriorityClasses {
+    protected static final long STRIDE_BASE = 1L << 20;
+    
+    protected final QueueSet[] queueSets;
+    protected final int[] weights;
+    protected final long[] strides;
+    protected final AtomicLong[] passes;
+    protected final AtomicLong virtualTime;
+    protected final LongAdder[] claimedCounts;
+    protected final LongAdder[] totalQueueDelayMillis;
+    
+    protected WeightedPriorityClasses(QueueManager queueManager, int[] classWeights) {
+      ArgumentVerifier.assertNotNull(classWeights, "classWeights");
+      if (classWeights.length < 2) {
+        throw new IllegalArgumentException("At least two priority classes must be provided");
+      }
+      
+      this.queueSets = new QueueSet[classWeights.length];
+      this.weights = new int[classWeights.length];
+      this.strides = new long[classWeights.length];
+      this.passes = new AtomicLong[classWeights.length];
+      this.virtualTime = new AtomicLong(0);
+      this.claimedCounts = new LongAdder[classWeights.length];
+      this.totalQueueDelayMillis = new LongAdder[classWeights.length];
+      for (int i = 0; i < classWeights.length; i++) {
+        ArgumentVerifier.assertGreaterThanZero(classWeights[i], "classWeights[" + i + "]");
+        
+        if (i == 0) {
+          queueSets[i] = queueManager.highPriorityQueueSet;
+        } else if (i == 1) {
+          queueSets[i] = queueManager.lowPriorityQueueSet;
+        } else {
+          queueSets[i] = new QueueSet(queueManager.queueSetListener, 
+                                      queueManager.singleConsumer, i);
+        }
+        weights[i] = classWeights[i];
+        strides[i] = Math.max(1, STRIDE_BASE / classWeights[i]);
+        passes[i] = new AtomicLong(0);
+        claimedCounts[i] = new LongAdder();
+        totalQueueDelayMillis[i] = new LongAdder();
+      }
+    }
+    
+    private void verifyPriorityClass(int priorityClass) {
+      if (priorityClass < 0 || priorityClass >= queueSets.length) {
+        throw new IllegalArgumentException("Invalid priority class: " + priorityClass + 
+                                             ", must be between 0 and " + (queueSets.length - 1));
+      }
+    }
+    
+    /**
+     * Returns the quantity of priority classes.
+     * 
+     * @return Quantity of priority classes
+     */
+    public int getClassCount() {
+      return queueSets.length;
+    }
+    
+    /**
+     * Returns the {@link QueueSet} for the provided priority class.
+     * 
+     * @param priorityClass Index of the priority class
+     * @return {@link QueueSet} for the class
+     * @throws IllegalArgumentException Thrown if the class is out of range
+     */
+    public QueueSet getQueueSet(int priorityClass) {
+      verifyPriorityClass(priorityClass);
+      
+      return queueSets[priorityClass];
+    }
+    
+    /**
+     * Returns the weight the provided priority class was configured with.
+     * 
+     * @param priorityClass Index of the priority class
+     * @return Weight of the class
+     * @throws IllegalArgumentException Thrown if the class is out of range
+     */
+    public int getClassWeight(int priorityClass) {
+      verifyPriorityClass(priorityClass);
+      
+      return weights[priorityClass];
+    }
+    
+    /**
+     * Returns the quantity of tasks from the priority class which have been claimed for execution.
+     * 
+     * @param priorityClass Index of the priority class
+     * @return Quantity of tasks executed from the class
+     * @throws IllegalArgumentException Thrown if the class is out of range
+     */
+    public long getClassExecutedCount(int priorityClass) {
+      verifyPriorityClass(priorityClass);
+      
+      return claimedCounts[priorityClass].sum();
+    }
+    
+    /**
+     * Returns the average time in milliseconds tasks from the priority class waited past their 
+     * desired run time before being executed.
+     * 
+     * @param priorityClass Index of the priority class
+     * @return Average queue delay in milliseconds, or {@code -1} if no tasks have executed
+     * @throws IllegalArgumentException Thrown if the class is out of range
+     */
+    public double getClassAverageQueueDelay(int priorityClass) {
+      verifyPriorityClass(priorityClass);
+      
+      // delay is read first so a concurrent claim can only make the average slightly low
+      long totalDelay = totalQueueDelayMillis[priorityClass].sum();
+      long count = claimedCounts[priorityClass].sum();
+      if (count == 0) {
+        return -1;
+      }
+      return (double)totalDelay / count;
+    }
+    
+    /**
+     * Returns how long in milliseconds the next task in the priority class has been waiting past 
+     * its desired run time.  This indicates the current queue delay for the class.
+     * 
+     * @param priorityClass Index of the priority class
+     * @return Milliseconds the next task has been ready for, or {@code 0} if no task is ready
+     * @throws IllegalArgumentException Thrown if the class is out of range
+     */
+    public long getClassCurrentQueueDelay(int priorityClass) {
+      verifyPriorityClass(priorityClass);
+      
+      TaskWrapper task = queueSets[priorityClass].getNextTask();
+      if (task == null) {
+        return 0;
+      }
+      return Math.max(0, Clock.accurateForwardProgressingMillis() - task.getPureRunTime());
+    }
+    
+    /**
+     * Gets the next task to execute from the priority classes.  If any class has a task ready to 
+     * run, the ready task from the class with the lowest pass is returned.  Otherwise the task 
+     * with the earliest run time is returned so that the caller knows how long to wait.
+     * 
+     * @return Next task to execute, or {@code null} if all classes are empty
+     */
+    public TaskWrapper getNextTask() {
+      long currentVirtualTime = virtualTime.get();
+      TaskWrapper readyTask = null;
+      long readyPass = Long.MAX_VALUE;
+      TaskWrapper earliestTask = null;
+      for (int i = 0; i < queueSets.length; i++) {
+        TaskWrapper task = queueSets[i].getNextTask();
+        if (task == null) {
+          continue;
+        }
+        // only check if the task is ready when it could be chosen, that way the clock is avoided
+        long pass = Math.max(passes[i].get(), currentVirtualTime);
+        if (pass < readyPass && task.getScheduleDelayNanos() <= 0) {
+          readyTask = task;
+          readyPass = pass;
+        } else if (readyTask == null && 
+                   (earliestTask == null || 
+                    task.getRunTimeNanos() < earliestTask.getRunTimeNanos())) {
+          // only needed if no class has a ready task
+          earliestTask = task;
+        }
+      }
+      if (readyTask != null) {
+        return readyTask;
+      } else {
+        return earliestTask;
+      }
+    }
+    
+    /**
+     * Accounts a task which has been claimed for execution against its class.  This advances 
+     * the class pass by its stride and records the queue delay of the task.
+     * 
+     * @param task Task which is about to be executed
+     */
+    public void taskClaimed(TaskWrapper task) {
+      int priorityClass = task.priorityClass;
+      if (priorityClass < 0 || priorityClass >= queueSets.length) {
+        // starvable, or not queued through a weighted queue set
+        return;
+      }
+      
+      AtomicLong pass = passes[priorityClass];
+      long startPass;
+      while (true) {
+        long currentPass = pass.get();
+        startPass = Math.max(currentPass, virtualTime.get());
+        if (pass.compareAndSet(currentPass, startPass + strides[priorityClass])) {
+          break;
+        }
+      }
+      while (true) {
+        long currentVirtualTime = virtualTime.get();
+        if (currentVirtualTime >= startPass || 
+            virtualTime.compareAndSet(currentVirtualTime, startPass)) {
+          break;
+        }
+      }
+      
+      long queueDelay = Clock.lastKnownForwardProgressingMillis() - task.getPureRunTime();
+      if (queueDelay > 0) {
+        totalQueueDelayMillis[priorityClass].add(queueDelay);
+      }
+      claimedCounts[priorityClass].increment();
+    }
+  }
+  
   /**
    * Abstract implementation for all tasks handled by this pool.
    * 
@@ -599,10 +2117,20 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
   protected abstract static class TaskWrapper implements RunnableContainer {
     protected final Runnable task;
     protected volatile boolean invalidated;
+    // set while in a ScheduleTimingWheel bucket, links are only accessed holding the bucket lock
+    protected volatile TimingWheelBucket wheelBucket;
+    protected TaskWrapper wheelPrev;
+    protected TaskWrapper wheelNext;
+    // weighted priority class index, set from the QueueSet when queued, -1 if none
+    protected int priorityClass;
     
     public TaskWrapper(Runnable task) {
       this.task = task;
       invalidated = false;
+      priorityClass = -1;
+      wheelBucket = null;
+      wheelPrev = null;
+      wheelNext = null;
     }
     
     /**
@@ -656,18 +2184,65 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
      */
     public abstract long getPureRunTime();
     
+    /**
+     * Get the absolute time when this should run, in comparison with the time returned from 
+     * {@link org.threadly.util.Clock#accurateForwardProgressingNanos()}.  This must be used over 
+     * {@link #getRunTime()} when comparing tasks for execution order, so that tasks scheduled 
+     * with sub-millisecond precision are ordered correctly. 
+     * <p>
+     * By default this is derived from {@link #getRunTime()}.  Implementations which store their 
+     * run time with nanosecond precision should override this.
+     * 
+     * @since 5.33
+     * @return Absolute time in nanoseconds this task should run
+     */
+    public long getRunTimeNanos() {
+      return TimeUnit.MILLISECONDS.toNanos(getRunTime());
+    }
+    
+    /**
+     * The nanosecond version of {@link #getPureRunTime()}.  The same restrictions on when this 
+     * can be used apply.
+     * 
+     * @since 5.33
+     * @return An un-molested representation of the stored absolute run time in nanoseconds
+     */
+    public long getPureRunTimeNanos() {
+      return TimeUnit.MILLISECONDS.toNanos(getPureRunTime());
+    }
+    
     /**
      * Call to see how long the task should be delayed before execution.  While this may return 
      * either positive or negative numbers, only an accurate number is returned if the task must 
      * be delayed for execution.  If the task is ready to execute it may return zero even though 
      * it is past due.  For that reason you can NOT use this to compare two tasks for execution 
-     * order, instead you should use {@link #getRunTime()}.
+     * order, instead you should use {@link #getRunTimeNanos()}. 
+     * <p>
+     * The delay is derived from {@link #getScheduleDelayNanos()}, with any partial millisecond 
+     * rounded up so that a task which is not yet ready will never report a zero delay.
      * 
      * @return delay in milliseconds till task can be run
      */
     public long getScheduleDelay() {
-      if (getRunTime() > Clock.lastKnownForwardProgressingMillis()) {
-        return getRunTime() - Clock.accurateForwardProgressingMillis();
+      long delayInNanos = getScheduleDelayNanos();
+      if (delayInNanos == Long.MAX_VALUE) {
+        return Long.MAX_VALUE;
+      } else {
+        return SchedulingUtils.toMillisRoundingUp(delayInNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+    
+    /**
+     * Call to see how long the task should be delayed before execution in nanoseconds.  See 
+     * {@link #getScheduleDelay()} for the details around the returned value.
+     * 
+     * @since 5.33
+     * @return delay in nanoseconds till task can be run
+     */
+    public long getScheduleDelayNanos() {
+      long runTime = getRunTimeNanos();
+      if (runTime > Clock.lastKnownForwardProgressingNanos()) {
+        return runTime - Clock.accurateForwardProgressingNanos();
       } else {
         return 0;
       }
@@ -691,26 +2266,41 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
    */
   protected static class OneTimeTaskWrapper extends TaskWrapper {
     protected final Queue<? extends TaskWrapper> taskQueue;
-    protected final long runTime;
+    protected final long runTimeNanos;
     // optimization to avoid queue traversal on failure to remove, cheaper than AtomicBoolean
     private volatile boolean executed;
     
     protected OneTimeTaskWrapper(Runnable task, Queue<? extends TaskWrapper> taskQueue, long runTime) {
+      this(task, taskQueue, runTime, TimeUnit.MILLISECONDS);
+    }
+    
+    protected OneTimeTaskWrapper(Runnable task, Queue<? extends TaskWrapper> taskQueue, 
+                                 long runTime, TimeUnit unit) {
       super(task);
       
       this.taskQueue = taskQueue;
-      this.runTime = runTime;
+      this.runTimeNanos = unit.toNanos(runTime);
       this.executed = false;
     }
     
     @Override
     public long getPureRunTime() {
-      return runTime;
+      return runTimeNanos / Clock.NANOS_IN_MILLISECOND;
     }
     
     @Override
     public long getRunTime() {
-      return runTime;
+      return runTimeNanos / Clock.NANOS_IN_MILLISECOND;
+    }
+    
+    @Override
+    public long getPureRunTimeNanos() {
+      return runTimeNanos;
+    }
+    
+    @Override
+    public long getRunTimeNanos() {
+      return runTimeNanos;
     }
 
     @Override
@@ -751,7 +2341,7 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
    */
   protected static class ImmediateTaskWrapper extends OneTimeTaskWrapper {
     protected ImmediateTaskWrapper(Runnable task, Queue<? extends TaskWrapper> taskQueue) {
-      super(task, taskQueue, Clock.lastKnownForwardProgressingMillis());
+      super(task, taskQueue, Clock.lastKnownForwardProgressingNanos(), TimeUnit.NANOSECONDS);
     }
     
     @Override
@@ -759,6 +2349,159 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
       // override to avoid volatile read performance hit
       return 0;
     }
+    
+    @Override
+    public long getScheduleDelayNanos() {
+      // override to avoid volatile read performance hit
+      return 0;
+    }
+  }
+  
+  /**
+   * Wrapper for tasks submitted with a deadline.  These tasks are always ready to execute, and 
+   * are queued in deadline order in the {@link QueueSet#deadlineQueue}.  If the deadline has 
+   * passed by the time the task is reached in the queue, the task is dropped and its future is 
+   * completed with a {@link TimeoutException}.
+   * 
+   * @since 5.33
+   */
+  protected static class DeadlineTaskWrapper extends ImmediateTaskWrapper {
+    protected final DeadlineFutureTask<?> future;
+    protected final QueueSet queueSet;
+    protected final long deadlineNanos;
+    protected final long sequence;
+    
+    protected DeadlineTaskWrapper(DeadlineFutureTask<?> future, QueueSet queueSet, 
+                                  long deadlineNanos) {
+      // the deadline queue is not a Queue, so removal is handled in canExecute
+      super(future, null);
+      
+      this.future = future;
+      this.queueSet = queueSet;
+      this.deadlineNanos = deadlineNanos;
+      this.sequence = queueSet.deadlineSequence.getAndIncrement();
+    }
+    
+    /**
+     * Attempts to claim the task by removing it from the deadline queue.  If the claim succeeds 
+     * but the deadline has already passed, the task is shed by the claiming consumer and 
+     * {@code false} is returned so that it is not run.
+     * 
+     * @param ignoredExecuteReference Not used, the removal can only succeed once
+     * @return {@code true} if the task has been claimed and should be executed
+     */
+    @Override
+    public boolean canExecute(short ignoredExecuteReference) {
+      // the remove can only succeed once, so no other flag is needed to prevent double execution
+      if (! queueSet.deadlineQueue.remove(this)) {
+        return false;
+      } else if (isPastDeadline()) {
+        shed();
+        return false;
+      } else {
+        return true;
+      }
+    }
+    
+    /**
+     * Checks if the deadline has passed.  The last known time is checked first, and the accurate 
+     * time is only checked if the deadline is within the automatic update frequency of the last 
+     * known time.
+     * 
+     * @return {@code true} if the task is past its deadline
+     */
+    protected boolean isPastDeadline() {
+      long lastKnownNanos = Clock.lastKnownForwardProgressingNanos();
+      if (deadlineNanos < lastKnownNanos) {
+        return true;
+      } else if (deadlineNanos - lastKnownNanos > 
+                   Clock.AUTOMATIC_UPDATE_FREQUENCY_IN_MS * (long)Clock.NANOS_IN_MILLISECOND) {
+        return false;
+      } else {
+        return deadlineNanos < Clock.accurateForwardProgressingNanos();
+      }
+    }
+    
+    /**
+     * Invoked by the consumer which removed the task from the queue, once it finds the deadline 
+     * has passed.  This will complete the future in error without running the task.
+     */
+    protected void shed() {
+      invalidate();
+      if (! future.isDone()) {
+        queueSet.shedTaskCount.increment();
+        future.shed();
+      }
+    }
+  }
+  
+  /**
+   * Future for tasks submitted with a deadline.  This allows the future to be failed with a 
+   * {@link TimeoutException} if the task is dropped because its deadline passed.
+   * 
+   * @since 5.33
+   * @param <T> The result object type returned by this future
+   */
+  protected static class DeadlineFutureTask<T> extends ListenableFutureTask<T> {
+    protected DeadlineFutureTask(Callable<T> task, Executor executingExecutor) {
+      super(false, task, executingExecutor);
+    }
+    
+    /**
+     * Completes the future in error without running the task.
+     */
+    protected void shed() {
+      setException(new TimeoutException("Deadline passed before task started"));
+    }
+  }
+  
+  /**
+   * Future for tasks submitted with a delay.  If the future is canceled the task is removed from 
+   * the queue at that time, so that it can be reclaimed immediately rather than waiting in the 
+   * queue until it reaches the head.  Unlike {@link AbstractPriorityScheduler#remove(Runnable)} 
+   * the queues are not searched, instead the task is found with a binary search on its run time 
+   * (see {@link QueueManager#removeScheduled(OneTimeTaskWrapper)}).
+   * 
+   * @since 5.33
+   * @param <T> The result object type returned by this future
+   */
+  protected static class ScheduledFutureTask<T> extends ListenableFutureTask<T> {
+    protected final QueueManager queueManager;
+    private volatile OneTimeTaskWrapper taskWrapper;
+    
+    protected ScheduledFutureTask(Callable<T> task, Executor executingExecutor, 
+                                  QueueManager queueManager) {
+      super(false, task, executingExecutor);
+      
+      this.queueManager = queueManager;
+      this.taskWrapper = null;
+    }
+    
+    /**
+     * Sets the wrapper which was scheduled to run this future.  If the future was canceled before 
+     * the wrapper was known, the wrapper is removed from the queue now.
+     * 
+     * @param taskWrapper Wrapper which was scheduled, or {@code null} if not known
+     */
+    protected void setTaskWrapper(OneTimeTaskWrapper taskWrapper) {
+      this.taskWrapper = taskWrapper;
+      if (taskWrapper != null && isCancelled()) {
+        queueManager.removeScheduled(taskWrapper);
+      }
+    }
+    
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      if (super.cancel(mayInterruptIfRunning)) {
+        OneTimeTaskWrapper tw = taskWrapper;
+        if (tw != null) {
+          queueManager.removeScheduled(tw);
+        }
+        return true;
+      } else {
+        return false;
+      }
+    }
   }
   
   /**
@@ -769,23 +2512,28 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
   protected abstract static class RecurringTaskWrapper extends TaskWrapper {
     protected final QueueSet queueSet;
     protected volatile boolean executing;
-    protected long nextRunTime;
+    protected long nextRunTimeNanos;
     // executeFlipCounter is used to prevent multiple executions when consumed concurrently
-    // only changed when queue is locked...overflow is fine
-    private volatile short executeFlipCounter;
+    // claimed with a CAS, and incremented again once rescheduled...overflow is fine
+    private final AtomicInteger executeFlipCounter;
     
     protected RecurringTaskWrapper(Runnable task, QueueSet queueSet, long firstRunTime) {
+      this(task, queueSet, firstRunTime, TimeUnit.MILLISECONDS);
+    }
+    
+    protected RecurringTaskWrapper(Runnable task, QueueSet queueSet, 
+                                   long firstRunTime, TimeUnit unit) {
       super(task);
       
       this.queueSet = queueSet;
       executing = false;
-      this.nextRunTime = firstRunTime;
-      executeFlipCounter = 0;
+      this.nextRunTimeNanos = unit.toNanos(firstRunTime);
+      executeFlipCounter = new AtomicInteger(0);
     }
     
     @Override
     public long getPureRunTime() {
-      return nextRunTime;
+      return nextRunTimeNanos / Clock.NANOS_IN_MILLISECOND;
     }
     
     @Override
@@ -793,17 +2541,31 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
       if (executing) {
         return Long.MAX_VALUE;
       } else {
-        return nextRunTime;
+        return nextRunTimeNanos / Clock.NANOS_IN_MILLISECOND;
       }
     }
     
     @Override
-    public long getScheduleDelay() {
+    public long getPureRunTimeNanos() {
+      return nextRunTimeNanos;
+    }
+    
+    @Override
+    public long getRunTimeNanos() {
+      if (executing) {
+        return Long.MAX_VALUE;
+      } else {
+        return nextRunTimeNanos;
+      }
+    }
+    
+    @Override
+    public long getScheduleDelayNanos() {
       if (executing) {
         // this would only be likely if two threads were trying to run the same task
         return Long.MAX_VALUE;
-      } else if (nextRunTime > Clock.lastKnownForwardProgressingMillis()) {
-        return nextRunTime - Clock.accurateForwardProgressingMillis();
+      } else if (nextRunTimeNanos > Clock.lastKnownForwardProgressingNanos()) {
+        return nextRunTimeNanos - Clock.accurateForwardProgressingNanos();
       } else {
         return 0;
       }
@@ -811,84 +2573,107 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
     
     @Override
     public short getExecuteReference() {
-      return executeFlipCounter;
+      return (short)executeFlipCounter.get();
     }
 
+    /**
+     * Attempts to claim this task for execution.  Only one consumer can claim the task for each 
+     * execute reference, which is decided with a single CAS.  Consumers which lose the CAS (or 
+     * find the task is not claimable) return without ever taking the schedule queue's lock.  In 
+     * order to keep execution order fair, the task can only be claimed while it is at the head 
+     * of the schedule queue.  This prevents a consumer holding a stale reference (for example one 
+     * obtained while the task was still running) from executing it again ahead of other tasks 
+     * after it has been rescheduled. 
+     * <p>
+     * Once claimed the task is removed from the head of the schedule queue.  This removal is still 
+     * done under the schedule queue's modification lock, since every modification to the 
+     * {@link ConcurrentSortedArrayList} must hold it.  But only the single winning consumer takes 
+     * the lock, and while held it is only a constant time removal from the head (unless the 
+     * queue changed concurrently).  The task is then held in the {@link QueueSet}'s executing 
+     * tasks until {@link #reschedule()} adds it back into the queue.
+     * 
+     * @param executeReference Reference checked to ensure thread safe task execution
+     * @return {@code true} if the task has been claimed and should be executed
+     */
     @Override
     public boolean canExecute(short executeReference) {
-      if (executing | executeFlipCounter != executeReference) {
+      int casReference = executeFlipCounter.get();
+      if (executing | (short)casReference != executeReference || 
+          queueSet.scheduleQueue.peekFirst() != this || 
+          ! executeFlipCounter.compareAndSet(casReference, casReference + 1)) {
+        // this task is already running, not ready to run, or not next in the queue, so ignore
         return false;
       }
+      executing = true;
+      // must be added before removed from the queue so removal requests can always find the task
+      queueSet.executingRecurringTasks.add(this);
+      
       synchronized (queueSet.scheduleQueue.getModificationLock()) {
-        if (executing | executeFlipCounter != executeReference) {
-          // this task is already running, or not ready to run, so ignore
+        if (queueSet.scheduleQueue.peekFirst() == this) {
+          queueSet.scheduleQueue.pollFirst();
+        } else if (! queueSet.scheduleQueue.remove(this)) {
+          // task was removed concurrently, so it must not run
+          queueSet.executingRecurringTasks.remove(this);
           return false;
-        } else {
-          /* we have to reposition to the end atomically so that this task can be removed if 
-           * requested to be removed.  We can put it at the end because we know this task wont 
-           * run again till it has finished (which it will be inserted at the correct point in 
-           * queue then.
-           */
-          int sourceIndex = queueSet.scheduleQueue.indexOf(this);
-          if (sourceIndex >= 0) {
-            if (sourceIndex < queueSet.scheduleQueue.size() - 1 && 
-                queueSet.scheduleQueue.get(sourceIndex + 1).getRunTime() != Long.MAX_VALUE) {
-              queueSet.scheduleQueue.reposition(sourceIndex, queueSet.scheduleQueue.size());
-            }
-            executing = true;
-            executeFlipCounter++;
-            return true;
-          } else {
-            return false;
-          }
         }
       }
+      return true;
     }
 
     /**
-     * Call to find and reposition a scheduled task.  It is expected that the task provided has 
-     * already been added to the queue.  This call will use 
-     * {@link RecurringTaskWrapper#getRunTime()} to figure out what the new position within the 
-     * queue should be.
+     * Call to add the task back into the schedule queue once it has finished executing.  This 
+     * call will use {@link RecurringTaskWrapper#getPureRunTimeNanos()} to find the insertion 
+     * point with a binary search.  If the task has been removed while executing it will not be 
+     * added back into the queue.  The insertion is done while holding the schedule queue's 
+     * modification lock, which is also required to atomically clear {@code executing} with the 
+     * task being queued again.
      */
     protected void reschedule() {
       int insertionIndex = -1;
+      ScheduleTimingWheel wheel = queueSet.timingWheel;
+      boolean addedToWheel = false;
       synchronized (queueSet.scheduleQueue.getModificationLock()) {
-        int currentIndex = queueSet.scheduleQueue.lastIndexOf(this);
-        if (currentIndex > 0) {
-          insertionIndex = SortUtils.getInsertionEndIndex(queueSet.scheduleQueueRunTimeByIndex, 
-                                                          queueSet.scheduleQueue.size() - 1, 
-                                                          nextRunTime, true);
-          
-          queueSet.scheduleQueue.reposition(currentIndex, insertionIndex);
-        } else if (currentIndex == 0) {
-          insertionIndex = 0;
-        } else {
+        if (! queueSet.executingRecurringTasks.remove(this)) {
           // task removed, no-op, but might as well tidy up the state even though nothing cares
+        } else if (wheel != null && (addedToWheel = wheel.addToBucket(this, getPureRunTime()))) {
+          // next run is far enough out to wait in the timing wheel, so it is not sorted yet
+        } else {
+          insertionIndex = queueSet.scheduleQueue.addAndGetIndex(this);
         }
         
-        // we can only update executing AFTER the reposition has finished
+        // we can only update executing AFTER the task is queued
         // The synchronization lock must be held during this because changing executing
         // changes the scheduled delay, and thus we can not have other threads examining the task queue
         executing = false;
-        executeFlipCounter++;  // increment again to indicate execute state change
+        executeFlipCounter.incrementAndGet();  // increment again to indicate execute state change
       }
 
-      // kind of awkward we need to know here, but we we need to let the queue set know if the head changed
-      if (insertionIndex == 0) {
-        queueSet.queueListener.handleQueueUpdate();
+      if (addedToWheel) {
+        wheel.addedToBucket(getPureRunTime());
+      } else if (insertionIndex == 0) {
+        // kind of awkward we need to know here, but we we need to let the queue set know if the head changed
+        queueSet.queueListener.handleScheduleQueueUpdate(nextRunTimeNanos);
       }
     }
     
     /**
-     * Called when the implementing class should update the variable {@code nextRunTime} to be the 
-     * next absolute time in milliseconds the task should run.
+     * Invoked instead of {@link #reschedule()} when the task has been invalidated while it was 
+     * claimed for execution.  This releases the task from the {@link QueueSet}'s executing tasks.
+     */
+    protected void releaseInvalidated() {
+      queueSet.executingRecurringTasks.remove(this);
+    }
+    
+    /**
+     * Called when the implementing class should update the variable {@code nextRunTimeNanos} to be 
+     * the next absolute time in nanoseconds the task should run.
      */
     protected abstract void updateNextRunTime();
 
     @Override
     public void runTask() {
       if (invalidated) {
+        releaseInvalidated();
         return;
       }
       
@@ -900,8 +2685,10 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
       
       if (! invalidated) {
         updateNextRunTime();
-        // now that nextRunTime has been set, resort the queue (ask reschedule)
-        reschedule();  // this will set executing to false atomically with the resort
+        // now that nextRunTimeNanos has been set, add back into the queue (ask reschedule)
+        reschedule();  // this will set executing to false atomically with the queue insertion
+      } else {
+        releaseInvalidated();
       }
     }
   }
@@ -912,18 +2699,23 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
    * @since 3.1.0
    */
   protected static class RecurringDelayTaskWrapper extends RecurringTaskWrapper {
-    protected final long recurringDelay;
+    protected final long recurringDelayNanos;
     
     protected RecurringDelayTaskWrapper(Runnable task, QueueSet queueSet, 
                                         long firstRunTime, long recurringDelay) {
-      super(task, queueSet, firstRunTime);
+      this(task, queueSet, firstRunTime, recurringDelay, TimeUnit.MILLISECONDS);
+    }
+    
+    protected RecurringDelayTaskWrapper(Runnable task, QueueSet queueSet, 
+                                        long firstRunTime, long recurringDelay, TimeUnit unit) {
+      super(task, queueSet, firstRunTime, unit);
       
-      this.recurringDelay = recurringDelay;
+      this.recurringDelayNanos = unit.toNanos(recurringDelay);
     }
     
     @Override
     protected void updateNextRunTime() {
-      nextRunTime = Clock.accurateForwardProgressingMillis() + recurringDelay;
+      nextRunTimeNanos = Clock.accurateForwardProgressingNanos() + recurringDelayNanos;
     }
   }
   
@@ -933,18 +2725,23 @@ public abstract class AbstractPriorityScheduler extends AbstractSubmitterSchedul
    * @since 3.1.0
    */
   protected static class RecurringRateTaskWrapper extends RecurringTaskWrapper {
-    protected final long period;
+    protected final long periodNanos;
     
     protected RecurringRateTaskWrapper(Runnable task, QueueSet queueSet, 
                                        long firstRunTime, long period) {
-      super(task, queueSet, firstRunTime);
+      this(task, queueSet, firstRunTime, period, TimeUnit.MILLISECONDS);
+    }
+    
+    protected RecurringRateTaskWrapper(Runnable task, QueueSet queueSet, 
+                                       long firstRunTime, long period, TimeUnit unit) {
+      super(task, queueSet, firstRunTime, unit);
       
-      this.period = period;
+      this.periodNanos = unit.toNanos(period);
     }
     
     @Override
     protected void updateNextRunTime() {
-      nextRunTime += period;
+      nextRunTimeNanos += periodNanos;
     }
   }
   
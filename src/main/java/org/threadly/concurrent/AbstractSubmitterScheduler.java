@@ -1,10 +1,12 @@
 package org.threadly.concurrent;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import org.threadly.concurrent.future.ListenableFuture;
 import org.threadly.concurrent.future.ListenableFutureTask;
 import org.threadly.util.ArgumentVerifier;
+import org.threadly.util.Clock;
 
 /**
  * Similar to the {@link AbstractSubmitterExecutor} this abstract class is designed to reduce code 
@@ -33,6 +35,36 @@ public abstract class AbstractSubmitterScheduler extends AbstractSubmitterExecut
    */
   protected abstract void doSchedule(Runnable task, long delayInMillis);
   
+  /**
+   * Should schedule the provided task with nanosecond precision.  All error checking has 
+   * completed by this point.  This is only invoked when the delay is not a whole number of 
+   * milliseconds, otherwise {@link #doSchedule(Runnable, long)} is used.  By default this will 
+   * round the delay up to the next millisecond, implementations should override this if they are 
+   * able to schedule with nanosecond precision.
+   * 
+   * @since 5.33
+   * @param task Runnable ready to be ran
+   * @param delayInNanos delay in nanoseconds to schedule task out to
+   */
+  protected void doScheduleNanos(Runnable task, long delayInNanos) {
+    doSchedule(task, SchedulingUtils.toMillisRoundingUp(delayInNanos, TimeUnit.NANOSECONDS));
+  }
+  
+  /**
+   * Checks if the provided duration can only be represented with a precision finer than a 
+   * millisecond.  If this returns {@code false} the duration can be converted with 
+   * {@link TimeUnit#toMillis(long)} without any loss of precision.
+   * 
+   * @since 5.33
+   * @param duration Duration to check
+   * @param unit Time unit of the provided duration
+   * @return {@code true} if the duration must be handled with nanosecond precision
+   */
+  protected static boolean requiresNanoPrecision(long duration, TimeUnit unit) {
+    return (unit == TimeUnit.NANOSECONDS || unit == TimeUnit.MICROSECONDS) && 
+             unit.toNanos(duration) % Clock.NANOS_IN_MILLISECOND != 0;
+  }
+  
   @Override
   public void schedule(Runnable task, long delayInMs) {
     ArgumentVerifier.assertNotNull(task, "task");
@@ -57,4 +89,38 @@ public abstract class AbstractSubmitterScheduler extends AbstractSubmitterExecut
     
     return lft;
   }
+  
+  @Override
+  public void schedule(Runnable task, long delay, TimeUnit unit) {
+    ArgumentVerifier.assertNotNull(task, "task");
+    ArgumentVerifier.assertNotNegative(delay, "delay");
+    
+    if (requiresNanoPrecision(delay, unit)) {
+      doScheduleNanos(task, unit.toNanos(delay));
+    } else {
+      doSchedule(task, unit.toMillis(delay));
+    }
+  }
+  
+  @Override
+  public <T> ListenableFuture<T> submitScheduled(Runnable task, T result, 
+                                                 long delay, TimeUnit unit) {
+    return submitScheduled(RunnableCallableAdapter.adapt(task, result), delay, unit);
+  }
+  
+  @Override
+  public <T> ListenableFuture<T> submitScheduled(Callable<T> task, long delay, TimeUnit unit) {
+    ArgumentVerifier.assertNotNull(task, "task");
+    ArgumentVerifier.assertNotNegative(delay, "delay");
+    
+    ListenableFutureTask<T> lft = new ListenableFutureTask<>(false, task, this);
+    
+    if (requiresNanoPrecision(delay, unit)) {
+      doScheduleNanos(lft, unit.toNanos(delay));
+    } else {
+      doSchedule(lft, unit.toMillis(delay));
+    }
+    
+    return lft;
+  }
 }
@@ -0,0 +1,31 @@
+package org.threadly.concurrent;
+
+/**
+ * Interface for an operation which may block the invoking thread, for example waiting on a lock, 
+ * I/O or a future.  This is provided to {@link SchedulerService#block(BlockingOperation)} (or 
+ * {@link ThreadBlockingHook#managedBlock(BlockingOperation)}) so that when invoked from a pool 
+ * thread, the pool can add a compensating thread while this one is blocked.  This is similar to 
+ * {@link java.util.concurrent.ForkJoinPool.ManagedBlocker}.
+ * 
+ * @since 5.33
+ */
+@FunctionalInterface
+public interface BlockingOperation {
+  /**
+   * Invoked to block the thread until the operation has completed.
+   * 
+   * @throws InterruptedException Thrown if the thread is interrupted while blocking
+   */
+  public void block() throws InterruptedException;
+  
+  /**
+   * Check if blocking is currently unnecessary.  If this returns {@code true} then 
+   * {@link #block()} will not be invoked, avoiding the cost of compensating for the block.  By 
+   * default this returns {@code false} so that {@link #block()} is always invoked.
+   * 
+   * @return {@code true} if blocking is not necessary
+   */
+  public default boolean isReleasable() {
+    return false;
+  }
+}
@@ -1,6 +1,7 @@
 package org.threadly.concurrent;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.threadly.concurrent.wrapper.limiter.SchedulerServiceLimiter;
@@ -9,6 +10,8 @@ import org.threadly.concurrent.wrapper.priority.DefaultPriorityWrapper;
 import org.threadly.concurrent.wrapper.traceability.ThreadRenamingPriorityScheduler;
 import org.threadly.concurrent.wrapper.traceability.ThreadRenamingSchedulerService;
 import org.threadly.util.ArgumentVerifier;
+import org.threadly.util.ReferenceCleaner;
+import org.threadly.util.ReferenceCleaner.Cleanable;
 import org.threadly.util.StringUtils;
 
 /**
@@ -21,7 +24,9 @@ import org.threadly.util.StringUtils;
  * minimizing thread creation / churn as much as possible.  In addition the returned pools do not 
  * need to be shutdown, but instead you can allow to be garbage collected as you are done with 
  * them.  There is no need to be concerned about allowing a returned pool to be garbage collected 
- * before any submitted / scheduled / recurring tasks have completed.
+ * before any submitted / scheduled / recurring tasks have completed.  If the threads guaranteed 
+ * to a returned pool should be released without waiting on garbage collection, pools which 
+ * guarantee threads implement {@link AutoCloseable}, and can be closed once no longer needed. 
  * <p>
  * Most users will find themselves sticking to the simple pools this provides:
  * <ul>
@@ -49,6 +54,7 @@ import org.threadly.util.StringUtils;
 public class CentralThreadlyPool {
   protected static final int LOW_PRIORITY_MAX_WAIT_IN_MS = 1000;
   protected static final PoolResizeUpdater POOL_SIZE_UPDATER;
+  protected static final IsolatedTaskThreadReserve ISOLATED_TASK_THREAD_RESERVE;
   protected static final PriorityScheduler MASTER_SCHEDULER;
   protected static final PrioritySchedulerService LOW_PRIORITY_MASTER_SCHEDULER;
   protected static final PrioritySchedulerService STARVABLE_PRIORITY_MASTER_SCHEDULER;
@@ -72,6 +78,8 @@ public class CentralThreadlyPool {
         new DefaultPriorityWrapper(MASTER_SCHEDULER, TaskPriority.Starvable);
     
     POOL_SIZE_UPDATER = new PoolResizeUpdater(LOW_PRIORITY_MASTER_SCHEDULER);
+    ISOLATED_TASK_THREAD_RESERVE = 
+        new IsolatedTaskThreadReserve(LOW_PRIORITY_MASTER_SCHEDULER, Math.max(2, cpuCount));
     
     COMPUTATION_POOL = new SchedulerServiceLimiter(MASTER_SCHEDULER, cpuCount);
     LOW_PRIORITY_POOL = new DynamicGenericThreadLimiter(TaskPriority.Low, 0, -1, 
@@ -106,6 +114,32 @@ public class CentralThreadlyPool {
   public static int getGenericThreadCount() {
     return genericThreadCount;
   }
+  
+  /**
+   * Returns the total number of threads which have been created by the central pool.  If this is 
+   * increasing rapidly it may indicate that pools with guaranteed threads are being frequently 
+   * constructed and garbage collected, and instead should be retained and reused.
+   * 
+   * @since 5.33
+   * @return The total number of threads created to run tasks in the central pool
+   */
+  public static long getThreadCreatedCount() {
+    return MASTER_SCHEDULER.getWorkerCreatedCount();
+  }
+  
+  /**
+   * Returns the total number of times a thread of the central pool was compensated for while 
+   * blocking.  This occurs when a task uses {@link SchedulerService#block(BlockingOperation)}, or 
+   * waits on a {@link org.threadly.concurrent.future.SettableListenableFuture}.  If this is 
+   * increasing rapidly it may indicate that blocking tasks should be submitted to a pool with 
+   * guaranteed threads, or to {@link #isolatedTaskPool()}.
+   * 
+   * @since 5.33
+   * @return The total number of compensated blocking operations in the central pool
+   */
+  public static long getBlockingCompensationCount() {
+    return MASTER_SCHEDULER.getBlockingCompensationCount();
+  }
 
   /**
    * Thread pool well suited for running CPU intensive computations on the tasks thread.
@@ -490,11 +524,12 @@ public class CentralThreadlyPool {
    * better if you have a multiple tasks you need to execute, and this one is much better if you 
    * have a single task to execute / schedule.
    * <p>
-   * Implementation wise every task submitted on the returned pool will increase the pool size 
-   * (if necessary) to allow execution, and then decrease the size once execution completes.  
-   * Because of this, {@link #singleThreadPool()} is much better if you can reuse the pool (to 
-   * reduce size churn), and this is much better if you only have a single task (to reduce memory 
-   * overhead).
+   * Implementation wise every task submitted on the returned pool will ensure the pool size has 
+   * been increased to allow execution.  In order to avoid resizing the pool for every task, the 
+   * pool is increased to keep a small reserve of spare threads for following isolated tasks, and 
+   * then decreased once the reserve has grown well beyond the tasks outstanding.  Even so 
+   * {@link #singleThreadPool()} is much better if you can reuse the pool (to reduce size churn), 
+   * and this is much better if you only have a single task (to reduce memory overhead).
    * 
    * @return Pool which will ensure there is a thread available for every task executed on it
    */
@@ -509,11 +544,12 @@ public class CentralThreadlyPool {
    * better if you have a multiple tasks you need to execute, and this one is much better if you 
    * have a single task to execute / schedule.
    * <p>
-   * Implementation wise every task submitted on the returned pool will increase the pool size 
-   * (if necessary) to allow execution, and then decrease the size once execution completes.  
-   * Because of this, {@link #singleThreadPool()} is much better if you can reuse the pool (to 
-   * reduce size churn), and this is much better if you only have a single task (to reduce memory 
-   * overhead).
+   * Implementation wise every task submitted on the returned pool will ensure the pool size has 
+   * been increased to allow execution.  In order to avoid resizing the pool for every task, the 
+   * pool is increased to keep a small reserve of spare threads for following isolated tasks, and 
+   * then decreased once the reserve has grown well beyond the tasks outstanding.  Even so 
+   * {@link #singleThreadPool()} is much better if you can reuse the pool (to reduce size churn), 
+   * and this is much better if you only have a single task (to reduce memory overhead).
    * 
    * @param threadName Name to prefix to thread while tasks on this pool execute, or {@code null}
    * @return Pool which will ensure there is a thread available for every task executed on it
@@ -634,15 +670,16 @@ public class CentralThreadlyPool {
     }
 
     /**
-     * {@link Runnable} which expands the pool on construction, and will keep the pool expanded 
-     * till execution completes.  This is designed for tasks which run once.
+     * {@link Runnable} which reserves a thread from the {@link IsolatedTaskThreadReserve} on 
+     * construction, and will keep it reserved till execution completes.  This is designed for 
+     * tasks which run once.
      */
     protected static class PoolResizingOnCompleteionTask implements Runnable, RunnableContainer {
       protected final Runnable task;
       
       public PoolResizingOnCompleteionTask(Runnable task) {
         this.task = task;
-        POOL_SIZE_UPDATER.adjustPoolSize(1);
+        ISOLATED_TASK_THREAD_RESERVE.reserveThread();
       }
 
       @Override
@@ -650,7 +687,7 @@ public class CentralThreadlyPool {
         try {
           task.run();
         } finally {
-          POOL_SIZE_UPDATER.adjustPoolSize(-1);
+          ISOLATED_TASK_THREAD_RESERVE.releaseThread();
         }
       }
 
@@ -667,16 +704,28 @@ public class CentralThreadlyPool {
    * changes, this also handles making sure the pool returns the same stats / values of the 
    * delegate pool.
    */
-  protected static class SingleThreadSubPool extends SingleThreadSchedulerSubPool {
-    @SuppressWarnings("unused")
-    private final Object gcReference; // object just held on to track garbage collection
+  protected static class SingleThreadSubPool extends SingleThreadSchedulerSubPool 
+                                            implements AutoCloseable {
+    private final PoolResizer poolResizer; // released on close or once garbage collected
     
     protected SingleThreadSubPool(TaskPriority tickPriority, boolean threadGuaranteed, 
                                   String threadName, boolean replaceName) {
       super(masterScheduler(tickPriority, threadName, replaceName), 
             TaskPriority.High, LOW_PRIORITY_MAX_WAIT_IN_MS);
 
-      this.gcReference = threadGuaranteed ? new PoolResizer(1) : null;
+      this.poolResizer = threadGuaranteed ? new PoolResizer(1) : null;
+    }
+    
+    /**
+     * Releases the thread guaranteed to this pool (if one was requested) back to the central pool. 
+     * Tasks may still be submitted, but they will only be able to run on the general processing 
+     * threads.  If not invoked the thread will be released once this pool is garbage collected.
+     */
+    @Override
+    public void close() {
+      if (poolResizer != null) {
+        poolResizer.release();
+      }
     }
 
     // SingleThreadSchedulerSubPool does not normally consider the parent pools load
@@ -738,9 +787,9 @@ public class CentralThreadlyPool {
    * This is necessary to be sure that when a returned scheduler requests a given qty of threads, 
    * those resources are for sure available to them.
    */
-  protected static class MasterSchedulerResizingLimiter extends SchedulerServiceLimiter {
-    @SuppressWarnings("unused")
-    private final Object gcReference; // object just held on to track garbage collection
+  protected static class MasterSchedulerResizingLimiter extends SchedulerServiceLimiter 
+                                                       implements AutoCloseable {
+    private final PoolResizer poolResizer; // released on close or once garbage collected
     
     public MasterSchedulerResizingLimiter(TaskPriority priority, int guaranteedThreads, 
                                           int maxThreads, String threadName, boolean replaceName) {
@@ -751,7 +800,19 @@ public class CentralThreadlyPool {
         throw new IllegalArgumentException("Max threads must be <= guaranteed threads");
       }
       
-      this.gcReference = guaranteedThreads > 0 ? new PoolResizer(guaranteedThreads) : null;
+      this.poolResizer = guaranteedThreads > 0 ? new PoolResizer(guaranteedThreads) : null;
+    }
+    
+    /**
+     * Releases the threads guaranteed to this pool back to the central pool.  Tasks may still be 
+     * submitted, but they will only be able to run on the general processing threads.  If not 
+     * invoked the threads will be released once this pool is garbage collected.
+     */
+    @Override
+    public void close() {
+      if (poolResizer != null) {
+        poolResizer.release();
+      }
     }
   }
   
@@ -793,20 +854,113 @@ public class CentralThreadlyPool {
    * <p>
    * While using the garbage collector is not normally ideal for something like this, it avoids the 
    * need to have a shutdown action on returned pools.  In addition a delay in reducing a pool size 
-   * down is desirable to reduce potential thread churn of the central pool.
+   * down is desirable to reduce potential thread churn of the central pool.  If the threads should 
+   * be released deterministically {@link #release()} can be invoked instead.
    */
   protected static class PoolResizer {
-    private final int amount;
+    private final Cleanable cleanable;
     
     public PoolResizer(int amount) {
-      this.amount = amount;
-
       POOL_SIZE_UPDATER.adjustPoolSize(amount);
+      
+      // action must only reference the amount so that this instance can become unreachable
+      this.cleanable = 
+          ReferenceCleaner.register(this, () -> POOL_SIZE_UPDATER.adjustPoolSize(-amount));
+    }
+    
+    /**
+     * Reduce the pool by the amount it was expanded at construction.  This will happen 
+     * automatically once this instance is garbage collected, but this can be invoked to release 
+     * the threads deterministically.  Only the first invocation will adjust the pool size.
+     */
+    public void release() {
+      cleanable.clean();
+    }
+  }
+  
+  /**
+   * Class which tracks how much the master pool has been expanded for isolated tasks.  Rather than 
+   * adjusting the pool size for every task, the pool is expanded to include a reserve of spare 
+   * threads beyond the tasks outstanding.  That way following isolated tasks can use an already 
+   * started thread without needing to resize the pool.  Completing tasks never resize the pool 
+   * directly, instead the reservation is asynchronously trimmed down to the peak outstanding 
+   * tasks seen since the last trim (plus the spare threads).  This way the pool is only resized 
+   * when the demand for isolated tasks actually changes.
+   */
+  protected static class IsolatedTaskThreadReserve extends ReschedulingOperation {
+    protected static final int TRIM_DELAY = 10_000;
+    
+    protected final int spareThreads;
+    protected final AtomicInteger outstandingTasks;
+    protected final AtomicInteger peakOutstandingTasks; // since last trim
+    protected final AtomicInteger reservedThreads;
+    
+    protected IsolatedTaskThreadReserve(SubmitterScheduler scheduler, int spareThreads) {
+      super(scheduler, TRIM_DELAY);
+      
+      this.spareThreads = spareThreads;
+      this.outstandingTasks = new AtomicInteger(0);
+      this.peakOutstandingTasks = new AtomicInteger(0);
+      this.reservedThreads = new AtomicInteger(0);
+    }
+    
+    /**
+     * Reserve a thread for a task which is about to be submitted.  The pool will only be resized 
+     * if there is not already a spare thread reserved.
+     */
+    public void reserveThread() {
+      int outstanding = outstandingTasks.incrementAndGet();
+      int peak;
+      while (outstanding > (peak = peakOutstandingTasks.get()) && 
+             ! peakOutstandingTasks.compareAndSet(peak, outstanding)) {
+        // retry till we update or another thread has set a higher peak
+      }
+      ensureReserved();
+    }
+    
+    /**
+     * Release the thread reserved for a task which has completed.  This will not resize the pool, 
+     * but will schedule a trim if the spare threads reserved have grown beyond twice the spare 
+     * thread count.
+     */
+    public void releaseThread() {
+      int outstanding = outstandingTasks.decrementAndGet();
+      if (reservedThreads.get() - outstanding > spareThreads * 2) {
+        signalToRun();
+      }
+    }
+    
+    private void ensureReserved() {
+      while (true) {
+        int outstanding = outstandingTasks.get();
+        int reserved = reservedThreads.get();
+        if (outstanding <= reserved) {
+          return;
+        }
+        int newReserved = outstanding + spareThreads;
+        if (reservedThreads.compareAndSet(reserved, newReserved)) {
+          POOL_SIZE_UPDATER.adjustPoolSize(newReserved - reserved);
+          return;
+        }
+      }
     }
     
     @Override
-    protected void finalize() {
-      POOL_SIZE_UPDATER.adjustPoolSize(-amount);
+    protected void run() {
+      int outstanding = outstandingTasks.get();
+      // reset the peak so the next trim only considers demand from after this point
+      int peak = Math.max(outstanding, peakOutstandingTasks.getAndSet(outstanding));
+      int reserved = reservedThreads.get();
+      int target = peak + spareThreads;
+      if (reserved > target && reservedThreads.compareAndSet(reserved, target)) {
+        POOL_SIZE_UPDATER.adjustPoolSize(target - reserved);
+        // tasks may have been reserved while we reduced, so make sure they are still covered
+        ensureReserved();
+      }
+      if (reservedThreads.get() - outstandingTasks.get() > spareThreads * 2) {
+        // continue to trim as long as the reservation is beyond the current demand
+        signalToRun();
+      }
     }
   }
   
@@ -1,6 +1,7 @@
 package org.threadly.concurrent;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -13,12 +14,42 @@ import org.threadly.util.ExceptionUtils;
  * {@link UncaughtExceptionHandler} should be provided to new threads.  You can construct this 
  * with no arguments, and it's behavior will match that of 
  * {@code Executors.defaultThreadFactory()}.
+ * <p>
+ * On JVMs which support virtual threads, this can also be constructed to produce virtual 
+ * threads (see {@link #isVirtualThreadSupported()}).
  * 
  * @since 2.3.0
  */
 public class ConfigurableThreadFactory implements ThreadFactory {
   protected static final boolean DEFAULT_NEW_THREADS_DAEMON = false;
   private static final AtomicInteger NEXT_POOL_NUMBER = new AtomicInteger(1);
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY;
+  
+  static {
+    // threadly targets java 8, so the virtual thread builder can only be accessed reflectively
+    ThreadFactory virtualThreadFactory;
+    try {
+      Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      virtualThreadFactory = (ThreadFactory)factory.invoke(ofVirtual.invoke(null));
+    } catch (Throwable t) {
+      // not available in this JVM (or only available as a preview feature which is not enabled)
+      virtualThreadFactory = null;
+    }
+    VIRTUAL_THREAD_FACTORY = virtualThreadFactory;
+  }
+  
+  /**
+   * Checks if the running JVM supports virtual threads.  If this returns {@code false} then 
+   * attempting to construct a {@link ConfigurableThreadFactory} which produces virtual threads 
+   * will throw an {@link UnsupportedOperationException}.
+   * 
+   * @since 5.33
+   * @return {@code true} if virtual threads can be produced
+   */
+  public static boolean isVirtualThreadSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
   
   protected final ThreadGroup group;
   protected final String threadNamePrefix;
@@ -26,6 +57,7 @@ public class ConfigurableThreadFactory implements ThreadFactory {
   protected final int threadPriority;
   protected final UncaughtExceptionHandler defaultUncaughtExceptionHandler;
   protected final ExceptionHandler defaultThreadlyExceptionHandler;
+  protected final boolean useVirtualThreads;
   private final AtomicInteger nextThreadNumber;
   
   /**
@@ -130,6 +162,40 @@ public class ConfigurableThreadFactory implements ThreadFactory {
                                    boolean useDaemonThreads, int threadPriority, 
                                    UncaughtExceptionHandler uncaughtExceptionHandler, 
                                    ExceptionHandler defaultThreadlyExceptionHandler) {
+    this(threadNamePrefix, appendPoolIdToPrefix, useDaemonThreads, threadPriority, 
+         uncaughtExceptionHandler, defaultThreadlyExceptionHandler, false);
+  }
+  
+  /**
+   * Constructs a new {@link ConfigurableThreadFactory} allowing you to provide specific values 
+   * for everything which this class allows to be configured, including if virtual threads should 
+   * be produced.  
+   * <p>
+   * Virtual threads are always daemon threads, and always run at {@code Thread.NORM_PRIORITY}, so 
+   * when {@code useVirtualThreads} is {@code true} the {@code useDaemonThreads} and 
+   * {@code threadPriority} values are ignored.  Virtual threads are only available on JVMs where 
+   * {@link #isVirtualThreadSupported()} returns {@code true}.
+   * 
+   * @since 5.33
+   * @param threadNamePrefix prefix for all threads created, {@code null} to match default
+   * @param appendPoolIdToPrefix {@code true} to append a unique pool id to the thread prefix, 
+   *                             {@code true} to match default
+   * @param useDaemonThreads true if produced threads should be daemon threads, false to match default
+   * @param threadPriority Priority for newly created threads, {@code Thread.NORM_PRIORITY} to match default
+   * @param uncaughtExceptionHandler UncaughtExceptionHandler to provide to newly created threads, 
+   *                                 {@code null} to match default
+   * @param defaultThreadlyExceptionHandler {@link ExceptionHandler} to provide to newly created threads
+   * @param useVirtualThreads {@code true} to produce virtual threads, {@code false} to match default
+   * @throws UnsupportedOperationException if virtual threads are requested but not supported
+   */
+  public ConfigurableThreadFactory(String threadNamePrefix, boolean appendPoolIdToPrefix, 
+                                   boolean useDaemonThreads, int threadPriority, 
+                                   UncaughtExceptionHandler uncaughtExceptionHandler, 
+                                   ExceptionHandler defaultThreadlyExceptionHandler, 
+                                   boolean useVirtualThreads) {
+    if (useVirtualThreads && VIRTUAL_THREAD_FACTORY == null) {
+      throw new UnsupportedOperationException("Virtual threads not supported by this JVM");
+    }
     if (threadPriority > Thread.MAX_PRIORITY) {
       threadPriority = Thread.MAX_PRIORITY;
     } else if (threadPriority < Thread.MIN_PRIORITY) {
@@ -153,6 +219,7 @@ public class ConfigurableThreadFactory implements ThreadFactory {
     this.threadPriority = threadPriority;
     this.defaultUncaughtExceptionHandler = uncaughtExceptionHandler;
     this.defaultThreadlyExceptionHandler = defaultThreadlyExceptionHandler;
+    this.useVirtualThreads = useVirtualThreads;
     this.nextThreadNumber = new AtomicInteger(1);
   }
 
@@ -161,13 +228,19 @@ public class ConfigurableThreadFactory implements ThreadFactory {
     if (defaultThreadlyExceptionHandler != null) {
       r = new ExceptionHandlerSettingRunnable(r);
     }
-    Thread t = new Thread(group, r, threadNamePrefix + nextThreadNumber.getAndIncrement());
-    
-    if (t.isDaemon() != useDaemonThreads) {
-      t.setDaemon(useDaemonThreads);
-    }
-    if (t.getPriority() != threadPriority) {
-      t.setPriority(threadPriority);
+    Thread t;
+    if (useVirtualThreads) {
+      t = VIRTUAL_THREAD_FACTORY.newThread(r);
+      t.setName(threadNamePrefix + nextThreadNumber.getAndIncrement());
+    } else {
+      t = new Thread(group, r, threadNamePrefix + nextThreadNumber.getAndIncrement());
+      
+      if (t.isDaemon() != useDaemonThreads) {
+        t.setDaemon(useDaemonThreads);
+      }
+      if (t.getPriority() != threadPriority) {
+        t.setPriority(threadPriority);
+      }
     }
     if (defaultUncaughtExceptionHandler != null) {
       t.setUncaughtExceptionHandler(defaultUncaughtExceptionHandler);
@@ -1,7 +1,10 @@
 package org.threadly.concurrent;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 
@@ -26,6 +29,15 @@ import org.threadly.util.ExceptionUtils;
  * @since 2.0.0
  */
 public class NoThreadScheduler extends AbstractPriorityScheduler {
+  /**
+   * The maximum quantity of tasks which may run in a time budgeted tick before the clock is 
+   * checked again.  Between checks the quantity of tasks to run is estimated from the average 
+   * task duration so far.
+   * 
+   * @since 5.33
+   */
+  protected static final int MAX_TASKS_BETWEEN_BUDGET_CHECKS = 64;
+  
   protected final QueueSetListener queueListener;
   protected final QueueManager queueManager;
   protected final AtomicReference<Thread> blockingThread;
@@ -51,12 +63,19 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
     queueManager = new QueueManager(queueListener = new QueueSetListener() {
       @Override
       public void handleQueueUpdate() {
-        Thread t = blockingThread.get();
-        if (t != null) {
-          LockSupport.unpark(t);
-        }
+        NoThreadScheduler.this.handleQueueUpdate();
+      }
+      
+      @Override
+      public void handleScheduleQueueUpdate(long runTimeNanos) {
+        NoThreadScheduler.this.handleScheduleQueueUpdate(runTimeNanos);
       }
-    }, maxWaitForLowPriorityInMs);
+      
+      @Override
+      public long nowInNanos(boolean accurate) {
+        return NoThreadScheduler.this.nowInNanos(accurate);
+      }
+    }, maxWaitForLowPriorityInMs, true);
     blockingThread = new AtomicReference<>(null);
     tickRunning = false;
     tickCanceled = false;
@@ -65,6 +84,34 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
     setMaxWaitForLowPriority(maxWaitForLowPriorityInMs);
   }
 
+  /**
+   * Invoked when the queues have been updated in a way which may require a thread blocked in 
+   * {@link #blockingTick(ExceptionHandler)} to check for tasks again.  By default this will 
+   * unpark the blocking thread (if any).  Extending classes which wait for tasks in another way 
+   * can override this to wake their waiting thread, but should still invoke the super 
+   * implementation.
+   * 
+   * @since 5.33
+   */
+  protected void handleQueueUpdate() {
+    Thread t = blockingThread.get();
+    if (t != null) {
+      LockSupport.unpark(t);
+    }
+  }
+  
+  /**
+   * Invoked when a delayed task has become the next task in the schedule queue.  By default this 
+   * defers to {@link #handleQueueUpdate()}.  Extending classes which are waiting for a known run 
+   * time may override this to only wake if the new run time is sooner.
+   * 
+   * @since 5.33
+   * @param runTimeNanos Run time of the new head task, in the reference of {@link #nowInNanos(boolean)}
+   */
+  protected void handleScheduleQueueUpdate(long runTimeNanos) {
+    handleQueueUpdate();
+  }
+  
   /**
    * Abstract call to get the value the scheduler should use to represent the current time.  This 
    * can be overridden if someone wanted to artificially change the time.
@@ -80,6 +127,24 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
     }
   }
   
+  /**
+   * Abstract call to get the value the scheduler should use to represent the current time in 
+   * nanoseconds.  This must be in the same reference as {@link #nowInMillis(boolean)}, meaning 
+   * that dividing this result by {@link Clock#NANOS_IN_MILLISECOND} must produce the same time 
+   * as {@link #nowInMillis(boolean)}.  If one is overridden, then both must be overridden.
+   * 
+   * @since 5.33
+   * @param accurate If {@code true} then time estimates are not acceptable
+   * @return current time in nanoseconds
+   */
+  protected long nowInNanos(boolean accurate) {
+    if (accurate) {
+      return Clock.accurateForwardProgressingNanos();
+    } else {
+      return Clock.lastKnownForwardProgressingNanos();
+    }
+  }
+  
   /**
    * Call to cancel current or the next tick call.  If currently in a 
    * {@link #tick(ExceptionHandler)} call (weather blocking waiting for tasks, or currently running 
@@ -119,7 +184,38 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
    * @return quantity of tasks run during this tick invocation
    */
   public int tick(ExceptionHandler exceptionHandler) {
-    return tick(exceptionHandler, true);
+    return tick(exceptionHandler, true, Integer.MAX_VALUE, Long.MAX_VALUE);
+  }
+  
+  /**
+   * Similar to {@link #tick(ExceptionHandler)}, except this will stop running tasks once either 
+   * the provided quantity of tasks have run, or the provided time budget has elapsed.  This is 
+   * useful when ticking from within another event loop, where a large quantity of ready tasks 
+   * should not be able to delay the rest of the loop for an unbounded duration. 
+   * <p>
+   * To keep the overhead low the clock is not checked after every task.  Instead the quantity of 
+   * tasks which can likely complete in the remaining budget is estimated from the tasks run so 
+   * far, and the clock is checked again once half of those have run.  Because of this, and since 
+   * a running task can not be interrupted, the time budget may be exceeded.  Tasks with a very 
+   * inconsistent execution duration will exceed it more. 
+   * <p>
+   * The same restrictions as {@link #tick(ExceptionHandler)} apply, this must only be invoked by 
+   * one thread at a time.
+   * 
+   * @since 5.33
+   * @param exceptionHandler Exception handler implementation to call if any tasks throw an 
+   *                           exception, or null to have exceptions thrown out of this call
+   * @param maxTasks Maximum quantity of tasks to run, or {@link Integer#MAX_VALUE} for no limit
+   * @param maxNanos Time budget in nanoseconds, or {@link Long#MAX_VALUE} for no limit
+   * @return {@code true} if there are tasks still ready to run once this returned
+   */
+  public boolean tick(ExceptionHandler exceptionHandler, int maxTasks, long maxNanos) {
+    ArgumentVerifier.assertGreaterThanZero(maxTasks, "maxTasks");
+    ArgumentVerifier.assertGreaterThanZero(maxNanos, "maxNanos");
+    
+    tick(exceptionHandler, true, maxTasks, maxNanos);
+    
+    return getNextReadyTask() != null;
   }
   
   /**
@@ -131,14 +227,26 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
    *                           exception, or null to have exceptions thrown out of this call
    * @param resetCancelTickIfNoTasksRan if {@code true} will reset cancelTick weather tasks ran or 
    *                                      not, otherwise cancelTick will only be reset if tasks ran 
+   * @param maxTasks Maximum quantity of tasks to run, or {@link Integer#MAX_VALUE} for no limit
+   * @param maxNanos Time budget in nanoseconds, or {@link Long#MAX_VALUE} for no limit
    * @return quantity of tasks run during this tick invocation
    */
-  private int tick(ExceptionHandler exceptionHandler, boolean resetCancelTickIfNoTasksRan) {
+  private int tick(ExceptionHandler exceptionHandler, boolean resetCancelTickIfNoTasksRan, 
+                   int maxTasks, long maxNanos) {
     int tasks = 0;
+    long startNanos;
+    int nextBudgetCheck;
+    if (maxNanos == Long.MAX_VALUE) {
+      startNanos = 0;
+      nextBudgetCheck = Integer.MAX_VALUE;
+    } else {
+      startNanos = nowInNanos(true);
+      nextBudgetCheck = 1;
+    }
     TaskWrapper nextTask;
     tickRunning = true;
     try {
-      while ((nextTask = getNextReadyTask()) != null && ! tickCanceled) {
+      while (tasks < maxTasks && (nextTask = getNextReadyTask()) != null && ! tickCanceled) {
         // call will remove task from queue, or reposition as necessary
         // we can cheat with the execution reference since task de-queue is single threaded
         if (nextTask.canExecute(nextTask.getExecuteReference())) {
@@ -152,7 +260,17 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
             }
           }
           
-          tasks++;
+          if (++tasks >= nextBudgetCheck) {
+            long elapsedNanos = nowInNanos(true) - startNanos;
+            long remainingNanos = maxNanos - elapsedNanos;
+            if (remainingNanos <= 0) {
+              break;
+            }
+            // check again once half of the tasks estimated to fit in the remaining budget have run
+            long estimatedTasks = remainingNanos / Math.max(1, elapsedNanos / tasks);
+            nextBudgetCheck = tasks + (int)Math.max(1, Math.min(MAX_TASKS_BETWEEN_BUDGET_CHECKS, 
+                                                                estimatedTasks / 2));
+          }
         }
       }
       
@@ -195,7 +313,51 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
    * @throws InterruptedException thrown if thread is interrupted waiting for task to run
    */
   public int blockingTick(ExceptionHandler exceptionHandler) throws InterruptedException {
-    int initialTickResult = tick(exceptionHandler, false);
+    return doBlockingTick(exceptionHandler, Integer.MAX_VALUE, Long.MAX_VALUE);
+  }
+  
+  /**
+   * Similar to {@link #blockingTick(ExceptionHandler)}, except that once tasks are ready to run 
+   * this will stop running them once either the provided quantity of tasks have run, or the 
+   * provided time budget has elapsed.  Time spent blocking for a task to become ready does not 
+   * count against the time budget.  See {@link #tick(ExceptionHandler, int, long)} for details 
+   * on how the budget is enforced. 
+   * <p>
+   * The same restrictions as {@link #blockingTick(ExceptionHandler)} apply, this must only be 
+   * invoked by one thread at a time.
+   * 
+   * @since 5.33
+   * @param exceptionHandler Exception handler implementation to call if any tasks throw an 
+   *                           exception, or null to have exceptions thrown out of this call
+   * @param maxTasks Maximum quantity of tasks to run, or {@link Integer#MAX_VALUE} for no limit
+   * @param maxNanos Time budget in nanoseconds, or {@link Long#MAX_VALUE} for no limit
+   * @return {@code true} if there are tasks still ready to run once this returned
+   * @throws InterruptedException thrown if thread is interrupted waiting for task to run
+   */
+  public boolean blockingTick(ExceptionHandler exceptionHandler, 
+                              int maxTasks, long maxNanos) throws InterruptedException {
+    ArgumentVerifier.assertGreaterThanZero(maxTasks, "maxTasks");
+    ArgumentVerifier.assertGreaterThanZero(maxNanos, "maxNanos");
+    
+    doBlockingTick(exceptionHandler, maxTasks, maxNanos);
+    
+    return getNextReadyTask() != null;
+  }
+  
+  /**
+   * Internal blocking tick implementation, blocking until tasks are ready and then running them 
+   * within the provided limits.
+   * 
+   * @param exceptionHandler Exception handler implementation to call if any tasks throw an 
+   *                           exception, or null to have exceptions thrown out of this call
+   * @param maxTasks Maximum quantity of tasks to run, or {@link Integer#MAX_VALUE} for no limit
+   * @param maxNanos Time budget in nanoseconds, or {@link Long#MAX_VALUE} for no limit
+   * @return quantity of tasks run during this tick invocation
+   * @throws InterruptedException thrown if thread is interrupted waiting for task to run
+   */
+  private int doBlockingTick(ExceptionHandler exceptionHandler, 
+                             int maxTasks, long maxNanos) throws InterruptedException {
+    int initialTickResult = tick(exceptionHandler, false, maxTasks, maxNanos);
     if (initialTickResult == 0) {
       Thread currentThread = Thread.currentThread();
       // we already tried to optimistically run something above, so we now must prepare to park
@@ -218,9 +380,12 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
           if (nextTask == null) {
               LockSupport.park();
           } else {
-            long nextTaskDelay = nextTask.getScheduleDelay();
+            long nextTaskDelay = nextTask.getScheduleDelayNanos();
             if (nextTaskDelay > 0) {
-              LockSupport.parkNanos(Clock.NANOS_IN_MILLISECOND * nextTaskDelay);
+              LockSupport.parkNanos(nextTaskDelay);
+            } else if (nextTask instanceof PromotionTaskWrapper) {
+              // advance the timing wheel, then check again if the promoted tasks are ready
+              nextTask.canExecute(nextTask.getExecuteReference());
             } else {
               // task is ready to run, so break loop
               break;
@@ -238,12 +403,23 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
         blockingThread.lazySet(null);
       }
       
-      return tick(exceptionHandler, true);
+      return tick(exceptionHandler, true, maxTasks, maxNanos);
     } else {
       return initialTickResult;
     }
   }
 
+  @Override
+  protected void doExecuteAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+    QueueSet queueSet = queueManager.getQueueSet(priority);
+    long now = nowInMillis(false);
+    List<OneTimeTaskWrapper> wrappers = new ArrayList<>(tasks.size());
+    for (Runnable task : tasks) {
+      wrappers.add(new NoThreadOneTimeTaskWrapper(task, queueSet.executeQueue, now));
+    }
+    queueSet.addExecuteAll(wrappers);
+  }
+  
   @Override
   protected OneTimeTaskWrapper doSchedule(Runnable task, long delayInMillis, TaskPriority priority) {
     QueueSet queueSet = queueManager.getQueueSet(priority);
@@ -261,6 +437,62 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
   @Override
   public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay,
                                      TaskPriority priority) {
+    addRecurringDelayTask(task, initialDelay, recurringDelay, TimeUnit.MILLISECONDS, priority);
+  }
+
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period,
+                                  TaskPriority priority) {
+    addRecurringRateTask(task, initialDelay, period, TimeUnit.MILLISECONDS, priority);
+  }
+
+  @Override
+  protected OneTimeTaskWrapper doScheduleNanos(Runnable task, 
+                                               long delayInNanos, TaskPriority priority) {
+    QueueSet queueSet = queueManager.getQueueSet(priority);
+    OneTimeTaskWrapper result;
+    queueSet.addScheduled((result = new NoThreadOneTimeTaskWrapper(task, queueSet.scheduleQueue, 
+                                                                   nowInNanos(true) + delayInNanos, 
+                                                                   TimeUnit.NANOSECONDS)));
+    return result;
+  }
+  
+  @Override
+  public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit, TaskPriority priority) {
+    if (requiresNanoPrecision(initialDelay, unit) || requiresNanoPrecision(recurringDelay, unit)) {
+      addRecurringDelayTask(task, unit.toNanos(initialDelay), unit.toNanos(recurringDelay), 
+                            TimeUnit.NANOSECONDS, priority);
+    } else {
+      // go through the millisecond version so extending classes only need to override it
+      scheduleWithFixedDelay(task, unit.toMillis(initialDelay), 
+                             unit.toMillis(recurringDelay), priority);
+    }
+  }
+  
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
+                                  TimeUnit unit, TaskPriority priority) {
+    if (requiresNanoPrecision(initialDelay, unit) || requiresNanoPrecision(period, unit)) {
+      addRecurringRateTask(task, unit.toNanos(initialDelay), unit.toNanos(period), 
+                           TimeUnit.NANOSECONDS, priority);
+    } else {
+      scheduleAtFixedRate(task, unit.toMillis(initialDelay), unit.toMillis(period), priority);
+    }
+  }
+  
+  /**
+   * Validates and queues a new fixed delay recurring task.  The unit must be either 
+   * {@link TimeUnit#MILLISECONDS} or {@link TimeUnit#NANOSECONDS}.
+   * 
+   * @param task runnable to be executed
+   * @param initialDelay delay before first run
+   * @param recurringDelay delay after completion before the next run
+   * @param unit unit the delays are provided in
+   * @param priority priority for task, {@code null} to use the default priority
+   */
+  private void addRecurringDelayTask(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit, TaskPriority priority) {
     ArgumentVerifier.assertNotNull(task, "task");
     ArgumentVerifier.assertNotNegative(initialDelay, "initialDelay");
     ArgumentVerifier.assertNotNegative(recurringDelay, "recurringDelay");
@@ -269,15 +501,23 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
     }
     
     QueueSet queueSet = queueManager.getQueueSet(priority);
-    NoThreadRecurringDelayTaskWrapper taskWrapper = 
-        new NoThreadRecurringDelayTaskWrapper(task, queueSet, 
-                                              nowInMillis(true) + initialDelay, recurringDelay);
-    queueSet.addScheduled(taskWrapper);
+    queueSet.addScheduled(new NoThreadRecurringDelayTaskWrapper(task, queueSet, 
+                                                                now(unit) + initialDelay, 
+                                                                recurringDelay, unit));
   }
-
-  @Override
-  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period,
-                                  TaskPriority priority) {
+  
+  /**
+   * Validates and queues a new fixed rate recurring task.  The unit must be either 
+   * {@link TimeUnit#MILLISECONDS} or {@link TimeUnit#NANOSECONDS}.
+   * 
+   * @param task runnable to be executed
+   * @param initialDelay delay before first run
+   * @param period time between the start of each run
+   * @param unit unit the delays are provided in
+   * @param priority priority for task, {@code null} to use the default priority
+   */
+  private void addRecurringRateTask(Runnable task, long initialDelay, long period, 
+                                    TimeUnit unit, TaskPriority priority) {
     ArgumentVerifier.assertNotNull(task, "task");
     ArgumentVerifier.assertNotNegative(initialDelay, "initialDelay");
     ArgumentVerifier.assertGreaterThanZero(period, "period");
@@ -286,13 +526,19 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
     }
     
     QueueSet queueSet = queueManager.getQueueSet(priority);
-    
-    NoThreadRecurringRateTaskWrapper taskWrapper = 
-        new NoThreadRecurringRateTaskWrapper(task, queueSet, 
-                                             nowInMillis(true) + initialDelay, period);
-    queueSet.addScheduled(taskWrapper);
+    queueSet.addScheduled(new NoThreadRecurringRateTaskWrapper(task, queueSet, 
+                                                               now(unit) + initialDelay, 
+                                                               period, unit));
   }
-
+  
+  private long now(TimeUnit unit) {
+    if (unit == TimeUnit.NANOSECONDS) {
+      return nowInNanos(true);
+    } else {
+      return nowInMillis(true);
+    }
+  }
+  
   @Override
   public int getActiveTaskCount() {
     return tickRunning ? 1 : 0;
@@ -315,7 +561,7 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
    */
   protected TaskWrapper getNextReadyTask() {
     TaskWrapper tw = queueManager.getNextTask();
-    if (tw == null || tw.getScheduleDelay() > 0) {
+    if (tw == null || tw.getScheduleDelayNanos() > 0) {
       return null;
     } else {
       return tw;
@@ -346,7 +592,7 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
   private static boolean hasTaskReadyToRun(QueueSet queueSet) {
     if (queueSet.executeQueue.isEmpty()) {
       TaskWrapper headTask = queueSet.scheduleQueue.peekFirst();
-      return headTask != null && headTask.getScheduleDelay() <= 0;
+      return headTask != null && headTask.getScheduleDelayNanos() <= 0;
     } else {
       return true;
     }
@@ -377,7 +623,8 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
   public long getDelayTillNextTask() {
     TaskWrapper tw = queueManager.getNextTask();
     if (tw != null) {
-      return tw.getRunTime() - nowInMillis(true);
+      return SchedulingUtils.toMillisRoundingUp(tw.getRunTimeNanos() - nowInNanos(true), 
+                                                TimeUnit.NANOSECONDS);
     } else {
       return Long.MAX_VALUE;
     }
@@ -412,10 +659,15 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
       super(task, taskQueue, runTime);
     }
     
+    protected NoThreadOneTimeTaskWrapper(Runnable task, Queue<? extends TaskWrapper> taskQueue, 
+                                         long runTime, TimeUnit unit) {
+      super(task, taskQueue, runTime, unit);
+    }
+    
     @Override
-    public long getScheduleDelay() {
-      if (getRunTime() > nowInMillis(false)) {
-        return getRunTime() - nowInMillis(true);
+    public long getScheduleDelayNanos() {
+      if (runTimeNanos > nowInNanos(false)) {
+        return runTimeNanos - nowInNanos(true);
       } else {
         return 0;
       }
@@ -440,18 +692,23 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
       super(task, queueSet, firstRunTime);
     }
     
+    protected NoThreadRecurringTaskWrapper(Runnable task, QueueSet queueSet, 
+                                           long firstRunTime, TimeUnit unit) {
+      super(task, queueSet, firstRunTime, unit);
+    }
+    
     @Override
-    public long getScheduleDelay() {
-      if (getRunTime() > nowInMillis(false)) {
-        return getRunTime() - nowInMillis(true);
+    public long getScheduleDelayNanos() {
+      if (getRunTimeNanos() > nowInNanos(false)) {
+        return getRunTimeNanos() - nowInNanos(true);
       } else {
         return 0;
       }
     }
     
     /**
-     * Called when the implementing class should update the variable {@code nextRunTime} to be the 
-     * next absolute time in milliseconds the task should run.
+     * Called when the implementing class should update the variable {@code nextRunTimeNanos} to 
+     * be the next absolute time in nanoseconds the task should run.
      */
     @Override
     protected abstract void updateNextRunTime();
@@ -459,6 +716,7 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
     @Override
     public void runTask() {
       if (invalidated) {
+        releaseInvalidated();
         return;
       }
       
@@ -468,8 +726,10 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
       } finally {
         if (! invalidated) {
           updateNextRunTime();
-          // now that nextRunTime has been set, resort the queue (ask reschedule)
-          reschedule();  // this will set executing to false atomically with the resort
+          // now that nextRunTimeNanos has been set, add back into the queue (ask reschedule)
+          reschedule();  // this will set executing to false atomically with the queue insertion
+        } else {
+          releaseInvalidated();
         }
       }
     }
@@ -481,18 +741,24 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
    * @since 4.3.0
    */
   protected class NoThreadRecurringDelayTaskWrapper extends NoThreadRecurringTaskWrapper {
-    protected final long recurringDelay;
+    protected final long recurringDelayNanos;
     
     protected NoThreadRecurringDelayTaskWrapper(Runnable task, QueueSet queueSet, 
                                                 long firstRunTime, long recurringDelay) {
-      super(task, queueSet, firstRunTime);
+      this(task, queueSet, firstRunTime, recurringDelay, TimeUnit.MILLISECONDS);
+    }
+    
+    protected NoThreadRecurringDelayTaskWrapper(Runnable task, QueueSet queueSet, 
+                                                long firstRunTime, long recurringDelay, 
+                                                TimeUnit unit) {
+      super(task, queueSet, firstRunTime, unit);
       
-      this.recurringDelay = recurringDelay;
+      this.recurringDelayNanos = unit.toNanos(recurringDelay);
     }
     
     @Override
     protected void updateNextRunTime() {
-      nextRunTime = nowInMillis(true) + recurringDelay;
+      nextRunTimeNanos = nowInNanos(true) + recurringDelayNanos;
     }
   }
   
@@ -502,18 +768,23 @@ public class NoThreadScheduler extends AbstractPriorityScheduler {
    * @since 4.3.0
    */
   protected class NoThreadRecurringRateTaskWrapper extends NoThreadRecurringTaskWrapper {
-    protected final long period;
+    protected final long periodNanos;
     
     protected NoThreadRecurringRateTaskWrapper(Runnable task, QueueSet queueSet, 
                                                long firstRunTime, long period) {
-      super(task, queueSet, firstRunTime);
+      this(task, queueSet, firstRunTime, period, TimeUnit.MILLISECONDS);
+    }
+    
+    protected NoThreadRecurringRateTaskWrapper(Runnable task, QueueSet queueSet, 
+                                               long firstRunTime, long period, TimeUnit unit) {
+      super(task, queueSet, firstRunTime, unit);
       
-      this.period = period;
+      this.periodNanos = unit.toNanos(period);
     }
     
     @Override
     protected void updateNextRunTime() {
-      nextRunTime += period;
+      nextRunTimeNanos += periodNanos;
     }
   }
 }
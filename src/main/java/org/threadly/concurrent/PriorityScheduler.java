@@ -1,17 +1,30 @@
 package org.threadly.concurrent;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
 
 import org.threadly.util.AbstractService;
 import org.threadly.util.ArgumentVerifier;
 import org.threadly.util.Clock;
+import org.threadly.util.ReferenceCleaner;
 
 /**
  * Executor to run tasks, schedule tasks.  Unlike 
@@ -130,6 +143,10 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
     taskQueueManager = new QueueManager(workerPool, maxWaitForLowPriorityInMs);
     
     workerPool.start(taskQueueManager);
+    
+    // shutdown the thread pool once GC'ed so we don't leak threads
+    QueueManager queueManager = taskQueueManager;
+    ReferenceCleaner.register(this, () -> shutdown(workerPool, queueManager));
   }
   
   /**
@@ -180,6 +197,288 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
     workerPool.adjustPoolSize(delta);
   }
   
+  /**
+   * Enables worker local task queues.  Once enabled, tasks executed at 
+   * {@link TaskPriority#High} priority from one of this pool's own threads (for example listener 
+   * continuations) are queued on that thread's worker rather than on the shared high priority 
+   * queue.  The most recently submitted task is held in a "next task" slot so that it is likely 
+   * to run on the same thread (and thus likely the same cpu cache) as the task which produced it.  
+   * Any task displaced from that slot is queued behind it in the worker's local deque.  Workers 
+   * which become idle will steal tasks from other worker's local deques before parking. 
+   * <p>
+   * Tasks submitted from outside the pool, delayed tasks, and tasks of other priorities still go 
+   * through the shared queues.  A worker will run its own local tasks before any 
+   * {@link TaskPriority#Starvable} tasks, a low priority task which has waited past the max wait 
+   * time (see 
+   * {@link #setMaxWaitForLowPriority(long)}) is run before local tasks, and every 
+   * {@link WorkerPool#SHARED_QUEUE_CHECK_INTERVAL} local tasks a worker will first check the shared 
+   * queues so that high priority tasks submitted from outside the pool can not be starved.  
+   * Because of this, high priority tasks are no longer guaranteed to start in the order they were 
+   * submitted. 
+   * <p>
+   * This can not be disabled once it has been enabled.
+   * 
+   * @since 5.33
+   * @throws IllegalStateException Thrown if worker local queues have already been enabled
+   */
+  public void enableWorkerLocalQueues() {
+    workerPool.enableWorkerLocalQueues();
+  }
+  
+  /**
+   * Sets the maximum quantity of ready tasks a worker will take at once from the shared 
+   * {@link TaskPriority#High} execute queue.  When set above {@code 1}, a worker which takes a 
+   * task from that queue will also move up to {@code maxBatchSize - 1} of the following tasks into 
+   * its own local deque, to be run without returning to the shared queue (reducing contention on 
+   * that queue, as well as worker park and unpark overhead for large fan-out workloads).  Other 
+   * workers which become idle may still steal those tasks, and they are included in queue counts 
+   * and {@link #remove(Runnable)}.  Low priority and starvable tasks are never batched. 
+   * <p>
+   * Batching allows high priority tasks to run slightly out of submission order, in the same way 
+   * as described in {@link #enableWorkerLocalQueues()}.  By default the batch size is {@code 1}, 
+   * meaning only a single task is taken at a time.
+   * 
+   * @since 5.33
+   * @param maxBatchSize Maximum tasks to take at once, must be at least {@code 1}
+   */
+  public void setWorkerBatchDequeueSize(int maxBatchSize) {
+    workerPool.setWorkerBatchDequeueSize(maxBatchSize);
+  }
+  
+  /**
+   * Getter for the maximum quantity of ready tasks a worker will take at once from the shared 
+   * high priority execute queue.  See {@link #setWorkerBatchDequeueSize(int)}.
+   * 
+   * @since 5.33
+   * @return Currently set max batch size, {@code 1} if tasks are not being batched
+   */
+  public int getWorkerBatchDequeueSize() {
+    return workerPool.getWorkerBatchDequeueSize();
+  }
+  
+  /**
+   * Sets the strategy idle workers use to wait for new tasks.  By default idle workers park 
+   * immediately ({@link WorkerIdleStrategy#Park}).  Other strategies will have idle workers spin 
+   * for a short time checking for new tasks before parking, and while a worker is spinning task 
+   * submission will not unpark additional workers.  This can reduce the thread wake-up overhead 
+   * for bursts of short tasks, at the cost of CPU time consumed while spinning.
+   * 
+   * @since 5.33
+   * @param idleStrategy Strategy for idle workers to use, can not be {@code null}
+   */
+  public void setWorkerIdleStrategy(WorkerIdleStrategy idleStrategy) {
+    workerPool.setWorkerIdleStrategy(idleStrategy);
+  }
+  
+  /**
+   * Getter for the strategy idle workers use to wait for new tasks.  See 
+   * {@link #setWorkerIdleStrategy(WorkerIdleStrategy)}.
+   * 
+   * @since 5.33
+   * @return Currently set idle strategy
+   */
+  public WorkerIdleStrategy getWorkerIdleStrategy() {
+    return workerPool.getWorkerIdleStrategy();
+  }
+  
+  /**
+   * Sets the core pool size.  Threads are still started lazily as tasks need them, up to the max 
+   * pool size (see {@link #setPoolSize(int)}).  Once a keep-alive time is set with 
+   * {@link #setWorkerKeepAliveTime(long)}, threads beyond this count will exit after they have 
+   * been idle for that long, allowing a pool sized for peak load to release those threads once 
+   * the load has dropped.  If this is larger than the max pool size, the max pool size is used as 
+   * the core size.  By default the core pool size is the pool size provided at construction.
+   * 
+   * @since 5.33
+   * @param corePoolSize Quantity of threads to keep even when idle, can not be negative
+   */
+  public void setCorePoolSize(int corePoolSize) {
+    workerPool.setCorePoolSize(corePoolSize);
+  }
+  
+  /**
+   * Getter for the core pool size.  See {@link #setCorePoolSize(int)}.
+   * 
+   * @since 5.33
+   * @return Current core pool size, never larger than the max pool size
+   */
+  public int getCorePoolSize() {
+    return workerPool.getCorePoolSize();
+  }
+  
+  /**
+   * Sets how long a thread beyond the core pool size (see {@link #setCorePoolSize(int)}) may be 
+   * idle before it exits.  By default this is {@link Long#MAX_VALUE}, meaning threads will only 
+   * exit if the max pool size is reduced or the pool is shutdown.
+   * 
+   * @since 5.33
+   * @param keepAliveMillis Time in milliseconds a thread may be idle before exiting, must be above zero
+   */
+  public void setWorkerKeepAliveTime(long keepAliveMillis) {
+    workerPool.setWorkerKeepAliveTime(keepAliveMillis);
+  }
+  
+  /**
+   * Getter for how long a thread beyond the core pool size may be idle before it exits.  See 
+   * {@link #setWorkerKeepAliveTime(long)}.
+   * 
+   * @since 5.33
+   * @return Keep-alive time in milliseconds, {@link Long#MAX_VALUE} if idle threads never exit
+   */
+  public long getWorkerKeepAliveTime() {
+    return workerPool.getWorkerKeepAliveTime();
+  }
+  
+  /**
+   * Getter for the total quantity of threads this pool has created.  Compared with 
+   * {@link #getWorkerRetiredCount()} this can be used to monitor thread churn from the core and 
+   * keep-alive settings.
+   * 
+   * @since 5.33
+   * @return Quantity of threads created
+   */
+  public long getWorkerCreatedCount() {
+    return workerPool.getWorkerCreatedCount();
+  }
+  
+  /**
+   * Getter for the total quantity of threads which have exited while the pool was still running. 
+   * This includes threads which were idle longer than the keep-alive time, as well as threads 
+   * which exited because the max pool size was reduced.  Threads stopped due to shutdown are not 
+   * included.
+   * 
+   * @since 5.33
+   * @return Quantity of threads retired
+   */
+  public long getWorkerRetiredCount() {
+    return workerPool.getWorkerRetiredCount();
+  }
+  
+  /**
+   * Getter for the total quantity of times an idle worker of this pool has been unparked so that 
+   * it can check for tasks.  Dividing the change in this count by the quantity of tasks run gives 
+   * an idea of how many wake ups are needed for each task.
+   * 
+   * @since 5.33
+   * @return Quantity of idle worker wake ups
+   */
+  public long getWorkerWakeCount() {
+    return workerPool.getWorkerWakeCount();
+  }
+  
+  /**
+   * Getter for the total quantity of times a worker of this pool has been compensated for while 
+   * blocking.  See {@link ThreadBlockingHook#managedBlock(BlockingOperation)} for details.
+   * 
+   * @since 5.33
+   * @return Quantity of compensated blocking operations
+   */
+  public long getBlockingCompensationCount() {
+    return workerPool.getBlockingCompensationCount();
+  }
+  
+  /**
+   * Getter for the quantity of workers which are currently blocked, and thus compensated for by 
+   * allowing the pool to grow beyond the max pool size.  See 
+   * {@link ThreadBlockingHook#managedBlock(BlockingOperation)} for details.
+   * 
+   * @since 5.33
+   * @return Quantity of workers currently blocked in a compensated operation
+   */
+  public int getCompensatedBlockedWorkerCount() {
+    return workerPool.getCompensatedBlockedWorkerCount();
+  }
+  
+  /**
+   * Enables weighted fair scheduling between a configurable quantity of priority classes.  Each 
+   * class has its own queues, and once tasks from several classes are ready to run, stride 
+   * scheduling is used to choose between them so that under saturation each class receives a 
+   * share of executions proportional to its weight.  A class which has no ready work does not 
+   * accumulate credit, so its share is given to the other classes until it has tasks again. 
+   * <p>
+   * The existing priority API maps onto the first two classes.  Tasks submitted with 
+   * {@link TaskPriority#High} are in class {@code 0}, and tasks submitted with 
+   * {@link TaskPriority#Low} are in class {@code 1}.  Tasks for other classes can be submitted 
+   * using {@link #getPriorityClassScheduler(int)}.  {@link TaskPriority#Starvable} tasks are not 
+   * part of the weighting, and still only run when no other task is ready.  Once enabled 
+   * {@link #setMaxWaitForLowPriority(long)} no longer has any effect.  For example weights of 
+   * {@code 8, 1} will run about eight high priority tasks for every low priority task while both 
+   * have tasks waiting. 
+   * <p>
+   * Weighting is applied when a worker takes a task from the shared queues, so tasks queued 
+   * locally on a worker (see {@link #enableWorkerLocalQueues()}) are not accounted.  This can not 
+   * be disabled once it has been enabled.
+   * 
+   * @since 5.33
+   * @param classWeights Weight for each priority class, at least two must be provided and all must be above zero
+   * @throws IllegalStateException Thrown if weighted priority classes have already been enabled
+   */
+  public void enableWeightedPriorityClasses(int ... classWeights) {
+    taskQueueManager.enableWeightedPriorityClasses(classWeights);
+  }
+  
+  /**
+   * Returns a {@link SubmitterScheduler} which will submit tasks into the provided priority 
+   * class.  Weighted priority classes must first be enabled with 
+   * {@link #enableWeightedPriorityClasses(int...)}.
+   * 
+   * @since 5.33
+   * @param priorityClass Index of the priority class to submit tasks into
+   * @return Scheduler which queues tasks into the provided priority class
+   * @throws IllegalStateException Thrown if weighted priority classes have not been enabled
+   */
+  public SubmitterScheduler getPriorityClassScheduler(int priorityClass) {
+    return new PriorityClassScheduler(taskQueueManager.getQueueSet(priorityClass));
+  }
+  
+  /**
+   * Getter for the quantity of tasks from the provided priority class which have been started.  
+   * See {@link #enableWeightedPriorityClasses(int...)}.
+   * 
+   * @since 5.33
+   * @param priorityClass Index of the priority class
+   * @return Quantity of tasks started from the priority class
+   * @throws IllegalStateException Thrown if weighted priority classes have not been enabled
+   */
+  public long getPriorityClassExecutedCount(int priorityClass) {
+    return getWeightedPriorityClasses().getClassExecutedCount(priorityClass);
+  }
+  
+  /**
+   * Getter for the average time in milliseconds tasks from the provided priority class have 
+   * waited past their desired run time before starting.  See 
+   * {@link #enableWeightedPriorityClasses(int...)}.
+   * 
+   * @since 5.33
+   * @param priorityClass Index of the priority class
+   * @return Average queue delay in milliseconds, or {@code -1} if no tasks have started
+   * @throws IllegalStateException Thrown if weighted priority classes have not been enabled
+   */
+  public double getPriorityClassAverageQueueDelay(int priorityClass) {
+    return getWeightedPriorityClasses().getClassAverageQueueDelay(priorityClass);
+  }
+  
+  /**
+   * Getter for how long in milliseconds the next task in the provided priority class has been 
+   * ready and waiting to start.  See {@link #enableWeightedPriorityClasses(int...)}.
+   * 
+   * @since 5.33
+   * @param priorityClass Index of the priority class
+   * @return Milliseconds the next task has been waiting, or {@code 0} if no task is ready
+   * @throws IllegalStateException Thrown if weighted priority classes have not been enabled
+   */
+  public long getPriorityClassCurrentQueueDelay(int priorityClass) {
+    return getWeightedPriorityClasses().getClassCurrentQueueDelay(priorityClass);
+  }
+  
+  private WeightedPriorityClasses getWeightedPriorityClasses() {
+    WeightedPriorityClasses wpc = taskQueueManager.getWeightedPriorityClasses();
+    if (wpc == null) {
+      throw new IllegalStateException("Weighted priority classes not enabled");
+    }
+    return wpc;
+  }
+  
   /**
    * Call to check how many tasks are currently being executed in this thread pool.  Unlike 
    * {@link #getCurrentPoolSize()}, this count will NOT include idle threads waiting to execute 
@@ -215,6 +514,18 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
    * If you wish to not want to run any queued tasks you should use {@link #shutdownNow()}.
    */
   public void shutdown() {
+    shutdown(workerPool, taskQueueManager);
+  }
+  
+  /**
+   * Starts the shutdown of the worker pool, queuing a task to stop the workers once all 
+   * previously submitted tasks have run.  This is static so that it can be invoked once the 
+   * scheduler has been garbage collected.
+   * 
+   * @param workerPool Pool of workers to shutdown
+   * @param taskQueueManager Queue manager to add the shutdown task into
+   */
+  private static void shutdown(WorkerPool workerPool, QueueManager taskQueueManager) {
     if (workerPool.startShutdown()) {
       ShutdownRunnable sr = new ShutdownRunnable(workerPool);
       taskQueueManager.lowPriorityQueueSet
@@ -235,6 +546,7 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
   public List<Runnable> shutdownNow() {
     workerPool.startShutdown();
     List<Runnable> awaitingTasks = taskQueueManager.clearQueue();
+    workerPool.drainWorkerLocalQueues(awaitingTasks);
     workerPool.finishShutdown();
     
     return awaitingTasks;
@@ -266,20 +578,65 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
   @Override
   public int getQueuedTaskCount() {
     // subtract one for hack task for spin issue
-    return super.getQueuedTaskCount() - 1;
+    return super.getQueuedTaskCount() - 1 + workerPool.getWorkerLocalQueuedTaskCount();
   }
   
   @Override
   public int getQueuedTaskCount(TaskPriority priority) {
-    // subtract one from starvable count for hack task for spin issue
-    return super.getQueuedTaskCount(priority) - (priority == TaskPriority.Starvable ? 1 : 0);
+    if (priority == null) {
+      return getQueuedTaskCount();
+    } else if (priority == TaskPriority.High) {
+      return super.getQueuedTaskCount(priority) + workerPool.getWorkerLocalQueuedTaskCount();
+    } else {
+      // subtract one from starvable count for hack task for spin issue
+      return super.getQueuedTaskCount(priority) - (priority == TaskPriority.Starvable ? 1 : 0);
+    }
+  }
+  
+  @Override
+  public int getWaitingForExecutionTaskCount(TaskPriority priority) {
+    if (priority == TaskPriority.High) {
+      return super.getWaitingForExecutionTaskCount(priority) + 
+               workerPool.getWorkerLocalQueuedTaskCount();
+    } else {
+      return super.getWaitingForExecutionTaskCount(priority);
+    }
+  }
+  
+  @Override
+  public boolean remove(Runnable task) {
+    return super.remove(task) || 
+             workerPool.removeFromWorkerLocalQueues((tw) -> ContainerHelper.isContained(tw.task, task));
+  }
+  
+  @Override
+  public boolean remove(Callable<?> task) {
+    return super.remove(task) || 
+             workerPool.removeFromWorkerLocalQueues((tw) -> ContainerHelper.isContained(tw.task, task));
   }
 
   @Override
   protected OneTimeTaskWrapper doSchedule(Runnable task, long delayInMillis, TaskPriority priority) {
-    QueueSet queueSet = taskQueueManager.getQueueSet(priority);
+    return doSchedule(task, delayInMillis, taskQueueManager.getQueueSet(priority));
+  }
+  
+  /**
+   * Schedules the task into the provided {@link QueueSet}.
+   * 
+   * @since 5.33
+   * @param task Task to be executed
+   * @param delayInMillis Delay in milliseconds before the task should run
+   * @param queueSet Queue set to add the task into
+   * @return Wrapper which was queued for the task
+   */
+  protected OneTimeTaskWrapper doSchedule(Runnable task, long delayInMillis, QueueSet queueSet) {
     OneTimeTaskWrapper result;
     if (delayInMillis == 0) {
+      if (queueSet == taskQueueManager.highPriorityQueueSet && 
+          workerPool.isWorkerLocalQueuesEnabled() && 
+          (result = workerPool.addToWorkerLocalQueue(task)) != null) {
+        return result;
+      }
       addToExecuteQueue(queueSet, 
                         (result = new ImmediateTaskWrapper(task, queueSet.executeQueue)));
     } else {
@@ -291,39 +648,139 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
     return result;
   }
 
+  @Override
+  protected void doExecuteAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+    if (workerPool.isShutdownStarted()) {
+      throw new RejectedExecutionException("Thread pool shutdown");
+    }
+    
+    QueueSet queueSet = taskQueueManager.getQueueSet(priority);
+    List<OneTimeTaskWrapper> wrappers = new ArrayList<>(tasks.size());
+    for (Runnable task : tasks) {
+      wrappers.add(new ImmediateTaskWrapper(task, queueSet.executeQueue));
+    }
+    queueSet.addExecuteAll(wrappers);
+  }
+  
+  @Override
+  protected void doScheduleWithDeadline(DeadlineFutureTask<?> task, long deadlineNanos, 
+                                        TaskPriority priority) {
+    if (workerPool.isShutdownStarted()) {
+      throw new RejectedExecutionException("Thread pool shutdown");
+    }
+    
+    super.doScheduleWithDeadline(task, deadlineNanos, priority);
+  }
+  
   @Override
   public void scheduleWithFixedDelay(Runnable task, long initialDelay, 
                                      long recurringDelay, TaskPriority priority) {
+    addRecurringDelayTask(task, initialDelay, recurringDelay, TimeUnit.MILLISECONDS, priority);
+  }
+
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
+                                  TaskPriority priority) {
+    addRecurringRateTask(task, initialDelay, period, TimeUnit.MILLISECONDS, priority);
+  }
+  
+  @Override
+  protected OneTimeTaskWrapper doScheduleNanos(Runnable task, 
+                                               long delayInNanos, TaskPriority priority) {
+    QueueSet queueSet = taskQueueManager.getQueueSet(priority);
+    OneTimeTaskWrapper result;
+    addToScheduleQueue(queueSet, 
+                       (result = new OneTimeTaskWrapper(task, queueSet.scheduleQueue, 
+                                                        Clock.accurateForwardProgressingNanos() + 
+                                                          delayInNanos, 
+                                                        TimeUnit.NANOSECONDS)));
+    return result;
+  }
+  
+  @Override
+  public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit, TaskPriority priority) {
+    if (requiresNanoPrecision(initialDelay, unit) || requiresNanoPrecision(recurringDelay, unit)) {
+      addRecurringDelayTask(task, unit.toNanos(initialDelay), unit.toNanos(recurringDelay), 
+                            TimeUnit.NANOSECONDS, priority);
+    } else {
+      // go through the millisecond version so extending classes only need to override it
+      scheduleWithFixedDelay(task, unit.toMillis(initialDelay), 
+                             unit.toMillis(recurringDelay), priority);
+    }
+  }
+  
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
+                                  TimeUnit unit, TaskPriority priority) {
+    if (requiresNanoPrecision(initialDelay, unit) || requiresNanoPrecision(period, unit)) {
+      addRecurringRateTask(task, unit.toNanos(initialDelay), unit.toNanos(period), 
+                           TimeUnit.NANOSECONDS, priority);
+    } else {
+      scheduleAtFixedRate(task, unit.toMillis(initialDelay), unit.toMillis(period), priority);
+    }
+  }
+  
+  /**
+   * Validates and queues a new fixed delay recurring task.  The unit must be either 
+   * {@link TimeUnit#MILLISECONDS} or {@link TimeUnit#NANOSECONDS}, and determines which clock the 
+   * first run time is based off of.
+   * 
+   * @param task runnable to be executed
+   * @param initialDelay delay before first run
+   * @param recurringDelay delay after completion before the next run
+   * @param unit unit the delays are provided in
+   * @param priority priority for task, {@code null} to use the default priority
+   */
+  private void addRecurringDelayTask(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit, TaskPriority priority) {
     ArgumentVerifier.assertNotNull(task, "task");
     ArgumentVerifier.assertNotNegative(initialDelay, "initialDelay");
     ArgumentVerifier.assertNotNegative(recurringDelay, "recurringDelay");
     if (priority == null) {
       priority = defaultPriority;
     }
-
+    
     QueueSet queueSet = taskQueueManager.getQueueSet(priority);
     addToScheduleQueue(queueSet, 
                        new RecurringDelayTaskWrapper(task, queueSet, 
-                                                     Clock.accurateForwardProgressingMillis() + 
-                                                       initialDelay, 
-                                                     recurringDelay));
+                                                     forwardProgressingTime(unit) + initialDelay, 
+                                                     recurringDelay, unit));
   }
-
-  @Override
-  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
-                                  TaskPriority priority) {
+  
+  /**
+   * Validates and queues a new fixed rate recurring task.  The unit must be either 
+   * {@link TimeUnit#MILLISECONDS} or {@link TimeUnit#NANOSECONDS}, and determines which clock the 
+   * first run time is based off of.
+   * 
+   * @param task runnable to be executed
+   * @param initialDelay delay before first run
+   * @param period time between the start of each run
+   * @param unit unit the delays are provided in
+   * @param priority priority for task, {@code null} to use the default priority
+   */
+  private void addRecurringRateTask(Runnable task, long initialDelay, long period, 
+                                    TimeUnit unit, TaskPriority priority) {
     ArgumentVerifier.assertNotNull(task, "task");
     ArgumentVerifier.assertNotNegative(initialDelay, "initialDelay");
     ArgumentVerifier.assertGreaterThanZero(period, "period");
     if (priority == null) {
       priority = defaultPriority;
     }
-
+    
     QueueSet queueSet = taskQueueManager.getQueueSet(priority);
     addToScheduleQueue(queueSet, 
                        new RecurringRateTaskWrapper(task, queueSet, 
-                                                    Clock.accurateForwardProgressingMillis() + initialDelay, 
-                                                    period));
+                                                    forwardProgressingTime(unit) + initialDelay, 
+                                                    period, unit));
+  }
+  
+  private static long forwardProgressingTime(TimeUnit unit) {
+    if (unit == TimeUnit.NANOSECONDS) {
+      return Clock.accurateForwardProgressingNanos();
+    } else {
+      return Clock.accurateForwardProgressingMillis();
+    }
   }
   
   /**
@@ -358,12 +815,51 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
     queueSet.addScheduled(task);
   }
   
-  @Override
-  protected void finalize() {
-    // shutdown the thread pool so we don't leak threads if garbage collected
-    shutdown();
+  /**
+   * {@link SubmitterScheduler} which queues tasks into a single priority class.  See 
+   * {@link PriorityScheduler#getPriorityClassScheduler(int)}.
+   * 
+   * @since 5.33
+   */
+  protected class PriorityClassScheduler extends AbstractSubmitterScheduler {
+    protected final QueueSet queueSet;
+    
+    protected PriorityClassScheduler(QueueSet queueSet) {
+      this.queueSet = queueSet;
+    }
+    
+    @Override
+    protected void doSchedule(Runnable task, long delayInMillis) {
+      PriorityScheduler.this.doSchedule(task, delayInMillis, queueSet);
+    }
+    
+    @Override
+    public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay) {
+      ArgumentVerifier.assertNotNull(task, "task");
+      ArgumentVerifier.assertNotNegative(initialDelay, "initialDelay");
+      ArgumentVerifier.assertNotNegative(recurringDelay, "recurringDelay");
+      
+      addToScheduleQueue(queueSet, 
+                         new RecurringDelayTaskWrapper(task, queueSet, 
+                                                       Clock.accurateForwardProgressingMillis() + 
+                                                         initialDelay, 
+                                                       recurringDelay));
+    }
+    
+    @Override
+    public void scheduleAtFixedRate(Runnable task, long initialDelay, long period) {
+      ArgumentVerifier.assertNotNull(task, "task");
+      ArgumentVerifier.assertNotNegative(initialDelay, "initialDelay");
+      ArgumentVerifier.assertGreaterThanZero(period, "period");
+      
+      addToScheduleQueue(queueSet, 
+                         new RecurringRateTaskWrapper(task, queueSet, 
+                                                      Clock.accurateForwardProgressingMillis() + 
+                                                        initialDelay, 
+                                                      period));
+    }
   }
-
+  
   @Override
   protected QueueManager getQueueManager() {
     return taskQueueManager;
@@ -377,18 +873,49 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
    * @since 3.5.0
    */
   protected static class WorkerPool implements QueueSetListener {
+    /**
+     * Quantity of tasks a worker will consume from its local queue before it will first check the 
+     * shared queues for a task which is ready to execute.
+     * 
+     * @since 5.33
+     */
+    public static final int SHARED_QUEUE_CHECK_INTERVAL = 61;
+    
     protected final ThreadFactory threadFactory;
     protected final Object poolSizeChangeLock;
-    protected final Object idleWorkerDequeLock;
     protected final LongAdder idleWorkerCount;
-    protected final AtomicReference<Worker> idleWorker;
     protected final AtomicInteger currentPoolSize;
+    protected final AtomicInteger spinningWorkerCount;
+    protected final LongAdder workerCreatedCount;
+    protected final LongAdder workerRetiredCount;
+    // workers blocked in a compensated operation, each allows one worker beyond the max pool size
+    protected final AtomicInteger compensatedBlockedWorkerCount;
+    protected final LongAdder blockingCompensationCount;
+    // incremented for every worker unpark done to hand off tasks
+    protected final LongAdder workerWakeCount;
+    // worker doing a timed wait for the next delayed task, all other idle workers park untimed
+    protected final AtomicReference<Worker> timedWaitLeader;
     protected final Object workerStopNotifyLock;
     private final AtomicBoolean shutdownStarted;
     private volatile boolean shutdownFinishing; // once true, never goes to false
     private volatile int maxPoolSize;  // can only be changed when poolSizeChangeLock locked
-    private volatile long workerTimedParkRunTime;
+    private volatile int corePoolSize;
+    private volatile long workerKeepAliveNanos;  // Long.MAX_VALUE when workers never retire
+    private volatile long leaderWakeTimeNanos;  // only set by the leader, Long.MAX_VALUE if none
     private QueueManager queueManager;  // set before any threads started
+    // worker for the current thread, used for local queues
+    protected static final ThreadLocal<Worker> CURRENT_WORKER = new ThreadLocal<>();
+    // installed on each worker thread so blocking operations can be compensated for
+    protected final ThreadBlockingHook blockingHook;
+    
+    private volatile Worker[] workers;  // can only be changed when poolSizeChangeLock locked
+    // only grows, can only be changed when poolSizeChangeLock locked
+    private volatile IdleWorkerSegment[] idleWorkerSegments;
+    // set when tasks may be added to worker local queues (either by submission or batch dequeue)
+    private volatile boolean workerLocalQueuesEnabled;
+    private volatile boolean workerLocalSubmissionEnabled;
+    private volatile int workerBatchDequeueSize;
+    private volatile WorkerIdleStrategy workerIdleStrategy;
     
     protected WorkerPool(ThreadFactory threadFactory, int poolSize) {
       ArgumentVerifier.assertGreaterThanZero(poolSize, "poolSize");
@@ -397,17 +924,41 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
       }
       
       poolSizeChangeLock = new Object();
-      idleWorkerDequeLock = new Object();
       idleWorkerCount = new LongAdder();
-      idleWorker = new AtomicReference<>(null);
       currentPoolSize = new AtomicInteger(0);
+      spinningWorkerCount = new AtomicInteger(0);
+      workerCreatedCount = new LongAdder();
+      workerRetiredCount = new LongAdder();
+      compensatedBlockedWorkerCount = new AtomicInteger(0);
+      blockingCompensationCount = new LongAdder();
+      workerWakeCount = new LongAdder();
+      timedWaitLeader = new AtomicReference<>(null);
       workerStopNotifyLock = new Object();
+      blockingHook = new ThreadBlockingHook() {
+        @Override
+        public void blockStarting() {
+          compensatedBlockStarting();
+        }
+        
+        @Override
+        public void blockFinished() {
+          compensatedBlockFinished();
+        }
+      };
       
       this.threadFactory = threadFactory;
       this.maxPoolSize = poolSize;
-      this.workerTimedParkRunTime = Long.MAX_VALUE;
+      this.corePoolSize = poolSize;
+      this.workerKeepAliveNanos = Long.MAX_VALUE;
+      this.leaderWakeTimeNanos = Long.MAX_VALUE;
       shutdownStarted = new AtomicBoolean(false);
       shutdownFinishing = false;
+      workers = new Worker[0];
+      idleWorkerSegments = new IdleWorkerSegment[0];
+      workerLocalQueuesEnabled = false;
+      workerLocalSubmissionEnabled = false;
+      workerBatchDequeueSize = 1;
+      workerIdleStrategy = WorkerIdleStrategy.Park;
     }
 
     /**
@@ -445,42 +996,164 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
     }
 
     /**
-     * Checks if the shutdown has started by an invocation of {@link #startShutdown()}.
+     * Enables the use of worker local queues.  See {@link PriorityScheduler#enableWorkerLocalQueues()} 
+     * for details on how tasks are queued and consumed once enabled.
      * 
-     * @return {@code true} if the shutdown has started
+     * @since 5.33
+     * @throws IllegalStateException Thrown if worker local queues have already been enabled
      */
-    public boolean isShutdownStarted() {
-      return shutdownStarted.get();
+    public void enableWorkerLocalQueues() {
+      synchronized (poolSizeChangeLock) {
+        if (workerLocalSubmissionEnabled) {
+          throw new IllegalStateException("Worker local queues already enabled");
+        }
+        workerLocalQueuesEnabled = true;
+        workerLocalSubmissionEnabled = true;
+      }
     }
-
+    
     /**
-     * Will start the shutdown of the worker pool.
+     * Check if worker local queues have been enabled by {@link #enableWorkerLocalQueues()}.
      * 
-     * @return {@code true} if this call initiates the shutdown, {@code false} if the shutdown has already started
+     * @since 5.33
+     * @return {@code true} if tasks submitted from workers may be queued on those workers
      */
-    public boolean startShutdown() {
-      return ! shutdownStarted.getAndSet(true);
+    public boolean isWorkerLocalQueuesEnabled() {
+      return workerLocalSubmissionEnabled;
     }
-  
+    
     /**
-     * Check weather the shutdown process is finished.  In order for the shutdown to finish 
-     * {@link #finishShutdown()} must have been invoked. 
+     * Sets the maximum quantity of tasks a worker will take from the shared high priority execute 
+     * queue at once.  See {@link PriorityScheduler#setWorkerBatchDequeueSize(int)} for details.
      * 
-     * @return {@code true} if the scheduler is finishing its shutdown
+     * @since 5.33
+     * @param maxBatchSize Maximum tasks to take at once, {@code 1} to take a single task
      */
-    public boolean isShutdownFinished() {
-      return shutdownFinishing;
+    public void setWorkerBatchDequeueSize(int maxBatchSize) {
+      ArgumentVerifier.assertGreaterThanZero(maxBatchSize, "maxBatchSize");
+      
+      synchronized (poolSizeChangeLock) {
+        if (maxBatchSize > 1) {
+          // batched tasks are held in the local queues, so those must be checked from now on
+          workerLocalQueuesEnabled = true;
+        }
+        workerBatchDequeueSize = maxBatchSize;
+      }
     }
-
+    
     /**
-     * Finishes the shutdown of the worker pool.  This will ensure all finishing workers are 
-     * killed.
+     * Getter for the maximum quantity of tasks a worker will take from the shared high priority 
+     * execute queue at once.
+     * 
+     * @since 5.33
+     * @return Maximum tasks taken at once, {@code 1} if batch dequeue is not enabled
      */
-    public void finishShutdown() {
-      shutdownFinishing = true;
-
-      addPoolStateChangeTask(new InternalRunnable() {
-        @Override
+    public int getWorkerBatchDequeueSize() {
+      return workerBatchDequeueSize;
+    }
+    
+    /**
+     * Sets the strategy idle workers use to wait for new tasks.  See 
+     * {@link PriorityScheduler#setWorkerIdleStrategy(WorkerIdleStrategy)} for details.
+     * 
+     * @since 5.33
+     * @param idleStrategy Strategy for idle workers to use, can not be {@code null}
+     */
+    public void setWorkerIdleStrategy(WorkerIdleStrategy idleStrategy) {
+      ArgumentVerifier.assertNotNull(idleStrategy, "idleStrategy");
+      
+      workerIdleStrategy = idleStrategy;
+    }
+    
+    /**
+     * Getter for the strategy idle workers use to wait for new tasks.
+     * 
+     * @since 5.33
+     * @return Currently set idle strategy
+     */
+    public WorkerIdleStrategy getWorkerIdleStrategy() {
+      return workerIdleStrategy;
+    }
+    
+    /**
+     * Checks if an idle worker may start spinning.  This limits spinning workers to half of the 
+     * current pool so that idle workers don't consume the CPU needed by active workers.  If 
+     * {@code true} is returned the spinning worker count has been incremented, and must be 
+     * decremented once the worker stops spinning.
+     * 
+     * @return {@code true} if the worker should spin before parking
+     */
+    protected boolean tryStartSpinning() {
+      while (true) {
+        int casSpinning = spinningWorkerCount.get();
+        if (casSpinning * 2 >= currentPoolSize.get()) {
+          return false;
+        } else if (spinningWorkerCount.compareAndSet(casSpinning, casSpinning + 1)) {
+          return true;
+        }
+      }
+    }
+    
+    /**
+     * Moves up to {@link #getWorkerBatchDequeueSize()} - 1 additional tasks from the shared high 
+     * priority execute queue into the worker's local deque.  This is only done if the task the 
+     * worker just claimed came from that same queue, tasks of other priorities are never batched 
+     * since local tasks are run as high priority tasks.  Moved tasks are still visible to other 
+     * workers which may steal them.
+     * 
+     * @param worker Worker which just claimed a task from the shared queues
+     * @param claimedTask Task which the worker is about to execute
+     */
+    protected void drainExecuteBatch(Worker worker, TaskWrapper claimedTask) {
+      int batchSize = workerBatchDequeueSize;
+      if (batchSize > 1 && claimedTask instanceof OneTimeTaskWrapper) {
+        Queue<OneTimeTaskWrapper> executeQueue = queueManager.highPriorityQueueSet.executeQueue;
+        if (((OneTimeTaskWrapper)claimedTask).taskQueue == executeQueue) {
+          OneTimeTaskWrapper tw;
+          for (int i = 1; i < batchSize && (tw = executeQueue.poll()) != null; i++) {
+            worker.localQueue.addLast(tw);
+          }
+        }
+      }
+    }
+    
+    /**
+     * Checks if the shutdown has started by an invocation of {@link #startShutdown()}.
+     * 
+     * @return {@code true} if the shutdown has started
+     */
+    public boolean isShutdownStarted() {
+      return shutdownStarted.get();
+    }
+
+    /**
+     * Will start the shutdown of the worker pool.
+     * 
+     * @return {@code true} if this call initiates the shutdown, {@code false} if the shutdown has already started
+     */
+    public boolean startShutdown() {
+      return ! shutdownStarted.getAndSet(true);
+    }
+  
+    /**
+     * Check weather the shutdown process is finished.  In order for the shutdown to finish 
+     * {@link #finishShutdown()} must have been invoked. 
+     * 
+     * @return {@code true} if the scheduler is finishing its shutdown
+     */
+    public boolean isShutdownFinished() {
+      return shutdownFinishing;
+    }
+
+    /**
+     * Finishes the shutdown of the worker pool.  This will ensure all finishing workers are 
+     * killed.
+     */
+    public void finishShutdown() {
+      shutdownFinishing = true;
+
+      addPoolStateChangeTask(new InternalRunnable() {
+        @Override
         public void run() {
           /* as long as we are continuing to run, we need to re-add ourself to ensure 
            * all threads are able to break out of task poll logic (once shutdown we stay shutdown)
@@ -592,15 +1265,15 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
     protected void handleMaxPoolSizeChange(boolean poolSizeIncrease) {
       if (poolSizeIncrease) {
         // now that pool size increased, start a worker so workers we can for the waiting tasks
-        handleQueueUpdate();
-      } else if (currentPoolSize.get() > maxPoolSize) {
+        wakeOrStartWorker();
+      } else if (currentPoolSize.get() > getAllowedPoolSize()) {
         addPoolStateChangeTask(new InternalRunnable() {
           @Override
           public void run() {
             /* until the pool has reduced in size, we need to continue to add this task to 
              * wake threads out of the poll task loop
              */
-            if (currentPoolSize.get() > maxPoolSize) {
+            if (currentPoolSize.get() > getAllowedPoolSize()) {
               addPoolStateChangeTask(this);
             }
           }
@@ -608,7 +1281,160 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
       }
     }
     
+    /**
+     * Getter for the core pool size.  Workers beyond this count will retire once they have been 
+     * idle for the keep-alive time.  This will never be larger than the max pool size.
+     * 
+     * @since 5.33
+     * @return Current core pool size
+     */
+    public int getCorePoolSize() {
+      return Math.min(corePoolSize, maxPoolSize);
+    }
     
+    /**
+     * Sets the core pool size.  See {@link PriorityScheduler#setCorePoolSize(int)} for details.
+     * 
+     * @since 5.33
+     * @param corePoolSize Quantity of workers to keep when idle, can not be negative
+     */
+    public void setCorePoolSize(int corePoolSize) {
+      ArgumentVerifier.assertNotNegative(corePoolSize, "corePoolSize");
+      
+      this.corePoolSize = corePoolSize;
+      
+      wakeIdleWorkers();
+    }
+    
+    /**
+     * Getter for how long workers beyond the core pool size may be idle before they retire.
+     * 
+     * @since 5.33
+     * @return Keep-alive time in milliseconds, {@link Long#MAX_VALUE} if workers never retire
+     */
+    public long getWorkerKeepAliveTime() {
+      return workerKeepAliveNanos == Long.MAX_VALUE ? 
+        Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(workerKeepAliveNanos);
+    }
+    
+    /**
+     * Sets how long workers beyond the core pool size may be idle before they retire.  See 
+     * {@link PriorityScheduler#setWorkerKeepAliveTime(long)} for details.
+     * 
+     * @since 5.33
+     * @param keepAliveMillis Idle time in milliseconds before a worker retires, must be above zero
+     */
+    public void setWorkerKeepAliveTime(long keepAliveMillis) {
+      ArgumentVerifier.assertGreaterThanZero(keepAliveMillis, "keepAliveMillis");
+      
+      workerKeepAliveNanos = keepAliveMillis == Long.MAX_VALUE ? 
+        Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(keepAliveMillis);
+      
+      wakeIdleWorkers();
+    }
+    
+    /**
+     * Unparks all workers so that idle workers will re-check if they should retire.  Workers 
+     * which are not idle, or should not retire, will just go back to waiting for tasks.
+     */
+    private void wakeIdleWorkers() {
+      for (Worker w : workers) {
+        LockSupport.unpark(w.thread);
+      }
+    }
+    
+    /**
+     * Getter for the total quantity of workers (and thus threads) which have been created by this 
+     * pool.
+     * 
+     * @since 5.33
+     * @return Quantity of workers created
+     */
+    public long getWorkerCreatedCount() {
+      return workerCreatedCount.sum();
+    }
+    
+    /**
+     * Getter for the total quantity of workers which have retired while the pool was still 
+     * running.  This includes workers which were idle past the keep-alive time, as well as 
+     * workers stopped due to the max pool size being reduced.
+     * 
+     * @since 5.33
+     * @return Quantity of workers retired
+     */
+    public long getWorkerRetiredCount() {
+      return workerRetiredCount.sum();
+    }
+    
+    /**
+     * Getter for the total quantity of times an idle worker has been unparked.
+     * 
+     * @since 5.33
+     * @return Quantity of idle worker wake ups
+     */
+    public long getWorkerWakeCount() {
+      return workerWakeCount.sum();
+    }
+    
+    /**
+     * Getter for the total quantity of times a worker has been compensated for while blocking.
+     * 
+     * @since 5.33
+     * @return Quantity of compensated blocking operations
+     */
+    public long getBlockingCompensationCount() {
+      return blockingCompensationCount.sum();
+    }
+    
+    /**
+     * Getter for the quantity of workers currently blocked in a compensated operation.
+     * 
+     * @since 5.33
+     * @return Quantity of workers currently compensated for
+     */
+    public int getCompensatedBlockedWorkerCount() {
+      return compensatedBlockedWorkerCount.get();
+    }
+    
+    /**
+     * Returns the quantity of workers the pool may currently run.  This is the max pool size, plus 
+     * one for each worker blocked in a compensated operation.
+     * 
+     * @since 5.33
+     * @return Quantity of workers allowed to run
+     */
+    protected int getAllowedPoolSize() {
+      return maxPoolSize + compensatedBlockedWorkerCount.get();
+    }
+    
+    /**
+     * Invoked by a worker of this pool right before it blocks.  While blocked the pool is allowed 
+     * an additional worker, which is started immediately only if a task is already ready to run.  
+     * {@link #compensatedBlockFinished()} must be invoked once the worker is no longer blocked.
+     * 
+     * @since 5.33
+     */
+    protected void compensatedBlockStarting() {
+      blockingCompensationCount.increment();
+      compensatedBlockedWorkerCount.incrementAndGet();
+      // delayed and starvable recurring tasks are almost always queued, only ready tasks matter
+      TaskWrapper nextTask = queueManager.getNextTask();
+      if (nextTask != null && nextTask.getScheduleDelayNanos() <= 0) {
+        wakeOrStartWorker();
+      }
+    }
+    
+    /**
+     * Invoked by a worker of this pool once it is no longer blocked, after a previous call to 
+     * {@link #compensatedBlockStarting()}.
+     * 
+     * @since 5.33
+     */
+    protected void compensatedBlockFinished() {
+      compensatedBlockedWorkerCount.decrementAndGet();
+      // if an additional worker was started it will exit once idle
+      handleMaxPoolSizeChange(false);
+    }
 
     /**
      * Check for the current quantity of threads running in this pool (either active or idle).
@@ -652,68 +1478,328 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
      * starts it will attempt to start taking tasks, no further action is needed.
      */
     protected void makeNewWorker() {
+      workerCreatedCount.increment();
       Worker w = new Worker(this, threadFactory);
       w.start();
     }
     
     /**
-     * Adds a worker to the head of the idle worker chain.
+     * Marks a worker as idle so that it can be found and unparked when tasks become ready.  This 
+     * is a single atomic operation on the idle mask of the worker's slot segment.  This must only 
+     * be invoked from the worker's own thread.
      * 
      * @param worker Worker that is ready to become idle
      */
     protected void addWorkerToIdleChain(Worker worker) {
       idleWorkerCount.increment();
       worker.waitingForUnpark = false;  // reset state before we park, avoid external interactions
+      worker.idleStartNanos = Long.MIN_VALUE;
       
-      while (true) {
-        Worker casWorker = idleWorker.get();
-        // we can freely set this value until we get into the idle linked queue
-        worker.nextIdleWorker = casWorker;
-        if (idleWorker.compareAndSet(casWorker, worker)) {
-          break;
-        }
-      }
+      worker.idleSegment.idleMask.accumulateAndGet(worker.idleSlotMask, (mask, bit) -> mask | bit);
     }
     
     /**
      * The counter part to {@link #addWorkerToIdleChain(Worker)}.  This function has no safety 
-     * checks.  The worker provided MUST already be queued in the chain or problems will occur.
+     * checks.  The worker provided MUST already be marked as idle or problems will occur.  This 
+     * must only be invoked from the worker's own thread.
      * 
-     * @param worker Worker reference to remove from the chain (can not be {@code null})
+     * @param worker Worker to no longer be considered idle (can not be {@code null})
      */
     protected void removeWorkerFromIdleChain(Worker worker) {
       idleWorkerCount.decrement();
       
-      /* We must lock here to avoid thread contention when removing from the chain.  This is 
-       * the one place where we set the reference to a workers "nextIdleWorker" from a thread 
-       * outside of the workers thread.  If we don't synchronize here, we may end up 
-       * having workers disappear from the chain when the reference is nulled out.
-       */
-      synchronized (idleWorkerDequeLock) {
-        Worker holdingWorker = idleWorker.get();
-        if (holdingWorker == worker) {
-          if (idleWorker.compareAndSet(worker, worker.nextIdleWorker)) {
+      worker.idleSegment.idleMask.accumulateAndGet(worker.idleSlotMask, (mask, bit) -> mask & ~bit);
+    }
+    
+    /**
+     * Finds an idle worker which can be unparked to consume a task.  The idle worker in the lowest 
+     * slot is returned, so that tasks favor the same workers (which are likely to still be hot), 
+     * while other idle workers remain parked.  This only needs to check a single mask for every 
+     * 64 workers.
+     * 
+     * @return Idle worker or {@code null} if no workers are currently idle
+     */
+    protected Worker getIdleWorker() {
+      return getIdleWorker(null);
+    }
+    
+    /**
+     * Finds an idle worker which can be unparked to consume a task, ignoring a specific worker.  
+     * This otherwise behaves the same as {@link #getIdleWorker()}.
+     * 
+     * @since 5.33
+     * @param excludedWorker Worker which should not be returned, or {@code null}
+     * @return Idle worker or {@code null} if no other workers are currently idle
+     */
+    protected Worker getIdleWorker(Worker excludedWorker) {
+      for (IdleWorkerSegment segment : idleWorkerSegments) {
+        long idleMask = segment.idleMask.get();
+        if (excludedWorker != null && excludedWorker.idleSegment == segment) {
+          idleMask &= ~excludedWorker.idleSlotMask;
+        }
+        if (idleMask != 0) {
+          Worker result = segment.slotWorkers.get(Long.numberOfTrailingZeros(idleMask));
+          if (result != null) {
+            return result;
+          }
+        }
+      }
+      return null;
+    }
+    
+    /**
+     * Invoked by a worker from its own thread as it starts.  This registers the worker so it 
+     * can be found for local task submission and stealing.
+     * 
+     * @param worker Worker which is starting
+     */
+    protected void workerStarted(Worker worker) {
+      CURRENT_WORKER.set(worker);
+      ThreadBlockingHook.setCurrent(blockingHook);
+      synchronized (poolSizeChangeLock) {
+        Worker[] newWorkers = new Worker[workers.length + 1];
+        System.arraycopy(workers, 0, newWorkers, 0, workers.length);
+        newWorkers[workers.length] = worker;
+        workers = newWorkers;
+        
+        assignIdleSlot(worker);
+      }
+    }
+    
+    /**
+     * Assigns the worker to the lowest free slot in the idle worker segments, adding a new segment 
+     * if all slots are in use.  Segments are never removed or replaced, so that idle state 
+     * changes do not need to coordinate with this.  Must be invoked while holding the 
+     * {@code poolSizeChangeLock}.
+     * 
+     * @param worker Worker to assign a slot to
+     */
+    private void assignIdleSlot(Worker worker) {
+      for (IdleWorkerSegment segment : idleWorkerSegments) {
+        for (int i = 0; i < IdleWorkerSegment.SLOT_COUNT; i++) {
+          if (segment.slotWorkers.get(i) == null) {
+            segment.slotWorkers.set(i, worker);
+            worker.setIdleSlot(segment, i);
             return;
-          } else {
-            /* because we can only queue in parallel, we know that the conflict was a newly queued 
-             * worker.  In addition since we know that queued workers are added at the start, all 
-             * that should be necessary is updating our holding worker reference
-             */
-            holdingWorker = idleWorker.get();
           }
         }
+      }
+      
+      IdleWorkerSegment segment = new IdleWorkerSegment();
+      IdleWorkerSegment[] newSegments = new IdleWorkerSegment[idleWorkerSegments.length + 1];
+      System.arraycopy(idleWorkerSegments, 0, newSegments, 0, idleWorkerSegments.length);
+      newSegments[idleWorkerSegments.length] = segment;
+      segment.slotWorkers.set(0, worker);
+      worker.setIdleSlot(segment, 0);
+      idleWorkerSegments = newSegments;
+    }
+    
+    /**
+     * Invoked by a worker from its own thread once it has stopped consuming tasks.  By this point 
+     * the worker's local queue must be empty.
+     * 
+     * @param worker Worker which has stopped
+     */
+    protected void workerStopped(Worker worker) {
+      CURRENT_WORKER.remove();
+      ThreadBlockingHook.setCurrent(null);
+      synchronized (poolSizeChangeLock) {
+        Worker[] newWorkers = new Worker[workers.length - 1];
+        int i = 0;
+        for (Worker w : workers) {
+          if (w != worker) {
+            newWorkers[i++] = w;
+          }
+        }
+        workers = newWorkers;
         
-        // no need for null checks due to locking, we assume the worker is in the chain
-        while (holdingWorker.nextIdleWorker != worker) {
-          holdingWorker = holdingWorker.nextIdleWorker;
+        if (worker.idleSegment != null) {
+          worker.idleSegment.slotWorkers.set(Long.numberOfTrailingZeros(worker.idleSlotMask), null);
         }
-        // now remove this worker from the chain
-        holdingWorker.nextIdleWorker = worker.nextIdleWorker;
-        // now out of the queue, lets clean up our reference
-        worker.nextIdleWorker = null;
       }
     }
-
+    
+    /**
+     * Attempts to queue a task on the local queue of the worker for the invoking thread.  If the 
+     * invoking thread is not a worker of this pool the task will not be queued.  The provided task 
+     * will be placed in the "next task" slot, moving any task already in that slot into the 
+     * worker's local deque.
+     * 
+     * @param task Task to be executed
+     * @return Wrapper for the queued task or {@code null} if the invoking thread is not a worker
+     */
+    public OneTimeTaskWrapper addToWorkerLocalQueue(Runnable task) {
+      Worker worker = CURRENT_WORKER.get();
+      if (worker == null || worker.workerPool != this) {
+        return null;
+      } else if (shutdownStarted.get()) {
+        throw new RejectedExecutionException("Thread pool shutdown");
+      }
+      
+      OneTimeTaskWrapper result = new ImmediateTaskWrapper(task, worker.localQueue);
+      OneTimeTaskWrapper displacedTask = worker.localNextTask.getAndSet(result);
+      if (displacedTask != null) {
+        worker.localQueue.addLast(displacedTask);
+      }
+      
+      // an idle worker must be woken to steal in case this worker is blocked by its current task
+      handleQueueUpdate();
+      
+      return result;
+    }
+    
+    /**
+     * Gets the next task for a worker to execute from its own local queue.  Before consuming a 
+     * local task this will check if a task from the shared queues must be run first, either 
+     * because a low priority task has waited past its max wait, or because 
+     * {@link #SHARED_QUEUE_CHECK_INTERVAL} local tasks have run since the last check.
+     * 
+     * @param worker Worker which is ready for a task
+     * @return Task which is ready for immediate execution, or {@code null} if none was found
+     */
+    protected TaskWrapper getNextWorkerLocalTask(Worker worker) {
+      if (worker.localNextTask.get() == null && worker.localQueue.isEmpty()) {
+        return null;
+      }
+      
+      boolean lowPriorityPastMaxWait = queueManager.isLowPriorityTaskPastMaxWait();
+      if (lowPriorityPastMaxWait || ++worker.localTaskCount >= SHARED_QUEUE_CHECK_INTERVAL) {
+        worker.localTaskCount = 0;
+        /* local tasks are high priority, but are not visible to the queue manager.  So unless the 
+         * low priority task has waited past its max wait (or classes are weighted), only shared 
+         * high priority tasks may run ahead of the local tasks.
+         */
+        TaskWrapper sharedTask = 
+          lowPriorityPastMaxWait || queueManager.getWeightedPriorityClasses() != null ? 
+          queueManager.getNextHighOrLowPriorityTask() : queueManager.highPriorityQueueSet.getNextTask();
+        if (sharedTask != null) {
+          // must get executeReference before time is checked
+          short executeReference = sharedTask.getExecuteReference();
+          if (sharedTask.getScheduleDelayNanos() <= 0 && sharedTask.canExecute(executeReference)) {
+            queueManager.taskClaimed(sharedTask);
+            return sharedTask;
+          }
+        }
+        // also favor the oldest local task, that way the next task slot can not starve the deque
+        TaskWrapper result = worker.localQueue.pollFirst();
+        if (result != null) {
+          return result;
+        }
+      }
+      
+      return worker.pollLocalTask();
+    }
+    
+    /**
+     * Attempts to steal a task from another worker's local queue.  Workers are checked starting 
+     * at a random position to spread contention.  Tasks are taken from the end of the victim's 
+     * deque opposite to where the victim consumes, only taking a victim's "next task" slot if its 
+     * deque is empty.
+     * 
+     * @param thief Worker looking for a task, its own queue will not be checked
+     * @return Task which is ready for immediate execution, or {@code null} if none was found
+     */
+    protected TaskWrapper stealWorkerLocalTask(Worker thief) {
+      Worker[] workers = this.workers;
+      if (workers.length < 2) {
+        return null;
+      }
+      
+      int start = ThreadLocalRandom.current().nextInt(workers.length);
+      for (int i = 0; i < workers.length; i++) {
+        Worker victim = workers[(start + i) % workers.length];
+        if (victim != thief) {
+          TaskWrapper result = victim.localQueue.pollLast();
+          if (result == null && victim.localNextTask.get() != null) {
+            result = victim.localNextTask.getAndSet(null);
+          }
+          if (result != null) {
+            return result;
+          }
+        }
+      }
+      return null;
+    }
+    
+    /**
+     * Counts the tasks currently queued in worker local queues.
+     * 
+     * @return Quantity of tasks waiting in worker local queues
+     */
+    protected int getWorkerLocalQueuedTaskCount() {
+      if (! workerLocalQueuesEnabled) {
+        return 0;
+      }
+      
+      int result = 0;
+      for (Worker w : workers) {
+        result += w.localQueue.size() + (w.localNextTask.get() == null ? 0 : 1);
+      }
+      return result;
+    }
+    
+    /**
+     * Removes the first task found in any worker local queue which matches the provided filter.
+     * 
+     * @param filter Filter to test each queued task against
+     * @return {@code true} if a task was found and removed
+     */
+    protected boolean removeFromWorkerLocalQueues(Predicate<TaskWrapper> filter) {
+      if (! workerLocalQueuesEnabled) {
+        return false;
+      }
+      
+      for (Worker w : workers) {
+        OneTimeTaskWrapper tw = w.localNextTask.get();
+        if (tw != null && filter.test(tw) && w.localNextTask.compareAndSet(tw, null)) {
+          tw.invalidate();
+          return true;
+        }
+        Iterator<OneTimeTaskWrapper> it = w.localQueue.iterator();
+        while (it.hasNext()) {
+          tw = it.next();
+          if (filter.test(tw) && w.localQueue.remove(tw)) {
+            tw.invalidate();
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+    
+    /**
+     * Removes all tasks from the worker local queues, adding the contained runnables to the 
+     * provided list.
+     * 
+     * @param removedTasks List to add the removed runnables into
+     */
+    protected void drainWorkerLocalQueues(List<Runnable> removedTasks) {
+      if (! workerLocalQueuesEnabled) {
+        return;
+      }
+      
+      List<TaskWrapper> wrapperList = new ArrayList<>();
+      for (Worker w : workers) {
+        OneTimeTaskWrapper tw = w.localNextTask.getAndSet(null);
+        if (tw != null) {
+          wrapperList.add(tw);
+        }
+        while ((tw = w.localQueue.pollFirst()) != null) {
+          wrapperList.add(tw);
+        }
+      }
+      Iterator<TaskWrapper> it = wrapperList.iterator();
+      while (it.hasNext()) {
+        TaskWrapper tw = it.next();
+        tw.invalidate();
+        // no need to return tasks which are already canceled
+        if (tw.task instanceof Future && ((Future<?>)tw.task).isCancelled()) {
+          it.remove();
+        }
+      }
+      removedTasks.addAll(ContainerHelper.getContainedRunnables(wrapperList));
+    }
+    
     /**
      * Invoked when a worker becomes idle.  This will provide another task for that worker, or 
      * block until a task is either ready, or the worker should be shutdown (either because pool 
@@ -730,11 +1816,26 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
       while (true) {
         int casPoolSize;
         if (shutdownFinishing) {
+          if (workerLocalQueuesEnabled) {
+            // tasks accepted into a local queue before the shutdown must still be run
+            TaskWrapper localTask = worker.pollLocalTask();
+            if (localTask != null || (localTask = stealWorkerLocalTask(worker)) != null) {
+              return localTask;
+            }
+          }
           currentPoolSize.decrementAndGet();
           worker.stopIfRunning();
           return null;
-        } else if ((casPoolSize = currentPoolSize.get()) > maxPoolSize) {
+        } else if ((casPoolSize = currentPoolSize.get()) > getAllowedPoolSize()) {
+          if (workerLocalQueuesEnabled) {
+            // our local queue must be empty before we can stop
+            TaskWrapper localTask = worker.pollLocalTask();
+            if (localTask != null) {
+              return localTask;
+            }
+          }
           if (currentPoolSize.compareAndSet(casPoolSize, casPoolSize - 1)) {
+            workerRetiredCount.increment();
             worker.stopIfRunning();
             return null;
           } // else, retry, see if we need to shutdown
@@ -745,37 +1846,52 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
       }
       
       boolean queued = false;
+      boolean spinning = false;
+      TaskWrapper claimedTask = null;
+      int idleChecks = 0;
+      WorkerIdleStrategy idleStrategy = workerIdleStrategy;
       try {
+        if (workerLocalQueuesEnabled) {
+          // only this worker can add to its local queue, so there is no need to check on each loop
+          TaskWrapper localTask = getNextWorkerLocalTask(worker);
+          if (localTask != null) {
+            return localTask;
+          }
+        }
         while (true) {
           TaskWrapper nextTask = queueManager.getNextTask();
           if (nextTask == null) {
-            if (queued) { // we can only park after we have queued, then checked again for a result
+            TaskWrapper stolenTask;
+            if (workerLocalQueuesEnabled && (stolenTask = stealWorkerLocalTask(worker)) != null) {
+              return stolenTask;
+            } else if (queued) { // we can only park after we have queued, then checked again for a result
               Thread.interrupted(); // reset interrupted status before we block
-              LockSupport.park();
-              worker.waitingForUnpark = false;
+              if (parkIdleWorker(worker)) {
+                return null;  // worker has retired
+              }
+              continue;
+            } else if (idleChecks < idleStrategy.getMaxIdleChecks() && 
+                       (spinning || (spinning = tryStartSpinning()))) {
+              idleStrategy.idle(idleChecks++);
               continue;
             } else {
+              if (spinning) {
+                // must stop spinning before we queue, so that queue updates will unpark us
+                spinning = false;
+                spinningWorkerCount.decrementAndGet();
+              }
               addWorkerToIdleChain(worker);
               queued = true;
             }
           } else {
-            /* TODO - right now this has a a deficiency where a recurring period task can cut in 
-             * the queue line.  The condition would be as follows:
-             * 
-             * * Thread 1 gets task to run...task is behind execution schedule, likely due to large queue
-             * * Thread 2 gets same task
-             * * Thread 1 gets reference, executes, task execution completes
-             * * Thread 2 now gets the reference, and execution check and time check pass fine
-             * * End result is that task has executed twice (on expected schedule), the second 
-             *     execution was unfair since it was done without respects to queue order and 
-             *     other tasks which are also likely behind execution schedule in this example
-             *     
-             * This should be very rare, but is possible.  The only way I see to solve this right 
-             * now is to introduce locking.
+            /* Recurring tasks can only be claimed while at the head of the schedule queue.  So if 
+             * another thread claims, runs, and reschedules this task before we get the reference 
+             * below, our claim will only succeed if the task is still next in line.  That 
+             * prevents a recurring task which is behind schedule from cutting in line.
              */
             // must get executeReference before time is checked
             short executeReference = nextTask.getExecuteReference();
-            long taskDelay = nextTask.getScheduleDelay();
+            long taskDelay = nextTask.getScheduleDelayNanos();
             if (taskDelay > 0) {
               if (taskDelay == Long.MAX_VALUE) {
                 // the hack at construction/start is to avoid this from causing us to spin here 
@@ -783,26 +1899,44 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
                 // that task while it's running)
                 continue;
               }
-              if (queued) {
+              TaskWrapper stolenTask;
+              if (workerLocalQueuesEnabled && (stolenTask = stealWorkerLocalTask(worker)) != null) {
+                return stolenTask;
+              } else if (queued) {
                 Thread.interrupted(); // reset interrupted status before we block
-                if (nextTask.getPureRunTime() < workerTimedParkRunTime) {
-                  // we can only park after we have queued, then checked again for a result
-                  workerTimedParkRunTime = nextTask.getPureRunTime();
-                  LockSupport.parkNanos(Clock.NANOS_IN_MILLISECOND * taskDelay);
-                  worker.waitingForUnpark = false;
-                  workerTimedParkRunTime = Long.MAX_VALUE;
+                // we can only park after we have queued, then checked again for a result
+                if (timedWaitLeader.get() == null && timedWaitLeader.compareAndSet(null, worker)) {
+                  leaderTimedWait(worker, nextTask);
                   continue;
                 } else {
-                  // there is another worker already doing a timed park, so we can wait till woken up
-                  LockSupport.park();
-                  worker.waitingForUnpark = false;
+                  /* there is another worker already leading the timed wait, so we can wait till 
+                   * woken up.  But if this task is due before the leader will wake (for example 
+                   * the update which woke us was not seen by the leader) we must hand it off.
+                   */
+                  notifyLeaderIfSooner(nextTask.getPureRunTimeNanos());
+                  if (parkIdleWorker(worker)) {
+                    return null;  // worker has retired
+                  }
                   continue;
                 }
+              } else if (idleChecks < idleStrategy.getMaxIdleChecks() && 
+                         (spinning || (spinning = tryStartSpinning()))) {
+                // a delayed task is always queued (see start()), so we must also spin here
+                idleStrategy.idle(idleChecks++);
+                continue;
               } else {
+                if (spinning) {
+                  // must stop spinning before we queue, so that queue updates will unpark us
+                  spinning = false;
+                  spinningWorkerCount.decrementAndGet();
+                }
                 addWorkerToIdleChain(worker);
                 queued = true;
               }
             } else if (nextTask.canExecute(executeReference)) {
+              queueManager.taskClaimed(nextTask);
+              drainExecuteBatch(worker, nextTask);
+              claimedTask = nextTask;
               return nextTask;
             } else {
               // threading conflict when trying to consume tasks, back thread off with a yield
@@ -812,25 +1946,167 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
           }
         } // end pollTask loop
       } finally {
+        if (spinning) {
+          spinningWorkerCount.decrementAndGet();
+        }
         // if queued, we must now remove ourselves, since worker is about to either shutdown or become active
         if (queued) {
           removeWorkerFromIdleChain(worker);
         }
         
-        // wake up next worker so it can check if tasks are ready to consume
-        handleQueueUpdate();
+        /* wake up next worker so it can check if tasks are ready to consume, if we are retiring 
+         * this also ensures a task which was submitted as we retired is not left waiting.  If we 
+         * claimed a task, the hand off is only needed if there is no leader to wait for the next 
+         * delayed task, or if a task may be ready now (its wake up may have been combined with 
+         * ours).  Worker local queues always hand off so that idle workers can steal.
+         */
+        if (claimedTask == null || workerLocalQueuesEnabled || 
+            timedWaitLeader.get() == null || queueManager.hasUnscheduledTasks()) {
+          wakeOrStartWorker();
+        }
         
         Thread.interrupted();  // reset interrupted status if set
       }
     }
 
+    /**
+     * Invoked by an idle worker which has become the leader of the timed wait for the next 
+     * delayed task.  While leading, the worker is skipped when {@link #wakeOrStartWorker()} looks 
+     * for an idle worker to unpark, so that new tasks are handed to the other (follower) idle 
+     * workers.  The leader will only be woken early if a task is scheduled which is due before 
+     * it would wake, or if there is no other worker available.  Once this returns the worker is 
+     * no longer the leader, and must check the queue again.
+     * 
+     * @param worker Worker which is the leader, must be the invoking thread
+     * @param delayedTask Task which is at the head of the queue, but not yet ready to run
+     */
+    private void leaderTimedWait(Worker worker, TaskWrapper delayedTask) {
+      try {
+        leaderWakeTimeNanos = delayedTask.getPureRunTimeNanos();
+        // check again now that we are visible as the leader, so a sooner task can not be missed
+        if (queueManager.getNextTask() == delayedTask) {
+          long taskDelay = delayedTask.getScheduleDelayNanos();
+          if (taskDelay > 0) {
+            LockSupport.parkNanos(taskDelay);
+          }
+        }
+      } finally {
+        leaderWakeTimeNanos = Long.MAX_VALUE;
+        timedWaitLeader.set(null);
+        worker.waitingForUnpark = false;
+      }
+    }
+    
+    /**
+     * Wakes the leader of the timed wait if the provided run time is before the time it will 
+     * wake.  If there is no leader then the worker which leaves leadership, or the next idle 
+     * worker to check the queue, will find the task.
+     * 
+     * @param runTimeNanos Run time of the task which is now at the head of a queue
+     */
+    private void notifyLeaderIfSooner(long runTimeNanos) {
+      if (runTimeNanos < leaderWakeTimeNanos) {
+        Worker leader = timedWaitLeader.get();
+        if (leader != null) {
+          unparkWorker(leader);
+        }
+      }
+    }
+    
+    /**
+     * Unparks an idle worker unless it has already been unparked since it last parked.
+     * 
+     * @param worker Idle worker to unpark
+     */
+    private void unparkWorker(Worker worker) {
+      if (! worker.waitingForUnpark) {
+        worker.waitingForUnpark = true;
+        workerWakeCount.increment();
+        LockSupport.unpark(worker.thread);
+      }
+    }
+    
+    /**
+     * Parks a worker which has already queued itself as idle.  If a keep-alive time is set and 
+     * the pool is larger than the core pool size, the park will be timed so that once the worker 
+     * has been idle for the keep-alive time it can retire.  If the worker retires it will have 
+     * already been stopped and removed from the current pool size.
+     * 
+     * @param worker Idle worker to park, must be the invoking thread
+     * @return {@code true} if the worker has retired and should not take any more tasks
+     */
+    protected boolean parkIdleWorker(Worker worker) {
+      long keepAliveNanos = workerKeepAliveNanos;
+      if (keepAliveNanos == Long.MAX_VALUE || currentPoolSize.get() <= getCorePoolSize()) {
+        LockSupport.park();
+      } else {
+        long now = Clock.accurateForwardProgressingNanos();
+        if (worker.idleStartNanos == Long.MIN_VALUE) {
+          worker.idleStartNanos = now;
+        }
+        long remainingNanos = keepAliveNanos - (now - worker.idleStartNanos);
+        if (remainingNanos > 0) {
+          LockSupport.parkNanos(remainingNanos);
+        } else if (tryRetireWorker(worker)) {
+          return true;
+        }
+      }
+      worker.waitingForUnpark = false;
+      return false;
+    }
+    
+    /**
+     * Attempts to retire an idle worker, reducing the current pool size as long as it stays above 
+     * the core pool size.  A worker which has been unparked for a task, or which still has tasks 
+     * in its local queue will not retire.
+     * 
+     * @param worker Idle worker to retire, must be the invoking thread
+     * @return {@code true} if the worker was stopped
+     */
+    private boolean tryRetireWorker(Worker worker) {
+      if (worker.waitingForUnpark || 
+          worker.localNextTask.get() != null || ! worker.localQueue.isEmpty()) {
+        return false;
+      }
+      int casPoolSize;
+      while ((casPoolSize = currentPoolSize.get()) > getCorePoolSize()) {
+        if (currentPoolSize.compareAndSet(casPoolSize, casPoolSize - 1)) {
+          workerRetiredCount.increment();
+          worker.stopIfRunning();
+          return true;
+        }
+      }
+      return false;
+    }
+    
     @Override
     public void handleQueueUpdate() {
+      if (spinningWorkerCount.get() > 0) {
+        // a spinning worker will find the task, and then wake another worker if necessary
+        return;
+      }
+      wakeOrStartWorker();
+    }
+    
+    /**
+     * Wakes an idle worker, or if none are idle starts a new worker if the pool size allows it.  
+     * Unlike {@link #handleQueueUpdate()} this is done even if a worker is currently spinning, 
+     * that way callers which need an additional worker (for example because the allowed pool size 
+     * increased) are not dependent on the spinning worker finding a task.
+     */
+    protected void wakeOrStartWorker() {
       while (true) {
-        Worker nextIdleWorker = idleWorker.get();
+        // the leader of the timed wait is only used when there is no other idle worker
+        Worker leader = timedWaitLeader.get();
+        Worker nextIdleWorker = getIdleWorker(leader);
         if (nextIdleWorker == null) {
+          if (leader != null) {
+            // the leader is the only idle worker, so it must check the queue
+            unparkWorker(leader);
+            break;
+          }
           int casSize = currentPoolSize.get();
-          if (casSize < maxPoolSize & ! shutdownFinishing) {
+          if (casSize < getAllowedPoolSize() & ! shutdownFinishing) {
             if (currentPoolSize.compareAndSet(casSize, casSize + 1)) {
               // start a new worker for the next task
               makeNewWorker();
@@ -841,14 +2117,41 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
             break;
           }
         } else {
-          if (! nextIdleWorker.waitingForUnpark) {
-            nextIdleWorker.waitingForUnpark = true;
-            LockSupport.unpark(nextIdleWorker.thread);
-          }
+          unparkWorker(nextIdleWorker);
           break;
         }
       }
     }
+    
+    @Override
+    public void handleScheduleQueueUpdate(long runTimeNanos) {
+      if (timedWaitLeader.get() == null) {
+        handleQueueUpdate();
+      } else {
+        // only the leader needs to check the queue, and only if the new task is due before it wakes
+        notifyLeaderIfSooner(runTimeNanos);
+      }
+    }
+  }
+  
+  /**
+   * Group of up to 64 worker slots.  Which of those workers are idle is tracked with a single 
+   * bit mask, allowing workers to become idle (or stop being idle) with one atomic operation, and 
+   * an idle worker to be found without locking.
+   * 
+   * @since 5.33
+   */
+  protected static class IdleWorkerSegment {
+    protected static final int SLOT_COUNT = Long.SIZE;
+    
+    protected final AtomicLong idleMask;
+    // slots may only be set while holding the pools poolSizeChangeLock
+    protected final AtomicReferenceArray<Worker> slotWorkers;
+    
+    protected IdleWorkerSegment() {
+      idleMask = new AtomicLong(0);
+      slotWorkers = new AtomicReferenceArray<>(SLOT_COUNT);
+    }
   }
   
   /**
@@ -859,8 +2162,15 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
   protected static class Worker extends AbstractService implements Runnable {
     protected final WorkerPool workerPool;
     protected final Thread thread;
-    protected volatile Worker nextIdleWorker;
     protected volatile boolean waitingForUnpark;
+    // set from the worker's own thread once started, before it can become idle
+    protected IdleWorkerSegment idleSegment;
+    protected long idleSlotMask;
+    // next task slot and local deque, only added to from this worker's thread
+    protected final AtomicReference<OneTimeTaskWrapper> localNextTask;
+    protected final ConcurrentLinkedDeque<OneTimeTaskWrapper> localQueue;
+    protected int localTaskCount;  // only accessed from this worker's thread
+    protected long idleStartNanos;  // only accessed from this worker's thread
     
     protected Worker(WorkerPool workerPool, ThreadFactory threadFactory) {
       this.workerPool = workerPool;
@@ -868,8 +2178,38 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
       if (thread.isAlive()) {
         throw new IllegalThreadStateException();
       }
-      nextIdleWorker = null;
       waitingForUnpark = false;
+      idleSegment = null;
+      idleSlotMask = 0;
+      localNextTask = new AtomicReference<>(null);
+      localQueue = new ConcurrentLinkedDeque<>();
+      localTaskCount = 0;
+      idleStartNanos = Long.MIN_VALUE;
+    }
+    
+    /**
+     * Sets the slot this worker occupies for tracking its idle state.
+     * 
+     * @param segment Segment which contains this worker's slot
+     * @param slot Index of the slot within the segment
+     */
+    protected void setIdleSlot(IdleWorkerSegment segment, int slot) {
+      idleSegment = segment;
+      idleSlotMask = 1L << slot;
+    }
+    
+    /**
+     * Takes the next task from this worker's local queue.  The "next task" slot is favored, 
+     * followed by the oldest task in the local deque.
+     * 
+     * @return Task which is ready for immediate execution, or {@code null} if the queue is empty
+     */
+    protected OneTimeTaskWrapper pollLocalTask() {
+      OneTimeTaskWrapper result;
+      if (localNextTask.get() == null || (result = localNextTask.getAndSet(null)) == null) {
+        return localQueue.pollFirst();
+      }
+      return result;
     }
 
     @Override
@@ -893,7 +2233,12 @@ public class PriorityScheduler extends AbstractPriorityScheduler {
     
     @Override
     public void run() {
-      executeTasksWhileRunning();
+      workerPool.workerStarted(this);
+      try {
+        executeTasksWhileRunning();
+      } finally {
+        workerPool.workerStopped(this);
+      }
       
       synchronized (workerPool.workerStopNotifyLock) {
         workerPool.workerStopNotifyLock.notifyAll();
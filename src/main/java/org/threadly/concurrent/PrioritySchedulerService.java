@@ -1,8 +1,15 @@
 package org.threadly.concurrent;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.threadly.concurrent.future.ListenableFuture;
+import org.threadly.util.ArgumentVerifier;
+import org.threadly.util.Clock;
 
 /**
  * This interface represents schedulers which can not only execute and schedule tasks, but run 
@@ -62,6 +69,44 @@ public interface PrioritySchedulerService extends SchedulerService {
    */
   public <T> ListenableFuture<T> submit(Callable<T> task, TaskPriority priority);
   
+  /**
+   * Executes a collection of tasks as soon as possible for the given priority.  Tasks will be 
+   * queued in the iteration order of the provided collection.  Implementations may be able to 
+   * queue the entire batch at once, making this cheaper than invoking 
+   * {@link #execute(Runnable, TaskPriority)} for each task (for example by only making a single 
+   * decision on if an idle thread needs to be woken up).
+   * 
+   * @since 5.33
+   * @param tasks runnables to execute, the collection and its contents can not be {@code null}
+   * @param priority priority for tasks to get available thread to run on
+   */
+  default void executeAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+    for (Runnable task : tasks) {
+      execute(task, priority);
+    }
+  }
+  
+  /**
+   * Submit a collection of {@link Callable}'s to run as soon as possible for the given priority.  
+   * Like {@link #executeAll(Collection, TaskPriority)}, implementations may be able to queue the 
+   * batch at once, making this cheaper than invoking {@link #submit(Callable, TaskPriority)} for 
+   * each task.
+   * 
+   * @since 5.33
+   * @param <T> type of result returned from the futures
+   * @param tasks callables to be executed, the collection and its contents can not be {@code null}
+   * @param priority priority for tasks to get available thread to run on
+   * @return List of futures, in the iteration order of the provided tasks
+   */
+  default <T> List<ListenableFuture<T>> submitAll(Collection<? extends Callable<T>> tasks, 
+                                                  TaskPriority priority) {
+    List<ListenableFuture<T>> result = new ArrayList<>(tasks.size());
+    for (Callable<T> task : tasks) {
+      result.add(submit(task, priority));
+    }
+    return result;
+  }
+  
   /**
    * Schedule a task with a given delay and a specified priority.
    * 
@@ -155,6 +200,194 @@ public interface PrioritySchedulerService extends SchedulerService {
   public void scheduleAtFixedRate(Runnable task, long initialDelay, 
                                   long period, TaskPriority priority);
   
+  /**
+   * Schedule a task with a given delay and a specified priority.  Unlike 
+   * {@link #schedule(Runnable, long, TaskPriority)} this allows delays with a precision finer 
+   * than a millisecond.  Implementations which can not schedule with that precision will round 
+   * the delay up to the next whole millisecond.
+   * 
+   * @since 5.33
+   * @param task runnable to execute
+   * @param delay time to wait to execute task
+   * @param unit time unit for the provided delay
+   * @param priority priority for task to get available thread to run on
+   */
+  default void schedule(Runnable task, long delay, TimeUnit unit, TaskPriority priority) {
+    schedule(task, SchedulingUtils.toMillisRoundingUp(delay, unit), priority);
+  }
+  
+  /**
+   * Schedule a task with a given delay and a specified priority.  See 
+   * {@link #schedule(Runnable, long, TimeUnit, TaskPriority)} for details about the delay 
+   * precision. 
+   * <p>
+   * The {@link ListenableFuture#get()} method will return null once the runnable has completed.
+   * 
+   * @since 5.33
+   * @param task runnable to execute
+   * @param delay time to wait to execute task
+   * @param unit time unit for the provided delay
+   * @param priority priority for task to get available thread to run on
+   * @return a future to know when the task has completed
+   */
+  default ListenableFuture<?> submitScheduled(Runnable task, long delay, TimeUnit unit, 
+                                              TaskPriority priority) {
+    return submitScheduled(task, null, delay, unit, priority);
+  }
+  
+  /**
+   * Schedule a task with a given delay and a specified priority.  See 
+   * {@link #schedule(Runnable, long, TimeUnit, TaskPriority)} for details about the delay 
+   * precision. 
+   * <p>
+   * The {@link ListenableFuture#get()} method will return the provided result once the runnable 
+   * has completed.
+   * 
+   * @since 5.33
+   * @param <T> type of result returned from the future
+   * @param task runnable to execute
+   * @param result result to be returned from resulting future .get() when runnable completes
+   * @param delay time to wait to execute task
+   * @param unit time unit for the provided delay
+   * @param priority priority for task to get available thread to run on
+   * @return a future to know when the task has completed
+   */
+  default <T> ListenableFuture<T> submitScheduled(Runnable task, T result, long delay, 
+                                                  TimeUnit unit, TaskPriority priority) {
+    return submitScheduled(task, result, SchedulingUtils.toMillisRoundingUp(delay, unit), priority);
+  }
+  
+  /**
+   * Schedule a {@link Callable} with a given delay and a specified priority.  See 
+   * {@link #schedule(Runnable, long, TimeUnit, TaskPriority)} for details about the delay 
+   * precision.
+   * 
+   * @since 5.33
+   * @param <T> type of result returned from the future
+   * @param task callable to be executed
+   * @param delay time to wait to execute task
+   * @param unit time unit for the provided delay
+   * @param priority priority for task to get available thread to run on
+   * @return a future to know when the task has completed and get the result of the callable
+   */
+  default <T> ListenableFuture<T> submitScheduled(Callable<T> task, long delay, TimeUnit unit, 
+                                                  TaskPriority priority) {
+    return submitScheduled(task, SchedulingUtils.toMillisRoundingUp(delay, unit), priority);
+  }
+  
+  /**
+   * Schedule a fixed delay recurring task to run with a specified priority.  Unlike 
+   * {@link #scheduleWithFixedDelay(Runnable, long, long, TaskPriority)} this allows delays with 
+   * a precision finer than a millisecond.  Implementations which can not schedule with that 
+   * precision will round the delays up to the next whole millisecond.
+   * 
+   * @since 5.33
+   * @param task runnable to be executed
+   * @param initialDelay delay until first run
+   * @param recurringDelay delay for running task after last finish
+   * @param unit time unit for the provided delays
+   * @param priority priority for task to get available thread to run on
+   */
+  default void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                      TimeUnit unit, TaskPriority priority) {
+    scheduleWithFixedDelay(task, SchedulingUtils.toMillisRoundingUp(initialDelay, unit), 
+                           SchedulingUtils.toMillisRoundingUp(recurringDelay, unit), priority);
+  }
+  
+  /**
+   * Schedule a fixed rate recurring task to run with a specified priority.  Unlike 
+   * {@link #scheduleAtFixedRate(Runnable, long, long, TaskPriority)} this allows a period with a 
+   * precision finer than a millisecond.  Implementations which can not schedule with that 
+   * precision will round the delay and period up to the next whole millisecond.
+   * 
+   * @since 5.33
+   * @param task runnable to be executed
+   * @param initialDelay delay until first run
+   * @param period amount of time between the start of recurring executions
+   * @param unit time unit for the provided delay and period
+   * @param priority priority for task to get available thread to run on
+   */
+  default void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
+                                   TimeUnit unit, TaskPriority priority) {
+    scheduleAtFixedRate(task, SchedulingUtils.toMillisRoundingUp(initialDelay, unit), 
+                        SchedulingUtils.toMillisRoundingUp(period, unit), priority);
+  }
+  
+  /**
+   * Submit a task which is only worth running if it can start before a deadline, for example a 
+   * request handler whose caller will have timed out after that point.  Implementations may order 
+   * ready tasks by their deadline (earliest deadline first).  If the deadline has passed once the 
+   * task is reached, it will be dropped rather than run, and the returned future will complete 
+   * in error with a {@link TimeoutException} as the cause. 
+   * <p>
+   * By default this only checks the deadline before running the task, implementations which 
+   * support deadline ordering will override this.
+   * 
+   * @since 5.33
+   * @param <T> type of result returned from the future
+   * @param task callable to be executed
+   * @param deadlineInMs time in milliseconds from now which the task must start by
+   * @param priority priority for task to get available thread to run on
+   * @return a future to know when the task has completed or was dropped
+   */
+  default <T> ListenableFuture<T> submitWithDeadline(Callable<T> task, long deadlineInMs, 
+                                                     TaskPriority priority) {
+    ArgumentVerifier.assertNotNull(task, "task");
+    ArgumentVerifier.assertNotNegative(deadlineInMs, "deadlineInMs");
+    
+    long deadline = Clock.accurateForwardProgressingMillis() + deadlineInMs;
+    return submit(() -> {
+      if (Clock.accurateForwardProgressingMillis() > deadline) {
+        throw new TimeoutException("Deadline passed before task started");
+      }
+      return task.call();
+    }, priority);
+  }
+  
+  /**
+   * Submit a task which is only worth running if it can start before a deadline.  See 
+   * {@link #submitWithDeadline(Callable, long, TaskPriority)} for details.
+   * 
+   * @since 5.33
+   * @param task runnable to be executed
+   * @param deadlineInMs time in milliseconds from now which the task must start by
+   * @param priority priority for task to get available thread to run on
+   * @return a future to know when the task has completed or was dropped
+   */
+  default ListenableFuture<?> submitWithDeadline(Runnable task, long deadlineInMs, 
+                                                 TaskPriority priority) {
+    return submitWithDeadline(RunnableCallableAdapter.adapt(task, null), deadlineInMs, priority);
+  }
+  
+  /**
+   * Submit a task which is only worth running if it can start before a deadline.  The task will 
+   * be submitted with the default priority.  See 
+   * {@link #submitWithDeadline(Callable, long, TaskPriority)} for details.
+   * 
+   * @since 5.33
+   * @param <T> type of result returned from the future
+   * @param task callable to be executed
+   * @param deadlineInMs time in milliseconds from now which the task must start by
+   * @return a future to know when the task has completed or was dropped
+   */
+  default <T> ListenableFuture<T> submitWithDeadline(Callable<T> task, long deadlineInMs) {
+    return submitWithDeadline(task, deadlineInMs, getDefaultPriority());
+  }
+  
+  /**
+   * Submit a task which is only worth running if it can start before a deadline.  The task will 
+   * be submitted with the default priority.  See 
+   * {@link #submitWithDeadline(Callable, long, TaskPriority)} for details.
+   * 
+   * @since 5.33
+   * @param task runnable to be executed
+   * @param deadlineInMs time in milliseconds from now which the task must start by
+   * @return a future to know when the task has completed or was dropped
+   */
+  default ListenableFuture<?> submitWithDeadline(Runnable task, long deadlineInMs) {
+    return submitWithDeadline(task, deadlineInMs, getDefaultPriority());
+  }
+  
   /**
    * Get the default priority for the scheduler.
    * 
@@ -72,4 +72,26 @@ public interface SchedulerService extends SubmitterScheduler {
    * @return {@code true} if thread pool is running
    */
   public boolean isShutdown();
+  
+  /**
+   * Invoke a blocking operation, compensating for the blocked thread if possible.  If invoked 
+   * from a thread of a pool which supports compensation, the pool will be allowed an additional 
+   * thread until the operation has completed.  This way tasks which unexpectedly need to block 
+   * (on I/O, a lock, or waiting for a future) do not reduce the throughput of a fixed size pool. 
+   * If invoked from any other thread the operation will simply be invoked. 
+   * <p>
+   * Compensation applies to the pool which owns the calling thread, which is not necessarily 
+   * this scheduler.  For example invoking this on one pool from a worker of another pool will 
+   * compensate the pool the worker belongs to, and invoking it from a thread which is not owned 
+   * by any pool does no compensation.  By default this delegates to 
+   * {@link ThreadBlockingHook#managedBlock(BlockingOperation)}, which compensates for threads of 
+   * any {@link PriorityScheduler} (including those which back the {@link CentralThreadlyPool}).
+   * 
+   * @since 5.33
+   * @param blockingOperation Operation which may block the invoking thread
+   * @throws InterruptedException Thrown if the thread is interrupted while blocking
+   */
+  public default void block(BlockingOperation blockingOperation) throws InterruptedException {
+    ThreadBlockingHook.managedBlock(blockingOperation);
+  }
 }
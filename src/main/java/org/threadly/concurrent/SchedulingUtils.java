@@ -155,4 +155,32 @@ public class SchedulingUtils {
     
     return hour;
   }
+  
+  /**
+   * Converts a duration into milliseconds, rounding any partial millisecond away from zero.  This 
+   * is used when a delay more precise than a millisecond is provided to a scheduler which can only 
+   * schedule with millisecond precision, that way the task is never run earlier than requested.  
+   * Because the rounding is away from zero a negative duration will always convert to a negative 
+   * millisecond value, allowing it to still be rejected by argument validation.
+   * 
+   * @since 5.33
+   * @param duration Duration to be converted
+   * @param unit Time unit the provided duration is in
+   * @return Duration in milliseconds, rounded away from zero to the next whole millisecond
+   */
+  public static long toMillisRoundingUp(long duration, TimeUnit unit) {
+    if (unit == TimeUnit.NANOSECONDS || unit == TimeUnit.MICROSECONDS) {
+      long nanos = unit.toNanos(duration);
+      long millis = nanos / Clock.NANOS_IN_MILLISECOND;
+      long remainder = nanos % Clock.NANOS_IN_MILLISECOND;
+      if (remainder > 0) {
+        millis++;
+      } else if (remainder < 0) {
+        millis--;
+      }
+      return millis;
+    } else {
+      return unit.toMillis(duration);
+    }
+  }
 }
@@ -0,0 +1,356 @@
+package org.threadly.concurrent;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.threadly.concurrent.future.ListenableFuture;
+import org.threadly.util.ArgumentVerifier;
+import org.threadly.util.ExceptionUtils;
+
+/**
+ * Implementation of {@link SingleThreadScheduler} whose thread also runs a NIO {@link Selector}. 
+ * This allows channel I/O, timers, and task submission to all be handled on the same thread, 
+ * without any additional synchronization between them. 
+ * <p>
+ * Channels are registered with {@link #register(SelectableChannel, int, Consumer)}, providing a 
+ * handler which will be invoked on the scheduler thread each time the channel's key is selected. 
+ * The scheduler thread alternates between waiting in {@link Selector#select(long)}, invoking the 
+ * handlers for any selected keys, and running tasks which are ready.  The select will only block 
+ * until the next scheduled task is ready to run. 
+ * <p>
+ * Submitting a task will only invoke {@link Selector#wakeup()} if the thread is currently 
+ * blocked in a select, and the submitted task must run sooner than the select would otherwise 
+ * return.  Tasks which are scheduled after the current head of the queue do not wake the 
+ * selector. 
+ * <p>
+ * To ensure channel handlers are not delayed for an extended duration by a large quantity of 
+ * ready tasks, only up to {@link #setMaxTasksPerSelect(int)} tasks will run before the selector 
+ * is checked again. 
+ * <p>
+ * Once the scheduler has shutdown, the selector will be closed.
+ * 
+ * @since 5.33
+ */
+public class SelectorScheduler extends SingleThreadScheduler {
+  /**
+   * The default quantity of tasks which will run between each check of the selector.
+   */
+  public static final int DEFAULT_MAX_TASKS_PER_SELECT = 64;
+  
+  protected final SelectorSchedulerManager selectorManager;
+  
+  /**
+   * Constructs a new {@link SelectorScheduler}.  No threads will start until the first task is 
+   * provided.  This defaults to using a daemon thread for the scheduler.
+   * 
+   * @throws IOException Thrown if the {@link Selector} can not be opened
+   */
+  public SelectorScheduler() throws IOException {
+    this(null, DEFAULT_LOW_PRIORITY_MAX_WAIT_IN_MS, 
+         new ConfigurableThreadFactory(SelectorScheduler.class.getSimpleName() + "-", 
+                                       true, true, Thread.NORM_PRIORITY, null, null));
+  }
+  
+  /**
+   * Constructs a new {@link SelectorScheduler}.  No threads will start until the first task is 
+   * provided.
+   * 
+   * @param defaultPriority Default priority for tasks which are submitted without any specified priority
+   * @param maxWaitForLowPriorityInMs time low priority tasks to wait if there are high priority tasks ready to run
+   * @param threadFactory factory to make thread for scheduler
+   * @throws IOException Thrown if the {@link Selector} can not be opened
+   */
+  public SelectorScheduler(TaskPriority defaultPriority, long maxWaitForLowPriorityInMs, 
+                           ThreadFactory threadFactory) throws IOException {
+    this(defaultPriority, 
+         new SelectorSchedulerManager(new SelectorNoThreadScheduler(defaultPriority, 
+                                                                    maxWaitForLowPriorityInMs, 
+                                                                    Selector.open()), 
+                                      threadFactory));
+  }
+  
+  /**
+   * Constructs a new {@link SelectorScheduler}.  This is for internal usage where different 
+   * implementations of {@link SelectorSchedulerManager} need to be provided.
+   * 
+   * @param defaultPriority Default priority for tasks which are submitted without any specified priority
+   * @param schedulerManager Scheduler manager to run against
+   */
+  protected SelectorScheduler(TaskPriority defaultPriority, 
+                              SelectorSchedulerManager schedulerManager) {
+    super(defaultPriority, schedulerManager);
+    
+    this.selectorManager = schedulerManager;
+  }
+  
+  /**
+   * Returns the {@link Selector} run by this scheduler.  Operations which may block on the 
+   * selector (like registering a channel) should be done from the scheduler thread.  See 
+   * {@link #register(SelectableChannel, int, Consumer)}.
+   * 
+   * @return The selector used by this scheduler
+   */
+  public Selector getSelector() {
+    return selectorManager.selectorScheduler.selector;
+  }
+  
+  /**
+   * Registers a channel with this scheduler's {@link Selector}.  The registration is done on the 
+   * scheduler thread, so the returned future will complete once that has happened.  The provided 
+   * handler will be attached to the key, and invoked on the scheduler thread each time the key 
+   * is selected.  If the handler throws an exception it will be provided to 
+   * {@link ExceptionUtils#handleException(Throwable)}. 
+   * <p>
+   * The channel must already be configured to be non-blocking.  Interest operations can be 
+   * changed later through the returned {@link SelectionKey}, ideally from the scheduler thread.
+   * 
+   * @param channel Channel to register
+   * @param interestOps Interest set for the channel, see {@link SelectionKey}
+   * @param handler Handler to be invoked when the channel's key is selected
+   * @return Future which will complete with the key once the channel has been registered
+   */
+  public ListenableFuture<SelectionKey> register(SelectableChannel channel, int interestOps, 
+                                                 Consumer<SelectionKey> handler) {
+    ArgumentVerifier.assertNotNull(channel, "channel");
+    ArgumentVerifier.assertNotNull(handler, "handler");
+    
+    return submit(() -> channel.register(getSelector(), interestOps, handler));
+  }
+  
+  /**
+   * Sets the maximum quantity of tasks to run before the selector is checked again.  A lower 
+   * value reduces how long handlers for selected keys can be delayed by ready tasks, while a 
+   * higher value reduces the overhead of checking the selector when there are many ready tasks. 
+   * By default this is {@link #DEFAULT_MAX_TASKS_PER_SELECT}.
+   * 
+   * @param maxTasks Maximum quantity of tasks to run between selects, must be at least one
+   */
+  public void setMaxTasksPerSelect(int maxTasks) {
+    ArgumentVerifier.assertGreaterThanZero(maxTasks, "maxTasks");
+    
+    selectorManager.maxTasksPerSelect = maxTasks;
+  }
+  
+  /**
+   * Getter for the maximum quantity of tasks to run before the selector is checked again.  See 
+   * {@link #setMaxTasksPerSelect(int)}.
+   * 
+   * @return Maximum quantity of tasks to run between selects
+   */
+  public int getMaxTasksPerSelect() {
+    return selectorManager.maxTasksPerSelect;
+  }
+  
+  /**
+   * Returns the quantity of times {@link Selector#wakeup()} has been invoked due to a queue 
+   * update.  This can be used to verify that task submission is not causing excessive wake ups.
+   * 
+   * @return Quantity of selector wake ups due to queue updates
+   */
+  public long getSelectorWakeupCount() {
+    return selectorManager.selectorScheduler.wakeupCount.get();
+  }
+  
+  /**
+   * Implementation of {@link NoThreadScheduler} which wakes the {@link Selector} rather than 
+   * unparking a blocked thread when the queues are updated.
+   * 
+   * @since 5.33
+   */
+  protected static class SelectorNoThreadScheduler extends NoThreadScheduler {
+    // value for selectingUntilNanos when the scheduler thread is not blocked in a select
+    protected static final long NOT_SELECTING = Long.MIN_VALUE;
+    
+    protected final Selector selector;
+    // run time the current select will return by, or NOT_SELECTING
+    protected final AtomicLong selectingUntilNanos;
+    protected final AtomicLong wakeupCount;
+    
+    protected SelectorNoThreadScheduler(TaskPriority defaultPriority, 
+                                        long maxWaitForLowPriorityInMs, Selector selector) {
+      super(defaultPriority, maxWaitForLowPriorityInMs);
+      
+      this.selector = selector;
+      this.selectingUntilNanos = new AtomicLong(NOT_SELECTING);
+      this.wakeupCount = new AtomicLong(0);
+    }
+    
+    @Override
+    protected void handleQueueUpdate() {
+      super.handleQueueUpdate();
+      
+      wakeupIfSooner(NOT_SELECTING);
+    }
+    
+    @Override
+    protected void handleScheduleQueueUpdate(long runTimeNanos) {
+      super.handleQueueUpdate();
+      
+      wakeupIfSooner(runTimeNanos);
+    }
+    
+    /**
+     * Wakes up the selector if the scheduler thread is blocked in a select which will not return 
+     * before the provided run time.  Only one wakeup is done for each select.
+     * 
+     * @param runTimeNanos Run time of a task which may need to run before the select returns
+     */
+    protected void wakeupIfSooner(long runTimeNanos) {
+      long selectingUntil = selectingUntilNanos.get();
+      if (selectingUntil != NOT_SELECTING && runTimeNanos < selectingUntil && 
+          selectingUntilNanos.compareAndSet(selectingUntil, NOT_SELECTING)) {
+        wakeupCount.incrementAndGet();
+        selector.wakeup();
+      }
+    }
+    
+    /**
+     * Returns the run time of the next task in the queue.  This should only be invoked from the 
+     * scheduler thread.
+     * 
+     * @return Run time of the next task, or {@link Long#MAX_VALUE} if there are no tasks queued
+     */
+    protected long getNextTaskRunTime() {
+      TaskWrapper nextTask = queueManager.getNextTask();
+      return nextTask == null ? Long.MAX_VALUE : nextTask.getRunTimeNanos();
+    }
+  }
+  
+  /**
+   * Implementation of {@link SchedulerManager} which runs a loop of selecting, handling selected 
+   * keys, and running ready tasks.
+   * 
+   * @since 5.33
+   */
+  protected static class SelectorSchedulerManager extends SchedulerManager {
+    protected final SelectorNoThreadScheduler selectorScheduler;
+    protected volatile int maxTasksPerSelect;
+    
+    public SelectorSchedulerManager(SelectorNoThreadScheduler scheduler, 
+                                    ThreadFactory threadFactory) {
+      super(scheduler, threadFactory);
+      
+      this.selectorScheduler = scheduler;
+      this.maxTasksPerSelect = DEFAULT_MAX_TASKS_PER_SELECT;
+    }
+    
+    @Override
+    public List<Runnable> stop(boolean stopImmediately) {
+      List<Runnable> result = super.stop(stopImmediately);
+      if (execThread.getState() == Thread.State.NEW) {
+        // thread was never started, and now never will be, so we must close the selector here
+        closeSelector();
+      }
+      return result;
+    }
+    
+    private void closeSelector() {
+      try {
+        selectorScheduler.selector.close();
+      } catch (IOException e) {
+        ExceptionUtils.handleException(e);
+      }
+    }
+    
+    @Override
+    public void run() {
+      try {
+        while (state.get() != 2) {
+          try {
+            boolean tasksRemain;
+            try {
+              tasksRemain = selectorScheduler.tick(null, maxTasksPerSelect, Long.MAX_VALUE);
+            } catch (Throwable t) {
+              ExceptionUtils.handleException(t);
+              tasksRemain = true;
+            }
+            if (state.get() == 2) {
+              break;
+            }
+            
+            select(tasksRemain);
+            handleSelectedKeys();
+          } catch (ClosedSelectorException e) {
+            break;
+          } catch (Throwable t) {
+            ExceptionUtils.handleException(t);
+          }
+        }
+      } finally {
+        closeSelector();
+      }
+    }
+    
+    /**
+     * Selects on the selector, blocking until either a key is selected, the next task is ready 
+     * to run, or the selector is woken up due to a queue update.
+     * 
+     * @param tasksReady {@code true} if tasks are known to be ready, so the select must not block
+     * @throws IOException Thrown if the selector throws during the select
+     */
+    protected void select(boolean tasksReady) throws IOException {
+      if (tasksReady) {
+        selectorScheduler.selector.selectNow();
+        return;
+      }
+      
+      long runTime = selectorScheduler.getNextTaskRunTime();
+      selectorScheduler.selectingUntilNanos.set(runTime);
+      try {
+        // check again now that producers can see we are selecting, in case a task was just added 
+        // or we were just shutdown
+        if (selectorScheduler.getNextTaskRunTime() != runTime || state.get() == 2) {
+          selectorScheduler.selector.selectNow();
+        } else if (runTime == Long.MAX_VALUE) {
+          selectorScheduler.selector.select();
+        } else {
+          long delayNanos = runTime - selectorScheduler.nowInNanos(true);
+          if (delayNanos > 0) {
+            selectorScheduler.selector.select(SchedulingUtils.toMillisRoundingUp(delayNanos, 
+                                                                         TimeUnit.NANOSECONDS));
+          } else {
+            selectorScheduler.selector.selectNow();
+          }
+        }
+      } finally {
+        selectorScheduler.selectingUntilNanos.set(SelectorNoThreadScheduler.NOT_SELECTING);
+      }
+      // reset interrupted status, an interrupt will cause the select to return immediately
+      Thread.interrupted();
+    }
+    
+    /**
+     * Invokes the handler attached to each selected key.
+     */
+    @SuppressWarnings("unchecked")
+    protected void handleSelectedKeys() {
+      Set<SelectionKey> selectedKeys = selectorScheduler.selector.selectedKeys();
+      if (selectedKeys.isEmpty()) {
+        return;
+      }
+      Iterator<SelectionKey> it = selectedKeys.iterator();
+      while (it.hasNext()) {
+        SelectionKey key = it.next();
+        it.remove();
+        Object handler = key.attachment();
+        if (key.isValid() && handler instanceof Consumer) {
+          try {
+            ((Consumer<SelectionKey>)handler).accept(key);
+          } catch (Throwable t) {
+            ExceptionUtils.handleException(t);
+          }
+        }
+      }
+    }
+  }
+}
@@ -1,13 +1,16 @@
 package org.threadly.concurrent;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.threadly.util.ArgumentVerifier;
 import org.threadly.util.ExceptionUtils;
+import org.threadly.util.ReferenceCleaner;
 
 /**
  * A simple and light weight implementation of the {@link SchedulerService}.  This is designed to 
@@ -98,6 +101,9 @@ public class SingleThreadScheduler extends AbstractPriorityScheduler {
     super(defaultPriority);
     
     this.sManager = schedulerManager;
+    
+    // if being GC'ed, stop thread so that it also can be GC'ed
+    ReferenceCleaner.register(this, () -> schedulerManager.stop(false));
   }
   
   /**
@@ -231,6 +237,17 @@ public class SingleThreadScheduler extends AbstractPriorityScheduler {
     return getRunningScheduler().doSchedule(task, delayInMillis, priority);
   }
 
+  @Override
+  protected void doExecuteAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+    getRunningScheduler().doExecuteAll(tasks, priority);
+  }
+  
+  @Override
+  protected void doScheduleWithDeadline(DeadlineFutureTask<?> task, long deadlineNanos, 
+                                        TaskPriority priority) {
+    getRunningScheduler().doScheduleWithDeadline(task, deadlineNanos, priority);
+  }
+  
   @Override
   public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay,
                                      TaskPriority priority) {
@@ -244,11 +261,24 @@ public class SingleThreadScheduler extends AbstractPriorityScheduler {
   }
   
   @Override
-  protected void finalize() {
-    // if being GC'ed, stop thread so that it also can be GC'ed
-    shutdown();
+  protected OneTimeTaskWrapper doScheduleNanos(Runnable task, 
+                                               long delayInNanos, TaskPriority priority) {
+    return getRunningScheduler().doScheduleNanos(task, delayInNanos, priority);
   }
-
+  
+  @Override
+  public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit, TaskPriority priority) {
+    getRunningScheduler().scheduleWithFixedDelay(task, initialDelay, recurringDelay, 
+                                                 unit, priority);
+  }
+  
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
+                                  TimeUnit unit, TaskPriority priority) {
+    getRunningScheduler().scheduleAtFixedRate(task, initialDelay, period, unit, priority);
+  }
+  
   @Override
   public int getActiveTaskCount() {
     return sManager.scheduler.getActiveTaskCount();
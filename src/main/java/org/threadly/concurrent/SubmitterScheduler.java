@@ -1,6 +1,7 @@
 package org.threadly.concurrent;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import org.threadly.concurrent.future.ListenableFuture;
 
@@ -90,4 +91,105 @@ public interface SubmitterScheduler extends SubmitterExecutor {
    * @return a future to know when the task has completed and get the result of the callable
    */
   public <T> ListenableFuture<T> submitScheduled(Callable<T> task, long delayInMs);
+  
+  /**
+   * Schedule a one time task with a given delay.  Unlike {@link #schedule(Runnable, long)} this 
+   * allows delays with a precision finer than a millisecond.  Implementations which can not 
+   * schedule with that precision will round the delay up to the next whole millisecond.
+   * 
+   * @since 5.33
+   * @param task runnable to execute
+   * @param delay time to wait to execute task
+   * @param unit time unit for the provided delay
+   */
+  default void schedule(Runnable task, long delay, TimeUnit unit) {
+    schedule(task, SchedulingUtils.toMillisRoundingUp(delay, unit));
+  }
+  
+  /**
+   * Schedule a fixed delay recurring task to run.  Unlike 
+   * {@link #scheduleWithFixedDelay(Runnable, long, long)} this allows delays with a precision 
+   * finer than a millisecond.  Implementations which can not schedule with that precision will 
+   * round the delays up to the next whole millisecond.
+   * 
+   * @since 5.33
+   * @param task runnable to be executed
+   * @param initialDelay delay until first run
+   * @param recurringDelay delay for running task after last finish
+   * @param unit time unit for the provided delays
+   */
+  default void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                      TimeUnit unit) {
+    scheduleWithFixedDelay(task, SchedulingUtils.toMillisRoundingUp(initialDelay, unit), 
+                           SchedulingUtils.toMillisRoundingUp(recurringDelay, unit));
+  }
+  
+  /**
+   * Schedule a fixed rate recurring task to run.  Unlike 
+   * {@link #scheduleAtFixedRate(Runnable, long, long)} this allows a period with a precision 
+   * finer than a millisecond.  Implementations which can not schedule with that precision will 
+   * round the delay and period up to the next whole millisecond.
+   * 
+   * @since 5.33
+   * @param task runnable to be executed
+   * @param initialDelay delay until first run
+   * @param period amount of time between the start of recurring executions
+   * @param unit time unit for the provided delay and period
+   */
+  default void scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+    scheduleAtFixedRate(task, SchedulingUtils.toMillisRoundingUp(initialDelay, unit), 
+                        SchedulingUtils.toMillisRoundingUp(period, unit));
+  }
+  
+  /**
+   * Schedule a task with a given delay.  See {@link #schedule(Runnable, long, TimeUnit)} for 
+   * details about the delay precision. 
+   * <p>
+   * The {@link ListenableFuture#get()} method will return {@code null} once the runnable has 
+   * completed.
+   * 
+   * @since 5.33
+   * @param task runnable to execute
+   * @param delay time to wait to execute task
+   * @param unit time unit for the provided delay
+   * @return a future to know when the task has completed
+   */
+  default ListenableFuture<?> submitScheduled(Runnable task, long delay, TimeUnit unit) {
+    return submitScheduled(task, null, delay, unit);
+  }
+  
+  /**
+   * Schedule a task with a given delay.  See {@link #schedule(Runnable, long, TimeUnit)} for 
+   * details about the delay precision. 
+   * <p>
+   * The {@link ListenableFuture#get()} method will return the provided result once the runnable 
+   * has completed.
+   * 
+   * @since 5.33
+   * @param <T> type of result returned from the future
+   * @param task runnable to execute
+   * @param result result to be returned from resulting future .get() when runnable completes
+   * @param delay time to wait to execute task
+   * @param unit time unit for the provided delay
+   * @return a future to know when the task has completed
+   */
+  default <T> ListenableFuture<T> submitScheduled(Runnable task, T result, 
+                                                  long delay, TimeUnit unit) {
+    return submitScheduled(task, result, SchedulingUtils.toMillisRoundingUp(delay, unit));
+  }
+  
+  /**
+   * Schedule a {@link Callable} with a given delay.  See 
+   * {@link #schedule(Runnable, long, TimeUnit)} for details about the delay precision.
+   * 
+   * @since 5.33
+   * @param <T> type of result returned from the future
+   * @param task callable to be executed
+   * @param delay time to wait to execute task
+   * @param unit time unit for the provided delay
+   * @return a future to know when the task has completed and get the result of the callable
+   */
+  default <T> ListenableFuture<T> submitScheduled(Callable<T> task, long delay, TimeUnit unit) {
+    return submitScheduled(task, SchedulingUtils.toMillisRoundingUp(delay, unit));
+  }
 }
@@ -0,0 +1,99 @@
+package org.threadly.concurrent;
+
+import org.threadly.util.ArgumentVerifier;
+
+/**
+ * Hook which a thread pool installs on its own threads so that code which is about to block the 
+ * current thread can let the pool know, allowing the pool to compensate for the blocked thread. 
+ * {@link PriorityScheduler} installs a hook on each of its workers. 
+ * <p>
+ * Threads without a hook installed will return {@code null} from {@link #current()}, so callers 
+ * can skip any compensation work entirely in that case.  {@link #managedBlock(BlockingOperation)} 
+ * does this for a {@link BlockingOperation}.  A typical direct usage looks like: 
+ * <pre>{@code 
+ * ThreadBlockingHook hook = ThreadBlockingHook.current();
+ * if (hook == null) {
+ *   doBlockingWait();
+ * } else {
+ *   hook.blockStarting();
+ *   try {
+ *     doBlockingWait();
+ *   } finally {
+ *     hook.blockFinished();
+ *   }
+ * }
+ * }</pre>
+ * 
+ * @since 5.33
+ */
+public abstract class ThreadBlockingHook {
+  private static final ThreadLocal<ThreadBlockingHook> CURRENT_HOOK = new ThreadLocal<>();
+  
+  /**
+   * Returns the hook installed for the current thread.
+   * 
+   * @return Hook for the invoking thread, or {@code null} if the thread does not have one
+   */
+  public static ThreadBlockingHook current() {
+    return CURRENT_HOOK.get();
+  }
+  
+  /**
+   * Invoke a blocking operation, compensating for the blocked thread through the hook installed 
+   * on the invoking thread.  The pool which owns the invoking thread is the one compensated, for 
+   * a {@link PriorityScheduler} worker that pool will be allowed one thread beyond its max pool 
+   * size until the operation completes.  If tasks are ready a new worker will be started for 
+   * them, otherwise one will only be started once a task is submitted and no other worker is 
+   * available.  Once the operation completes the pool is allowed to shrink back down, with the 
+   * extra worker exiting once it is idle. 
+   * <p>
+   * If invoked from a thread without a hook, or if {@link BlockingOperation#isReleasable()} 
+   * returns {@code true}, no compensation will occur.
+   * 
+   * @param blockingOperation Operation which may block the invoking thread
+   * @throws InterruptedException Thrown if the thread is interrupted while blocking
+   */
+  public static void managedBlock(BlockingOperation blockingOperation) throws InterruptedException {
+    ArgumentVerifier.assertNotNull(blockingOperation, "blockingOperation");
+    
+    if (blockingOperation.isReleasable()) {
+      return;
+    }
+    ThreadBlockingHook hook = current();
+    if (hook == null) {
+      blockingOperation.block();
+    } else {
+      hook.blockStarting();
+      try {
+        blockingOperation.block();
+      } finally {
+        hook.blockFinished();
+      }
+    }
+  }
+  
+  /**
+   * Installs a hook for the invoking thread, replacing any hook previously installed.
+   * 
+   * @param hook Hook to install, or {@code null} to remove the current hook
+   */
+  protected static void setCurrent(ThreadBlockingHook hook) {
+    if (hook == null) {
+      CURRENT_HOOK.remove();
+    } else {
+      CURRENT_HOOK.set(hook);
+    }
+  }
+  
+  /**
+   * Invoked from the thread the hook was installed on, right before it blocks.  Every invocation 
+   * must be followed by an invocation of {@link #blockFinished()} once the thread is no longer 
+   * blocked.
+   */
+  public abstract void blockStarting();
+  
+  /**
+   * Invoked from the thread the hook was installed on once it is no longer blocked.
+   */
+  public abstract void blockFinished();
+}
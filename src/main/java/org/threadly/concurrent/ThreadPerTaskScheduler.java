@@ -0,0 +1,650 @@
+package org.threadly.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.threadly.util.ArgumentVerifier;
+import org.threadly.util.Clock;
+import org.threadly.util.ExceptionUtils;
+import org.threadly.util.ReferenceCleaner;
+
+/**
+ * Implementation of {@link AbstractPriorityScheduler} which runs every task on its own newly 
+ * created thread.  Task ordering (priority, delays, recurring schedules and low priority 
+ * starvation protection) is handled by the same queues used in {@link PriorityScheduler}.  But 
+ * rather than a pool of workers running tasks, a single dispatcher thread waits for the next task 
+ * to be ready and then hands it to a new thread from the provided task thread factory.  By 
+ * default there is no limit on the quantity of tasks which may be running at once, but one can 
+ * be set with {@link #setMaxConcurrency(int)}.  Once at that limit tasks will remain queued 
+ * (still ordered by priority) until a running task completes. 
+ * <p>
+ * This is intended for use with virtual threads, where blocking a thread (for example on I/O or a 
+ * sleep) is cheap, but creating a pool large enough for all those blocked threads is not.  If the 
+ * JVM supports virtual threads (see {@link ConfigurableThreadFactory#isVirtualThreadSupported()}) 
+ * they will be used by default, otherwise a new daemon platform thread is created for each task. 
+ * <p>
+ * The dispatcher thread is started lazily once the first task is submitted.
+ * 
+ * @since 5.33
+ */
+public class ThreadPerTaskScheduler extends AbstractPriorityScheduler {
+  protected final TaskDispatcher dispatcher;
+  protected final QueueManager queueManager;
+  
+  /**
+   * Constructs a new {@link ThreadPerTaskScheduler}.  Virtual threads will be used to run tasks 
+   * if they are supported by the JVM, otherwise daemon platform threads are used.  This 
+   * constructs a default priority of high, and a low priority task max wait of 500ms.
+   */
+  public ThreadPerTaskScheduler() {
+    this(null, DEFAULT_LOW_PRIORITY_MAX_WAIT_IN_MS);
+  }
+  
+  /**
+   * Constructs a new {@link ThreadPerTaskScheduler}.  Virtual threads will be used to run tasks 
+   * if they are supported by the JVM, otherwise daemon platform threads are used.
+   * 
+   * @param defaultPriority Default priority for tasks which are submitted without any specified priority
+   * @param maxWaitForLowPriorityInMs time low priority tasks to wait if there are high priority tasks ready to run
+   */
+  public ThreadPerTaskScheduler(TaskPriority defaultPriority, long maxWaitForLowPriorityInMs) {
+    this(defaultPriority, maxWaitForLowPriorityInMs,
+         new ConfigurableThreadFactory(ThreadPerTaskScheduler.class.getSimpleName() + "-task-",
+                                       true, true, Thread.NORM_PRIORITY, null, null,
+                                       ConfigurableThreadFactory.isVirtualThreadSupported()));
+  }
+  
+  /**
+   * Constructs a new {@link ThreadPerTaskScheduler} which will run each task on a thread from 
+   * the provided factory.  The factory must produce a new thread (which has not been started) on 
+   * every invocation.
+   * 
+   * @param defaultPriority Default priority for tasks which are submitted without any specified priority
+   * @param maxWaitForLowPriorityInMs time low priority tasks to wait if there are high priority tasks ready to run
+   * @param taskThreadFactory Factory to produce a thread for each task to run on
+   */
+  public ThreadPerTaskScheduler(TaskPriority defaultPriority, long maxWaitForLowPriorityInMs,
+                                ThreadFactory taskThreadFactory) {
+    this(new TaskDispatcher(new ConfigurableThreadFactory(ThreadPerTaskScheduler.class.getSimpleName() +
+                                                            "-dispatcher-", 
+                                                          true, true, Thread.NORM_PRIORITY, 
+                                                          null, null), 
+                            taskThreadFactory), 
+         defaultPriority, maxWaitForLowPriorityInMs);
+  }
+  
+  /**
+   * This constructor is designed for extending classes to be able to provide their own 
+   * implementation of {@link TaskDispatcher}.
+   * 
+   * @param dispatcher TaskDispatcher to handle dispatching ready tasks to new threads
+   * @param defaultPriority Default priority to store in case no priority is provided for tasks
+   * @param maxWaitForLowPriorityInMs time low priority tasks to wait if there are high priority tasks ready to run
+   */
+  protected ThreadPerTaskScheduler(TaskDispatcher dispatcher, TaskPriority defaultPriority, 
+                                   long maxWaitForLowPriorityInMs) {
+    super(defaultPriority);
+    
+    this.dispatcher = dispatcher;
+    this.queueManager = new QueueManager(dispatcher, maxWaitForLowPriorityInMs);
+    
+    dispatcher.start(queueManager);
+    
+    // shutdown the dispatcher once GC'ed so we don't leak the thread
+    QueueManager queueManager = this.queueManager;
+    ReferenceCleaner.register(this, () -> shutdown(dispatcher, queueManager));
+  }
+  
+  /**
+   * Sets the maximum quantity of tasks which may be running at once.  Once this many tasks are 
+   * running, ready tasks will remain in the queue until a running task completes.  By default 
+   * this is {@link Integer#MAX_VALUE}, meaning every task is started as soon as it is ready.
+   * 
+   * @param maxConcurrency Maximum quantity of concurrently running tasks, must be at least one
+   */
+  public void setMaxConcurrency(int maxConcurrency) {
+    dispatcher.setMaxConcurrency(maxConcurrency);
+  }
+  
+  /**
+   * Getter for the maximum quantity of tasks which may be running at once.  See 
+   * {@link #setMaxConcurrency(int)}.
+   * 
+   * @return Maximum quantity of concurrently running tasks
+   */
+  public int getMaxConcurrency() {
+    return dispatcher.getMaxConcurrency();
+  }
+  
+  /**
+   * Call to check how many tasks are currently being executed.  Since every task runs on its own 
+   * thread, this is also the quantity of task threads which are currently alive.
+   * 
+   * @return current number of running tasks
+   */
+  @Override
+  public int getActiveTaskCount() {
+    return dispatcher.getRunningTaskCount();
+  }
+  
+  @Override
+  public boolean isShutdown() {
+    return dispatcher.isShutdownStarted();
+  }
+  
+  /**
+   * Stops any new tasks from being submitted to the scheduler.  But allows all tasks which are 
+   * submitted to execute, or scheduled (and have elapsed their delay time) to run.  If recurring 
+   * tasks are present they will also be unable to reschedule.  If {@code shutdown()} or 
+   * {@link #shutdownNow()} has already been called, this will have no effect. 
+   * <p>
+   * If you wish to not want to run any queued tasks you should use {@link #shutdownNow()}.
+   */
+  public void shutdown() {
+    shutdown(dispatcher, queueManager);
+  }
+  
+  /**
+   * Starts the shutdown of the dispatcher, queuing a task to stop it once all previously 
+   * submitted tasks have been dispatched.  This is static so that it can be invoked once the 
+   * scheduler has been garbage collected.
+   * 
+   * @param dispatcher Dispatcher to shutdown
+   * @param queueManager Queue manager to add the shutdown task into
+   */
+  private static void shutdown(TaskDispatcher dispatcher, QueueManager queueManager) {
+    if (dispatcher.startShutdown()) {
+      InternalRunnable sr = dispatcher::finishShutdown;
+      queueManager.lowPriorityQueueSet
+                  .addExecute(new ImmediateTaskWrapper(sr, queueManager.lowPriorityQueueSet.executeQueue));
+    }
+  }
+  
+  /**
+   * Stops any new tasks from being able to be executed and stops the dispatcher thread. 
+   * <p>
+   * This implementation refuses new submissions after this call.  And will NOT interrupt any 
+   * tasks which are currently running.  However any tasks which are waiting in queue to be run 
+   * (but have not started yet), will not be run.  Those waiting tasks will be removed and 
+   * returned.
+   * 
+   * @return List of runnables which were waiting to execute
+   */
+  public List<Runnable> shutdownNow() {
+    dispatcher.startShutdown();
+    List<Runnable> awaitingTasks = queueManager.clearQueue();
+    dispatcher.finishShutdown();
+    
+    return awaitingTasks;
+  }
+  
+  /**
+   * Block until the scheduler has shutdown and all running tasks have completed.  If neither 
+   * {@link #shutdown()} or {@link #shutdownNow()} is invoked, then this will block forever.
+   * 
+   * @throws InterruptedException Thrown if blocking thread is interrupted waiting for shutdown
+   */
+  public void awaitTermination() throws InterruptedException {
+    awaitTermination(Long.MAX_VALUE);
+  }
+  
+  /**
+   * Block until the scheduler has shutdown and all running tasks have completed.  If neither 
+   * {@link #shutdown()} or {@link #shutdownNow()} is invoked, then this will block until the 
+   * timeout is reached.
+   * 
+   * @param timeoutMillis time to block and wait for the scheduler to shutdown
+   * @return {@code true} if the scheduler has shutdown, false if timeout was reached
+   * @throws InterruptedException Thrown if blocking thread is interrupted waiting for shutdown
+   */
+  public boolean awaitTermination(long timeoutMillis) throws InterruptedException {
+    return dispatcher.awaitTermination(timeoutMillis);
+  }
+  
+  @Override
+  protected OneTimeTaskWrapper doSchedule(Runnable task, long delayInMillis, TaskPriority priority) {
+    QueueSet queueSet = queueManager.getQueueSet(priority);
+    OneTimeTaskWrapper result;
+    if (delayInMillis == 0) {
+      addToExecuteQueue(queueSet, (result = new ImmediateTaskWrapper(task, queueSet.executeQueue)));
+    } else {
+      addToScheduleQueue(queueSet, 
+                         (result = new OneTimeTaskWrapper(task, queueSet.scheduleQueue, 
+                                                          Clock.accurateForwardProgressingMillis() +
+                                                            delayInMillis)));
+    }
+    return result;
+  }
+  
+  @Override
+  protected OneTimeTaskWrapper doScheduleNanos(Runnable task, 
+                                               long delayInNanos, TaskPriority priority) {
+    QueueSet queueSet = queueManager.getQueueSet(priority);
+    OneTimeTaskWrapper result;
+    addToScheduleQueue(queueSet, 
+                       (result = new OneTimeTaskWrapper(task, queueSet.scheduleQueue, 
+                                                        Clock.accurateForwardProgressingNanos() +
+                                                          delayInNanos, 
+                                                        TimeUnit.NANOSECONDS)));
+    return result;
+  }
+  
+  @Override
+  protected void doExecuteAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+    if (dispatcher.isShutdownStarted()) {
+      throw new RejectedExecutionException("Thread pool shutdown");
+    }
+    
+    QueueSet queueSet = queueManager.getQueueSet(priority);
+    List<OneTimeTaskWrapper> wrappers = new ArrayList<>(tasks.size());
+    for (Runnable task : tasks) {
+      wrappers.add(new ImmediateTaskWrapper(task, queueSet.executeQueue));
+    }
+    queueSet.addExecuteAll(wrappers);
+  }
+  
+  @Override
+  protected void doScheduleWithDeadline(DeadlineFutureTask<?> task, long deadlineNanos, 
+                                        TaskPriority priority) {
+    if (dispatcher.isShutdownStarted()) {
+      throw new RejectedExecutionException("Thread pool shutdown");
+    }
+    
+    super.doScheduleWithDeadline(task, deadlineNanos, priority);
+  }
+  
+  @Override
+  public void scheduleWithFixedDelay(Runnable task, long initialDelay, 
+                                     long recurringDelay, TaskPriority priority) {
+    addRecurringDelayTask(task, initialDelay, recurringDelay, TimeUnit.MILLISECONDS, priority);
+  }
+  
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
+                                  TaskPriority priority) {
+    addRecurringRateTask(task, initialDelay, period, TimeUnit.MILLISECONDS, priority);
+  }
+  
+  @Override
+  public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit, TaskPriority priority) {
+    if (requiresNanoPrecision(initialDelay, unit) || requiresNanoPrecision(recurringDelay, unit)) {
+      addRecurringDelayTask(task, unit.toNanos(initialDelay), unit.toNanos(recurringDelay), 
+                            TimeUnit.NANOSECONDS, priority);
+    } else {
+      // go through the millisecond version so extending classes only need to override it
+      scheduleWithFixedDelay(task, unit.toMillis(initialDelay), 
+                             unit.toMillis(recurringDelay), priority);
+    }
+  }
+  
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
+                                  TimeUnit unit, TaskPriority priority) {
+    if (requiresNanoPrecision(initialDelay, unit) || requiresNanoPrecision(period, unit)) {
+      addRecurringRateTask(task, unit.toNanos(initialDelay), unit.toNanos(period), 
+                           TimeUnit.NANOSECONDS, priority);
+    } else {
+      scheduleAtFixedRate(task, unit.toMillis(initialDelay), unit.toMillis(period), priority);
+    }
+  }
+  
+  /**
+   * Validates and queues a new fixed delay recurring task.  The unit must be either 
+   * {@link TimeUnit#MILLISECONDS} or {@link TimeUnit#NANOSECONDS}, and determines which clock the 
+   * first run time is based off of.
+   * 
+   * @param task runnable to be executed
+   * @param initialDelay delay before first run
+   * @param recurringDelay delay after completion before the next run
+   * @param unit unit the delays are provided in
+   * @param priority priority for task, {@code null} to use the default priority
+   */
+  private void addRecurringDelayTask(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit, TaskPriority priority) {
+    ArgumentVerifier.assertNotNull(task, "task");
+    ArgumentVerifier.assertNotNegative(initialDelay, "initialDelay");
+    ArgumentVerifier.assertNotNegative(recurringDelay, "recurringDelay");
+    if (priority == null) {
+      priority = defaultPriority;
+    }
+    
+    QueueSet queueSet = queueManager.getQueueSet(priority);
+    addToScheduleQueue(queueSet, 
+                       new RecurringDelayTaskWrapper(task, queueSet, 
+                                                     forwardProgressingTime(unit) + initialDelay, 
+                                                     recurringDelay, unit));
+  }
+  
+  /**
+   * Validates and queues a new fixed rate recurring task.  The unit must be either 
+   * {@link TimeUnit#MILLISECONDS} or {@link TimeUnit#NANOSECONDS}, and determines which clock the 
+   * first run time is based off of.
+   * 
+   * @param task runnable to be executed
+   * @param initialDelay delay before first run
+   * @param period time between the start of each run
+   * @param unit unit the delays are provided in
+   * @param priority priority for task, {@code null} to use the default priority
+   */
+  private void addRecurringRateTask(Runnable task, long initialDelay, long period, 
+                                    TimeUnit unit, TaskPriority priority) {
+    ArgumentVerifier.assertNotNull(task, "task");
+    ArgumentVerifier.assertNotNegative(initialDelay, "initialDelay");
+    ArgumentVerifier.assertGreaterThanZero(period, "period");
+    if (priority == null) {
+      priority = defaultPriority;
+    }
+    
+    QueueSet queueSet = queueManager.getQueueSet(priority);
+    addToScheduleQueue(queueSet, 
+                       new RecurringRateTaskWrapper(task, queueSet, 
+                                                    forwardProgressingTime(unit) + initialDelay, 
+                                                    period, unit));
+  }
+  
+  private static long forwardProgressingTime(TimeUnit unit) {
+    if (unit == TimeUnit.NANOSECONDS) {
+      return Clock.accurateForwardProgressingNanos();
+    } else {
+      return Clock.accurateForwardProgressingMillis();
+    }
+  }
+  
+  /**
+   * Adds the ready task to the provided queue set's execute queue.
+   * 
+   * @param queueSet Queue set for the task's priority
+   * @param task {@link OneTimeTaskWrapper} to queue for the scheduler
+   */
+  protected void addToExecuteQueue(QueueSet queueSet, OneTimeTaskWrapper task) {
+    if (dispatcher.isShutdownStarted()) {
+      throw new RejectedExecutionException("Thread pool shutdown");
+    }
+    
+    queueSet.addExecute(task);
+  }
+  
+  /**
+   * Adds the delayed or recurring task to the provided queue set's schedule queue.
+   * 
+   * @param queueSet Queue set for the task's priority
+   * @param task {@link TaskWrapper} to queue for the scheduler
+   */
+  protected void addToScheduleQueue(QueueSet queueSet, TaskWrapper task) {
+    if (dispatcher.isShutdownStarted()) {
+      throw new RejectedExecutionException("Thread pool shutdown");
+    }
+    
+    queueSet.addScheduled(task);
+  }
+  
+  @Override
+  protected QueueManager getQueueManager() {
+    return queueManager;
+  }
+  
+  /**
+   * Listens for queue updates and runs the dispatcher thread.  The dispatcher waits until the next 
+   * task is ready (and there is capacity under the max concurrency), then claims it and starts a 
+   * new thread from the task thread factory to run it.  Termination waits for both the dispatcher 
+   * thread, and any task threads, to finish.  This holds no reference to the scheduler, so that 
+   * the scheduler can still be garbage collected while the dispatcher is running.
+   * 
+   * @since 5.33
+   */
+  protected static class TaskDispatcher implements QueueSetListener, Runnable {
+    protected final ThreadFactory dispatcherThreadFactory;
+    protected final ThreadFactory taskThreadFactory;
+    protected final AtomicInteger runningTaskCount;
+    protected final AtomicBoolean dispatcherStarted;
+    protected final AtomicBoolean shutdownStarted;
+    protected final Object terminationLock;
+    protected QueueManager queueManager;
+    private volatile Thread dispatcherThread;
+    private volatile boolean dispatcherRunning;
+    private volatile boolean dispatcherWaiting;
+    private volatile boolean shutdownFinishing;
+    private volatile int maxConcurrency;
+    
+    protected TaskDispatcher(ThreadFactory dispatcherThreadFactory, 
+                             ThreadFactory taskThreadFactory) {
+      ArgumentVerifier.assertNotNull(dispatcherThreadFactory, "dispatcherThreadFactory");
+      ArgumentVerifier.assertNotNull(taskThreadFactory, "taskThreadFactory");
+      
+      this.dispatcherThreadFactory = dispatcherThreadFactory;
+      this.taskThreadFactory = taskThreadFactory;
+      this.runningTaskCount = new AtomicInteger(0);
+      this.dispatcherStarted = new AtomicBoolean(false);
+      this.shutdownStarted = new AtomicBoolean(false);
+      this.terminationLock = new Object();
+      this.queueManager = null;
+      this.dispatcherThread = null;
+      this.dispatcherRunning = false;
+      this.dispatcherWaiting = false;
+      this.shutdownFinishing = false;
+      this.maxConcurrency = Integer.MAX_VALUE;
+    }
+    
+    /**
+     * Provides the queue manager which tasks will be taken from.  This must be invoked once 
+     * before any tasks are queued.
+     * 
+     * @param queueManager Queue manager to dispatch tasks from
+     */
+    public void start(QueueManager queueManager) {
+      if (this.queueManager != null) {
+        throw new IllegalStateException();
+      }
+      
+      this.queueManager = queueManager;
+    }
+    
+    /**
+     * Sets the maximum quantity of tasks which may be running at once.
+     * 
+     * @param maxConcurrency Maximum quantity of concurrently running tasks, must be at least one
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+      ArgumentVerifier.assertGreaterThanZero(maxConcurrency, "maxConcurrency");
+      
+      this.maxConcurrency = maxConcurrency;
+      
+      // wake the dispatcher in case it is waiting for capacity which has now increased
+      unparkDispatcher();
+    }
+    
+    /**
+     * Getter for the maximum quantity of tasks which may be running at once.
+     * 
+     * @return Maximum quantity of concurrently running tasks
+     */
+    public int getMaxConcurrency() {
+      return maxConcurrency;
+    }
+    
+    /**
+     * Getter for the quantity of task threads which are currently running.
+     * 
+     * @return Quantity of running tasks
+     */
+    public int getRunningTaskCount() {
+      return runningTaskCount.get();
+    }
+    
+    /**
+     * Starts the shutdown, after this new tasks should be rejected.
+     * 
+     * @return {@code true} if this invocation started the shutdown
+     */
+    public boolean startShutdown() {
+      return shutdownStarted.compareAndSet(false, true);
+    }
+    
+    /**
+     * Checks if the shutdown has started by an invocation of {@link #startShutdown()}.
+     * 
+     * @return {@code true} if the shutdown has started
+     */
+    public boolean isShutdownStarted() {
+      return shutdownStarted.get();
+    }
+    
+    /**
+     * Finishes the shutdown, the dispatcher thread will exit without dispatching any more tasks. 
+     * Tasks which are already running are not interrupted.
+     */
+    public void finishShutdown() {
+      shutdownFinishing = true;
+      
+      unparkDispatcher();
+      synchronized (terminationLock) {
+        terminationLock.notifyAll();
+      }
+    }
+    
+    /**
+     * Block until the dispatcher has shutdown and all task threads have completed.
+     * 
+     * @param timeoutMillis time to block and wait for termination
+     * @return {@code true} if terminated, false if timeout was reached
+     * @throws InterruptedException Thrown if blocking thread is interrupted waiting for shutdown
+     */
+    public boolean awaitTermination(long timeoutMillis) throws InterruptedException {
+      long start = timeoutMillis < Long.MAX_VALUE ?
+        Clock.accurateForwardProgressingMillis() : Clock.lastKnownForwardProgressingMillis();
+      synchronized (terminationLock) {
+        long remainingMillis;
+        while (! isTerminated() &&
+               (remainingMillis = timeoutMillis - (Clock.lastKnownForwardProgressingMillis() - start)) > 0) {
+          terminationLock.wait(remainingMillis);
+        }
+      }
+      
+      return isTerminated();
+    }
+    
+    private boolean isTerminated() {
+      return shutdownFinishing && ! dispatcherRunning && runningTaskCount.get() == 0;
+    }
+    
+    @Override
+    public void handleQueueUpdate() {
+      Thread t = dispatcherThread;
+      if (t != null) {
+        LockSupport.unpark(t);
+      } else if (! shutdownFinishing && dispatcherStarted.compareAndSet(false, true)) {
+        // first task queued, if another thread won the race it will start the dispatcher
+        t = dispatcherThreadFactory.newThread(this);
+        dispatcherRunning = true;
+        dispatcherThread = t;
+        t.start();
+      }
+    }
+    
+    private void unparkDispatcher() {
+      Thread t = dispatcherThread;
+      if (t != null) {
+        LockSupport.unpark(t);
+      }
+    }
+    
+    @Override
+    public void run() {
+      try {
+        while (! shutdownFinishing) {
+          waitForCapacity();
+          TaskWrapper nextTask = queueManager.getNextTask();
+          if (nextTask == null) {
+            Thread.interrupted(); // reset interrupted status before we block
+            LockSupport.park();
+            continue;
+          }
+          // must get executeReference before time is checked
+          short executeReference = nextTask.getExecuteReference();
+          long taskDelay = nextTask.getScheduleDelayNanos();
+          if (taskDelay > 0) {
+            if (taskDelay == Long.MAX_VALUE) {
+              // recurring task is being claimed concurrently, it will be out of the queue shortly
+              Thread.yield();
+            } else {
+              Thread.interrupted(); // reset interrupted status before we block
+              LockSupport.parkNanos(taskDelay);
+            }
+          } else if (nextTask.canExecute(executeReference)) {
+            queueManager.taskClaimed(nextTask);
+            if (nextTask.task instanceof InternalRunnable) {
+              // internal tasks (like finishing shutdown) are quick, and must not be lost
+              nextTask.runTask();
+            } else {
+              dispatch(nextTask);
+            }
+          }
+        }
+      } finally {
+        dispatcherRunning = false;
+        synchronized (terminationLock) {
+          terminationLock.notifyAll();
+        }
+      }
+    }
+    
+    /**
+     * Starts a new thread from the task thread factory to run the provided task.  If the thread 
+     * can not be created or started the failure is provided to 
+     * {@link ExceptionUtils#handleException(Throwable)} and the task will not run.
+     * 
+     * @param task Task which is ready for immediate execution
+     */
+    protected void dispatch(TaskWrapper task) {
+      runningTaskCount.incrementAndGet();
+      try {
+        taskThreadFactory.newThread(() -> {
+          try {
+            task.runTask();
+          } finally {
+            taskThreadFinished();
+          }
+        }).start();
+      } catch (Throwable t) {
+        taskThreadFinished();
+        ExceptionUtils.handleException(t);
+      }
+    }
+    
+    /**
+     * Invoked by the dispatcher before it accepts another task.  This will block until the 
+     * quantity of running tasks is below the max concurrency, or until shutdown has finished.
+     */
+    protected void waitForCapacity() {
+      while (runningTaskCount.get() >= maxConcurrency && ! shutdownFinishing) {
+        dispatcherWaiting = true;
+        // check again after setting the flag so that a finishing task can not be missed
+        if (runningTaskCount.get() >= maxConcurrency && ! shutdownFinishing) {
+          Thread.interrupted(); // reset interrupted status before we block
+          LockSupport.park();
+        }
+        dispatcherWaiting = false;
+      }
+    }
+    
+    private void taskThreadFinished() {
+      int runningCount = runningTaskCount.decrementAndGet();
+      if (dispatcherWaiting) {
+        unparkDispatcher();
+      }
+      if (runningCount == 0 && shutdownFinishing) {
+        synchronized (terminationLock) {
+          terminationLock.notifyAll();
+        }
+      }
+    }
+  }
+}
@@ -149,8 +149,8 @@ public class ThreadlyInternalAccessor {
 
     @Override
     public long getDelay(TimeUnit unit) {
-      return unit.convert(task.getRunTime() - Clock.accurateForwardProgressingMillis(), 
-                          TimeUnit.MILLISECONDS);
+      return unit.convert(task.getRunTimeNanos() - Clock.accurateForwardProgressingNanos(), 
+                          TimeUnit.NANOSECONDS);
     }
     
     @Override
@@ -158,10 +158,10 @@ public class ThreadlyInternalAccessor {
       if (this == o) {
         return 0;
       } else if (o instanceof DelayedTaskWrapper) {
-        return (int)(task.getRunTime() - ((DelayedTaskWrapper)o).task.getRunTime());
+        return Long.compare(task.getRunTimeNanos(), ((DelayedTaskWrapper)o).task.getRunTimeNanos());
       } else {
-        long thisDelay = this.getDelay(TimeUnit.MILLISECONDS);
-        long otherDelay = o.getDelay(TimeUnit.MILLISECONDS);
+        long thisDelay = this.getDelay(TimeUnit.NANOSECONDS);
+        long otherDelay = o.getDelay(TimeUnit.NANOSECONDS);
         if (thisDelay == otherDelay) {
           return 0;
         } else if (thisDelay > otherDelay) {
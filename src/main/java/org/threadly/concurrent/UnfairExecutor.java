@@ -4,17 +4,25 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.LockSupport;
 
+import org.threadly.concurrent.collections.ConcurrentSingleConsumerQueue;
+import org.threadly.concurrent.future.ListenableFuture;
+import org.threadly.concurrent.future.ListenableFutureTask;
 import org.threadly.util.AbstractService;
 import org.threadly.util.ArgumentVerifier;
 import org.threadly.util.Clock;
 import org.threadly.util.ExceptionUtils;
+import org.threadly.util.ReferenceCleaner;
 
 /**
  * A very high performance {@link SubmitterExecutor} implementation.  Though to get those 
@@ -28,6 +36,18 @@ import org.threadly.util.ExceptionUtils;
  * couple built in distribution solutions are {@link TaskHashXorTimeStripeGenerator} (default) and 
  * {@link AtomicStripeGenerator}.
  * <p>
+ * Each thread queue is a bounded ring buffer which is allocated when the executor is constructed, 
+ * so queuing a task does not require any allocation.  If a thread queue is full the provided 
+ * {@link OverflowPolicy} determines how the task is handled.  Once a thread's own queue is empty 
+ * it will attempt to steal tasks from randomly selected other threads, preferring the one with 
+ * the most tasks queued.  This helps keep threads busy when the stripe distribution is skewed. 
+ * <p>
+ * If tasks need to execute serially in the order they were submitted, they can be provided with a 
+ * key using {@link #execute(Object, Runnable)} or {@link #getExecutorForKey(Object)}.  Each key is 
+ * pinned to a single thread based off its hash code, and tasks submitted with a key will never be 
+ * stolen by other threads.  This provides the same guarantees as 
+ * {@link org.threadly.concurrent.wrapper.KeyDistributedExecutor}, but without any per-key state. 
+ * <p>
  * This scheduler will work best when the following conditions are true.  First because a long 
  * running task can block other tasks from running (even when other threads are idle).  It is best 
  * that tasks should be equally sized.  We also recommend having thread counts which are prime 
@@ -125,9 +145,42 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
     }
   }
   
+  /**
+   * Policy for how a task should be handled when the queue for the thread it was distributed to 
+   * is full.
+   * 
+   * @since 5.33
+   */
+  public enum OverflowPolicy {
+    /**
+     * Reject the task by throwing a {@link RejectedExecutionException}.
+     */
+    Reject, 
+    /**
+     * Add the task to an unbounded queue which is shared by all threads.  Threads will check the 
+     * shared queue once their own queue is empty.  This is the default policy, and like a pool 
+     * with unbounded queues tasks will never be rejected due to the queue size.
+     */
+    SpillToSharedQueue, 
+    /**
+     * Run the task on the thread which submitted it.  This provides back pressure by slowing the 
+     * submitting thread until the pool has caught up.
+     */
+    CallerRuns
+  }
+  
+  /**
+   * The default quantity of tasks which may be queued for each thread.
+   * 
+   * @since 5.33
+   */
+  public static final int DEFAULT_WORKER_QUEUE_SIZE = 1024;
+  
   protected final Worker[] schedulers;
+  protected final Queue<Runnable> overflowQueue;
   private final AtomicBoolean shutdownStarted;
   private final TaskStripeGenerator stripeGenerator;
+  private final OverflowPolicy overflowPolicy;
   
   /**
    * Constructs a new {@link UnfairExecutor} with a provided thread count.  This defaults to using 
@@ -205,15 +258,47 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
    */
   public UnfairExecutor(int threadCount, ThreadFactory threadFactory, 
                         TaskStripeGenerator stripeGenerator) {
+    this(threadCount, threadFactory, stripeGenerator, 
+         DEFAULT_WORKER_QUEUE_SIZE, OverflowPolicy.SpillToSharedQueue);
+  }
+  
+  /**
+   * Constructs a new {@link UnfairExecutor} with a provided thread count, factory, and thread 
+   * queue configuration.  Each thread will have a queue which can hold {@code workerQueueSize} 
+   * tasks (rounded up to the next power of two, with a minimum of two).  These queues are 
+   * allocated up front, so a larger queue size will retain more memory even when the executor is 
+   * idle. 
+   * <p>
+   * Possible built in stripe generators for use would be {@link AtomicStripeGenerator} or 
+   * {@link TaskHashXorTimeStripeGenerator}.
+   * 
+   * @since 5.33
+   * @param threadCount Number of threads, recommended to be a prime number
+   * @param threadFactory thread factory for producing new threads within executor
+   * @param stripeGenerator Generator for figuring out how a task is assigned to a thread
+   * @param workerQueueSize Maximum quantity of tasks queued for each thread
+   * @param overflowPolicy Policy for handling tasks submitted when a thread queue is full
+   */
+  public UnfairExecutor(int threadCount, ThreadFactory threadFactory, 
+                        TaskStripeGenerator stripeGenerator, 
+                        int workerQueueSize, OverflowPolicy overflowPolicy) {
     ArgumentVerifier.assertGreaterThanZero(threadCount, "threadCount");
     ArgumentVerifier.assertNotNull(stripeGenerator, "stripeGenerator");
+    ArgumentVerifier.assertGreaterThanZero(workerQueueSize, "workerQueueSize");
+    ArgumentVerifier.assertNotNull(overflowPolicy, "overflowPolicy");
     
     this.schedulers = new Worker[threadCount];
+    if (overflowPolicy == OverflowPolicy.SpillToSharedQueue) {
+      this.overflowQueue = new ConcurrentLinkedQueue<>();
+    } else {
+      this.overflowQueue = null;
+    }
     this.shutdownStarted = new AtomicBoolean(false);
     this.stripeGenerator = stripeGenerator;
+    this.overflowPolicy = overflowPolicy;
     
     for (int i = 0; i < threadCount; i++) {
-      schedulers[i] = new Worker(threadFactory);
+      schedulers[i] = new Worker(threadFactory, schedulers, workerQueueSize, overflowQueue);
       if (i > 0) {
         schedulers[i].setNeighborWorker(schedulers[i - 1]);
       }
@@ -233,6 +318,11 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
       }
     });
     firstWorker.start();
+    
+    // shutdown once GC'ed so that the worker threads can also be GC'ed
+    AtomicBoolean shutdownStarted = this.shutdownStarted;
+    Worker[] workers = schedulers;
+    ReferenceCleaner.register(this, () -> shutdown(shutdownStarted, workers));
   }
   
   @Override
@@ -241,9 +331,129 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
       throw new RejectedExecutionException("Pool is shutdown");
     }
     
-    schedulers[(int)Math.floorMod(stripeGenerator.getStripe(task), schedulers.length)].addTask(task);
+    Worker w = schedulers[(int)Math.floorMod(stripeGenerator.getStripe(task), schedulers.length)];
+    if (! w.addTask(task)) {
+      switch (overflowPolicy) {
+        case SpillToSharedQueue:
+          overflowQueue.add(task);
+          // the worker the task was distributed to is backed up, so wake any idle worker to help
+          for (Worker idleWorker : schedulers) {
+            if (idleWorker.wakeupIfParked()) {
+              break;
+            }
+          }
+          break;
+        case CallerRuns:
+          try {
+            task.run();
+          } catch (Throwable t) {
+            ExceptionUtils.handleException(t);
+          }
+          break;
+        case Reject:
+        default:
+          throw new RejectedExecutionException("Worker queue is full");
+      }
+    }
   }
 
+  /**
+   * Returns a {@link SubmitterExecutor} implementation where all tasks submitted on this executor 
+   * will run serially on the thread the provided key is pinned to.
+   * 
+   * @since 5.33
+   * @param threadKey object key where {@code hashCode()} will be used to determine execution thread
+   * @return executor which will only execute based on the provided key
+   */
+  public SubmitterExecutor getExecutorForKey(Object threadKey) {
+    ArgumentVerifier.assertNotNull(threadKey, "threadKey");
+    
+    return new KeySubmitter(threadKey);
+  }
+  
+  /**
+   * Provide a task to be run with a given thread key.  All tasks provided with keys that have the 
+   * same hash code will run serially on the same thread, in the order they were submitted.  These 
+   * tasks will not be stolen by other threads, even if their thread is busy. 
+   * <p>
+   * Unlike tasks provided without a key, tasks queued for a key are not bounded by the worker 
+   * queue size, and so the {@link OverflowPolicy} does not apply to them.
+   * 
+   * @since 5.33
+   * @param threadKey object key where {@code hashCode()} will be used to determine execution thread
+   * @param task Task to be executed
+   */
+  public void execute(Object threadKey, Runnable task) {
+    ArgumentVerifier.assertNotNull(threadKey, "threadKey");
+    ArgumentVerifier.assertNotNull(task, "task");
+    
+    doExecute(threadKey, task);
+  }
+  
+  /**
+   * Submit a task to be run with a given thread key.  See {@link #execute(Object, Runnable)} for 
+   * details about how tasks with a key are executed.
+   * 
+   * @since 5.33
+   * @param threadKey object key where {@code hashCode()} will be used to determine execution thread
+   * @param task Task to be executed
+   * @return Future to represent when the execution has occurred
+   */
+  public ListenableFuture<?> submit(Object threadKey, Runnable task) {
+    return submit(threadKey, task, null);
+  }
+  
+  /**
+   * Submit a task to be run with a given thread key.  See {@link #execute(Object, Runnable)} for 
+   * details about how tasks with a key are executed.
+   * 
+   * @since 5.33
+   * @param <T> type of result returned from the future
+   * @param threadKey object key where {@code hashCode()} will be used to determine execution thread
+   * @param task Runnable to be executed
+   * @param result Result to be returned from future when task completes
+   * @return Future to represent when the execution has occurred and provide the given result
+   */
+  public <T> ListenableFuture<T> submit(Object threadKey, Runnable task, T result) {
+    return submit(threadKey, RunnableCallableAdapter.adapt(task, result));
+  }
+  
+  /**
+   * Submit a callable to be run with a given thread key.  See {@link #execute(Object, Runnable)} 
+   * for details about how tasks with a key are executed.
+   * 
+   * @since 5.33
+   * @param <T> type of result returned from the future
+   * @param threadKey object key where {@code hashCode()} will be used to determine execution thread
+   * @param task Callable to be executed
+   * @return Future to represent when the execution has occurred and provide the result from the callable
+   */
+  public <T> ListenableFuture<T> submit(Object threadKey, Callable<T> task) {
+    ArgumentVerifier.assertNotNull(threadKey, "threadKey");
+    ArgumentVerifier.assertNotNull(task, "task");
+    
+    ListenableFutureTask<T> lft = new ListenableFutureTask<>(false, task, this);
+    
+    doExecute(threadKey, lft);
+    
+    return lft;
+  }
+  
+  /**
+   * Add a task to the worker the key is pinned to.  No safety checks are done at this point, so 
+   * only provide non-null inputs.
+   * 
+   * @param threadKey object key where {@code hashCode()} will be used to determine execution thread
+   * @param task Task to be executed
+   */
+  protected void doExecute(Object threadKey, Runnable task) {
+    if (shutdownStarted.get()) {
+      throw new RejectedExecutionException("Pool is shutdown");
+    }
+    
+    schedulers[Math.floorMod(threadKey.hashCode(), schedulers.length)].addPinnedTask(task);
+  }
+  
   /**
    * Function to check if the thread pool is currently accepting and handling tasks.
    * 
@@ -263,9 +473,20 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
    * If you wish to not want to run any queued tasks you should use {@link #shutdownNow()}.
    */
   public void shutdown() {
+    shutdown(shutdownStarted, schedulers);
+  }
+  
+  /**
+   * Requests the workers to shutdown if shutdown has not already been started.  This is static 
+   * so that it can be invoked once the executor has been garbage collected.
+   * 
+   * @param shutdownStarted Shutdown state of the executor
+   * @param workers Workers to request shutdown on
+   */
+  private static void shutdown(AtomicBoolean shutdownStarted, Worker[] workers) {
     if (shutdownStarted.compareAndSet(false, true)) {
-      for (Worker w : schedulers) {
-        w.addTask(new ShutdownTask(w));
+      for (Worker w : workers) {
+        w.requestShutdown();
       }
     }
   }
@@ -283,13 +504,19 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
     List<Runnable> result = new ArrayList<>();
     for (Worker w : schedulers) {
       w.stopIfRunning();
-      Iterator<Runnable> it = w.taskQueue.iterator();
+      Runnable task;
+      while ((task = w.taskQueue.poll()) != null) {
+        result.add(task);
+      }
+      while ((task = w.pinnedTaskQueue.poll()) != null) {
+        result.add(task);
+      }
+    }
+    if (overflowQueue != null) {
+      Iterator<Runnable> it = overflowQueue.iterator();
       while (it.hasNext()) {
-        Runnable task = it.next();
+        result.add(it.next());
         it.remove();
-        if (! (task instanceof ShutdownTask)) {
-          result.add(task);
-        }
       }
     }
     return result;
@@ -330,33 +557,54 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
     return true;
   }
   
-  @Override
-  protected void finalize() throws Throwable {
-    shutdown();
-    super.finalize();
-  }
-  
   /**
    * Worker task for executing tasks on the provided thread.  This worker maintains an internal 
-   * queue for which tasks can be added on.  It will park itself once idle, and resume if tasks 
-   * are later then added.
+   * bounded queue for which tasks can be added on, as well as an unbounded queue for tasks pinned 
+   * to this worker.  Once its own queues are empty it will check the shared overflow queue (if one 
+   * is provided), and then attempt to steal tasks from other workers.  Pinned tasks are never 
+   * stolen.  It will park itself once idle, and resume if tasks are later then added.
    * 
    * @since 4.5.0
    */
   protected static class Worker extends AbstractService implements Runnable {
+    // quantity of random workers to inspect when looking for a worker to steal from
+    protected static final int STEAL_VICTIM_SAMPLE_SIZE = 2;
+    
     protected final Thread thread;
-    protected final Queue<Runnable> taskQueue;
+    protected final TaskRingBuffer taskQueue;
+    protected final Queue<Runnable> pinnedTaskQueue;
+    protected final Queue<Runnable> overflowQueue;
+    private final Worker[] workers;
     private volatile boolean parked;
+    private volatile boolean shutdownRequested;
+    // alternate which queue is checked first so neither can starve the other
+    private boolean checkPinnedFirst;
     private Worker checkNeighborWorker;
     private Worker wakupNeighborWorker;
     
-    public Worker(ThreadFactory threadFactory) {
+    /**
+     * Construct a new worker.  The provided worker array may be populated after construction, but 
+     * must be fully populated before the worker is started.
+     * 
+     * @param threadFactory Factory to construct the thread for the worker
+     * @param workers All workers in the pool, which may be stolen from when idle
+     * @param queueSize Maximum quantity of tasks which can be queued for this worker
+     * @param overflowQueue Queue shared by all workers to check once idle, or {@code null}
+     */
+    public Worker(ThreadFactory threadFactory, Worker[] workers, 
+                  int queueSize, Queue<Runnable> overflowQueue) {
       thread = threadFactory.newThread(this);
       if (thread.isAlive()) {
         throw new IllegalThreadStateException();
       }
-      taskQueue = new ConcurrentLinkedQueue<>();
+      this.taskQueue = new TaskRingBuffer(queueSize);
+      // only this worker consumes pinned tasks
+      this.pinnedTaskQueue = new ConcurrentSingleConsumerQueue<>();
+      this.overflowQueue = overflowQueue;
+      this.workers = workers;
       parked = false;
+      shutdownRequested = false;
+      checkPinnedFirst = false;
     }
     
     /**
@@ -382,8 +630,41 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
       LockSupport.unpark(thread);
     }
     
-    public void addTask(Runnable task) {
-      taskQueue.add(task);
+    /**
+     * Request that this worker stop once it has run all tasks in its queue, as well as any in the 
+     * shared overflow queue.
+     */
+    protected void requestShutdown() {
+      shutdownRequested = true;
+      parked = false;
+      LockSupport.unpark(thread);
+    }
+    
+    /**
+     * Unpark this worker if it is currently idle.
+     * 
+     * @return {@code true} if the worker was parked and has been woken up
+     */
+    protected boolean wakeupIfParked() {
+      if (parked) {
+        parked = false;
+        LockSupport.unpark(thread);
+        return true;
+      } else {
+        return false;
+      }
+    }
+    
+    /**
+     * Attempt to add a task into this worker's queue.
+     * 
+     * @param task Task to be executed
+     * @return {@code true} if the task was queued, {@code false} if the queue is full
+     */
+    public boolean addTask(Runnable task) {
+      if (! taskQueue.offer(task)) {
+        return false;
+      }
       if (parked) {
         parked = false;
         LockSupport.unpark(thread);
@@ -391,12 +672,75 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
         wakupNeighborWorker.parked = false;
         LockSupport.unpark(wakupNeighborWorker.thread);
       }
+      return true;
+    }
+    
+    /**
+     * Add a task which must be executed by this worker.  Unlike {@link #addTask(Runnable)} this 
+     * will never fail due to the queue being full.
+     * 
+     * @param task Task to be executed
+     */
+    public void addPinnedTask(Runnable task) {
+      pinnedTaskQueue.add(task);
+      // other workers can't help with pinned tasks, so there is no reason to wake our neighbor
+      if (parked) {
+        parked = false;
+        LockSupport.unpark(thread);
+      }
+    }
+    
+    /**
+     * Attempt to take a task from another worker.  A couple randomly selected workers are 
+     * inspected, and a task is taken from whichever has the most tasks queued.  If that fails our 
+     * neighbor worker is checked, since it will wake us if it gets a task while it is busy.
+     * 
+     * @return A task to run, or {@code null} if none could be found
+     */
+    protected Runnable stealTask() {
+      if (workers.length > 2) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Worker victim = null;
+        int victimQueueSize = 0;
+        for (int i = 0; i < STEAL_VICTIM_SAMPLE_SIZE; i++) {
+          Worker w = workers[random.nextInt(workers.length)];
+          if (w != this) {
+            int queueSize = w.taskQueue.size();
+            if (queueSize > victimQueueSize) {
+              victim = w;
+              victimQueueSize = queueSize;
+            }
+          }
+        }
+        if (victim != null) {
+          Runnable task = victim.taskQueue.poll();
+          if (task != null) {
+            return task;
+          }
+        }
+      }
+      return checkNeighborWorker.taskQueue.poll();
     }
     
     @Override
     public void run() {
       while (isRunning()) {
-        Runnable task = taskQueue.poll();
+        Runnable task;
+        if (checkPinnedFirst) {
+          task = pinnedTaskQueue.poll();
+          if (task == null) {
+            task = taskQueue.poll();
+          }
+        } else {
+          task = taskQueue.poll();
+          if (task == null) {
+            task = pinnedTaskQueue.poll();
+          }
+        }
+        checkPinnedFirst = ! checkPinnedFirst;
+        if (task == null && overflowQueue != null) {
+          task = overflowQueue.poll();
+        }
         // just reset status, we should only shutdown by having the service stopped
         Thread.interrupted();
         if (task != null) {
@@ -408,9 +752,11 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
           } catch (Throwable t) {
             ExceptionUtils.handleException(t);
           }
+        } else if (shutdownRequested) {
+          stopIfRunning();
         } else if (! parked) {
-          // check neighbor worker to see if they need help
-          task = checkNeighborWorker.taskQueue.poll();
+          // check other workers to see if they need help
+          task = stealTask();
           if (task != null) {
             try {
               task.run();
@@ -428,21 +774,137 @@ public class UnfairExecutor extends AbstractSubmitterExecutor {
   }
   
   /**
-   * Task for shutting down worker thread.  Used in {@link #shutdown()}.
+   * Simple {@link SubmitterExecutor} implementation which runs all provided tasks with a single 
+   * key.
    * 
-   * @since 4.5.0
+   * @since 5.33
    */
-  private static class ShutdownTask implements Runnable {
-    private final Worker w;
+  protected class KeySubmitter extends AbstractSubmitterExecutor {
+    protected final Object threadKey;
     
-    public ShutdownTask(Worker w) {
-      this.w = w;
+    protected KeySubmitter(Object threadKey) {
+      this.threadKey = threadKey;
     }
     
     @Override
-    public void run() {
-      w.stopIfRunning();
-      w.taskQueue.clear();
+    protected void doExecute(Runnable task) {
+      UnfairExecutor.this.doExecute(threadKey, task);
+    }
+  }
+  
+  /**
+   * Bounded queue of tasks which is allocated up front.  This is safe for many producing threads 
+   * as well as many consuming threads, allowing other workers to steal from it.  Each slot has a 
+   * sequence number which indicates if it is ready to be written to or read from, so that 
+   * producers and consumers only need a single compare and swap to claim a slot.
+   * 
+   * @since 5.33
+   */
+  protected static class TaskRingBuffer {
+    private final int mask;
+    private final AtomicReferenceArray<Runnable> tasks;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition;
+    private final AtomicLong consumerPosition;
+    
+    /**
+     * Construct a new ring buffer.
+     * 
+     * @param minimumCapacity Capacity of the buffer, will be rounded up to a power of two
+     */
+    protected TaskRingBuffer(int minimumCapacity) {
+      // a capacity of at least two is needed so that slot sequences for full and empty differ
+      int capacity = minimumCapacity <= 2 ? 2 : Integer.highestOneBit(minimumCapacity - 1) << 1;
+      this.mask = capacity - 1;
+      this.tasks = new AtomicReferenceArray<>(capacity);
+      this.sequences = new AtomicLongArray(capacity);
+      for (int i = 0; i < capacity; i++) {
+        sequences.lazySet(i, i);
+      }
+      this.producerPosition = new AtomicLong(0);
+      this.consumerPosition = new AtomicLong(0);
+    }
+    
+    /**
+     * Check the maximum quantity of tasks this buffer can hold.
+     * 
+     * @return Capacity of the buffer
+     */
+    public int getCapacity() {
+      return mask + 1;
+    }
+    
+    /**
+     * Attempt to add a task to the buffer.
+     * 
+     * @param task Task to add
+     * @return {@code true} if the task was added, {@code false} if the buffer is full
+     */
+    public boolean offer(Runnable task) {
+      long position = producerPosition.get();
+      while (true) {
+        int index = (int)position & mask;
+        long delta = sequences.get(index) - position;
+        if (delta == 0) {
+          if (producerPosition.compareAndSet(position, position + 1)) {
+            tasks.lazySet(index, task);
+            // publish the task to consumers
+            sequences.lazySet(index, position + 1);
+            return true;
+          }
+          position = producerPosition.get();
+        } else if (delta < 0) {
+          // slot from the previous lap has not been consumed yet
+          return false;
+        } else {
+          position = producerPosition.get();
+        }
+      }
+    }
+    
+    /**
+     * Remove the oldest task from the buffer.
+     * 
+     * @return The task removed, or {@code null} if the buffer is empty
+     */
+    public Runnable poll() {
+      long position = consumerPosition.get();
+      while (true) {
+        int index = (int)position & mask;
+        long delta = sequences.get(index) - (position + 1);
+        if (delta == 0) {
+          if (consumerPosition.compareAndSet(position, position + 1)) {
+            Runnable result = tasks.get(index);
+            tasks.lazySet(index, null);
+            // release the slot to producers on the next lap
+            sequences.lazySet(index, position + mask + 1);
+            return result;
+          }
+          position = consumerPosition.get();
+        } else if (delta < 0) {
+          // slot has not been published yet
+          return null;
+        } else {
+          position = consumerPosition.get();
+        }
+      }
+    }
+    
+    /**
+     * Check approximately how many tasks are queued.  This may be inaccurate if tasks are being 
+     * concurrently added or removed.
+     * 
+     * @return Quantity of tasks queued
+     */
+    public int size() {
+      long size = producerPosition.get() - consumerPosition.get();
+      if (size < 0) {
+        return 0;
+      } else if (size > mask + 1) {
+        return mask + 1;
+      } else {
+        return (int)size;
+      }
     }
   }
 }
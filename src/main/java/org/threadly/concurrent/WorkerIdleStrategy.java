@@ -0,0 +1,59 @@
+package org.threadly.concurrent;
+
+/**
+ * Strategy for how an idle worker thread in a {@link PriorityScheduler} should wait for a task 
+ * to become available.  Parking a thread is cheap while it waits, but waking it requires an 
+ * unpark (and likely an OS level context switch) for each task.  For bursty workloads of very 
+ * short tasks it can be cheaper for a worker to briefly spin while idle, checking the queues for 
+ * a new task before it finally parks. 
+ * <p>
+ * While a worker is spinning, submitting a task will not wake another worker.  Instead the 
+ * spinning worker is expected to take the task, and then wake another worker if more tasks remain.
+ * 
+ * @since 5.33
+ */
+public enum WorkerIdleStrategy {
+  /**
+   * Idle workers park immediately, this is the default behavior.
+   */
+  Park(0, 0),
+  /**
+   * Idle workers will busy spin checking for tasks a bounded number of times before parking. 
+   * This provides the lowest latency hand-off but will consume CPU while the worker spins.
+   */
+  Spin(128, 0),
+  /**
+   * Idle workers will busy spin checking for tasks a small number of times, then back off by 
+   * yielding the thread between checks, before finally parking.
+   */
+  SpinYieldPark(32, 32);
+  
+  private final int spinCount;
+  private final int maxIdleChecks;
+  
+  private WorkerIdleStrategy(int spinCount, int yieldCount) {
+    this.spinCount = spinCount;
+    this.maxIdleChecks = spinCount + yieldCount;
+  }
+  
+  /**
+   * Check how many times an idle worker may check the queues before it must park.
+   * 
+   * @return Quantity of checks before parking, {@code 0} to park immediately
+   */
+  int getMaxIdleChecks() {
+    return maxIdleChecks;
+  }
+  
+  /**
+   * Invoked between idle queue checks, backing the worker off as appropriate.
+   * 
+   * @param idleCheck Quantity of idle checks which have already been done
+   */
+  void idle(int idleCheck) {
+    // Thread.onSpinWait() would be used for spinning checks, but it is not available in java 8
+    if (idleCheck >= spinCount) {
+      Thread.yield();
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.threadly.concurrent.collections;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
@@ -8,6 +9,8 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.threadly.util.ArgumentVerifier;
 
@@ -189,6 +192,72 @@ public class ConcurrentArrayList<T> implements List<T>, Deque<T>, RandomAccess {
       currentData = currentData.trimToSize();
     }
   }
+  
+  /**
+   * Applies a batch of modifications to this list, publishing them as a single update.  The 
+   * provided mutator is given a private, mutable copy of the current list contents.  Once the 
+   * mutator returns, if that copy was modified it becomes the new contents of this list.  Readers 
+   * will either see the list before all the modifications, or after all of them, never a partial 
+   * state. 
+   * <p>
+   * Because the copy is a plain array list, a series of inserts or removals within the batch only 
+   * shift elements in place, rather than producing a new immutable array for each one.  This can 
+   * make many modifications (particularly to the middle of the list) much cheaper than invoking 
+   * each operation on this list directly.  The modification lock is held while the mutator runs, 
+   * so it should be quick, and it must NOT modify this list directly (those changes would be 
+   * overwritten).  If the mutator throws, no changes are published.
+   * 
+   * @since 5.33
+   * @param mutator Consumer to apply modifications to a working copy of the list
+   * @throws IllegalArgumentException Thrown if the mutator leaves a {@code null} in the list
+   */
+  public void mutate(Consumer<? super List<T>> mutator) {
+    ArgumentVerifier.assertNotNull(mutator, "mutator");
+    
+    mutateAndGet((list) -> {
+      mutator.accept(list);
+      return null;
+    });
+  }
+  
+  /**
+   * Applies a batch of modifications to this list, publishing them as a single update, then 
+   * returns a result computed by the mutator.  This is useful when information from the working 
+   * copy is needed after the update (for example the index an item was inserted at).  See 
+   * {@link #mutate(Consumer)} for details about how the modifications are applied.
+   * 
+   * @since 5.33
+   * @param <R> Type of result returned from the mutator
+   * @param mutator Function to apply modifications to a working copy of the list
+   * @return The result returned from the mutator
+   * @throws IllegalArgumentException Thrown if the mutator leaves a {@code null} in the list
+   */
+  public <R> R mutateAndGet(Function<? super List<T>, ? extends R> mutator) {
+    ArgumentVerifier.assertNotNull(mutator, "mutator");
+    
+    synchronized (modificationLock) {
+      DataSet<T> workingSet = currentData;
+      WorkingList<T> workingList = makeWorkingList(workingSet);
+      R result = mutator.apply(workingList);
+      if (workingList.isModified()) {
+        currentData = workingList.makeDataSet(workingSet.frontPadding, workingSet.rearPadding);
+      }
+      return result;
+    }
+  }
+  
+  /**
+   * Constructs the mutable copy provided to the mutator in {@link #mutateAndGet(Function)}.  
+   * Extending classes can override this to provide a {@link WorkingList} which maintains their 
+   * own invariants.
+   * 
+   * @since 5.33
+   * @param dataSet Current data to copy into the working list
+   * @return A new working list containing the contents of the provided data set
+   */
+  protected WorkingList<T> makeWorkingList(DataSet<T> dataSet) {
+    return new WorkingList<>(dataSet);
+  }
 
   @Override
   public int size() {
@@ -915,6 +984,74 @@ public class ConcurrentArrayList<T> implements List<T>, Deque<T>, RandomAccess {
     }
   }
   
+  /**
+   * Mutable copy of a {@link DataSet} provided to {@link #mutateAndGet(Function)}.  This tracks 
+   * if any structural modification was made so that an unmodified copy does not need to be 
+   * published.
+   * 
+   * @since 5.33
+   * @param <T> type of object that is held
+   */
+  protected static class WorkingList<T> extends ArrayList<T> {
+    private static final long serialVersionUID = -2826431632286346549L;
+    
+    private final int initialModCount;
+    private boolean itemSet;
+    
+    @SuppressWarnings("unchecked")
+    protected WorkingList(DataSet<T> dataSet) {
+      super(dataSet.size);
+      
+      for (int i = dataSet.dataStartIndex; i < dataSet.dataEndIndex; i++) {
+        super.add((T)dataSet.dataArray[i]);
+      }
+      initialModCount = modCount;
+      itemSet = false;
+    }
+    
+    @Override
+    public T set(int index, T element) {
+      // set does not increment the mod count, so must be tracked separately
+      itemSet = true;
+      return super.set(index, element);
+    }
+    
+    /**
+     * Check if this list has been modified since it was copied from the {@link DataSet}.
+     * 
+     * @return {@code true} if the list was modified
+     */
+    protected boolean isModified() {
+      return itemSet || modCount != initialModCount;
+    }
+    
+    /**
+     * Constructs a new {@link DataSet} containing the current contents of this list.
+     * 
+     * @param frontPadding Padding to add to the front of the new array
+     * @param rearPadding Padding to add to the rear of the new array
+     * @return New {@link DataSet} to be published
+     * @throws IllegalArgumentException Thrown if a {@code null} is contained in the list
+     */
+    protected DataSet<T> makeDataSet(int frontPadding, int rearPadding) {
+      int size = size();
+      if (size == 0) {
+        return makeEmptyDataSet(frontPadding, rearPadding);
+      }
+      
+      Object[] newArray = new Object[frontPadding + size + rearPadding];
+      for (int i = 0; i < size; i++) {
+        Object item = get(i);
+        if (item == null) {
+          throw new IllegalArgumentException("Can not store null values");
+        }
+        newArray[frontPadding + i] = item;
+      }
+      
+      return new DataSet<>(newArray, frontPadding, rearPadding);
+    }
+  }
+  
   /**
    * This is designed to be an immutable version of the list.  Modifiable actions will return a 
    * new instance that is based off this one.  Because the array may change in areas outside of 
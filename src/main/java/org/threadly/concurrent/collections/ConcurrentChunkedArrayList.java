@@ -0,0 +1,1539 @@
+package org.threadly.concurrent.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import org.threadly.util.ArgumentVerifier;
+
+/**
+ * A thread safe list implementation which stores its items in a series of fixed maximum size 
+ * array chunks.  This follows the same design as {@link ConcurrentArrayList}: reads are done 
+ * without locking against an immutable version of the data, while modifications are synchronized 
+ * and publish a new version.  The difference is in the cost of those modifications. 
+ * <p>
+ * In {@link ConcurrentArrayList} a modification to the middle of the list must copy the entire 
+ * array, making writes O(n) and impractical for lists with many thousands of items.  Here only 
+ * the chunk which contains the modified index is copied, along with the small index of chunk 
+ * references (one entry per chunk).  Adding or removing items at the head or tail of the list is 
+ * amortized constant time, since the first and last chunks have space reserved to grow into 
+ * without a copy.  The cost for this is that a random {@link #get(int)} must first binary search 
+ * to find the chunk which contains the index. 
+ * <p>
+ * The chunk size can be tuned at construction.  Larger chunks make reads cheaper and reduce the 
+ * size of the chunk index, while smaller chunks make modifications to the middle of the list 
+ * cheaper.  A chunk size near the square root of the expected list size minimizes the cost of 
+ * modifications. 
+ * <p>
+ * Like {@link ConcurrentArrayList}, this structure can not store {@code null} values, iterators 
+ * will never see updates made after they were created (and thus will never throw a 
+ * {@code ConcurrentModificationException}), and modifications to a list returned from 
+ * {@link #subList(int, int)} are independent from the source list.  Bulk operations which 
+ * modify the middle of the list (for example {@link #addAll(int, Collection)} or 
+ * {@link #removeAll(Collection)}) rebuild the entire structure in one copy.
+ * 
+ * @since 5.33
+ * @param <T> type of object to retain
+ */
+public class ConcurrentChunkedArrayList<T> implements List<T>, Deque<T>, RandomAccess {
+  /**
+   * Default maximum quantity of items held in each chunk.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 512;
+  private static final short HASH_CODE_PRIME_NUMBER = 31;
+  private static final int MIN_CHUNK_INDEX_PADDING = 4;
+  private static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
+  private static final Chunk EMPTY_CHUNK = new Chunk(EMPTY_OBJECT_ARRAY, 0, 0);
+  private static final Chunk[] EMPTY_CHUNK_ARRAY = new Chunk[0];
+  private static final long[] EMPTY_LONG_ARRAY = new long[0];
+  
+  protected static <E> ChunkSet<E> makeEmptyChunkSet(int chunkSize) {
+    ArgumentVerifier.assertGreaterThanZero(chunkSize, "chunkSize");
+    
+    return new ChunkSet<>(chunkSize, EMPTY_CHUNK, 
+                          EMPTY_CHUNK_ARRAY, EMPTY_LONG_ARRAY, 0, 0, 0, 
+                          EMPTY_CHUNK);
+  }
+  
+  protected final Object modificationLock;
+  protected volatile ChunkSet<T> currentData;
+  
+  /**
+   * Constructs a new {@link ConcurrentChunkedArrayList} with the default chunk size of 
+   * {@value #DEFAULT_CHUNK_SIZE}.
+   */
+  public ConcurrentChunkedArrayList() {
+    this(DEFAULT_CHUNK_SIZE);
+  }
+  
+  /**
+   * Constructs a new {@link ConcurrentChunkedArrayList} with a specific chunk size.  This is the 
+   * maximum quantity of items which will be copied for a single modification.
+   * 
+   * @param chunkSize Maximum quantity of items to store in each chunk
+   */
+  public ConcurrentChunkedArrayList(int chunkSize) {
+    this(null, chunkSize);
+  }
+  
+  /**
+   * Constructs a new {@link ConcurrentChunkedArrayList} with a provided lock object.  This is the 
+   * lock used to guard modifications, and is returned from {@link #getModificationLock()}.
+   * 
+   * @param modificationLock lock to synchronize on internally
+   * @param chunkSize Maximum quantity of items to store in each chunk
+   */
+  protected ConcurrentChunkedArrayList(Object modificationLock, int chunkSize) {
+    this(ConcurrentChunkedArrayList.<T>makeEmptyChunkSet(chunkSize), modificationLock);
+  }
+  
+  /**
+   * Internal constructor which provides the modification lock and the initial {@link ChunkSet}. 
+   * This is used for constructing sub-lists, but may also be useful to extending classes.
+   * 
+   * @param startSet {@link ChunkSet} to use internally
+   * @param modificationLock lock to synchronize on internally
+   */
+  protected ConcurrentChunkedArrayList(ChunkSet<T> startSet, Object modificationLock) {
+    ArgumentVerifier.assertNotNull(startSet, "startSet");
+    if (modificationLock == null) {
+      modificationLock = new Object();
+    }
+    
+    this.modificationLock = modificationLock;
+    currentData = startSet;
+  }
+  
+  /**
+   * If you want to chain multiple calls together and ensure that no threads modify the structure 
+   * during that time you can get the lock to prevent additional modifications. 
+   * <p>
+   * This lock should be synchronized on to prevent modifications.
+   * 
+   * @return lock used internally
+   */
+  public Object getModificationLock() {
+    return modificationLock;
+  }
+  
+  /**
+   * Getter for the maximum quantity of items stored in each chunk.
+   * 
+   * @return maximum quantity of items stored in each chunk
+   */
+  public int getChunkSize() {
+    return currentData.chunkSize;
+  }
+  
+  /**
+   * Returns the quantity of chunks currently used to store the items in this list.  This is 
+   * primarily useful for monitoring or testing the efficiency of the chosen chunk size.
+   * 
+   * @return quantity of chunks which contain at least one item
+   */
+  public int getChunkCount() {
+    ChunkSet<T> workingSet = currentData;
+    int result = workingSet.middleEndIndex - workingSet.middleStartIndex;
+    if (workingSet.head.size > 0) {
+      result++;
+    }
+    if (workingSet.tail.size > 0) {
+      result++;
+    }
+    return result;
+  }
+  
+  @Override
+  public int size() {
+    return currentData.size;
+  }
+  
+  @Override
+  public boolean isEmpty() {
+    return currentData.size == 0;
+  }
+  
+  @Override
+  public T get(int index) {
+    ChunkSet<T> workingSet = currentData;
+    if (index < 0 || index >= workingSet.size) {
+      throw new IndexOutOfBoundsException();
+    }
+    
+    return workingSet.get(index);
+  }
+  
+  @Override
+  public int indexOf(Object o) {
+    if (o == null) {
+      return -1;
+    }
+    
+    return currentData.indexOf(o);
+  }
+  
+  @Override
+  public int lastIndexOf(Object o) {
+    if (o == null) {
+      return -1;
+    }
+    
+    return currentData.lastIndexOf(o);
+  }
+  
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) >= 0;
+  }
+  
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    if (c == null || c.isEmpty()) {
+      return true;
+    }
+    
+    ChunkSet<T> workingSet = currentData;
+    Iterator<?> it = c.iterator();
+    while (it.hasNext()) {
+      Object o = it.next();
+      if (o == null || workingSet.indexOf(o) < 0) {
+        return false;
+      }
+    }
+    
+    return true;
+  }
+  
+  @Override
+  public Object[] toArray() {
+    return currentData.toArray();
+  }
+  
+  @Override
+  public <E> E[] toArray(E[] a) {
+    ChunkSet<T> workingSet = currentData;
+    
+    if (a.length < workingSet.size) {
+      a = Arrays.copyOf(a, workingSet.size);
+    } else if (a.length > workingSet.size) {
+      a[workingSet.size] = null;
+    }
+    workingSet.copyInto(a);
+    
+    return a;
+  }
+  
+  @Override
+  public boolean add(T e) {
+    if (e == null) {
+      return false;
+    }
+    
+    synchronized (modificationLock) {
+      currentData = currentData.addToEnd(e);
+    }
+    
+    return true;
+  }
+  
+  @Override
+  public boolean addAll(Collection<? extends T> c) {
+    if (c == null || c.isEmpty()) {
+      return false;
+    }
+    
+    Object[] toAdd = verifyNoNulls(c);
+    
+    synchronized (modificationLock) {
+      ChunkSet<T> workingSet = currentData;
+      for (Object o : toAdd) {
+        workingSet = workingSet.addToEnd(o);
+      }
+      currentData = workingSet;
+    }
+    
+    return true;
+  }
+  
+  @Override
+  public boolean addAll(int index, Collection<? extends T> c) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("Index can not be negative");
+    } else if (c == null || c.isEmpty()) {
+      return false;
+    }
+    
+    Object[] toAdd = verifyNoNulls(c);
+    
+    synchronized (modificationLock) {
+      ChunkSet<T> workingSet = currentData;
+      if (index > workingSet.size) {
+        throw new IndexOutOfBoundsException("Index is beyond the list size: " + index);
+      } else if (index == workingSet.size) {
+        for (Object o : toAdd) {
+          workingSet = workingSet.addToEnd(o);
+        }
+        currentData = workingSet;
+      } else {
+        Object[] newData = new Object[workingSet.size + toAdd.length];
+        Object[] currentArray = workingSet.toArray();
+        System.arraycopy(currentArray, 0, newData, 0, index);
+        System.arraycopy(toAdd, 0, newData, index, toAdd.length);
+        System.arraycopy(currentArray, index, 
+                         newData, index + toAdd.length, currentArray.length - index);
+        
+        currentData = ChunkSet.fromArray(newData, workingSet.chunkSize);
+      }
+    }
+    
+    return true;
+  }
+  
+  /**
+   * Copies the provided collection into an array, verifying that none of the items are 
+   * {@code null}.
+   * 
+   * @param c Collection to copy
+   * @return Array with the items from the collection
+   * @throws IllegalArgumentException Thrown if the collection contains a {@code null}
+   */
+  private static Object[] verifyNoNulls(Collection<?> c) {
+    Object[] result = c.toArray();
+    for (Object o : result) {
+      if (o == null) {
+        throw new IllegalArgumentException("Can not store null values");
+      }
+    }
+    return result;
+  }
+  
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    if (c == this) {
+      return false;
+    } else if (c == null || c.isEmpty()) {
+      if (isEmpty()) {
+        return false;
+      } else {
+        clear();
+        
+        return true;
+      }
+    }
+    
+    return filter(c, true);
+  }
+  
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    if (c == null || c.isEmpty()) {
+      return false;
+    }
+    
+    return filter(c, false);
+  }
+  
+  /**
+   * Removes items based off if they are contained in the provided collection.  The structure is 
+   * only rebuilt (and published) if at least one item was removed.
+   * 
+   * @param c Collection to check items against
+   * @param retain {@code true} to retain contained items, {@code false} to remove them
+   * @return {@code true} if the list was modified
+   */
+  private boolean filter(Collection<?> c, boolean retain) {
+    synchronized (modificationLock) {
+      ChunkSet<T> workingSet = currentData;
+      Object[] items = workingSet.toArray();
+      int resultSize = 0;
+      for (Object o : items) {
+        if (c.contains(o) == retain) {
+          items[resultSize++] = o;
+        }
+      }
+      if (resultSize == items.length) {
+        return false;
+      }
+      
+      Object[] newData = new Object[resultSize];
+      System.arraycopy(items, 0, newData, 0, resultSize);
+      currentData = ChunkSet.fromArray(newData, workingSet.chunkSize);
+      
+      return true;
+    }
+  }
+  
+  @Override
+  public void clear() {
+    synchronized (modificationLock) {
+      currentData = makeEmptyChunkSet(currentData.chunkSize);
+    }
+  }
+  
+  @Override
+  public void addFirst(T e) {
+    // nulls can't be accepted because of how we attempt to prevent array copies
+    if (e == null) {
+      throw new UnsupportedOperationException("This structure can not accept nulls");
+    }
+    
+    synchronized (modificationLock) {
+      currentData = currentData.addToFront(e);
+    }
+  }
+  
+  @Override
+  public void addLast(T e) {
+    // nulls can't be accepted because of how we attempt to prevent array copies
+    if (e == null) {
+      throw new UnsupportedOperationException("This structure can not accept nulls");
+    }
+    
+    synchronized (modificationLock) {
+      currentData = currentData.addToEnd(e);
+    }
+  }
+  
+  @Override
+  public boolean offerFirst(T e) {
+    addFirst(e);
+    
+    // this implementation has no capacity limit
+    return true;
+  }
+  
+  @Override
+  public boolean offerLast(T e) {
+    addLast(e);
+    
+    // this implementation has no capacity limit
+    return true;
+  }
+  
+  @Override
+  public T removeFirst() {
+    T result = pollFirst();
+    if (result == null) {
+      throw new NoSuchElementException();
+    }
+    
+    return result;
+  }
+  
+  @Override
+  public T removeLast() {
+    T result = pollLast();
+    if (result == null) {
+      throw new NoSuchElementException();
+    }
+    
+    return result;
+  }
+  
+  @Override
+  public T pollFirst() {
+    synchronized (modificationLock) {
+      ChunkSet<T> workingSet = currentData;
+      if (workingSet.size == 0) {
+        return null;
+      }
+      
+      currentData = workingSet.remove(0);
+      return workingSet.get(0);
+    }
+  }
+  
+  @Override
+  public T pollLast() {
+    synchronized (modificationLock) {
+      ChunkSet<T> workingSet = currentData;
+      if (workingSet.size == 0) {
+        return null;
+      }
+      
+      currentData = workingSet.remove(workingSet.size - 1);
+      return workingSet.get(workingSet.size - 1);
+    }
+  }
+  
+  @Override
+  public T getFirst() {
+    T result = peekFirst();
+    if (result == null) {
+      throw new NoSuchElementException();
+    }
+    
+    return result;
+  }
+  
+  @Override
+  public T getLast() {
+    T result = peekLast();
+    if (result == null) {
+      throw new NoSuchElementException();
+    }
+    
+    return result;
+  }
+  
+  @Override
+  public T peek() {
+    return peekFirst();
+  }
+  
+  @Override
+  public T peekFirst() {
+    ChunkSet<T> set = currentData;
+    if (set.size > 0) {
+      return set.get(0);
+    } else {
+      return null;
+    }
+  }
+  
+  @Override
+  public T peekLast() {
+    ChunkSet<T> set = currentData;
+    if (set.size > 0) {
+      return set.get(set.size - 1);
+    } else {
+      return null;
+    }
+  }
+  
+  protected boolean remove(Object o, boolean searchBackwards) {
+    if (o == null) {
+      return false;
+    }
+    
+    synchronized (modificationLock) {
+      int index;
+      if (searchBackwards) {
+        index = currentData.lastIndexOf(o);
+      } else {
+        index = currentData.indexOf(o);
+      }
+      if (index < 0) {
+        return false;
+      } else {
+        currentData = currentData.remove(index);
+        return true;
+      }
+    }
+  }
+  
+  @Override
+  public boolean removeFirstOccurrence(Object o) {
+    return remove(o, false);
+  }
+  
+  @Override
+  public boolean removeLastOccurrence(Object o) {
+    return remove(o, true);
+  }
+  
+  @Override
+  public boolean remove(Object o) {
+    return removeFirstOccurrence(o);
+  }
+  
+  @Override
+  public T remove(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("Index can not be negative");
+    }
+    
+    ChunkSet<T> originalSet;
+    synchronized (modificationLock) {
+      if (index > currentData.size - 1) {
+        throw new IndexOutOfBoundsException("Index is beyond the list max index: " + index);
+      }
+      
+      originalSet = currentData;
+      currentData = currentData.remove(index);
+    }
+    
+    return originalSet.get(index);
+  }
+  
+  @Override
+  public boolean offer(T e) {
+    return offerLast(e);
+  }
+  
+  @Override
+  public T remove() {
+    return removeFirst();
+  }
+  
+  @Override
+  public T poll() {
+    return pollFirst();
+  }
+  
+  @Override
+  public T element() {
+    return getFirst();
+  }
+  
+  @Override
+  public void push(T e) {
+    addFirst(e);
+  }
+  
+  @Override
+  public T pop() {
+    return removeFirst();
+  }
+  
+  @Override
+  public T set(int index, T element) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("Index can not be negative");
+    } else if (element == null) {
+      throw new IllegalArgumentException("Can not store null values");
+    }
+    
+    ChunkSet<T> originalSet;
+    synchronized (modificationLock) {
+      if (index > currentData.size - 1) {
+        throw new IndexOutOfBoundsException("Index is beyond the list max index: " + index);
+      }
+      
+      originalSet = currentData;
+      currentData = currentData.set(index, element);
+    }
+    
+    return originalSet.get(index);
+  }
+  
+  @Override
+  public void add(int index, T element) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("Index can not be negative");
+    } else if (element == null) {
+      throw new IllegalArgumentException("Can not store null values");
+    }
+    
+    synchronized (modificationLock) {
+      if (index > currentData.size) {
+        throw new IndexOutOfBoundsException("Index is beyond the list size: " + index);
+      }
+      
+      currentData = currentData.add(index, element);
+    }
+  }
+  
+  @Override
+  public Iterator<T> iterator() {
+    return listIterator(0);
+  }
+  
+  @Override
+  public ListIterator<T> listIterator() {
+    return listIterator(0);
+  }
+  
+  @Override
+  public ListIterator<T> listIterator(int index) {
+    return new ChunkSetListIterator(currentData, index);
+  }
+  
+  @Override
+  public Iterator<T> descendingIterator() {
+    final ListIterator<T> li = listIterator(currentData.size);
+    return new Iterator<T>() {
+      @Override
+      public boolean hasNext() {
+        return li.hasPrevious();
+      }
+      
+      @Override
+      public T next() {
+        return li.previous();
+      }
+      
+      @Override
+      public void remove() {
+        li.remove();
+      }
+    };
+  }
+  
+  /**
+   * This returns a sub list from the current list.  The returned list is a copy of the requested 
+   * range, using the same chunk size and modification lock as this list. 
+   * <p>
+   * This differers from other subList implementations in that any modifications to this list 
+   * will be treated as a completely new list, and wont ever reflect on the source list.  This is 
+   * very different from other java.util.List implementations, and should be noted carefully.
+   * 
+   * @param fromIndex start index (inclusive) for new list to include
+   * @param toIndex end index (exclusive) to be included in new list
+   * @return new independent list
+   */
+  @Override
+  public List<T> subList(int fromIndex, int toIndex) {
+    ChunkSet<T> workingData = currentData;
+    
+    if (fromIndex < 0) {
+      throw new IndexOutOfBoundsException("from index can not be negative");
+    } else if (fromIndex > workingData.size) {
+      throw new IndexOutOfBoundsException("from index must be <= size: " + workingData.size);
+    } else if (toIndex > workingData.size) {
+      throw new IndexOutOfBoundsException("to index must be <= size: " + workingData.size);
+    } else if (toIndex <= fromIndex) {
+      throw new IndexOutOfBoundsException("fromIndex must be < toIndex");
+    }
+    
+    Object[] newData = new Object[toIndex - fromIndex];
+    for (int i = 0; i < newData.length; i++) {
+      newData[i] = workingData.get(fromIndex + i);
+    }
+    
+    return new ConcurrentChunkedArrayList<>(ChunkSet.<T>fromArray(newData, workingData.chunkSize), 
+                                            modificationLock);
+  }
+  
+  @Override
+  public String toString() {
+    return currentData.toString();
+  }
+  
+  @SuppressWarnings("rawtypes")
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    } else if (o instanceof List) {
+      List list = (List)o;
+      ChunkSet<T> workingSet = currentData;
+      if (list.size() != workingSet.size) {
+        return false;
+      }
+      Iterator thisIt = new ChunkSetListIterator(workingSet, 0);
+      Iterator listIt = list.iterator();
+      while (thisIt.hasNext() && listIt.hasNext()) {
+        if (! thisIt.next().equals(listIt.next())) {
+          return false;
+        }
+      }
+      if (thisIt.hasNext() || listIt.hasNext()) {
+        return false;
+      }
+      return true;
+    } else {
+      return false;
+    }
+  }
+  
+  @Override
+  public int hashCode() {
+    return currentData.hashCode();
+  }
+  
+  /**
+   * This is an iterator implementation that is designed to iterate over a given 
+   * {@link ChunkSet}.  Modifiable actions will attempt to make changes to the parent class.
+   * 
+   * @since 5.33
+   */
+  protected class ChunkSetListIterator implements ListIterator<T> {
+    private ChunkSet<T> chunkSet;
+    private int nextIndex;
+    // cached chunk to avoid searching for the chunk of every item while iterating
+    private Chunk chunk;
+    private int chunkStartIndex;
+    private int chunkEndIndex;
+    
+    public ChunkSetListIterator(ChunkSet<T> chunkSet, int index) {
+      setChunkSet(chunkSet);
+      nextIndex = index;
+    }
+    
+    private void setChunkSet(ChunkSet<T> chunkSet) {
+      this.chunkSet = chunkSet;
+      chunk = null;
+      chunkStartIndex = 0;
+      chunkEndIndex = 0;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private T get(int index) {
+      if (index < chunkStartIndex || index >= chunkEndIndex) {
+        int ordinal = chunkSet.chunkOrdinal(index);
+        chunk = chunkSet.chunk(ordinal);
+        chunkStartIndex = chunkSet.chunkStartIndex(ordinal);
+        chunkEndIndex = chunkStartIndex + chunk.size;
+      }
+      
+      return (T)chunk.get(index - chunkStartIndex);
+    }
+    
+    @Override
+    public boolean hasNext() {
+      return nextIndex < chunkSet.size;
+    }
+    
+    @Override
+    public T next() {
+      verifyPosition();
+      
+      return get(nextIndex++);
+    }
+    
+    @Override
+    public boolean hasPrevious() {
+      return nextIndex - 1 >= 0;
+    }
+    
+    @Override
+    public T previous() {
+      nextIndex--;
+      
+      verifyPosition();
+      
+      return get(nextIndex);
+    }
+    
+    private void verifyPosition() {
+      if (nextIndex < 0 || nextIndex >= chunkSet.size) {
+        throw new NoSuchElementException();
+      }
+    }
+    
+    @Override
+    public int nextIndex() {
+      return nextIndex;
+    }
+    
+    @Override
+    public int previousIndex() {
+      return nextIndex - 1;
+    }
+    
+    @Override
+    public void remove() {
+      synchronized (modificationLock) {
+        // you can not cause concurrent modification exceptions with this implementation
+        if (currentData == chunkSet) {
+          ConcurrentChunkedArrayList.this.remove(--nextIndex);
+          
+          setChunkSet(currentData);
+        } else {
+          int globalIndex = ConcurrentChunkedArrayList.this.indexOf(get(nextIndex - 1));
+          if (globalIndex >= 0) {
+            ConcurrentChunkedArrayList.this.remove(globalIndex);
+          }
+        }
+      }
+    }
+    
+    @Override
+    public void set(T e) {
+      synchronized (modificationLock) {
+        if (currentData == chunkSet) {
+          ConcurrentChunkedArrayList.this.set(nextIndex - 1, e);
+          
+          setChunkSet(currentData);
+        } else {
+          int globalIndex = ConcurrentChunkedArrayList.this.indexOf(get(nextIndex - 1));
+          if (globalIndex >= 0) {
+            ConcurrentChunkedArrayList.this.set(globalIndex, e);
+          }
+        }
+      }
+    }
+    
+    @Override
+    public void add(T e) {
+      synchronized (modificationLock) {
+        if (currentData == chunkSet) {
+          ConcurrentChunkedArrayList.this.add(nextIndex, e);
+          
+          nextIndex++;
+          
+          setChunkSet(currentData);
+        } else {
+          int globalIndex = ConcurrentChunkedArrayList.this.indexOf(get(nextIndex - 1));
+          if (globalIndex >= 0) {
+            ConcurrentChunkedArrayList.this.add(globalIndex + 1, e);
+          }
+        }
+      }
+    }
+  }
+  
+  /**
+   * An immutable range of items within an array.  The array may be shared between multiple 
+   * chunks (or multiple versions of the same chunk).  This is safe because an array slot is only 
+   * ever written while it is still {@code null}, so a range which has been published will never 
+   * change.
+   * 
+   * @since 5.33
+   */
+  protected static class Chunk {
+    protected final Object[] dataArray;
+    protected final int dataStartIndex; // inclusive
+    protected final int dataEndIndex;   // exclusive
+    protected final int size;
+    
+    protected Chunk(Object[] dataArray, int dataStartIndex, int dataEndIndex) {
+      this.dataArray = dataArray;
+      this.dataStartIndex = dataStartIndex;
+      this.dataEndIndex = dataEndIndex;
+      this.size = dataEndIndex - dataStartIndex;
+    }
+    
+    protected Object get(int index) {
+      return dataArray[dataStartIndex + index];
+    }
+    
+    protected int indexOf(Object o) {
+      for (int i = dataStartIndex; i < dataEndIndex; i++) {
+        if (dataArray[i].equals(o)) {
+          return i - dataStartIndex;
+        }
+      }
+      
+      return -1;
+    }
+    
+    protected int lastIndexOf(Object o) {
+      for (int i = dataEndIndex - 1; i >= dataStartIndex; i--) {
+        if (dataArray[i].equals(o)) {
+          return i - dataStartIndex;
+        }
+      }
+      
+      return -1;
+    }
+    
+    /**
+     * Adds an item to the front of the chunk.  If there is not space in front of the current 
+     * range, a new array is allocated with the remaining capacity in front of the items.
+     * 
+     * @param e item to be added
+     * @param capacity length of the array to allocate if one is needed
+     * @return a new {@link Chunk} which represents the change
+     */
+    protected Chunk addToFront(Object e, int capacity) {
+      if (dataStartIndex > 0 && dataArray[dataStartIndex - 1] == null) {
+        // there is space in the current array
+        dataArray[dataStartIndex - 1] = e;
+        
+        return new Chunk(dataArray, dataStartIndex - 1, dataEndIndex);
+      } else {
+        Object[] newData = new Object[Math.max(capacity, size + 1)];
+        int newStartIndex = newData.length - size - 1;
+        newData[newStartIndex] = e;
+        System.arraycopy(dataArray, dataStartIndex, newData, newStartIndex + 1, size);
+        
+        return new Chunk(newData, newStartIndex, newData.length);
+      }
+    }
+    
+    /**
+     * Adds an item to the end of the chunk.  If there is not space after the current range, a 
+     * new array is allocated with the remaining capacity after the items.
+     * 
+     * @param e item to be added
+     * @param capacity length of the array to allocate if one is needed
+     * @return a new {@link Chunk} which represents the change
+     */
+    protected Chunk addToEnd(Object e, int capacity) {
+      if (dataEndIndex < dataArray.length && dataArray[dataEndIndex] == null) {
+        // there is space in the current array
+        dataArray[dataEndIndex] = e;
+        
+        return new Chunk(dataArray, dataStartIndex, dataEndIndex + 1);
+      } else {
+        Object[] newData = new Object[Math.max(capacity, size + 1)];
+        System.arraycopy(dataArray, dataStartIndex, newData, 0, size);
+        newData[size] = e;
+        
+        return new Chunk(newData, 0, size + 1);
+      }
+    }
+    
+    protected Chunk add(int index, Object e) {
+      Object[] newData = new Object[size + 1];
+      System.arraycopy(dataArray, dataStartIndex, newData, 0, index);
+      newData[index] = e;
+      System.arraycopy(dataArray, dataStartIndex + index, newData, index + 1, size - index);
+      
+      return new Chunk(newData, 0, newData.length);
+    }
+    
+    protected Chunk remove(int index) {
+      if (index == 0) {  // remove from front without copy
+        return new Chunk(dataArray, dataStartIndex + 1, dataEndIndex);
+      } else if (index == size - 1) {  // remove from end without copy
+        return new Chunk(dataArray, dataStartIndex, dataEndIndex - 1);
+      } else {
+        Object[] newData = new Object[size - 1];
+        System.arraycopy(dataArray, dataStartIndex, newData, 0, index);
+        System.arraycopy(dataArray, dataStartIndex + index + 1, 
+                         newData, index, size - index - 1);
+        
+        return new Chunk(newData, 0, newData.length);
+      }
+    }
+    
+    protected Chunk set(int index, Object e) {
+      Object[] newData = new Object[size];
+      System.arraycopy(dataArray, dataStartIndex, newData, 0, size);
+      newData[index] = e;
+      
+      return new Chunk(newData, 0, newData.length);
+    }
+    
+    /**
+     * Returns a chunk for a portion of this chunk's range.  No copy is necessary, the returned 
+     * chunk will share the same array.
+     * 
+     * @param fromIndex start index (inclusive) within this chunk
+     * @param toIndex end index (exclusive) within this chunk
+     * @return a new {@link Chunk} representing the requested range
+     */
+    protected Chunk subChunk(int fromIndex, int toIndex) {
+      return new Chunk(dataArray, dataStartIndex + fromIndex, dataStartIndex + toIndex);
+    }
+    
+    /**
+     * Constructs a new chunk containing the items of this chunk followed by the items of the 
+     * provided chunk.
+     * 
+     * @param next chunk with items to follow this chunk's items
+     * @return a new {@link Chunk} containing the items of both chunks
+     */
+    protected Chunk merge(Chunk next) {
+      Object[] newData = new Object[size + next.size];
+      System.arraycopy(dataArray, dataStartIndex, newData, 0, size);
+      System.arraycopy(next.dataArray, next.dataStartIndex, newData, size, next.size);
+      
+      return new Chunk(newData, 0, newData.length);
+    }
+  }
+  
+  /**
+   * This is designed to be an immutable version of the list.  Modifiable actions will return a 
+   * new instance that is based off this one.  The list is made of a head chunk, a series of 
+   * middle chunks, and a tail chunk.  Items are added to the front of the head or the end of the 
+   * tail without a copy when there is space to do so.  Once full the head or tail is moved into 
+   * the middle chunks, and a new head or tail is started. 
+   * <p>
+   * The middle chunks are held in an array with padding on both sides, so chunks can be moved 
+   * into the middle without copying the array.  The position of each middle chunk is stored in a 
+   * parallel array so that the chunk for an index can be found with a binary search.  Because 
+   * arrays are shared between versions, it is expected that the modificationLock is held while 
+   * any modifiable operations are happening.
+   * 
+   * @since 5.33
+   * @param <T> type of object that is held
+   */
+  protected static class ChunkSet<T> {
+    /**
+     * Constructs a new {@link ChunkSet} containing the provided items.  The provided array will 
+     * be used as the backing storage for all chunks, so it must not be modified after this call.
+     * 
+     * @param <T> type of object that is held
+     * @param items items to store, none may be {@code null}
+     * @param chunkSize maximum quantity of items to store in each chunk
+     * @return new {@link ChunkSet} with the provided items
+     */
+    protected static <T> ChunkSet<T> fromArray(Object[] items, int chunkSize) {
+      if (items.length == 0) {
+        return makeEmptyChunkSet(chunkSize);
+      } else if (items.length <= chunkSize) {
+        return new ChunkSet<>(chunkSize, new Chunk(items, 0, items.length), 
+                              EMPTY_CHUNK_ARRAY, EMPTY_LONG_ARRAY, 0, 0, 0, 
+                              EMPTY_CHUNK);
+      }
+      
+      Chunk head = new Chunk(items, 0, chunkSize);
+      int tailStart = ((items.length - 1) / chunkSize) * chunkSize;
+      Chunk tail = new Chunk(items, tailStart, items.length);
+      int middleCount = (tailStart / chunkSize) - 1;
+      int padding = Math.max(MIN_CHUNK_INDEX_PADDING, middleCount / 2);
+      Chunk[] middle = new Chunk[middleCount + (padding * 2)];
+      long[] middleOffsets = new long[middle.length];
+      for (int i = 0; i < middleCount; i++) {
+        middle[padding + i] = new Chunk(items, (i + 1) * chunkSize, (i + 2) * chunkSize);
+        middleOffsets[padding + i] = i * (long)chunkSize;
+      }
+      
+      return new ChunkSet<>(chunkSize, head, 
+                            middle, middleOffsets, padding, padding + middleCount, 
+                            middleCount * chunkSize, tail);
+    }
+    
+    protected final int chunkSize;
+    protected final Chunk head;
+    protected final Chunk[] middle;
+    // position of the first item of each middle chunk, only consistent within the same array
+    protected final long[] middleOffsets;
+    protected final int middleStartIndex; // inclusive
+    protected final int middleEndIndex;   // exclusive
+    protected final int middleSize;
+    protected final Chunk tail;
+    protected final int size;
+    
+    protected ChunkSet(int chunkSize, Chunk head, 
+                       Chunk[] middle, long[] middleOffsets, 
+                       int middleStartIndex, int middleEndIndex, int middleSize, 
+                       Chunk tail) {
+      // keep the head and tail populated so peeks and polls do not need to search
+      if (head.size == 0 && middleStartIndex < middleEndIndex) {
+        head = middle[middleStartIndex++];
+        middleSize -= head.size;
+      }
+      if (tail.size == 0 && middleStartIndex < middleEndIndex) {
+        tail = middle[--middleEndIndex];
+        middleSize -= tail.size;
+      }
+      this.chunkSize = chunkSize;
+      this.head = head;
+      this.middle = middle;
+      this.middleOffsets = middleOffsets;
+      this.middleStartIndex = middleStartIndex;
+      this.middleEndIndex = middleEndIndex;
+      this.middleSize = middleSize;
+      this.tail = tail;
+      this.size = head.size + middleSize + tail.size;
+    }
+    
+    /**
+     * Returns a new {@link ChunkSet} with the same middle chunks, but a different head and tail.
+     * 
+     * @param newHead chunk to use as the head
+     * @param newTail chunk to use as the tail
+     * @return a new {@link ChunkSet} which represents the change
+     */
+    private ChunkSet<T> withEnds(Chunk newHead, Chunk newTail) {
+      return new ChunkSet<>(chunkSize, newHead, 
+                            middle, middleOffsets, middleStartIndex, middleEndIndex, middleSize, 
+                            newTail);
+    }
+    
+    /**
+     * Returns the quantity of chunks, including the head and tail even if empty.  Chunks are 
+     * identified by ordinal, where {@code 0} is the head and {@code getChunkCount() - 1} is the 
+     * tail.
+     * 
+     * @return Quantity of chunks
+     */
+    protected int chunkCount() {
+      return middleEndIndex - middleStartIndex + 2;
+    }
+    
+    protected Chunk chunk(int ordinal) {
+      if (ordinal == 0) {
+        return head;
+      } else if (ordinal <= middleEndIndex - middleStartIndex) {
+        return middle[middleStartIndex + ordinal - 1];
+      } else {
+        return tail;
+      }
+    }
+    
+    /**
+     * Finds the ordinal of the chunk which contains the provided index.
+     * 
+     * @param index list index, must be less than the list size
+     * @return Ordinal of the chunk containing the index
+     */
+    protected int chunkOrdinal(int index) {
+      if (index < head.size) {
+        return 0;
+      }
+      index -= head.size;
+      if (index < middleSize) {
+        return middleChunkIndex(index) - middleStartIndex + 1;
+      } else {
+        return middleEndIndex - middleStartIndex + 1;
+      }
+    }
+    
+    /**
+     * Returns the list index of the first item within a given chunk.
+     * 
+     * @param ordinal Ordinal of the chunk
+     * @return Index of the chunk's first item
+     */
+    protected int chunkStartIndex(int ordinal) {
+      if (ordinal == 0) {
+        return 0;
+      } else if (ordinal <= middleEndIndex - middleStartIndex) {
+        return head.size +
+                 (int)(middleOffsets[middleStartIndex + ordinal - 1] -
+                         middleOffsets[middleStartIndex]);
+      } else {
+        return head.size + middleSize;
+      }
+    }
+    
+    /**
+     * Binary search for the index within the middle array of the chunk which contains the 
+     * provided position.
+     * 
+     * @param middlePosition position relative to the start of the first middle chunk
+     * @return Index within the middle array
+     */
+    private int middleChunkIndex(int middlePosition) {
+      long position = middleOffsets[middleStartIndex] + middlePosition;
+      int low = middleStartIndex;
+      int high = middleEndIndex - 1;
+      while (low < high) {
+        int mid = (low + high + 1) >>> 1;
+        if (middleOffsets[mid] <= position) {
+          low = mid;
+        } else {
+          high = mid - 1;
+        }
+      }
+      
+      return low;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+      int ordinal = chunkOrdinal(index);
+      
+      return (T)chunk(ordinal).get(index - chunkStartIndex(ordinal));
+    }
+    
+    public int indexOf(Object o) {
+      int offset = 0;
+      int chunkCount = chunkCount();
+      for (int i = 0; i < chunkCount; i++) {
+        Chunk c = chunk(i);
+        int index = c.indexOf(o);
+        if (index >= 0) {
+          return offset + index;
+        }
+        offset += c.size;
+      }
+      
+      return -1;
+    }
+    
+    public int lastIndexOf(Object o) {
+      int offset = size;
+      for (int i = chunkCount() - 1; i >= 0; i--) {
+        Chunk c = chunk(i);
+        offset -= c.size;
+        int index = c.lastIndexOf(o);
+        if (index >= 0) {
+          return offset + index;
+        }
+      }
+      
+      return -1;
+    }
+    
+    /**
+     * Copies all items in order into the provided array, starting at index {@code 0}.
+     * 
+     * @param result Array to copy into, must have a length of at least {@link #size}
+     */
+    public void copyInto(Object[] result) {
+      int offset = 0;
+      int chunkCount = chunkCount();
+      for (int i = 0; i < chunkCount; i++) {
+        Chunk c = chunk(i);
+        System.arraycopy(c.dataArray, c.dataStartIndex, result, offset, c.size);
+        offset += c.size;
+      }
+    }
+    
+    public Object[] toArray() {
+      Object[] result = new Object[size];
+      copyInto(result);
+      return result;
+    }
+    
+    /**
+     * Adds an item to the front of the structure.
+     * 
+     * @param e item to be added
+     * @return a new {@link ChunkSet} which represents the change
+     */
+    public ChunkSet<T> addToFront(Object e) {
+      if (head.size < chunkSize) {
+        return withEnds(head.addToFront(e, chunkSize), tail);
+      } else {
+        // head is full, move it into the middle and start a new head
+        return withMiddlePrepended(EMPTY_CHUNK.addToFront(e, chunkSize), head, tail);
+      }
+    }
+    
+    /**
+     * Adds an item to the end of the structure.
+     * 
+     * @param e item to be added
+     * @return a new {@link ChunkSet} which represents the change
+     */
+    public ChunkSet<T> addToEnd(Object e) {
+      if (tail.size < chunkSize) {
+        return withEnds(head, tail.addToEnd(e, chunkSize));
+      } else {
+        // tail is full, move it into the middle and start a new tail
+        return withMiddleAppended(head, tail, EMPTY_CHUNK.addToEnd(e, chunkSize));
+      }
+    }
+    
+    /**
+     * Adds an item at a specific index within the structure.
+     * 
+     * @param index index to place the item
+     * @param e item to be added
+     * @return a new {@link ChunkSet} which represents the change
+     */
+    public ChunkSet<T> add(int index, Object e) {
+      if (index == 0) {
+        return addToFront(e);
+      } else if (index == size) {
+        return addToEnd(e);
+      } else if (index <= head.size) {
+        Chunk newHead = head.add(index, e);
+        if (newHead.size <= chunkSize) {
+          return withEnds(newHead, tail);
+        }
+        int half = newHead.size / 2;
+        return withMiddlePrepended(newHead.subChunk(0, half), 
+                                   newHead.subChunk(half, newHead.size), tail);
+      }
+      int middleIndex = index - head.size;
+      if (middleIndex < middleSize) {
+        int k = middleChunkIndex(middleIndex);
+        Chunk c = middle[k];
+        Chunk newChunk =
+            c.add((int)(middleOffsets[middleStartIndex] + middleIndex - middleOffsets[k]), e);
+        if (newChunk.size <= chunkSize) {
+          return rebuildMiddle(head, k, k + 1, new Chunk[] { newChunk }, tail);
+        }
+        int half = newChunk.size / 2;
+        return rebuildMiddle(head, k, k + 1, 
+                             new Chunk[] { newChunk.subChunk(0, half), 
+                                           newChunk.subChunk(half, newChunk.size) }, 
+                             tail);
+      } else {
+        Chunk newTail = tail.add(middleIndex - middleSize, e);
+        if (newTail.size <= chunkSize) {
+          return withEnds(head, newTail);
+        }
+        int half = newTail.size / 2;
+        return withMiddleAppended(head, newTail.subChunk(0, half), 
+                                  newTail.subChunk(half, newTail.size));
+      }
+    }
+    
+    /**
+     * Removes a specific index from the structure.
+     * 
+     * @param index index of the item to remove
+     * @return a new {@link ChunkSet} which represents the change
+     */
+    public ChunkSet<T> remove(int index) {
+      if (index < head.size) {
+        return withEnds(head.remove(index), tail);
+      }
+      int middleIndex = index - head.size;
+      if (middleIndex >= middleSize) {
+        return withEnds(head, tail.remove(middleIndex - middleSize));
+      }
+      
+      int k = middleChunkIndex(middleIndex);
+      Chunk newChunk =
+          middle[k].remove((int)(middleOffsets[middleStartIndex] + middleIndex -
+                                   middleOffsets[k]));
+      if (newChunk.size == 0) {
+        return rebuildMiddle(head, k, k + 1, EMPTY_CHUNK_ARRAY, tail);
+      } else if (newChunk.size < chunkSize / 4) {
+        // merge small chunks to avoid the chunk index growing with many mostly empty chunks
+        if (k + 1 < middleEndIndex && newChunk.size + middle[k + 1].size <= chunkSize) {
+          return rebuildMiddle(head, k, k + 2, 
+                               new Chunk[] { newChunk.merge(middle[k + 1]) }, tail);
+        } else if (k > middleStartIndex && middle[k - 1].size + newChunk.size <= chunkSize) {
+          return rebuildMiddle(head, k - 1, k + 1, 
+                               new Chunk[] { middle[k - 1].merge(newChunk) }, tail);
+        }
+      }
+      
+      return rebuildMiddle(head, k, k + 1, new Chunk[] { newChunk }, tail);
+    }
+    
+    /**
+     * Replaces the item at a specific index.
+     * 
+     * @param index index of the item to replace
+     * @param e item to store at the index
+     * @return a new {@link ChunkSet} which represents the change
+     */
+    public ChunkSet<T> set(int index, Object e) {
+      if (index < head.size) {
+        return withEnds(head.set(index, e), tail);
+      }
+      int middleIndex = index - head.size;
+      if (middleIndex >= middleSize) {
+        return withEnds(head, tail.set(middleIndex - middleSize, e));
+      }
+      
+      int k = middleChunkIndex(middleIndex);
+      Chunk newChunk =
+          middle[k].set((int)(middleOffsets[middleStartIndex] + middleIndex - middleOffsets[k]), 
+                        e);
+      return rebuildMiddle(head, k, k + 1, new Chunk[] { newChunk }, tail);
+    }
+    
+    /**
+     * Moves a chunk to the front of the middle chunks.  If there is space in the middle array it 
+     * will be used without a copy.
+     * 
+     * @param newHead chunk to use as the head
+     * @param toMiddle chunk to insert at the front of the middle chunks
+     * @param newTail chunk to use as the tail
+     * @return a new {@link ChunkSet} which represents the change
+     */
+    private ChunkSet<T> withMiddlePrepended(Chunk newHead, Chunk toMiddle, Chunk newTail) {
+      if (middleStartIndex < middleEndIndex &&
+          middleStartIndex > 0 && middle[middleStartIndex - 1] == null) {
+        // there is space in the current array
+        middleOffsets[middleStartIndex - 1] = middleOffsets[middleStartIndex] - toMiddle.size;
+        middle[middleStartIndex - 1] = toMiddle;
+        
+        return new ChunkSet<>(chunkSize, newHead, 
+                              middle, middleOffsets, middleStartIndex - 1, middleEndIndex, 
+                              middleSize + toMiddle.size, newTail);
+      } else {
+        return rebuildMiddle(newHead, middleStartIndex, middleStartIndex, 
+                             new Chunk[] { toMiddle }, newTail);
+      }
+    }
+    
+    /**
+     * Moves a chunk to the end of the middle chunks.  If there is space in the middle array it 
+     * will be used without a copy.
+     * 
+     * @param newHead chunk to use as the head
+     * @param toMiddle chunk to add at the end of the middle chunks
+     * @param newTail chunk to use as the tail
+     * @return a new {@link ChunkSet} which represents the change
+     */
+    private ChunkSet<T> withMiddleAppended(Chunk newHead, Chunk toMiddle, Chunk newTail) {
+      if (middleStartIndex < middleEndIndex &&
+          middleEndIndex < middle.length && middle[middleEndIndex] == null) {
+        // there is space in the current array
+        middleOffsets[middleEndIndex] = middleOffsets[middleStartIndex] + middleSize;
+        middle[middleEndIndex] = toMiddle;
+        
+        return new ChunkSet<>(chunkSize, newHead, 
+                              middle, middleOffsets, middleStartIndex, middleEndIndex + 1, 
+                              middleSize + toMiddle.size, newTail);
+      } else {
+        return rebuildMiddle(newHead, middleEndIndex, middleEndIndex, 
+                             new Chunk[] { toMiddle }, newTail);
+      }
+    }
+    
+    /**
+     * Constructs a new middle array, replacing a range of the current middle chunks.  This is an 
+     * O(n / chunkSize) operation, but does not copy any of the items.
+     * 
+     * @param newHead chunk to use as the head
+     * @param fromIndex start index (inclusive) within the middle array to replace
+     * @param toIndex end index (exclusive) within the middle array to replace
+     * @param replacements chunks to put in place of the range, none may be empty
+     * @param newTail chunk to use as the tail
+     * @return a new {@link ChunkSet} which represents the change
+     */
+    private ChunkSet<T> rebuildMiddle(Chunk newHead, int fromIndex, int toIndex, 
+                                      Chunk[] replacements, Chunk newTail) {
+      int count = (fromIndex - middleStartIndex) + replacements.length +
+                    (middleEndIndex - toIndex);
+      if (count == 0) {
+        return new ChunkSet<>(chunkSize, newHead, 
+                              EMPTY_CHUNK_ARRAY, EMPTY_LONG_ARRAY, 0, 0, 0, 
+                              newTail);
+      }
+      
+      // padding allows the head or tail to be moved into the middle without another rebuild
+      int padding = Math.max(MIN_CHUNK_INDEX_PADDING, count / 8);
+      Chunk[] newMiddle = new Chunk[count + (padding * 2)];
+      long[] newOffsets = new long[newMiddle.length];
+      // offsets only need to be consistent within an array, so unchanged chunks keep theirs
+      int prefixCount = fromIndex - middleStartIndex;
+      System.arraycopy(middle, middleStartIndex, newMiddle, padding, prefixCount);
+      System.arraycopy(middleOffsets, middleStartIndex, newOffsets, padding, prefixCount);
+      int i = padding + prefixCount;
+      long position;
+      if (prefixCount > 0) {
+        position = middleOffsets[fromIndex - 1] + middle[fromIndex - 1].size;
+      } else {
+        position = 0;
+      }
+      for (Chunk c : replacements) {
+        newMiddle[i] = c;
+        newOffsets[i++] = position;
+        position += c.size;
+      }
+      int suffixCount = middleEndIndex - toIndex;
+      if (suffixCount > 0) {
+        System.arraycopy(middle, toIndex, newMiddle, i, suffixCount);
+        long delta = position - middleOffsets[toIndex];
+        for (int k = toIndex; k < middleEndIndex; k++) {
+          newOffsets[i++] = middleOffsets[k] + delta;
+        }
+        position = newOffsets[i - 1] + middle[middleEndIndex - 1].size;
+      }
+      int newMiddleSize = (int)(position - newOffsets[padding]);
+      
+      return new ChunkSet<>(chunkSize, newHead, 
+                            newMiddle, newOffsets, padding, i, newMiddleSize, 
+                            newTail);
+    }
+    
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+      int chunkCount = chunkCount();
+      for (int i = 0; i < chunkCount; i++) {
+        Chunk c = chunk(i);
+        for (int j = c.dataStartIndex; j < c.dataEndIndex; j++) {
+          hashCode = HASH_CODE_PRIME_NUMBER * hashCode + c.dataArray[j].hashCode();
+        }
+      }
+      
+      return hashCode;
+    }
+    
+    @Override
+    public String toString() {
+      StringBuilder result = new StringBuilder();
+      
+      result.append('[');
+      int chunkCount = chunkCount();
+      boolean first = true;
+      for (int i = 0; i < chunkCount; i++) {
+        Chunk c = chunk(i);
+        for (int j = c.dataStartIndex; j < c.dataEndIndex; j++) {
+          if (first) {
+            first = false;
+          } else {
+            result.append(", ");
+          }
+          result.append(c.dataArray[j]);
+        }
+      }
+      result.append(']');
+      
+      return result.toString();
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package org.threadly.concurrent.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.threadly.util.ArgumentVerifier;
+
+/**
+ * A thread safe, lock free, fixed capacity ring buffer of primitive {@code long} values.  Once 
+ * the buffer is full each added value replaces the oldest one.  This is designed for keeping a 
+ * window of recent samples (for example task execution durations), where values are added 
+ * frequently from many threads but only occasionally read. 
+ * <p>
+ * Adding a value is a single atomic increment to reserve a slot, followed by writes to that slot 
+ * only.  Unlike storing boxed values in a {@link ConcurrentArrayList}, there is no allocation, 
+ * array copy, or lock needed for each added value. 
+ * <p>
+ * Reads are done by taking a snapshot (for example {@link #toArray()}) ordered from oldest to 
+ * newest.  A value which is still being written when the snapshot is taken will not be included, 
+ * so a snapshot may be slightly smaller than {@link #size()} while values are being added 
+ * concurrently.  If a thread adding a value is delayed for longer than it takes for the entire 
+ * buffer to be overwritten, its value may be lost, or reported in place of a newer value.  This 
+ * makes this structure ideal for statistics, but not where every value must be retained.
+ * 
+ * @since 5.33
+ */
+public class ConcurrentLongRingBuffer {
+  protected final int capacity;
+  protected final AtomicLongArray values;
+  // index + 1 of the value stored in each slot, negative while the slot is being written
+  protected final AtomicLongArray slotSequences;
+  protected final AtomicLong nextIndex;
+  // values before this index have been cleared, only ever increases
+  protected final AtomicLong clearedIndex;
+  
+  /**
+   * Constructs a new {@link ConcurrentLongRingBuffer} which will retain up to the provided 
+   * quantity of values.
+   * 
+   * @param capacity Maximum quantity of values to retain, if zero all values will be discarded
+   */
+  public ConcurrentLongRingBuffer(int capacity) {
+    ArgumentVerifier.assertNotNegative(capacity, "capacity");
+    
+    this.capacity = capacity;
+    this.values = new AtomicLongArray(capacity);
+    this.slotSequences = new AtomicLongArray(capacity);
+    this.nextIndex = new AtomicLong(0);
+    this.clearedIndex = new AtomicLong(0);
+  }
+  
+  /**
+   * Returns the maximum quantity of values this buffer will retain.
+   * 
+   * @return The capacity provided at construction
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+  
+  /**
+   * Add a value into the buffer, replacing the oldest value if the buffer is full.
+   * 
+   * @param value Value to be added
+   */
+  public void add(long value) {
+    if (capacity == 0) {
+      return;
+    }
+    long index = nextIndex.getAndIncrement();
+    int slot = (int)(index % capacity);
+    /* mark the slot as being written so readers can not see a partially replaced value.  Ordered 
+     * writes are sufficient, a reader which sees the new value must also see this marker.
+     */
+    slotSequences.lazySet(slot, -(index + 1));
+    values.lazySet(slot, value);
+    slotSequences.lazySet(slot, index + 1);
+  }
+  
+  /**
+   * Returns the quantity of values currently retained.  This includes values which may still be 
+   * in the process of being added.
+   * 
+   * @return Quantity of values in the buffer
+   */
+  public int size() {
+    long endIndex = nextIndex.get();
+    return (int)(endIndex - getStartIndex(endIndex));
+  }
+  
+  /**
+   * Check if the buffer currently contains any values.
+   * 
+   * @return {@code true} if there are no values in the buffer
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+  
+  /**
+   * Removes all values currently in the buffer.  Values added concurrently with this call may or 
+   * may not be removed.
+   */
+  public void clear() {
+    long endIndex = nextIndex.get();
+    long casIndex;
+    while ((casIndex = clearedIndex.get()) < endIndex) {
+      if (clearedIndex.compareAndSet(casIndex, endIndex)) {
+        break;
+      }
+    }
+  }
+  
+  /**
+   * Returns the index of the oldest value retained in the buffer.
+   * 
+   * @param endIndex Index after the newest value in the buffer
+   * @return Index of the oldest value
+   */
+  private long getStartIndex(long endIndex) {
+    return Math.max(clearedIndex.get(), endIndex - capacity);
+  }
+  
+  /**
+   * Takes a snapshot of the current values in the buffer, ordered from oldest to newest.
+   * 
+   * @return A new array containing the values in the buffer
+   */
+  public long[] toArray() {
+    long endIndex = nextIndex.get();
+    long[] result = new long[(int)(endIndex - getStartIndex(endIndex))];
+    int resultSize = copyValues(endIndex, result, null);
+    if (resultSize < result.length) {
+      long[] trimmedResult = new long[resultSize];
+      System.arraycopy(result, 0, trimmedResult, 0, resultSize);
+      return trimmedResult;
+    } else {
+      return result;
+    }
+  }
+  
+  /**
+   * Takes a snapshot of the current values in the buffer, ordered from oldest to newest.  This 
+   * boxes each value, so {@link #toArray()} should be preferred where possible.
+   * 
+   * @return A new list containing the values in the buffer
+   */
+  public List<Long> toList() {
+    List<Long> result = new ArrayList<>(size());
+    addAllTo(result);
+    return result;
+  }
+  
+  /**
+   * Adds a snapshot of the current values in the buffer into the provided collection, ordered 
+   * from oldest to newest.  This is useful for combining the values from multiple buffers 
+   * without creating an intermediate collection for each.
+   * 
+   * @param collection Collection to add the values into
+   */
+  public void addAllTo(Collection<? super Long> collection) {
+    copyValues(nextIndex.get(), null, collection);
+  }
+  
+  /**
+   * Copies the values which are fully written into either the provided array or collection.
+   * 
+   * @param endIndex Index after the newest value to copy
+   * @param array Array to copy into from index zero, or {@code null} to use the collection
+   * @param collection Collection to add into if no array is provided
+   * @return Quantity of values copied
+   */
+  private int copyValues(long endIndex, long[] array, Collection<? super Long> collection) {
+    int copied = 0;
+    for (long i = getStartIndex(endIndex); i < endIndex; i++) {
+      int slot = (int)(i % capacity);
+      long expectedSequence = i + 1;
+      if (slotSequences.get(slot) == expectedSequence) {
+        long value = values.get(slot);
+        // verify the value was not replaced while we were reading it
+        if (slotSequences.get(slot) == expectedSequence) {
+          if (array == null) {
+            collection.add(value);
+          } else {
+            array[copied] = value;
+          }
+          copied++;
+        }
+      }
+    }
+    return copied;
+  }
+}
@@ -0,0 +1,328 @@
+package org.threadly.concurrent.collections;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.threadly.util.ArgumentVerifier;
+
+/**
+ * A thread safe, unbounded, FIFO queue which is optimized for many producing threads, but only a 
+ * single consuming thread.  Items are stored in a linked chain of fixed size array chunks, so 
+ * unlike {@link java.util.concurrent.ConcurrentLinkedQueue} there is no node allocated for each 
+ * item added.  Instead a new chunk is only allocated once the current one has been filled. 
+ * <p>
+ * Adding an item is a single atomic increment to reserve a slot in the current chunk, followed 
+ * by an ordered write to publish the item.  Since the increment can not fail, producers never 
+ * need to retry as they would with a compare and swap.  The consumer position is only ever moved 
+ * forward, so it is never contended.  Claiming the head item is a compare and swap on its slot, 
+ * but since only removals from other threads compete for that slot it is almost always 
+ * uncontended.  That compare and swap is what allows {@link #remove(Object)} to be safely 
+ * invoked from any thread, with only one of a concurrent poll or removal ever succeeding. 
+ * <p>
+ * All operations are safe to invoke from any thread, including multiple consuming threads.  But 
+ * multiple consumers will contend on the same slots, so in that case 
+ * {@link java.util.concurrent.ConcurrentLinkedQueue} is likely a better choice. 
+ * <p>
+ * There are a couple notable behavior differences from 
+ * {@link java.util.concurrent.ConcurrentLinkedQueue}.  An item is not visible until the thread 
+ * adding it has published it.  This means if a producer is delayed between reserving its slot 
+ * and publishing the item, items added after it will not be visible until it has completed. 
+ * Also like {@link java.util.concurrent.ConcurrentLinkedQueue}, {@link #size()} requires a 
+ * traversal of the queue, and iterators are weakly consistent.
+ * 
+ * @since 5.33
+ * @param <T> type of object to retain
+ */
+public class ConcurrentSingleConsumerQueue<T> extends AbstractQueue<T> {
+  /**
+   * The default quantity of items stored in each chunk.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 64;
+  // marker for slots whose item has been consumed or removed
+  protected static final Object REMOVED = new Object();
+  
+  protected final int chunkSize;
+  protected final AtomicReference<Chunk> consumerChunk;
+  protected volatile Chunk producerChunk;
+  
+  /**
+   * Constructs a new {@link ConcurrentSingleConsumerQueue} using the 
+   * {@link #DEFAULT_CHUNK_SIZE}.
+   */
+  public ConcurrentSingleConsumerQueue() {
+    this(DEFAULT_CHUNK_SIZE);
+  }
+  
+  /**
+   * Constructs a new {@link ConcurrentSingleConsumerQueue} with a specific chunk size.  Larger 
+   * chunks reduce how frequently allocations are needed, at the cost of more memory retained 
+   * while the queue is small.
+   * 
+   * @param chunkSize Quantity of items to store in each chunk, must be at least 2
+   */
+  public ConcurrentSingleConsumerQueue(int chunkSize) {
+    if (chunkSize < 2) {
+      throw new IllegalArgumentException("chunkSize must be at least 2");
+    }
+    
+    this.chunkSize = chunkSize;
+    Chunk firstChunk = new Chunk(chunkSize, null);
+    this.consumerChunk = new AtomicReference<>(firstChunk);
+    this.producerChunk = firstChunk;
+  }
+  
+  @Override
+  public boolean offer(T item) {
+    ArgumentVerifier.assertNotNull(item, "item");
+    
+    Chunk c = producerChunk;
+    while (true) {
+      int index = c.producerIndex.getAndIncrement();
+      if (index < chunkSize) {
+        c.slots.lazySet(index, item);
+        return true;
+      } else if (index == chunkSize) {
+        // we reserved the first slot past the end, so we are responsible for linking the next chunk
+        Chunk nextChunk = new Chunk(chunkSize, item);
+        producerChunk = nextChunk;
+        c.next = nextChunk;
+        return true;
+      } else {
+        // another producer is linking the next chunk, it should be available very soon
+        Chunk nextChunk;
+        while ((nextChunk = c.next) == null) {
+          Thread.yield();
+        }
+        c = nextChunk;
+      }
+    }
+  }
+  
+  @Override
+  public T peek() {
+    Chunk c = consumerChunk.get();
+    while (true) {
+      int index = c.consumerIndex;
+      while (index < chunkSize) {
+        Object item = c.slots.get(index);
+        if (item == null) {
+          // slot not yet published
+          return null;
+        } else if (item != REMOVED) {
+          c.consumerIndex = index;
+          @SuppressWarnings("unchecked")
+          T result = (T)item;
+          return result;
+        }
+        index++;
+      }
+      c = advanceChunk(c);
+      if (c == null) {
+        return null;
+      }
+    }
+  }
+  
+  @Override
+  public T poll() {
+    Chunk c = consumerChunk.get();
+    while (true) {
+      int index = c.consumerIndex;
+      while (index < chunkSize) {
+        Object item = c.slots.get(index);
+        if (item == null) {
+          // slot not yet published
+          return null;
+        } else if (item != REMOVED && c.slots.compareAndSet(index, item, REMOVED)) {
+          c.consumerIndex = index + 1;
+          @SuppressWarnings("unchecked")
+          T result = (T)item;
+          return result;
+        }
+        index++;
+      }
+      c = advanceChunk(c);
+      if (c == null) {
+        return null;
+      }
+    }
+  }
+  
+  /**
+   * Moves the consumer to the chunk after the provided one.  This should only be invoked once 
+   * every slot in the provided chunk has been consumed or removed.
+   * 
+   * @param c Chunk which has been fully consumed
+   * @return The next chunk, or {@code null} if it has not been linked yet
+   */
+  private Chunk advanceChunk(Chunk c) {
+    Chunk nextChunk = c.next;
+    if (nextChunk != null) {
+      // may fail if another thread advanced first, either way we continue from the next chunk
+      consumerChunk.compareAndSet(c, nextChunk);
+    }
+    return nextChunk;
+  }
+  
+  @Override
+  public boolean isEmpty() {
+    return peek() == null;
+  }
+  
+  @Override
+  public int size() {
+    int result = 0;
+    Iterator<T> it = iterator();
+    while (it.hasNext()) {
+      it.next();
+      result++;
+    }
+    return result;
+  }
+  
+  @Override
+  public boolean contains(Object o) {
+    if (o == null) {
+      return false;
+    }
+    Iterator<T> it = iterator();
+    while (it.hasNext()) {
+      if (o.equals(it.next())) {
+        return true;
+      }
+    }
+    return false;
+  }
+  
+  @Override
+  public boolean remove(Object o) {
+    if (o == null) {
+      return false;
+    }
+    Chunk c = consumerChunk.get();
+    while (c != null) {
+      for (int i = c.consumerIndex; i < chunkSize; i++) {
+        Object item = c.slots.get(i);
+        if (item != null && item != REMOVED && o.equals(item) && 
+            c.slots.compareAndSet(i, item, REMOVED)) {
+          return true;
+        }
+      }
+      c = c.next;
+    }
+    return false;
+  }
+  
+  /**
+   * Returns a weakly consistent iterator over the items in this queue.  Items added after the 
+   * iterator was constructed may or may not be returned.  Calls to {@link Iterator#remove()} will 
+   * succeed in removing the item from the queue only if it has not been consumed or removed 
+   * since it was returned.
+   * 
+   * @return Iterator for the items currently in the queue
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new ChunkIterator();
+  }
+  
+  /**
+   * Structure which holds a fixed size array of items, and a reference to the chunk which 
+   * follows it.
+   * 
+   * @since 5.33
+   */
+  protected static class Chunk {
+    protected final AtomicReferenceArray<Object> slots;
+    protected final AtomicInteger producerIndex;
+    protected volatile Chunk next;
+    // every slot before this index has been consumed or removed, may lag behind if read racy
+    protected int consumerIndex;
+    
+    protected Chunk(int chunkSize, Object firstItem) {
+      slots = new AtomicReferenceArray<>(chunkSize);
+      if (firstItem == null) {
+        producerIndex = new AtomicInteger(0);
+      } else {
+        slots.lazySet(0, firstItem);
+        producerIndex = new AtomicInteger(1);
+      }
+      next = null;
+      consumerIndex = 0;
+    }
+  }
+  
+  /**
+   * Iterator implementation which walks the chunks from the current consumer position.
+   * 
+   * @since 5.33
+   */
+  protected class ChunkIterator implements Iterator<T> {
+    private Chunk chunk;
+    private int index;
+    private Object nextItem;
+    private Chunk lastChunk;
+    private int lastIndex;
+    private Object lastItem;
+    
+    protected ChunkIterator() {
+      chunk = consumerChunk.get();
+      index = chunk.consumerIndex - 1;
+      nextItem = null;
+      lastChunk = null;
+      lastItem = null;
+      findNext();
+    }
+    
+    private void findNext() {
+      nextItem = null;
+      while (chunk != null) {
+        while (++index < chunkSize) {
+          Object item = chunk.slots.get(index);
+          if (item == null) {
+            // slot not yet published
+            chunk = null;
+            return;
+          } else if (item != REMOVED) {
+            nextItem = item;
+            return;
+          }
+        }
+        chunk = chunk.next;
+        index = -1;
+      }
+    }
+    
+    @Override
+    public boolean hasNext() {
+      return nextItem != null;
+    }
+    
+    @Override
+    public T next() {
+      if (nextItem == null) {
+        throw new NoSuchElementException();
+      }
+      lastChunk = chunk;
+      lastIndex = index;
+      lastItem = nextItem;
+      findNext();
+      @SuppressWarnings("unchecked")
+      T result = (T)lastItem;
+      return result;
+    }
+    
+    @Override
+    public void remove() {
+      if (lastItem == null) {
+        throw new IllegalStateException();
+      }
+      lastChunk.slots.compareAndSet(lastIndex, lastItem, REMOVED);
+      lastItem = null;
+    }
+  }
+}
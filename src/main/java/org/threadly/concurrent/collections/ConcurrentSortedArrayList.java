@@ -0,0 +1,624 @@
+package org.threadly.concurrent.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.ToLongFunction;
+
+import org.threadly.util.ArgumentVerifier;
+
+/**
+ * A {@link ConcurrentArrayList} which keeps its items sorted (ascending) by a {@code long} key. 
+ * The key for each item is provided by a key extractor function at construction.  Because the 
+ * list is always sorted, searches can be done with a binary search on the key rather than a 
+ * linear scan.  This makes {@link #indexOf(Object)}, {@link #contains(Object)}, and 
+ * {@link #remove(Object)} O(log n) (plus the quantity of items which share the same key). 
+ * <p>
+ * Items which have equal keys are kept in the order they were added.  {@link #add(Object)} (as 
+ * well as {@link #offer(Object)} and {@link #addAll(Collection)}) will insert an item after any 
+ * items with an equal key.  If items are considered equal by {@link Object#equals(Object)} they 
+ * must also produce equal keys, and an item's key must not change while it is in the list 
+ * unless it is then moved with {@link #reposition(Object, long)}.  Searches which are provided 
+ * an object which is incompatible with the key extractor will throw a 
+ * {@link ClassCastException}. 
+ * <p>
+ * Operations which add an item at a specific position (for example {@link #addFirst(Object)} or 
+ * {@link #set(int, Object)}) are still supported, but will throw an 
+ * {@link IllegalArgumentException} if the item would break the sort order.  The index based 
+ * {@code reposition} operations are not supported.  Within 
+ * {@link #mutate(java.util.function.Consumer)} the working list will also insert with 
+ * {@code add(Object)} in sorted order, and search by key as long as it is kept sorted.  If the 
+ * working list is not sorted once the mutator returns, an {@link IllegalArgumentException} is 
+ * thrown and no changes are published.
+ * 
+ * @since 5.33
+ * @param <T> type of object to retain
+ */
+public class ConcurrentSortedArrayList<T> extends ConcurrentArrayList<T> {
+  protected final ToLongFunction<? super T> keyExtractor;
+  
+  /**
+   * Constructs a new {@link ConcurrentSortedArrayList} which will sort items by the key returned 
+   * from the provided function.
+   * 
+   * @param keyExtractor Function to provide the key items will be sorted by
+   */
+  public ConcurrentSortedArrayList(ToLongFunction<? super T> keyExtractor) {
+    this(keyExtractor, 0, 0);
+  }
+  
+  /**
+   * Constructs a new {@link ConcurrentSortedArrayList} with specific padding.  See 
+   * {@link ConcurrentArrayList#ConcurrentArrayList(int, int)} for details about how padding is 
+   * used.
+   * 
+   * @param keyExtractor Function to provide the key items will be sorted by
+   * @param frontPadding padding to add to front of array to possible avoid array copies
+   * @param rearPadding padding to add to end of array to possible avoid array copies
+   */
+  public ConcurrentSortedArrayList(ToLongFunction<? super T> keyExtractor, 
+                                   int frontPadding, int rearPadding) {
+    this(keyExtractor, null, frontPadding, rearPadding);
+  }
+  
+  /**
+   * Constructs a new {@link ConcurrentSortedArrayList} with a provided lock object.  This is the 
+   * lock used to guard modifications, and is returned from {@link #getModificationLock()}.
+   * 
+   * @param keyExtractor Function to provide the key items will be sorted by
+   * @param modificationLock lock to synchronize on internally
+   * @param frontPadding padding to add to front of array to possible avoid array copies
+   * @param rearPadding padding to add to end of array to possible avoid array copies
+   */
+  protected ConcurrentSortedArrayList(ToLongFunction<? super T> keyExtractor, 
+                                      Object modificationLock, 
+                                      int frontPadding, int rearPadding) {
+    super(modificationLock, frontPadding, rearPadding);
+    
+    ArgumentVerifier.assertNotNull(keyExtractor, "keyExtractor");
+    
+    this.keyExtractor = keyExtractor;
+  }
+  
+  @SuppressWarnings("unchecked")
+  private long keyOf(Object o) {
+    return keyExtractor.applyAsLong((T)o);
+  }
+  
+  /**
+   * Binary search for the first index whose key is greater than (or equal to if 
+   * {@code afterEqual} is {@code false}) the provided key.  A single item can be provided which 
+   * may currently be out of order, in which case its previous key will be used instead.
+   * 
+   * @param items Function to get the item at an index
+   * @param size Quantity of items to search
+   * @param key Key to search for
+   * @param afterEqual {@code true} to return the index after any items with an equal key
+   * @param staleItem Item which may be out of order, or {@code null}
+   * @param staleKey Key to use for the {@code staleItem}
+   * @return Index between {@code 0} and {@code size} inclusive
+   */
+  private int getBoundIndex(IntFunction<? extends T> items, int size, long key, 
+                            boolean afterEqual, Object staleItem, long staleKey) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      T item = items.apply(mid);
+      long midKey = item == staleItem ? staleKey : keyExtractor.applyAsLong(item);
+      if (midKey < key || (afterEqual && midKey == key)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+  
+  /**
+   * Search for the index of an item.  Only the items with a key equal to the provided key are 
+   * checked.
+   * 
+   * @param items Function to get the item at an index
+   * @param size Quantity of items to search
+   * @param o Object to search for
+   * @param key Key of the object being searched for
+   * @param identity {@code true} to only match the same instance, {@code false} to use equals
+   * @param searchBackwards {@code true} to return the last matching index rather than the first
+   * @return Index of the item, or {@code -1} if not found
+   */
+  private int search(IntFunction<? extends T> items, int size, Object o, long key, 
+                     boolean identity, boolean searchBackwards) {
+    // when searching by identity the item may have a new key if it is being repositioned
+    Object staleItem = identity ? o : null;
+    if (searchBackwards) {
+      int startIndex = getBoundIndex(items, size, key, false, staleItem, key);
+      for (int i = getBoundIndex(items, size, key, true, staleItem, key) - 1;
+           i >= startIndex; i--) {
+        T item = items.apply(i);
+        if (identity ? item == o : item.equals(o)) {
+          return i;
+        }
+      }
+    } else {
+      for (int i = getBoundIndex(items, size, key, false, staleItem, key); i < size; i++) {
+        T item = items.apply(i);
+        if (identity ? item == o : item.equals(o)) {
+          return i;
+        } else if (keyExtractor.applyAsLong(item) != key) {
+          break;
+        }
+      }
+    }
+    
+    return -1;
+  }
+  
+  /**
+   * Verifies that the provided items could be placed (in order) between two indexes without 
+   * breaking the sort order.  Any {@code null} items are ignored.
+   * 
+   * @param dataSet Current data to check against
+   * @param beforeIndex Index of the item which would precede the provided items
+   * @param afterIndex Index of the item which would follow the provided items
+   * @param items Items to be placed between the two indexes
+   * @throws IllegalArgumentException Thrown if the items would not be in sorted order
+   */
+  private void verifyOrder(DataSet<T> dataSet, int beforeIndex, int afterIndex, 
+                           Iterable<?> items) {
+    long previousKey = Long.MIN_VALUE;
+    if (beforeIndex >= 0 && beforeIndex < dataSet.size) {
+      previousKey = keyExtractor.applyAsLong(dataSet.get(beforeIndex));
+    }
+    for (Object o : items) {
+      if (o != null) {
+        long key = keyOf(o);
+        if (key < previousKey) {
+          throw new IllegalArgumentException("Item would break sort order: " + o);
+        }
+        previousKey = key;
+      }
+    }
+    if (afterIndex >= 0 && afterIndex < dataSet.size && 
+        keyExtractor.applyAsLong(dataSet.get(afterIndex)) < previousKey) {
+      throw new IllegalArgumentException("Items would break sort order: " + items);
+    }
+  }
+  
+  /**
+   * Returns the index an item with the provided key would be inserted at.  This will be after 
+   * any items which currently have an equal key.
+   * 
+   * @param key Key to search for
+   * @return Index between {@code 0} and {@link #size()} inclusive
+   */
+  public int getInsertionIndex(long key) {
+    DataSet<T> workingSet = currentData;
+    return getBoundIndex(workingSet::get, workingSet.size, key, true, null, 0);
+  }
+  
+  /**
+   * Returns the index of the provided instance.  Unlike {@link #indexOf(Object)}, this only 
+   * matches the same instance, ignoring any other items which are equal.  The item's current key 
+   * is used to search for it.
+   * 
+   * @param item Instance to search for
+   * @return Index of the item, or {@code -1} if not found
+   */
+  public int indexOfIdentity(T item) {
+    if (item == null) {
+      return -1;
+    }
+    
+    return indexOfIdentity(item, keyExtractor.applyAsLong(item));
+  }
+  
+  /**
+   * Returns the index of the provided instance, searching with the provided key.  This is useful 
+   * if the item's key may have changed since it was added.  Unlike {@link #indexOf(Object)}, 
+   * this only matches the same instance, ignoring any other items which are equal.
+   * 
+   * @param item Instance to search for
+   * @param key Key the item was added or last repositioned with
+   * @return Index of the item, or {@code -1} if not found
+   */
+  public int indexOfIdentity(T item, long key) {
+    if (item == null) {
+      return -1;
+    }
+    
+    DataSet<T> workingSet = currentData;
+    return search(workingSet::get, workingSet.size, item, key, true, false);
+  }
+  
+  /**
+   * Adds an item in sorted order, after any items with an equal key.  This is the same as 
+   * {@link #add(Object)}, except that it returns the index the item was inserted at.  This can 
+   * be useful to know if the head of the list was changed.
+   * 
+   * @param item Item to be added
+   * @return Index the item was inserted at
+   */
+  public int addAndGetIndex(T item) {
+    ArgumentVerifier.assertNotNull(item, "item");
+    
+    long key = keyExtractor.applyAsLong(item);
+    synchronized (modificationLock) {
+      DataSet<T> workingSet = currentData;
+      int index = getBoundIndex(workingSet::get, workingSet.size, key, true, null, 0);
+      currentData = workingSet.add(index, item);
+      
+      return index;
+    }
+  }
+  
+  /**
+   * Moves an item whose key has changed into its new sorted position.  The item will be placed 
+   * after any other items with an equal key.  The previous key is used to find the item, so the 
+   * item's key should be updated while holding the modification lock if other threads may be 
+   * searching for it.
+   * 
+   * @param item Item to be moved
+   * @param previousKey Key the item was added or last repositioned with
+   * @return New index of the item
+   * @throws NoSuchElementException Thrown if the item could not be found
+   */
+  public int reposition(T item, long previousKey) {
+    ArgumentVerifier.assertNotNull(item, "item");
+    
+    long key = keyExtractor.applyAsLong(item);
+    synchronized (modificationLock) {
+      DataSet<T> workingSet = currentData;
+      int index = search(workingSet::get, workingSet.size, item, previousKey, true, false);
+      if (index < 0) {
+        throw new NoSuchElementException("Could not find item: " + item);
+      }
+      
+      // search the other items for the new position, skipping the one being moved
+      int newIndex = getBoundIndex((i) -> workingSet.get(i < index ? i : i + 1), 
+                                   workingSet.size - 1, key, true, null, 0);
+      if (newIndex != index) {
+        // the data set expects the index before the item is removed
+        currentData = workingSet.reposition(index, newIndex > index ? newIndex + 1 : newIndex);
+      }
+      
+      return newIndex;
+    }
+  }
+  
+  /**
+   * Not supported, the position of an item is determined by its key.  Use 
+   * {@link #reposition(Object, long)} instead.
+   * 
+   * @param item ignored
+   * @param newIndex ignored
+   * @throws UnsupportedOperationException Always thrown
+   */
+  @Override
+  public void reposition(T item, int newIndex) {
+    throw new UnsupportedOperationException("Position is determined by key");
+  }
+  
+  /**
+   * Not supported, the position of an item is determined by its key.  Use 
+   * {@link #reposition(Object, long)} instead.
+   * 
+   * @param item ignored
+   * @param newIndex ignored
+   * @param searchBackwards ignored
+   * @throws UnsupportedOperationException Always thrown
+   */
+  @Override
+  public void reposition(T item, int newIndex, boolean searchBackwards) {
+    throw new UnsupportedOperationException("Position is determined by key");
+  }
+  
+  /**
+   * Not supported, the position of an item is determined by its key.  Use 
+   * {@link #reposition(Object, long)} instead.
+   * 
+   * @param originalIndex ignored
+   * @param newIndex ignored
+   * @throws UnsupportedOperationException Always thrown
+   */
+  @Override
+  public void reposition(int originalIndex, int newIndex) {
+    throw new UnsupportedOperationException("Position is determined by key");
+  }
+  
+  @Override
+  public int indexOf(Object o) {
+    if (o == null) {
+      return -1;
+    }
+    
+    DataSet<T> workingSet = currentData;
+    return search(workingSet::get, workingSet.size, o, keyOf(o), false, false);
+  }
+  
+  @Override
+  public int lastIndexOf(Object o) {
+    if (o == null) {
+      return -1;
+    }
+    
+    DataSet<T> workingSet = currentData;
+    return search(workingSet::get, workingSet.size, o, keyOf(o), false, true);
+  }
+  
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) >= 0;
+  }
+  
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    if (c == null || c.isEmpty()) {
+      return true;
+    }
+    
+    DataSet<T> workingSet = currentData;
+    Iterator<?> it = c.iterator();
+    while (it.hasNext()) {
+      Object o = it.next();
+      if (o == null || search(workingSet::get, workingSet.size, o, keyOf(o), false, false) < 0) {
+        return false;
+      }
+    }
+    
+    return true;
+  }
+  
+  @Override
+  protected boolean remove(Object o, boolean searchBackwards) {
+    if (o == null) {
+      return false;
+    }
+    
+    long key = keyOf(o);
+    synchronized (modificationLock) {
+      DataSet<T> workingSet = currentData;
+      int index = search(workingSet::get, workingSet.size, o, key, false, searchBackwards);
+      if (index < 0) {
+        return false;
+      } else {
+        currentData = workingSet.remove(index);
+        return true;
+      }
+    }
+  }
+  
+  @Override
+  public boolean add(T e) {
+    if (e == null) {
+      return false;
+    }
+    
+    addAndGetIndex(e);
+    
+    return true;
+  }
+  
+  @Override
+  public boolean offer(T e) {
+    return add(e);
+  }
+  
+  /**
+   * Adds all the items from the collection in sorted order.  Items with equal keys will be 
+   * placed after any existing items, and retain the order from the provided collection.  The 
+   * items are sorted, then merged with the existing items in a single array copy.
+   * 
+   * @param c Collection of items to add
+   * @return {@code true} if the list was modified
+   * @throws IllegalArgumentException Thrown if the collection contains a {@code null}
+   */
+  @Override
+  public boolean addAll(Collection<? extends T> c) {
+    if (c == null || c.isEmpty()) {
+      return false;
+    }
+    
+    Object[] toAdd = c.toArray();
+    for (Object o : toAdd) {
+      if (o == null) {
+        throw new IllegalArgumentException("Can not store null values");
+      }
+    }
+    // sort is stable, so items with equal keys will retain the collection's order
+    Arrays.sort(toAdd, (o1, o2) -> Long.compare(keyOf(o1), keyOf(o2)));
+    
+    synchronized (modificationLock) {
+      DataSet<T> workingSet = currentData;
+      if (workingSet.size == 0 || 
+          keyOf(toAdd[0]) >= keyExtractor.applyAsLong(workingSet.get(workingSet.size - 1))) {
+        // all items go at the end, which may be possible without a copy
+        @SuppressWarnings("unchecked")
+        List<T> sortedList = (List<T>)Arrays.asList(toAdd);
+        currentData = workingSet.addAll(sortedList);
+      } else {
+        int frontPadding = getFrontPadding();
+        Object[] newData = 
+            new Object[frontPadding + workingSet.size + toAdd.length + getRearPadding()];
+        int existingIndex = 0;
+        int addIndex = 0;
+        for (int i = frontPadding; i < frontPadding + workingSet.size + toAdd.length; i++) {
+          if (addIndex == toAdd.length || 
+              (existingIndex < workingSet.size && 
+               keyExtractor.applyAsLong(workingSet.get(existingIndex)) <= keyOf(toAdd[addIndex]))) {
+            newData[i] = workingSet.get(existingIndex++);
+          } else {
+            newData[i] = toAdd[addIndex++];
+          }
+        }
+        
+        currentData = new DataSet<>(newData, frontPadding, getRearPadding());
+      }
+    }
+    
+    return true;
+  }
+  
+  @Override
+  public boolean addAll(int index, Collection<? extends T> c) {
+    if (c == null) {
+      return false;
+    }
+    
+    synchronized (modificationLock) {
+      verifyOrder(currentData, index - 1, index, c);
+      
+      return super.addAll(index, c);
+    }
+  }
+  
+  @Override
+  public void add(int index, T element) {
+    synchronized (modificationLock) {
+      verifyOrder(currentData, index - 1, index, Collections.singletonList(element));
+      
+      super.add(index, element);
+    }
+  }
+  
+  @Override
+  public T set(int index, T element) {
+    synchronized (modificationLock) {
+      verifyOrder(currentData, index - 1, index + 1, Collections.singletonList(element));
+      
+      return super.set(index, element);
+    }
+  }
+  
+  @Override
+  public void addFirst(T e) {
+    synchronized (modificationLock) {
+      verifyOrder(currentData, -1, 0, Collections.singletonList(e));
+      
+      super.addFirst(e);
+    }
+  }
+  
+  @Override
+  public void addLast(T e) {
+    synchronized (modificationLock) {
+      DataSet<T> workingSet = currentData;
+      verifyOrder(workingSet, workingSet.size - 1, workingSet.size, Collections.singletonList(e));
+      
+      super.addLast(e);
+    }
+  }
+  
+  /**
+   * Constructs a {@link SortedWorkingList} so that the working copy provided to 
+   * {@link #mutateAndGet(java.util.function.Function)} can add and search in sorted order.
+   * 
+   * @param dataSet Current data to copy into the working list
+   * @return A new working list containing the contents of the provided data set
+   */
+  @Override
+  protected WorkingList<T> makeWorkingList(DataSet<T> dataSet) {
+    return new SortedWorkingList(dataSet);
+  }
+  
+  /**
+   * Working copy provided to {@link #mutateAndGet(java.util.function.Function)}.  Items added with 
+   * {@link #add(Object)} are inserted in sorted order, and searches use the item's key (assuming 
+   * the list is still sorted).  The sort order is verified before the copy is published.
+   * 
+   * @since 5.33
+   */
+  protected class SortedWorkingList extends WorkingList<T> {
+    private static final long serialVersionUID = 6153906128417264583L;
+    
+    protected SortedWorkingList(DataSet<T> dataSet) {
+      super(dataSet);
+    }
+    
+    @Override
+    public boolean add(T e) {
+      if (e == null) {
+        // will fail when published
+        return super.add(e);
+      }
+      
+      add(getBoundIndex(this::get, size(), keyExtractor.applyAsLong(e), true, null, 0), e);
+      
+      return true;
+    }
+    
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+      boolean modified = false;
+      for (T e : c) {
+        modified |= add(e);
+      }
+      return modified;
+    }
+    
+    @Override
+    public int indexOf(Object o) {
+      if (o == null) {
+        return -1;
+      }
+      
+      return search(this::get, size(), o, keyOf(o), false, false);
+    }
+    
+    @Override
+    public int lastIndexOf(Object o) {
+      if (o == null) {
+        return -1;
+      }
+      
+      return search(this::get, size(), o, keyOf(o), false, true);
+    }
+    
+    @Override
+    public boolean contains(Object o) {
+      return indexOf(o) >= 0;
+    }
+    
+    @Override
+    public boolean remove(Object o) {
+      int index = indexOf(o);
+      if (index < 0) {
+        return false;
+      } else {
+        remove(index);
+        return true;
+      }
+    }
+    
+    /**
+     * Constructs a new {@link DataSet} containing the current contents of this list, after 
+     * verifying the contents are still sorted.
+     * 
+     * @param frontPadding Padding to add to the front of the new array
+     * @param rearPadding Padding to add to the rear of the new array
+     * @return New {@link DataSet} to be published
+     * @throws IllegalArgumentException Thrown if the list is not sorted or contains {@code null}
+     */
+    @Override
+    protected DataSet<T> makeDataSet(int frontPadding, int rearPadding) {
+      long previousKey = Long.MIN_VALUE;
+      for (int i = 0; i < size(); i++) {
+        T item = get(i);
+        if (item == null) {
+          throw new IllegalArgumentException("Can not store null values");
+        }
+        long key = keyExtractor.applyAsLong(item);
+        if (key < previousKey) {
+          throw new IllegalArgumentException("Item is out of sort order: " + item);
+        }
+        previousKey = key;
+      }
+      
+      return super.makeDataSet(frontPadding, rearPadding);
+    }
+  }
+}
@@ -5,6 +5,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import org.threadly.concurrent.ThreadBlockingHook;
 import org.threadly.concurrent.event.RunnableListenerHelper;
 import org.threadly.util.Clock;
 import org.threadly.util.StringUtils;
@@ -381,11 +382,21 @@ public class SettableListenableFuture<T> extends AbstractCancellationMessageProv
 
   @Override
   public T get() throws InterruptedException, ExecutionException {
-    synchronized (resultLock) {
-      while (! done) {
-        resultLock.wait();
+    if (! done) {
+      // if invoked from a pool thread, the pool can compensate while we wait
+      ThreadBlockingHook hook = ThreadBlockingHook.current();
+      if (hook == null) {
+        blockTillDone();
+      } else {
+        hook.blockStarting();
+        try {
+          blockTillDone();
+        } finally {
+          hook.blockFinished();
+        }
       }
-      
+    }
+    synchronized (resultLock) {
       if (failure != null) {
         throw new ExecutionException(failure);
       } else if (cancelStateMessage != null) {
@@ -401,15 +412,22 @@ public class SettableListenableFuture<T> extends AbstractCancellationMessageProv
   @Override
   public T get(long timeout, TimeUnit unit) throws InterruptedException, 
                                                    ExecutionException, TimeoutException {
-    long startTime = Clock.accurateForwardProgressingMillis();
-    long timeoutInMs = unit.toMillis(timeout);
-    synchronized (resultLock) {
-      long remainingInMs;
-      while (! done && 
-             (remainingInMs = timeoutInMs - (Clock.accurateForwardProgressingMillis() - startTime)) > 0) {
-        resultLock.wait(remainingInMs);
+    if (! done) {
+      long timeoutInMs = unit.toMillis(timeout);
+      // if invoked from a pool thread, the pool can compensate while we wait
+      ThreadBlockingHook hook = ThreadBlockingHook.current();
+      if (hook == null) {
+        blockTillDone(timeoutInMs);
+      } else {
+        hook.blockStarting();
+        try {
+          blockTillDone(timeoutInMs);
+        } finally {
+          hook.blockFinished();
+        }
       }
-      
+    }
+    synchronized (resultLock) {
       if (failure != null) {
         throw new ExecutionException(failure);
       } else if (cancelStateMessage != null) {
@@ -424,6 +442,37 @@ public class SettableListenableFuture<T> extends AbstractCancellationMessageProv
       }
     }
   }
+  
+  /**
+   * Waits until the future has completed.
+   * 
+   * @throws InterruptedException Thrown if the thread is interrupted while waiting
+   */
+  private void blockTillDone() throws InterruptedException {
+    synchronized (resultLock) {
+      while (! done) {
+        resultLock.wait();
+      }
+    }
+  }
+  
+  /**
+   * Waits until the future has completed, or until the timeout has elapsed.
+   * 
+   * @param timeoutInMs Maximum time in milliseconds to wait
+   * @throws InterruptedException Thrown if the thread is interrupted while waiting
+   */
+  private void blockTillDone(long timeoutInMs) throws InterruptedException {
+    long startTime = Clock.accurateForwardProgressingMillis();
+    synchronized (resultLock) {
+      long remainingInMs;
+      while (! done && 
+             (remainingInMs = timeoutInMs - 
+                                (Clock.accurateForwardProgressingMillis() - startTime)) > 0) {
+        resultLock.wait(remainingInMs);
+      }
+    }
+  }
 
   @Override
   public StackTraceElement[] getRunningStackTrace() {
@@ -1,11 +1,13 @@
 package org.threadly.concurrent.statistics;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.threadly.concurrent.NoThreadScheduler;
 import org.threadly.concurrent.TaskPriority;
-import org.threadly.concurrent.collections.ConcurrentArrayList;
 import org.threadly.concurrent.statistics.PriorityStatisticManager.TaskStatWrapper;
 import org.threadly.util.Clock;
 import org.threadly.util.Pair;
@@ -129,6 +131,15 @@ public class NoThreadSchedulerStatisticTracker extends NoThreadScheduler
                             delayInMillis, priority);
   }
 
+  @Override
+  protected void doExecuteAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+    List<Runnable> wrappedTasks = new ArrayList<>(tasks.size());
+    for (Runnable task : tasks) {
+      wrappedTasks.add(new TaskStatWrapper(statsManager, priority, task));
+    }
+    super.doExecuteAll(wrappedTasks, priority);
+  }
+  
   @Override
   public void scheduleWithFixedDelay(Runnable task, long initialDelay,
                                      long recurringDelay, TaskPriority priority) {
@@ -141,6 +152,36 @@ public class NoThreadSchedulerStatisticTracker extends NoThreadScheduler
     super.scheduleAtFixedRate(wrap(task, priority), initialDelay, period, priority);
   }
 
+  @Override
+  protected OneTimeTaskWrapper doScheduleNanos(Runnable task, 
+                                               long delayInNanos, TaskPriority priority) {
+    return super.doScheduleNanos(new TaskStatWrapper(statsManager, priority, task), 
+                                 delayInNanos, priority);
+  }
+  
+  @Override
+  public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit, TaskPriority priority) {
+    if (requiresNanoPrecision(initialDelay, unit) || requiresNanoPrecision(recurringDelay, unit)) {
+      super.scheduleWithFixedDelay(wrap(task, priority), initialDelay, recurringDelay, 
+                                   unit, priority);
+    } else {
+      // millisecond version will wrap the task
+      super.scheduleWithFixedDelay(task, initialDelay, recurringDelay, unit, priority);
+    }
+  }
+  
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
+                                  TimeUnit unit, TaskPriority priority) {
+    if (requiresNanoPrecision(initialDelay, unit) || requiresNanoPrecision(period, unit)) {
+      super.scheduleAtFixedRate(wrap(task, priority), initialDelay, period, unit, priority);
+    } else {
+      // millisecond version will wrap the task
+      super.scheduleAtFixedRate(task, initialDelay, period, unit, priority);
+    }
+  }
+  
   @Override
   public List<Long> getExecutionDelaySamples() {
     return statsManager.getExecutionDelaySamples();
@@ -236,13 +277,7 @@ public class NoThreadSchedulerStatisticTracker extends NoThreadScheduler
     if (result != null && result.getContainedRunnable() instanceof TaskStatWrapper) {
       long taskDelay = Clock.lastKnownForwardProgressingMillis() - result.getPureRunTime();
       TaskStatWrapper statWrapper = (TaskStatWrapper)result.getContainedRunnable();
-      ConcurrentArrayList<Long> priorityStats = 
-          statsManager.getExecutionDelaySamplesInternal(statWrapper.priority);
-
-      synchronized (priorityStats.getModificationLock()) {
-        priorityStats.add(taskDelay);
-        statsManager.trimWindow(priorityStats);
-      }
+      statsManager.getExecutionDelaySamplesInternal(statWrapper.priority).add(taskDelay);
     }
     
     return result;
@@ -1,7 +1,6 @@
 package org.threadly.concurrent.statistics;
 
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -11,7 +10,7 @@ import java.util.concurrent.atomic.LongAdder;
 import org.threadly.concurrent.RunnableCallableAdapter;
 import org.threadly.concurrent.RunnableContainer;
 import org.threadly.concurrent.TaskPriority;
-import org.threadly.concurrent.collections.ConcurrentArrayList;
+import org.threadly.concurrent.collections.ConcurrentLongRingBuffer;
 import org.threadly.concurrent.future.ListenableFutureTask;
 import org.threadly.util.Clock;
 import org.threadly.util.Pair;
@@ -33,12 +32,12 @@ class PriorityStatisticManager {
   protected final LongAdder totalLowPriorityExecutions;
   protected final LongAdder totalStarvablePriorityExecutions;
   protected final ConcurrentHashMap<Pair<Thread, TaskStatWrapper>, Long> runningTasks;
-  protected final ConcurrentArrayList<Long> starvablePriorityRunDurations;
-  protected final ConcurrentArrayList<Long> lowPriorityRunDurations;
-  protected final ConcurrentArrayList<Long> highPriorityRunDurations;
-  protected final ConcurrentArrayList<Long> starvablePriorityExecutionDelay;
-  protected final ConcurrentArrayList<Long> lowPriorityExecutionDelay;
-  protected final ConcurrentArrayList<Long> highPriorityExecutionDelay;
+  protected final ConcurrentLongRingBuffer starvablePriorityRunDurations;
+  protected final ConcurrentLongRingBuffer lowPriorityRunDurations;
+  protected final ConcurrentLongRingBuffer highPriorityRunDurations;
+  protected final ConcurrentLongRingBuffer starvablePriorityExecutionDelay;
+  protected final ConcurrentLongRingBuffer lowPriorityExecutionDelay;
+  protected final ConcurrentLongRingBuffer highPriorityExecutionDelay;
   
   protected PriorityStatisticManager(int maxWindowSize, boolean accurateTime) {
     this.maxWindowSize = maxWindowSize;
@@ -47,12 +46,12 @@ class PriorityStatisticManager {
     totalLowPriorityExecutions = new LongAdder();
     totalStarvablePriorityExecutions = new LongAdder();
     runningTasks = new ConcurrentHashMap<>();
-    starvablePriorityRunDurations = new ConcurrentArrayList<>(0, maxWindowSize);
-    lowPriorityRunDurations = new ConcurrentArrayList<>(0, maxWindowSize);
-    highPriorityRunDurations = new ConcurrentArrayList<>(0, maxWindowSize);
-    starvablePriorityExecutionDelay = new ConcurrentArrayList<>(0, maxWindowSize);
-    lowPriorityExecutionDelay = new ConcurrentArrayList<>(0, maxWindowSize);
-    highPriorityExecutionDelay = new ConcurrentArrayList<>(0, maxWindowSize);
+    starvablePriorityRunDurations = new ConcurrentLongRingBuffer(maxWindowSize);
+    lowPriorityRunDurations = new ConcurrentLongRingBuffer(maxWindowSize);
+    highPriorityRunDurations = new ConcurrentLongRingBuffer(maxWindowSize);
+    starvablePriorityExecutionDelay = new ConcurrentLongRingBuffer(maxWindowSize);
+    lowPriorityExecutionDelay = new ConcurrentLongRingBuffer(maxWindowSize);
+    highPriorityExecutionDelay = new ConcurrentLongRingBuffer(maxWindowSize);
   }
   
   /**
@@ -61,7 +60,7 @@ class PriorityStatisticManager {
    * @param priority TaskPriority to look up against, can not be {@code null}
    * @return Collection of execution duration statistics
    */
-  ConcurrentArrayList<Long> getExecutionDurationSamplesInternal(TaskPriority priority) {
+  ConcurrentLongRingBuffer getExecutionDurationSamplesInternal(TaskPriority priority) {
     switch (priority) {
       case High:
         return highPriorityRunDurations;
@@ -80,7 +79,7 @@ class PriorityStatisticManager {
    * @param priority TaskPriority to look up against, can not be {@code null}
    * @return Collection of execution delay statistics
    */
-  ConcurrentArrayList<Long> getExecutionDelaySamplesInternal(TaskPriority priority) {
+  ConcurrentLongRingBuffer getExecutionDelaySamplesInternal(TaskPriority priority) {
     switch (priority) {
       case High:
         return highPriorityExecutionDelay;
@@ -133,34 +132,18 @@ class PriorityStatisticManager {
                         Clock.accurateForwardProgressingMillis() : 
                         Clock.lastKnownForwardProgressingMillis();
     
-    ConcurrentArrayList<Long> runDurations = getExecutionDurationSamplesInternal(taskPair.getRight().priority);
-    
     Long startTime = runningTasks.remove(taskPair);
     
-    synchronized (runDurations.getModificationLock()) {
-      runDurations.add(finishTime - startTime);
-      trimWindow(runDurations);
-    }
-  }
-  
-  /**
-   * Reduces the list size to be within the max window size.
-   * <p>
-   * Should have the list synchronized/locked before calling.
-   * 
-   * @param list Collection to check size of and ensure is under max size
-   */
-  @SuppressWarnings("rawtypes")
-  protected void trimWindow(Deque window) {
-    while (window.size() > maxWindowSize) {
-      window.removeFirst();
-    }
+    getExecutionDurationSamplesInternal(taskPair.getRight().priority).add(finishTime - startTime);
   }
 
   public List<Long> getExecutionDelaySamples() {
-    List<Long> resultList = new ArrayList<>(highPriorityExecutionDelay);
-    resultList.addAll(lowPriorityExecutionDelay);
-    resultList.addAll(starvablePriorityExecutionDelay);
+    List<Long> resultList = new ArrayList<>(highPriorityExecutionDelay.size() + 
+                                              lowPriorityExecutionDelay.size() + 
+                                              starvablePriorityExecutionDelay.size());
+    highPriorityExecutionDelay.addAllTo(resultList);
+    lowPriorityExecutionDelay.addAllTo(resultList);
+    starvablePriorityExecutionDelay.addAllTo(resultList);
     
     return resultList;
   }
@@ -170,7 +153,7 @@ class PriorityStatisticManager {
       return getExecutionDelaySamples();
     }
 
-    return new ArrayList<>(getExecutionDelaySamplesInternal(priority));
+    return getExecutionDelaySamplesInternal(priority).toList();
   }
 
   public double getAverageExecutionDelay() {
@@ -211,9 +194,12 @@ class PriorityStatisticManager {
   }
 
   public List<Long> getExecutionDurationSamples() {
-    List<Long> resultList = new ArrayList<>(highPriorityRunDurations);
-    resultList.addAll(lowPriorityRunDurations);
-    resultList.addAll(starvablePriorityRunDurations);
+    List<Long> resultList = new ArrayList<>(highPriorityRunDurations.size() + 
+                                              lowPriorityRunDurations.size() + 
+                                              starvablePriorityRunDurations.size());
+    highPriorityRunDurations.addAllTo(resultList);
+    lowPriorityRunDurations.addAllTo(resultList);
+    starvablePriorityRunDurations.addAllTo(resultList);
     
     return resultList;
   }
@@ -223,7 +209,7 @@ class PriorityStatisticManager {
       return getExecutionDurationSamples();
     }
     
-    return new ArrayList<>(getExecutionDurationSamplesInternal(priority));
+    return getExecutionDurationSamplesInternal(priority).toList();
   }
 
   public double getAverageExecutionDuration() {
@@ -32,6 +32,11 @@ public class ScheduledExecutorServiceWrapper extends AbstractSubmitterScheduler
     scheduler.schedule(task, delayInMillis, TimeUnit.MILLISECONDS);
   }
 
+  @Override
+  protected void doScheduleNanos(Runnable task, long delayInNanos) {
+    scheduler.schedule(task, delayInNanos, TimeUnit.NANOSECONDS);
+  }
+  
   @Override
   public void scheduleWithFixedDelay(Runnable task, long initialDelay,
                                      long recurringDelay) {
@@ -52,4 +57,25 @@ public class ScheduledExecutorServiceWrapper extends AbstractSubmitterScheduler
     scheduler.scheduleAtFixedRate(new ThrowableSuppressingRunnable(task), 
                                   initialDelay, period, TimeUnit.MILLISECONDS);
   }
+  
+  @Override
+  public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit) {
+    ArgumentVerifier.assertNotNull(task, "task");
+    ArgumentVerifier.assertNotNegative(initialDelay, "initialDelay");
+    ArgumentVerifier.assertNotNegative(recurringDelay, "recurringDelay");
+    
+    scheduler.scheduleWithFixedDelay(new ThrowableSuppressingRunnable(task), 
+                                     initialDelay, recurringDelay, unit);
+  }
+  
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+    ArgumentVerifier.assertNotNull(task, "task");
+    ArgumentVerifier.assertNotNegative(initialDelay, "initialDelay");
+    ArgumentVerifier.assertNotNegative(period, "period");
+    
+    scheduler.scheduleAtFixedRate(new ThrowableSuppressingRunnable(task), 
+                                  initialDelay, period, unit);
+  }
 }
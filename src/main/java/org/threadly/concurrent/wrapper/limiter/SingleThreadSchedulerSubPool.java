@@ -1,5 +1,7 @@
 package org.threadly.concurrent.wrapper.limiter;
 
+import java.util.concurrent.TimeUnit;
+
 import org.threadly.concurrent.AbstractPriorityScheduler;
 import org.threadly.concurrent.ReschedulingOperation;
 import org.threadly.concurrent.SchedulerService;
@@ -74,6 +76,22 @@ public class SingleThreadSchedulerSubPool extends AbstractPriorityScheduler {
                                           initialDelay, period);
   }
 
+  @Override
+  public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit, TaskPriority priority) {
+    noThreadScheduler.scheduleWithFixedDelay(task, initialDelay, recurringDelay, unit, priority);
+    delegateScheduler.scheduleWithFixedDelay(() -> tickTask.signalToRunImmediately(true), 
+                                             initialDelay, recurringDelay, unit);
+  }
+  
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
+                                  TimeUnit unit, TaskPriority priority) {
+    noThreadScheduler.scheduleAtFixedRate(task, initialDelay, period, unit, priority);
+    delegateScheduler.scheduleAtFixedRate(() -> tickTask.signalToRunImmediately(true), 
+                                          initialDelay, period, unit);
+  }
+  
   @Override
   public int getActiveTaskCount() {
     return noThreadScheduler.getActiveTaskCount();
@@ -104,6 +122,15 @@ public class SingleThreadSchedulerSubPool extends AbstractPriorityScheduler {
     return result;
   }
   
+  @Override
+  protected OneTimeTaskWrapper doScheduleNanos(Runnable task, 
+                                               long delayInNanos, TaskPriority priority) {
+    OneTimeTaskWrapper result = noThreadScheduler.doScheduleNanos(task, delayInNanos, priority);
+    delegateScheduler.schedule(() -> tickTask.signalToRunImmediately(true), 
+                               delayInNanos, TimeUnit.NANOSECONDS);
+    return result;
+  }
+  
   /**
    * Operation that should be signaled to run when there is something to execute on the 
    * NoThreadScheduler.  This will ensure that the scheduler is ticked in a single threaded manner.
@@ -132,6 +159,12 @@ public class SingleThreadSchedulerSubPool extends AbstractPriorityScheduler {
       return super.doSchedule(task, delayInMillis, priority);
     }
     
+    @Override
+    protected OneTimeTaskWrapper doScheduleNanos(Runnable task, 
+                                                 long delayInNanos, TaskPriority priority) {
+      return super.doScheduleNanos(task, delayInNanos, priority);
+    }
+    
     @Override
     protected QueueManager getQueueManager() {
       return super.getQueueManager();
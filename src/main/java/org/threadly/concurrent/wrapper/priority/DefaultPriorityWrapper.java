@@ -1,5 +1,7 @@
 package org.threadly.concurrent.wrapper.priority;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 import org.threadly.concurrent.PrioritySchedulerService;
@@ -94,6 +96,28 @@ public class DefaultPriorityWrapper implements PrioritySchedulerService {
     return scheduler.submit(task, priority);
   }
   
+  @Override
+  public void executeAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+    scheduler.executeAll(tasks, priority);
+  }
+  
+  @Override
+  public <T> List<ListenableFuture<T>> submitAll(Collection<? extends Callable<T>> tasks, 
+                                                 TaskPriority priority) {
+    return scheduler.submitAll(tasks, priority);
+  }
+  
+  @Override
+  public <T> ListenableFuture<T> submitWithDeadline(Callable<T> task, long deadlineInMs) {
+    return scheduler.submitWithDeadline(task, deadlineInMs, defaultPriority);
+  }
+  
+  @Override
+  public <T> ListenableFuture<T> submitWithDeadline(Callable<T> task, long deadlineInMs, 
+                                                    TaskPriority priority) {
+    return scheduler.submitWithDeadline(task, deadlineInMs, priority);
+  }
+  
   @Override
   public void schedule(Runnable task, long delayInMs) {
     scheduler.schedule(task, delayInMs, defaultPriority);
@@ -1,8 +1,6 @@
 package org.threadly.concurrent.wrapper.statistics;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -12,6 +10,7 @@ import java.util.concurrent.atomic.LongAdder;
 import org.threadly.concurrent.AbstractSubmitterExecutor;
 import org.threadly.concurrent.RunnableCallableAdapter;
 import org.threadly.concurrent.RunnableContainer;
+import org.threadly.concurrent.collections.ConcurrentLongRingBuffer;
 import org.threadly.concurrent.future.ListenableFutureTask;
 import org.threadly.concurrent.statistics.StatisticExecutor;
 import org.threadly.util.ArgumentVerifier;
@@ -100,11 +99,7 @@ public class ExecutorStatisticWrapper extends AbstractSubmitterExecutor
   
   @Override
   public List<Long> getExecutionDelaySamples() {
-    ArrayList<Long> runDelays;
-    synchronized (statsContainer.runDelays) {
-      runDelays = new ArrayList<>(statsContainer.runDelays);
-    }
-    return runDelays;
+    return statsContainer.runDelays.toList();
   }
   
   @Override
@@ -127,11 +122,7 @@ public class ExecutorStatisticWrapper extends AbstractSubmitterExecutor
 
   @Override
   public List<Long> getExecutionDurationSamples() {
-    ArrayList<Long> runDurations;
-    synchronized (statsContainer.runDurations) {
-      runDurations = new ArrayList<>(statsContainer.runDurations);
-    }
-    return runDurations;
+    return statsContainer.runDurations.toList();
   }
 
   @Override
@@ -217,12 +208,8 @@ public class ExecutorStatisticWrapper extends AbstractSubmitterExecutor
   
   @Override
   public void resetCollectedStats() {
-    synchronized (statsContainer.runDelays) {
-      statsContainer.runDelays.clear();
-    }
-    synchronized (statsContainer.runDurations) {
-      statsContainer.runDurations.clear();
-    }
+    statsContainer.runDelays.clear();
+    statsContainer.runDurations.clear();
   }
   
   /**
@@ -269,8 +256,8 @@ public class ExecutorStatisticWrapper extends AbstractSubmitterExecutor
     protected final LongAdder totalExecutionCount;
     protected final LongAdder queuedTaskCount;
     protected final Map<Pair<Thread, Runnable>, Long> runningTasks;
-    protected final Deque<Long> runDurations;
-    protected final Deque<Long> runDelays;
+    protected final ConcurrentLongRingBuffer runDurations;
+    protected final ConcurrentLongRingBuffer runDelays;
     
     public StatsContainer(int maxStatisticWindowSize, boolean accurateTime) {
       this.maxStatisticWindowSize = maxStatisticWindowSize;
@@ -278,8 +265,8 @@ public class ExecutorStatisticWrapper extends AbstractSubmitterExecutor
       this.totalExecutionCount = new LongAdder();
       this.queuedTaskCount = new LongAdder();
       this.runningTasks = new ConcurrentHashMap<>();
-      this.runDurations = new ArrayDeque<>();
-      this.runDelays = new ArrayDeque<>();
+      this.runDurations = new ConcurrentLongRingBuffer(maxStatisticWindowSize);
+      this.runDelays = new ConcurrentLongRingBuffer(maxStatisticWindowSize);
     }
     
     public void trackStart(Pair<Thread, Runnable> taskPair, long expectedRunTime) {
@@ -289,12 +276,7 @@ public class ExecutorStatisticWrapper extends AbstractSubmitterExecutor
       queuedTaskCount.decrement();
       totalExecutionCount.increment();
       
-      synchronized (runDelays) {
-        runDelays.addLast(startTime - expectedRunTime);
-        if (runDelays.size() > maxStatisticWindowSize) {
-          runDelays.removeFirst();
-        }
-      }
+      runDelays.add(startTime - expectedRunTime);
       
       // get possibly newer time so we don't penalize stats tracking as duration
       runningTasks.put(taskPair, Clock.lastKnownForwardProgressingMillis());
@@ -305,12 +287,7 @@ public class ExecutorStatisticWrapper extends AbstractSubmitterExecutor
                            Clock.accurateForwardProgressingMillis() : Clock.lastKnownForwardProgressingMillis()) - 
                            runningTasks.remove(taskPair);
 
-      synchronized (runDurations) {
-        runDurations.addLast(runDuration);
-        if (runDurations.size() > maxStatisticWindowSize) {
-          runDurations.removeFirst();
-        }
-      }
+      runDurations.add(runDuration);
     }
   }
 }
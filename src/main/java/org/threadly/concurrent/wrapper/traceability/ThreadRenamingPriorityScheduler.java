@@ -131,7 +131,7 @@ public class ThreadRenamingPriorityScheduler extends AbstractSubmitterScheduler
 
   @Override
   public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay) {
-    scheduleWithFixedDelay(task, initialDelay, recurringDelay, null);
+    scheduleWithFixedDelay(task, initialDelay, recurringDelay, (TaskPriority)null);
   }
 
   @Override
@@ -143,7 +143,7 @@ public class ThreadRenamingPriorityScheduler extends AbstractSubmitterScheduler
 
   @Override
   public void scheduleAtFixedRate(Runnable task, long initialDelay, long period) {
-    scheduleAtFixedRate(task, initialDelay, period, null);
+    scheduleAtFixedRate(task, initialDelay, period, (TaskPriority)null);
   }
 
   @Override
@@ -1,6 +1,8 @@
 package org.threadly.test.concurrent;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.threadly.concurrent.AbstractPriorityScheduler;
 import org.threadly.concurrent.NoThreadScheduler;
@@ -72,7 +74,30 @@ public class TestableScheduler extends AbstractPriorityScheduler {
   protected OneTimeTaskWrapper doSchedule(Runnable task, long delayInMillis, TaskPriority priority) {
     return scheduler.doSchedule(task, delayInMillis, priority);
   }
-
+  
+  @Override
+  protected void doExecuteAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+    scheduler.doExecuteAll(tasks, priority);
+  }
+  
+  @Override
+  public void scheduleWithFixedDelay(Runnable task, long initialDelay, long recurringDelay, 
+                                     TimeUnit unit, TaskPriority priority) {
+    scheduler.scheduleWithFixedDelay(task, initialDelay, recurringDelay, unit, priority);
+  }
+  
+  @Override
+  public void scheduleAtFixedRate(Runnable task, long initialDelay, long period, 
+                                  TimeUnit unit, TaskPriority priority) {
+    scheduler.scheduleAtFixedRate(task, initialDelay, period, unit, priority);
+  }
+  
+  @Override
+  protected OneTimeTaskWrapper doScheduleNanos(Runnable task, 
+                                               long delayInNanos, TaskPriority priority) {
+    return scheduler.doScheduleNanos(task, delayInNanos, priority);
+  }
+  
   @Override
   protected QueueManager getQueueManager() {
     return scheduler.getQueueManager();
@@ -276,6 +301,11 @@ public class TestableScheduler extends AbstractPriorityScheduler {
       return nowInMillis;
     }
     
+    @Override
+    protected long nowInNanos(boolean accurate) {
+      return nowInMillis * Clock.NANOS_IN_MILLISECOND;
+    }
+    
     @Override
     protected QueueManager getQueueManager() {
       return super.getQueueManager();
@@ -285,5 +315,16 @@ public class TestableScheduler extends AbstractPriorityScheduler {
     protected OneTimeTaskWrapper doSchedule(Runnable task, long delayInMillis, TaskPriority priority) {
       return super.doSchedule(task, delayInMillis, priority);
     }
+    
+    @Override
+    protected void doExecuteAll(Collection<? extends Runnable> tasks, TaskPriority priority) {
+      super.doExecuteAll(tasks, priority);
+    }
+    
+    @Override
+    protected OneTimeTaskWrapper doScheduleNanos(Runnable task, 
+                                                 long delayInNanos, TaskPriority priority) {
+      return super.doScheduleNanos(task, delayInNanos, priority);
+    }
   }
 }
@@ -23,6 +23,7 @@ public abstract class AbstractService implements Service {
   @Override
   public boolean startIfNotStarted() {
     if (state.get() == 0 && state.compareAndSet(0, 1)) {
+      registerStopVerification(this, state);
       startupService();
       
       return true;
@@ -31,6 +32,24 @@ public abstract class AbstractService implements Service {
     }
   }
   
+  /**
+   * Registers a check to report (through {@link ExceptionUtils#handleException(Throwable)}) if 
+   * the service is garbage collected while still running.  This is static so that the check does 
+   * not hold a reference to the service itself.
+   * 
+   * @param service Service which is being started
+   * @param state State reference for the service
+   */
+  private static void registerStopVerification(AbstractService service, AtomicInteger state) {
+    Class<?> serviceType = service.getClass();
+    ReferenceCleaner.register(service, () -> {
+      if (state.get() == 1) {
+        ExceptionUtils.handleException(new IllegalStateException(serviceType + 
+                                                                   " was not stopped before GC"));
+      }
+    });
+  }
+  
   /**
    * Called internally when the service should perform any actions to startup.  It is expected 
    * that this call will block until the service is running.  This invocation will only occur 
@@ -72,12 +91,4 @@ public abstract class AbstractService implements Service {
   public boolean hasStopped() {
     return state.get() == 2;
   }
-  
-  @Override
-  protected void finalize() throws Throwable {
-    super.finalize();
-    if (isRunning()) {
-      ExceptionUtils.handleException(new IllegalStateException(getClass() + " was not stopped before GC"));
-    }
-  }
 }
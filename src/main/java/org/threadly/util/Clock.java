@@ -160,6 +160,38 @@ public class Clock {
     return ((nowNanos = System.nanoTime()) - CLOCK_STARTUP_TIME_NANOS) / NANOS_IN_MILLISECOND;
   }
   
+  /**
+   * Returns a fuzzy time for how much time in nanoseconds since this class has loaded (starting 
+   * at {@code 0}).  This is the same reference as {@link #lastKnownForwardProgressingMillis()}, 
+   * just without the precision loss.  Meaning that dividing this result by 
+   * {@link #NANOS_IN_MILLISECOND} will produce the same result as 
+   * {@link #lastKnownForwardProgressingMillis()}. 
+   * <p>
+   * By default (unless manually stopped via {@link #stopClockUpdateThread()}) this time is 
+   * updated automatically at the frequency of {@link #AUTOMATIC_UPDATE_FREQUENCY_IN_MS}.  Thus 
+   * allowing a guarantee of minimal accuracy within the set milliseconds.
+   * 
+   * @since 5.33
+   * @return Amount of time in nanoseconds since Clock class was loaded
+   */
+  public static long lastKnownForwardProgressingNanos() {
+    return nowNanos - CLOCK_STARTUP_TIME_NANOS;
+  }
+  
+  /**
+   * Returns an accurate amount of time in nanoseconds since this class has loaded (starting at 
+   * {@code 0}).  This is the same reference as {@link #accurateForwardProgressingMillis()}, just 
+   * without the precision loss.  Meaning that dividing this result by 
+   * {@link #NANOS_IN_MILLISECOND} will produce the same result as 
+   * {@link #accurateForwardProgressingMillis()}.
+   * 
+   * @since 5.33
+   * @return Amount of time in nanoseconds since Clock class was loaded
+   */
+  public static long accurateForwardProgressingNanos() {
+    return (nowNanos = System.nanoTime()) - CLOCK_STARTUP_TIME_NANOS;
+  }
+  
   /**
    * Finds the duration in milliseconds from the reference time.  Effectively this is the same as 
    * subtracting the result from {@link #lastKnownForwardProgressingMillis()} from the parameter 
@@ -0,0 +1,123 @@
+package org.threadly.util;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Utility for running cleanup actions once an object has become phantom reachable.  This is 
+ * intended to replace the use of {@link Object#finalize()}, and provides similar functionality 
+ * to {@code java.lang.ref.Cleaner} (which is not available in java 8). 
+ * <p>
+ * Unlike a finalizer, objects registered here do not have their collection delayed, nor can they 
+ * be resurrected.  The provided cleanup action must NOT hold a reference to the registered 
+ * object (for example a lambda which uses {@code this} or an instance field), otherwise the 
+ * object will never become phantom reachable and the action will never run.  Instead the action 
+ * should only reference the state which needs to be cleaned up. 
+ * <p>
+ * Cleanup actions are run on a single daemon thread which is lazily started on the first 
+ * registration.  Actions should be quick and non-blocking.  Any exceptions thrown from an action 
+ * will be provided to {@link ExceptionUtils#handleException(Throwable)}.
+ * 
+ * @since 5.33
+ */
+public class ReferenceCleaner {
+  protected static final String CLEANER_THREAD_NAME = "ThreadlyReferenceCleaner";
+  
+  private static final ReferenceQueue<Object> REFERENCE_QUEUE = new ReferenceQueue<>();
+  // references must be strongly held until cleaned, or they would be collected with the referent
+  private static final Set<CleanableReference> PENDING_REFERENCES = ConcurrentHashMap.newKeySet();
+  private static final AtomicBoolean CLEANER_THREAD_STARTED = new AtomicBoolean(false);
+  
+  /**
+   * Register an object to have an action run once it has been garbage collected.  The returned 
+   * {@link Cleanable} can be used to invoke the action earlier (for example from a 
+   * {@code close()} function).  Either way the action will be invoked at most once.
+   * 
+   * @param obj Object to monitor for garbage collection
+   * @param cleanupAction Action to invoke, must not reference {@code obj}
+   * @return Cleanable which can be used to invoke the action explicitly
+   */
+  public static Cleanable register(Object obj, Runnable cleanupAction) {
+    ArgumentVerifier.assertNotNull(obj, "obj");
+    ArgumentVerifier.assertNotNull(cleanupAction, "cleanupAction");
+    
+    CleanableReference result = new CleanableReference(obj, cleanupAction);
+    PENDING_REFERENCES.add(result);
+    if (! CLEANER_THREAD_STARTED.get() && CLEANER_THREAD_STARTED.compareAndSet(false, true)) {
+      Thread cleanerThread = new Thread(ReferenceCleaner::processReferences, CLEANER_THREAD_NAME);
+      cleanerThread.setDaemon(true);
+      cleanerThread.start();
+    }
+    return result;
+  }
+  
+  /**
+   * Returns the quantity of registered objects which have not yet been cleaned.
+   * 
+   * @return Quantity of registrations waiting for garbage collection or an explicit clean
+   */
+  public static int getPendingCount() {
+    return PENDING_REFERENCES.size();
+  }
+  
+  private static void processReferences() {
+    while (true) {
+      try {
+        ((CleanableReference)REFERENCE_QUEUE.remove()).clean();
+      } catch (InterruptedException e) {
+        // reset interrupted status and continue, this thread must run for the life of the VM
+        Thread.interrupted();
+      } catch (Throwable t) {
+        ExceptionUtils.handleException(t);
+      }
+    }
+  }
+  
+  /**
+   * Handle to a registered cleanup action.
+   * 
+   * @since 5.33
+   */
+  public interface Cleanable {
+    /**
+     * Unregister the object and invoke the cleanup action on the calling thread.  If the action 
+     * has already been invoked (either from a previous call, or because the object was garbage 
+     * collected) this call will do nothing.
+     */
+    public void clean();
+  }
+  
+  /**
+   * Phantom reference which holds the cleanup action to be run once the referent is collected.
+   * 
+   * @since 5.33
+   */
+  protected static class CleanableReference extends PhantomReference<Object> 
+                                            implements Cleanable {
+    private final AtomicReference<Runnable> cleanupAction;
+    
+    protected CleanableReference(Object referent, Runnable cleanupAction) {
+      super(referent, REFERENCE_QUEUE);
+      
+      this.cleanupAction = new AtomicReference<>(cleanupAction);
+    }
+    
+    @Override
+    public void clean() {
+      Runnable action = cleanupAction.getAndSet(null);
+      if (action != null) {
+        PENDING_REFERENCES.remove(this);
+        clear();
+        try {
+          action.run();
+        } catch (Throwable t) {
+          ExceptionUtils.handleException(t);
+        }
+      }
+    }
+  }
+}
@@ -42,6 +42,7 @@ import org.threadly.util.ArgumentVerifier;
 import org.threadly.util.Clock;
 import org.threadly.util.ExceptionUtils;
 import org.threadly.util.Pair;
+import org.threadly.util.ReferenceCleaner;
 import org.threadly.util.StringUtils;
 
 /**
@@ -111,6 +112,14 @@ public class Profiler {
     this.startStopLock = new Object();
     this.pStore = pStore;
     this.stopFutures = new ArrayList<>(2);
+    
+    // stop collection thread if running once GC'ed so that stored data can also be GC'ed
+    ReferenceCleaner.register(this, () -> {
+      Thread runningThread = pStore.collectorThread.getAndSet(null);
+      if (runningThread != null) {
+        runningThread.interrupt();
+      }
+    });
   }
   
   /**
@@ -601,12 +610,6 @@ public class Profiler {
     out.println(f.function);
   }
   
-  @Override
-  protected void finalize() {
-    // stop collection thread if running so that stored data can be GC'ed
-    stop();
-  }
-  
   /**
    * A small interface to represent and provide access to details for a sampled thread.
    * 
@@ -737,7 +740,7 @@ public class Profiler {
   /**
    * Class for executing the {@ilnk ProfilerRunner} on a {@link Executor}.  This normally would be 
    * a lambda or anonymous inner class.  But having it defined like this ensures we don't hold a 
-   * reference to our parent class (allowing finalization stops to work correctly).
+   * reference to our parent class (allowing stops on garbage collection to work correctly).
    * 
    * @since 5.25
    */
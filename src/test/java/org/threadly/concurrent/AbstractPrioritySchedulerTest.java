@@ -2,11 +2,19 @@ package org.threadly.concurrent;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Test;
+import org.threadly.BlockingTestRunnable;
 import org.threadly.concurrent.AbstractPriorityScheduler.OneTimeTaskWrapper;
+import org.threadly.concurrent.future.ListenableFuture;
 import org.threadly.test.concurrent.TestRunnable;
 import org.threadly.test.concurrent.TestUtils;
 import org.threadly.util.Clock;
@@ -514,6 +522,103 @@ public abstract class AbstractPrioritySchedulerTest extends SchedulerServiceInte
     }
   }
   
+  @Test
+  public void executeAllTest() {
+    AbstractPrioritySchedulerFactory priorityFactory = getAbstractPrioritySchedulerFactory();
+    try {
+      PrioritySchedulerService scheduler = priorityFactory.makeAbstractPriorityScheduler(2);
+      
+      for (TaskPriority priority : TaskPriority.values()) {
+        List<TestRunnable> runnables = new ArrayList<>(TEST_QTY);
+        for (int i = 0; i < TEST_QTY; i++) {
+          runnables.add(new TestRunnable());
+        }
+        
+        scheduler.executeAll(runnables, priority);
+        
+        for (TestRunnable tr : runnables) {
+          tr.blockTillFinished(1000 * 10); // throws exception if fails
+          assertEquals(1, tr.getRunCount());
+        }
+      }
+    } finally {
+      priorityFactory.shutdown();
+    }
+  }
+  
+  @Test
+  public void executeAllFail() {
+    AbstractPrioritySchedulerFactory priorityFactory = getAbstractPrioritySchedulerFactory();
+    try {
+      PrioritySchedulerService scheduler = priorityFactory.makeAbstractPriorityScheduler(1);
+      try {
+        scheduler.executeAll(null, TaskPriority.High);
+        fail("Exception should have thrown");
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+      TestRunnable tr = new TestRunnable();
+      try {
+        scheduler.executeAll(Arrays.asList(tr, null), TaskPriority.High);
+        fail("Exception should have thrown");
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+      // verify nothing was queued from the failed batch
+      TestUtils.sleep(DELAY_TIME);
+      assertEquals(0, tr.getRunCount());
+    } finally {
+      priorityFactory.shutdown();
+    }
+  }
+  
+  @Test
+  public void submitAllTest() throws InterruptedException, ExecutionException {
+    AbstractPrioritySchedulerFactory priorityFactory = getAbstractPrioritySchedulerFactory();
+    try {
+      PrioritySchedulerService scheduler = priorityFactory.makeAbstractPriorityScheduler(2);
+      
+      List<TestCallable> callables = new ArrayList<>(TEST_QTY);
+      for (int i = 0; i < TEST_QTY; i++) {
+        callables.add(new TestCallable(0));
+      }
+      
+      List<ListenableFuture<Object>> futures = scheduler.submitAll(callables, TaskPriority.Low);
+      
+      assertEquals(TEST_QTY, futures.size());
+      for (int i = 0; i < TEST_QTY; i++) {
+        assertTrue(futures.get(i).get() == callables.get(i).getReturnedResult());
+      }
+    } finally {
+      priorityFactory.shutdown();
+    }
+  }
+  
+  @Test
+  public void submitScheduledCancelRemovesTaskTest() {
+    AbstractPrioritySchedulerFactory factory = getAbstractPrioritySchedulerFactory();
+    try {
+      AbstractPriorityScheduler scheduler = factory.makeAbstractPriorityScheduler(1);
+      TestRunnable tr = new TestRunnable();
+      ListenableFuture<?> future = scheduler.submitScheduled(tr, 1000 * 60);
+      ListenableFuture<?> nanoFuture = 
+          scheduler.submitScheduled(tr, null, TimeUnit.SECONDS.toNanos(60) + 1, TimeUnit.NANOSECONDS);
+      assertEquals(2, scheduler.getQueuedTaskCount());
+      
+      assertTrue(future.cancel(false));
+      
+      // removed immediately on cancel, without needing to be removed or reach the queue head
+      assertEquals(1, scheduler.getQueuedTaskCount());
+      
+      assertTrue(nanoFuture.cancel(false));
+      
+      assertEquals(0, scheduler.getQueuedTaskCount());
+      assertEquals(0, tr.getRunCount());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
   @Test
   public void lowPriorityFlowControlTest() {
     AbstractPrioritySchedulerFactory priorityFactory = getAbstractPrioritySchedulerFactory();
@@ -647,6 +752,173 @@ public abstract class AbstractPrioritySchedulerTest extends SchedulerServiceInte
     }
   }
   
+  @Test
+  public void timingWheelScheduleTest() {
+    AbstractPrioritySchedulerFactory factory = getAbstractPrioritySchedulerFactory();
+    try {
+      AbstractPriorityScheduler scheduler = factory.makeAbstractPriorityScheduler(2);
+      scheduler.enableScheduleTimingWheel(1, 16);
+      List<TestRunnable> runnables = new ArrayList<>(TEST_QTY);
+      for (int i = 0; i < TEST_QTY; i++) {
+        TestRunnable tr = new TestRunnable();
+        scheduler.schedule(tr, DELAY_TIME + i);
+        runnables.add(tr);
+      }
+      
+      for (TestRunnable tr : runnables) {
+        assertTrue(tr.getDelayTillFirstRun() >= DELAY_TIME);
+      }
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void timingWheelRecurringTest() {
+    AbstractPrioritySchedulerFactory factory = getAbstractPrioritySchedulerFactory();
+    try {
+      AbstractPriorityScheduler scheduler = factory.makeAbstractPriorityScheduler(2);
+      scheduler.enableScheduleTimingWheel(1, 4);
+      TestRunnable tr = new TestRunnable();
+      scheduler.scheduleWithFixedDelay(tr, 0, DELAY_TIME);
+      
+      tr.blockTillFinished((DELAY_TIME * (CYCLE_COUNT - 1)) + 2000, CYCLE_COUNT);
+      assertTrue(tr.getDelayTillRun(CYCLE_COUNT) >= DELAY_TIME * (CYCLE_COUNT - 1));
+      
+      assertTrue(scheduler.remove(tr));
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void timingWheelRemoveTest() {
+    AbstractPrioritySchedulerFactory factory = getAbstractPrioritySchedulerFactory();
+    try {
+      AbstractPriorityScheduler scheduler = factory.makeAbstractPriorityScheduler(1);
+      scheduler.enableScheduleTimingWheel();
+      TestRunnable removedTask = new TestRunnable();
+      scheduler.submitScheduled(removedTask, 10 * 1000);
+      
+      assertEquals(1, scheduler.getQueueManager().highPriorityQueueSet.queueSize());
+      assertFalse(scheduler.remove(new TestRunnable()));
+      assertTrue(scheduler.remove(removedTask));
+      assertEquals(0, scheduler.getQueueManager().highPriorityQueueSet.queueSize());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test (expected = IllegalStateException.class)
+  public void timingWheelEnableTwiceFail() {
+    AbstractPrioritySchedulerFactory factory = getAbstractPrioritySchedulerFactory();
+    try {
+      AbstractPriorityScheduler scheduler = factory.makeAbstractPriorityScheduler(1);
+      scheduler.enableScheduleTimingWheel();
+      scheduler.enableScheduleTimingWheel();
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void submitWithDeadlineOrderTest() throws InterruptedException, ExecutionException {
+    AbstractPrioritySchedulerFactory factory = getAbstractPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      AbstractPriorityScheduler scheduler = factory.makeAbstractPriorityScheduler(1);
+      scheduler.execute(btr);
+      btr.blockTillStarted();
+      
+      List<Integer> runOrder = Collections.synchronizedList(new ArrayList<>());
+      ListenableFuture<?> lastFuture = scheduler.submit(() -> runOrder.add(0));
+      scheduler.submitWithDeadline(() -> runOrder.add(3), 30_000);
+      scheduler.submitWithDeadline(() -> runOrder.add(1), 10_000);
+      scheduler.submitWithDeadline(() -> runOrder.add(2), 20_000);
+      assertEquals(4, scheduler.getQueuedTaskCount());
+      
+      btr.unblock();
+      lastFuture.get();
+      
+      // deadline tasks run in deadline order, ahead of other ready tasks
+      assertEquals(Arrays.asList(1, 2, 3, 0), runOrder);
+      assertEquals(0, scheduler.getShedTaskCount());
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void submitWithDeadlinePrecedenceLimitTest() throws InterruptedException, 
+                                                             ExecutionException {
+    AbstractPrioritySchedulerFactory factory = getAbstractPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      AbstractPriorityScheduler scheduler = factory.makeAbstractPriorityScheduler(1);
+      scheduler.execute(btr);
+      btr.blockTillStarted();
+      
+      List<Integer> runOrder = Collections.synchronizedList(new ArrayList<>());
+      scheduler.submit(() -> runOrder.add(0));
+      TestUtils.sleep(TimeUnit.NANOSECONDS.toMillis(
+                        AbstractPriorityScheduler.DEADLINE_TASK_MAX_PRECEDENCE_NANOS) * 3);
+      Clock.accurateForwardProgressingNanos();  // ensure deadline task sees the updated time
+      ListenableFuture<?> lastFuture = scheduler.submitWithDeadline(() -> runOrder.add(1), 
+                                                                    30_000);
+      
+      btr.unblock();
+      lastFuture.get();
+      
+      // task which has waited too long should not be passed by the deadline task
+      assertEquals(Arrays.asList(0, 1), runOrder);
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void submitWithDeadlineShedTest() throws InterruptedException {
+    AbstractPrioritySchedulerFactory factory = getAbstractPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      AbstractPriorityScheduler scheduler = factory.makeAbstractPriorityScheduler(1);
+      scheduler.execute(btr);
+      btr.blockTillStarted();
+      
+      TestRunnable tr = new TestRunnable();
+      ListenableFuture<?> lf = scheduler.submitWithDeadline(tr, 1, TaskPriority.Low);
+      TestUtils.sleep(DELAY_TIME);
+      btr.unblock();
+      
+      try {
+        lf.get();
+        fail("Exception should have thrown");
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof TimeoutException);
+      }
+      assertFalse(tr.ranOnce());
+      assertEquals(1, scheduler.getShedTaskCount());
+      assertEquals(1, scheduler.getShedTaskCount(TaskPriority.Low));
+      assertEquals(0, scheduler.getShedTaskCount(TaskPriority.High));
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void submitWithDeadlineFail() {
+    AbstractPrioritySchedulerFactory factory = getAbstractPrioritySchedulerFactory();
+    try {
+      AbstractPriorityScheduler scheduler = factory.makeAbstractPriorityScheduler(1);
+      scheduler.submitWithDeadline(DoNothingRunnable.instance(), -1);
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
   public interface AbstractPrioritySchedulerFactory extends SchedulerServiceFactory {
     public AbstractPriorityScheduler makeAbstractPriorityScheduler(int poolSize, 
                                                                    TaskPriority defaultPriority, 
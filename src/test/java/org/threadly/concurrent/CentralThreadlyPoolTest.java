@@ -171,6 +171,43 @@ public class CentralThreadlyPoolTest extends ThreadlyTester {
     verifyGuaranteedThreadProtection(executors, threadsPerScheduler);
   }
   
+  private static int getEffectiveMasterPoolSize() {
+    // include decreases which have not yet been applied by the pool size updater
+    return CentralThreadlyPool.MASTER_SCHEDULER.getMaxPoolSize() + 
+             CentralThreadlyPool.POOL_SIZE_UPDATER.poolSizeChange.intValue();
+  }
+  
+  @Test
+  public void singleThreadPoolCloseTest() throws Exception {
+    int startSize = getEffectiveMasterPoolSize();
+    PrioritySchedulerService pool = CentralThreadlyPool.singleThreadPool();
+    assertEquals(startSize + 1, getEffectiveMasterPoolSize());
+    
+    ((AutoCloseable)pool).close();
+    assertEquals(startSize, getEffectiveMasterPoolSize());
+    // repeated closes should have no effect
+    ((AutoCloseable)pool).close();
+    assertEquals(startSize, getEffectiveMasterPoolSize());
+  }
+  
+  @Test
+  public void threadPoolCloseTest() throws Exception {
+    int threadCount = 5;
+    int startSize = getEffectiveMasterPoolSize();
+    SchedulerService pool = CentralThreadlyPool.threadPool(threadCount);
+    assertEquals(startSize + threadCount, getEffectiveMasterPoolSize());
+    
+    ((AutoCloseable)pool).close();
+    assertEquals(startSize, getEffectiveMasterPoolSize());
+    ((AutoCloseable)pool).close();
+    assertEquals(startSize, getEffectiveMasterPoolSize());
+    
+    // pool should still be usable on the general processing threads
+    TestRunnable tr = new TestRunnable();
+    pool.execute(tr);
+    tr.blockTillFinished();
+  }
+  
   @Test
   public void threadPoolRenamedTest() throws InterruptedException, TimeoutException {
     final String threadName = StringUtils.makeRandomString(5);
@@ -206,4 +243,61 @@ public class CentralThreadlyPoolTest extends ThreadlyTester {
       }
     }
   }
+  
+  @Test
+  public void isolatedPoolThreadCreatedCountTest() {
+    TestRunnable tr = new TestRunnable();
+    CentralThreadlyPool.isolatedTaskPool().execute(tr);
+    tr.blockTillFinished();
+    
+    assertTrue(CentralThreadlyPool.getThreadCreatedCount() > 0);
+  }
+  
+  @Test
+  public void computationPoolBlockCompensationTest() throws Exception {
+    long startCount = CentralThreadlyPool.getBlockingCompensationCount();
+    SchedulerService pool = CentralThreadlyPool.computationPool();
+    TestRunnable tr = new TestRunnable();
+    pool.submit(() -> {
+      pool.block(() -> tr.run());
+      return null;
+    }).get();
+    
+    assertTrue(tr.ranOnce());
+    assertTrue(CentralThreadlyPool.getBlockingCompensationCount() > startCount);
+  }
+  
+  @Test
+  public void isolatedTaskThreadReserveTest() {
+    CentralThreadlyPool.IsolatedTaskThreadReserve reserve = 
+        new CentralThreadlyPool.IsolatedTaskThreadReserve(new NoThreadScheduler(), 2);
+    
+    reserve.reserveThread();
+    // first task should reserve its own thread plus the spares
+    assertEquals(3, reserve.reservedThreads.get());
+    reserve.reserveThread();
+    reserve.reserveThread();
+    assertEquals(3, reserve.reservedThreads.get());
+    reserve.reserveThread();
+    assertEquals(6, reserve.reservedThreads.get());
+    
+    for (int i = 0; i < 4; i++) {
+      reserve.releaseThread();
+    }
+    // completing tasks should never resize directly
+    assertEquals(6, reserve.reservedThreads.get());
+    assertTrue(reserve.isActive());
+    
+    // first trim should retain the peak since the last trim
+    reserve.run();
+    assertEquals(6, reserve.reservedThreads.get());
+    // without any further demand we should trim down to just the spare threads
+    reserve.run();
+    assertEquals(2, reserve.reservedThreads.get());
+    
+    reserve.reserveThread();
+    assertEquals(2, reserve.reservedThreads.get());
+    reserve.releaseThread();
+    assertEquals(0, reserve.outstandingTasks.get());
+  }
 }
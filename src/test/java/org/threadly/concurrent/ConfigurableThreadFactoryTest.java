@@ -107,6 +107,25 @@ public class ConfigurableThreadFactoryTest extends ThreadlyTester {
     assertTrue(t.isDaemon());
   }
 
+  @Test
+  public void useVirtualThreadTest() {
+    String threadPrefix = StringUtils.makeRandomString(5);
+    try {
+      ConfigurableThreadFactory ctf =
+          new ConfigurableThreadFactory(threadPrefix, false, false, Thread.NORM_PRIORITY,
+                                        null, null, true);
+      assertTrue(ConfigurableThreadFactory.isVirtualThreadSupported());
+      assertTrue(ctf.useVirtualThreads);
+      
+      Thread t = ctf.newThread(DoNothingRunnable.instance());
+      // virtual threads are always daemon
+      assertTrue(t.isDaemon());
+      assertTrue(t.getName().startsWith(threadPrefix));
+    } catch (UnsupportedOperationException e) {
+      assertFalse(ConfigurableThreadFactory.isVirtualThreadSupported());
+    }
+  }
+  
   @Test
   public void priorityUnderMinTest() {
     ConfigurableThreadFactory ctf = makeThreadFactory(-1000);
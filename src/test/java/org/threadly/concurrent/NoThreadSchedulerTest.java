@@ -115,6 +115,82 @@ public class NoThreadSchedulerTest extends ThreadlyTester {
     }
   }
   
+  @Test
+  public void tickMaxTasksTest() {
+    List<TestRunnable> runnables = getRunnableList();
+    for (TestRunnable tr : runnables) {
+      scheduler.execute(tr);
+    }
+    
+    assertTrue(scheduler.tick(null, TEST_QTY - 1, Long.MAX_VALUE));
+    for (int i = 0; i < TEST_QTY - 1; i++) {
+      assertEquals(1, runnables.get(i).getRunCount());
+    }
+    assertEquals(0, runnables.get(TEST_QTY - 1).getRunCount());
+    
+    assertFalse(scheduler.tick(null, TEST_QTY, Long.MAX_VALUE));
+    for (TestRunnable tr : runnables) {
+      assertEquals(1, tr.getRunCount());
+    }
+  }
+  
+  @Test
+  public void tickTimeBudgetTest() {
+    int taskCount = 10;
+    List<TestRunnable> runnables = new ArrayList<>(taskCount);
+    for (int i = 0; i < taskCount; i++) {
+      TestRunnable tr = new TestRunnable(1);
+      runnables.add(tr);
+      scheduler.execute(tr);
+    }
+    
+    // budget is less than one task, and the clock is checked after the first task
+    assertTrue(scheduler.tick(null, Integer.MAX_VALUE, Clock.NANOS_IN_MILLISECOND / 2));
+    assertEquals(1, runnables.get(0).getRunCount());
+    assertEquals(0, runnables.get(1).getRunCount());
+    
+    // budget allows at most two tasks per tick
+    int tickCount = 1;
+    do {
+      tickCount++;
+    } while (scheduler.tick(null, Integer.MAX_VALUE, Clock.NANOS_IN_MILLISECOND * 2));
+    assertTrue(tickCount > (taskCount / 2));
+    for (TestRunnable tr : runnables) {
+      assertEquals(1, tr.getRunCount());
+    }
+  }
+  
+  @Test
+  public void blockingTickMaxTasksTest() throws InterruptedException {
+    TestRunnable tr1 = new TestRunnable();
+    TestRunnable tr2 = new TestRunnable();
+    scheduler.schedule(tr1, DELAY_TIME);
+    scheduler.schedule(tr2, DELAY_TIME);
+    
+    assertTrue(scheduler.blockingTick(null, 1, Long.MAX_VALUE));
+    assertEquals(1, tr1.getRunCount());
+    assertEquals(0, tr2.getRunCount());
+    
+    assertFalse(scheduler.blockingTick(null, 1, Long.MAX_VALUE));
+    assertEquals(1, tr2.getRunCount());
+  }
+  
+  @Test
+  public void tickBudgetFail() {
+    try {
+      scheduler.tick(null, 0, Long.MAX_VALUE);
+      fail("Exception should have thrown");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    try {
+      scheduler.tick(null, 1, 0);
+      fail("Exception should have thrown");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+  
   @Test
   public void executeInOrderTest() {
     TestRunnable lastRun = null;
@@ -448,6 +524,32 @@ public class NoThreadSchedulerTest extends ThreadlyTester {
     assertEquals(1, initialDelay.getRunCount());  // should have run
   }
   
+  @Test
+  public void timingWheelScheduleTest() throws InterruptedException {
+    scheduler.enableScheduleTimingWheel(1, 16);
+    TestRunnable tr = new TestRunnable();
+    scheduler.schedule(tr, DELAY_TIME);
+    
+    assertEquals(0, scheduler.tick(null));
+    assertEquals(1, scheduler.blockingTick(null));
+    assertEquals(1, tr.getRunCount());
+    assertTrue(tr.getDelayTillFirstRun() >= DELAY_TIME);
+  }
+  
+  @Test
+  public void timingWheelRecurringTest() throws InterruptedException {
+    scheduler.enableScheduleTimingWheel(1, 4);
+    TestRunnable tr = new TestRunnable();
+    scheduler.scheduleAtFixedRate(tr, DELAY_TIME, DELAY_TIME);
+    
+    int runCount = 0;
+    while (runCount < CYCLE_COUNT) {
+      runCount += scheduler.blockingTick(null);
+    }
+    assertEquals(CYCLE_COUNT, tr.getRunCount());
+    assertTrue(tr.getDelayTillRun(CYCLE_COUNT) >= DELAY_TIME * CYCLE_COUNT);
+  }
+  
   @Test
   public void removeCallableTest() throws InterruptedException {
     TestCallable immediateRun = new TestCallable();
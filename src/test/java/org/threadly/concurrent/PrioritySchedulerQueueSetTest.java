@@ -14,6 +14,8 @@ import org.threadly.ThreadlyTester;
 import org.threadly.concurrent.AbstractPriorityScheduler.OneTimeTaskWrapper;
 import org.threadly.concurrent.AbstractPriorityScheduler.QueueSet;
 import org.threadly.concurrent.AbstractPriorityScheduler.QueueSetListener;
+import org.threadly.concurrent.AbstractPriorityScheduler.RecurringDelayTaskWrapper;
+import org.threadly.concurrent.AbstractPriorityScheduler.RecurringRateTaskWrapper;
 import org.threadly.concurrent.AbstractPriorityScheduler.TaskWrapper;
 import org.threadly.concurrent.future.ListenableFutureTask;
 import org.threadly.test.concurrent.TestRunnable;
@@ -150,6 +152,86 @@ public class PrioritySchedulerQueueSetTest extends ThreadlyTester {
     assertTrue(depositList.contains(task));
   }
   
+  @Test
+  public void removeScheduledTest() {
+    long runTime = Clock.accurateForwardProgressingMillis() + 1000;
+    List<OneTimeTaskWrapper> tasks = new ArrayList<>(TEST_QTY);
+    for (int i = 0; i < TEST_QTY; i++) {
+      // include tasks with duplicate run times to verify the correct wrapper is removed
+      OneTimeTaskWrapper task = 
+          new OneTimeTaskWrapper(DoNothingRunnable.instance(), queueSet.scheduleQueue, runTime + (i / 2));
+      tasks.add(task);
+      queueSet.addScheduled(task);
+    }
+    Collections.shuffle(tasks);
+    
+    for (int i = 0; i < TEST_QTY; i++) {
+      OneTimeTaskWrapper task = tasks.get(i);
+      assertTrue(queueSet.removeScheduled(task));
+      assertFalse(queueSet.removeScheduled(task));
+      assertTrue(task.invalidated);
+      assertFalse(queueSet.scheduleQueue.contains(task));
+      assertEquals(TEST_QTY - i - 1, queueSet.scheduleQueue.size());
+    }
+  }
+  
+  @Test
+  public void recurringTaskClaimTest() {
+    TestRunnable tr = new TestRunnable();
+    RecurringDelayTaskWrapper task = 
+        new RecurringDelayTaskWrapper(tr, queueSet, Clock.accurateForwardProgressingMillis(), 1000);
+    queueSet.addScheduled(task);
+    short executeReference = task.getExecuteReference();
+    
+    assertTrue(task.canExecute(executeReference));
+    // claimed task is moved out of the queue, but still counted and can not be claimed again
+    assertFalse(task.canExecute(executeReference));
+    assertTrue(queueSet.scheduleQueue.isEmpty());
+    assertTrue(queueSet.executingRecurringTasks.contains(task));
+    assertEquals(1, queueSet.queueSize());
+    
+    task.runTask();
+    
+    assertEquals(1, tr.getRunCount());
+    assertTrue(queueSet.executingRecurringTasks.isEmpty());
+    assertTrue(queueSet.scheduleQueue.peekFirst() == task);
+  }
+  
+  @Test
+  public void recurringTaskStaleReferenceClaimFail() {
+    RecurringRateTaskWrapper task = 
+        new RecurringRateTaskWrapper(DoNothingRunnable.instance(), queueSet, 
+                                     Clock.accurateForwardProgressingMillis() - 1000, 1);
+    RecurringRateTaskWrapper headTask = 
+        new RecurringRateTaskWrapper(DoNothingRunnable.instance(), queueSet, 
+                                     Clock.accurateForwardProgressingMillis() - 1000, 10_000);
+    queueSet.addScheduled(task);
+    queueSet.addScheduled(headTask);
+    assertTrue(task.canExecute(task.getExecuteReference()));
+    task.runTask();
+    // task is still behind schedule, but is now queued after headTask
+    short staleReference = task.getExecuteReference();
+    
+    assertTrue(queueSet.scheduleQueue.peekFirst() == headTask);
+    assertEquals(0, task.getScheduleDelayNanos());
+    assertFalse(task.canExecute(staleReference));
+  }
+  
+  @Test
+  public void removeExecutingRecurringTaskTest() {
+    TestRunnable tr = new TestRunnable();
+    RecurringDelayTaskWrapper task = 
+        new RecurringDelayTaskWrapper(tr, queueSet, Clock.accurateForwardProgressingMillis(), 1000);
+    queueSet.addScheduled(task);
+    assertTrue(task.canExecute(task.getExecuteReference()));
+    
+    assertTrue(queueSet.remove(tr));
+    task.runTask();
+    
+    assertEquals(0, tr.getRunCount());
+    assertEquals(0, queueSet.queueSize());
+  }
+  
   @Test
   public void getNextTaskEmptyTest() {
     assertNull(queueSet.getNextTask());
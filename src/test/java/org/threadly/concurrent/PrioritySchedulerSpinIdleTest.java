@@ -0,0 +1,95 @@
+package org.threadly.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.threadly.test.concurrent.TestCondition;
+import org.threadly.test.concurrent.TestRunnable;
+
+@SuppressWarnings("javadoc")
+public class PrioritySchedulerSpinIdleTest extends PrioritySchedulerTest {
+  @Override
+  protected PrioritySchedulerServiceFactory getPrioritySchedulerFactory() {
+    return new SpinIdlePrioritySchedulerFactory();
+  }
+  
+  @Test
+  public void spinningWorkerReleasedWhenIdleTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(4);
+      scheduler.prestartAllThreads();
+      List<TestRunnable> runnables = new ArrayList<>(TEST_QTY);
+      for (int i = 0; i < TEST_QTY; i++) {
+        TestRunnable tr = new TestRunnable();
+        runnables.add(tr);
+        scheduler.execute(tr);
+      }
+      
+      for (TestRunnable tr : runnables) {
+        tr.blockTillFinished();
+      }
+      // once idle, workers must stop spinning and park
+      new TestCondition(() -> scheduler.workerPool.spinningWorkerCount.get() == 0).blockTillTrue();
+      assertEquals(0, scheduler.getActiveTaskCount());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void spinningWorkerTakesTaskWithoutWakeTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      // with a single worker, only a submission can cause a worker to be unparked
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      scheduler.prestartAllThreads();
+      boolean spinObserved = false;
+      boolean wakeSkipped = false;
+      for (int i = 0; i < TEST_QTY * 1000 && ! wakeSkipped; i++) {
+        TestRunnable tr = new TestRunnable();
+        if (scheduler.workerPool.spinningWorkerCount.get() > 0) {
+          spinObserved = true;
+          long wakeCount = scheduler.getWorkerWakeCount();
+          scheduler.execute(tr);
+          // may have stopped spinning before the submission, if so try again
+          wakeSkipped = wakeCount == scheduler.getWorkerWakeCount();
+        } else {
+          scheduler.execute(tr);
+        }
+        // avoid sleeping so that we can submit while the worker is still spinning
+        while (! tr.ranOnce()) {
+          Thread.yield();
+        }
+      }
+      
+      assertTrue(spinObserved);
+      assertTrue(wakeSkipped);
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  private static class SpinIdlePrioritySchedulerFactory extends PrioritySchedulerFactory {
+    @Override
+    public PriorityScheduler makePriorityScheduler(int poolSize, TaskPriority defaultPriority,
+                                                   long maxWaitForLowPriority) {
+      PriorityScheduler result =
+          super.makePriorityScheduler(poolSize, defaultPriority, maxWaitForLowPriority);
+      result.setWorkerIdleStrategy(WorkerIdleStrategy.SpinYieldPark);
+      
+      return result;
+    }
+    
+    @Override
+    public PriorityScheduler makePriorityScheduler(int poolSize) {
+      PriorityScheduler result = super.makePriorityScheduler(poolSize);
+      result.setWorkerIdleStrategy(WorkerIdleStrategy.SpinYieldPark);
+      
+      return result;
+    }
+  }
+}
@@ -3,15 +3,21 @@ package org.threadly.concurrent;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.Test;
 import org.threadly.BlockingTestRunnable;
 import org.threadly.concurrent.AbstractPriorityScheduler.OneTimeTaskWrapper;
+import org.threadly.concurrent.PriorityScheduler.Worker;
+import org.threadly.concurrent.future.FutureUtils;
 import org.threadly.concurrent.future.ListenableFuture;
+import org.threadly.concurrent.future.SettableListenableFuture;
 import org.threadly.concurrent.wrapper.priority.DefaultPriorityWrapper;
 import org.threadly.test.concurrent.AsyncVerifier;
 import org.threadly.test.concurrent.TestCondition;
@@ -108,6 +114,548 @@ public class PrioritySchedulerTest extends AbstractPrioritySchedulerTest {
     }
   }
   
+  @Test
+  public void getAndSetWorkerBatchDequeueSizeTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      assertEquals(1, scheduler.getWorkerBatchDequeueSize());
+      
+      scheduler.setWorkerBatchDequeueSize(8);
+      
+      assertEquals(8, scheduler.getWorkerBatchDequeueSize());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void setWorkerBatchDequeueSizeFail() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      
+      scheduler.setWorkerBatchDequeueSize(0);
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void workerBatchDequeueTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      int batchSize = 4;
+      scheduler.setWorkerBatchDequeueSize(batchSize);
+      List<Runnable> runnables = new ArrayList<>(TEST_QTY + 1);
+      runnables.add(btr);
+      for (int i = 0; i < TEST_QTY; i++) {
+        runnables.add(new TestRunnable());
+      }
+      
+      scheduler.executeAll(runnables, TaskPriority.High);
+      btr.blockTillStarted();
+      
+      // worker claimed the blocking task along with the rest of its batch
+      assertEquals(batchSize - 1, scheduler.workerPool.getWorkerLocalQueuedTaskCount());
+      assertEquals(TEST_QTY, scheduler.getQueuedTaskCount());
+      
+      btr.unblock();
+      for (int i = 1; i < runnables.size(); i++) {
+        ((TestRunnable)runnables.get(i)).blockTillFinished();
+      }
+      assertEquals(0, scheduler.workerPool.getWorkerLocalQueuedTaskCount());
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void getAndSetWorkerIdleStrategyTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      
+      for (WorkerIdleStrategy idleStrategy : WorkerIdleStrategy.values()) {
+        scheduler.setWorkerIdleStrategy(idleStrategy);
+        
+        assertEquals(idleStrategy, scheduler.getWorkerIdleStrategy());
+      }
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void setWorkerIdleStrategyFail() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      
+      scheduler.setWorkerIdleStrategy(null);
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void getAndSetCorePoolSizeTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(4);
+      assertEquals(4, scheduler.getCorePoolSize());
+      
+      scheduler.setCorePoolSize(2);
+      assertEquals(2, scheduler.getCorePoolSize());
+      
+      scheduler.setCorePoolSize(8);
+      // limited to the max pool size
+      assertEquals(4, scheduler.getCorePoolSize());
+      
+      scheduler.setPoolSize(10);
+      assertEquals(8, scheduler.getCorePoolSize());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void setCorePoolSizeFail() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      
+      scheduler.setCorePoolSize(-1);
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void getAndSetWorkerKeepAliveTimeTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      assertEquals(Long.MAX_VALUE, scheduler.getWorkerKeepAliveTime());
+      
+      scheduler.setWorkerKeepAliveTime(DELAY_TIME);
+      assertEquals(DELAY_TIME, scheduler.getWorkerKeepAliveTime());
+      
+      scheduler.setWorkerKeepAliveTime(Long.MAX_VALUE);
+      assertEquals(Long.MAX_VALUE, scheduler.getWorkerKeepAliveTime());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void setWorkerKeepAliveTimeFail() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      
+      scheduler.setWorkerKeepAliveTime(0);
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void workerKeepAliveRetireTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(4);
+      scheduler.prestartAllThreads();
+      assertEquals(4, scheduler.getWorkerCreatedCount());
+      
+      scheduler.setCorePoolSize(1);
+      scheduler.setWorkerKeepAliveTime(DELAY_TIME);
+      new TestCondition(() -> scheduler.getCurrentPoolSize() == 1).blockTillTrue();
+      
+      assertEquals(3, scheduler.getWorkerRetiredCount());
+      assertEquals(1, scheduler.getCorePoolSize());
+      assertEquals(4, scheduler.getMaxPoolSize());
+      
+      // workers should still be started on demand
+      BlockingTestRunnable btr = new BlockingTestRunnable();
+      try {
+        scheduler.execute(btr);
+        btr.blockTillStarted();
+        TestRunnable tr = new TestRunnable();
+        scheduler.execute(tr);
+        tr.blockTillFinished();
+        
+        assertTrue(scheduler.getCurrentPoolSize() >= 2);
+        assertTrue(scheduler.getWorkerCreatedCount() >= 5);
+      } finally {
+        btr.unblock();
+      }
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void blockCompensationTest() throws InterruptedException, ExecutionException {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      BlockingTestRunnable btr = new BlockingTestRunnable();
+      ListenableFuture<?> blockingFuture = scheduler.submit(() -> {
+        try {
+          scheduler.block(() -> btr.run());
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+      });
+      btr.blockTillStarted();
+      assertEquals(1, scheduler.getCompensatedBlockedWorkerCount());
+      assertEquals(1, scheduler.getBlockingCompensationCount());
+      
+      try {
+        // should be able to run despite the only thread being blocked
+        TestRunnable tr = new TestRunnable();
+        scheduler.execute(tr);
+        tr.blockTillFinished();
+        assertEquals(2, scheduler.getCurrentPoolSize());
+      } finally {
+        btr.unblock();
+      }
+      blockingFuture.get();
+      
+      assertEquals(0, scheduler.getCompensatedBlockedWorkerCount());
+      assertEquals(1, scheduler.getMaxPoolSize());
+      new TestCondition(() -> scheduler.getCurrentPoolSize() == 1).blockTillTrue();
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void blockCompensationDelayedTaskTest() throws InterruptedException, ExecutionException {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      scheduler.schedule(DoNothingRunnable.instance(), 1000 * 20);
+      BlockingTestRunnable btr = new BlockingTestRunnable();
+      ListenableFuture<?> blockingFuture = scheduler.submit(() -> {
+        try {
+          scheduler.block(() -> btr.run());
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+      });
+      try {
+        btr.blockTillStarted();
+        assertEquals(1, scheduler.getCompensatedBlockedWorkerCount());
+        // only a delayed task is queued, so no additional worker should be started yet
+        assertEquals(1, scheduler.getCurrentPoolSize());
+      } finally {
+        btr.unblock();
+      }
+      blockingFuture.get();
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void futureGetCompensationTest() throws InterruptedException, ExecutionException, 
+                                                 TimeoutException {
+    PriorityScheduler scheduler = new PriorityScheduler(1);
+    try {
+      SettableListenableFuture<String> slf = new SettableListenableFuture<>();
+      ListenableFuture<String> getFuture = scheduler.submit(() -> slf.get());
+      new TestCondition(() -> scheduler.getCompensatedBlockedWorkerCount() == 1).blockTillTrue();
+      ListenableFuture<String> timedGetFuture = 
+          scheduler.submit(() -> slf.get(1000 * 20, TimeUnit.MILLISECONDS));
+      new TestCondition(() -> scheduler.getCompensatedBlockedWorkerCount() == 2).blockTillTrue();
+      
+      // without compensation this would never run, as both threads are blocked on the future
+      scheduler.execute(() -> slf.setResult("foo"));
+      
+      assertEquals("foo", getFuture.get(10_000, TimeUnit.MILLISECONDS));
+      assertEquals("foo", timedGetFuture.get(10_000, TimeUnit.MILLISECONDS));
+      assertEquals(2, scheduler.getBlockingCompensationCount());
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void blockCompensatesCallingThreadPoolTest() throws InterruptedException, 
+                                                             ExecutionException {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      PriorityScheduler otherScheduler = factory.makePriorityScheduler(1);
+      BlockingTestRunnable btr = new BlockingTestRunnable();
+      ListenableFuture<?> blockingFuture = scheduler.submit(() -> {
+        try {
+          // invoked on the other scheduler, but it is our thread which is blocked
+          otherScheduler.block(() -> btr.run());
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+      });
+      try {
+        btr.blockTillStarted();
+        assertEquals(1, scheduler.getCompensatedBlockedWorkerCount());
+        assertEquals(0, otherScheduler.getCompensatedBlockedWorkerCount());
+      } finally {
+        btr.unblock();
+      }
+      blockingFuture.get();
+      
+      assertEquals(1, scheduler.getBlockingCompensationCount());
+      assertEquals(0, otherScheduler.getBlockingCompensationCount());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void managedBlockNotPoolThreadTest() throws InterruptedException {
+    PriorityScheduler scheduler = new PriorityScheduler(1);
+    try {
+      assertNull(ThreadBlockingHook.current());
+      TestRunnable tr = new TestRunnable();
+      ThreadBlockingHook.managedBlock(() -> tr.run());
+      assertTrue(tr.ranOnce());
+      
+      ThreadBlockingHook.managedBlock(new BlockingOperation() {
+        @Override
+        public boolean isReleasable() {
+          return true;
+        }
+        
+        @Override
+        public void block() {
+          fail("Should not block");
+        }
+      });
+      
+      assertEquals(0, scheduler.getBlockingCompensationCount());
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void workerKeepAliveCoreWorkersNotRetiredTest() throws InterruptedException {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(2);
+      scheduler.setWorkerKeepAliveTime(1);
+      scheduler.prestartAllThreads();
+      
+      Thread.sleep(DELAY_TIME);
+      
+      assertEquals(2, scheduler.getCurrentPoolSize());
+      assertEquals(0, scheduler.getWorkerRetiredCount());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void weightedPriorityClassesShareTest() throws InterruptedException, ExecutionException {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      scheduler.enableWeightedPriorityClasses(3, 1);
+      scheduler.execute(btr);
+      btr.blockTillStarted();
+      
+      List<TaskPriority> runOrder = Collections.synchronizedList(new ArrayList<>());
+      List<ListenableFuture<?>> futures = new ArrayList<>(TEST_QTY * 2);
+      for (int i = 0; i < TEST_QTY; i++) {
+        futures.add(scheduler.submit(() -> runOrder.add(TaskPriority.Low), TaskPriority.Low));
+        futures.add(scheduler.submit(() -> runOrder.add(TaskPriority.High), TaskPriority.High));
+      }
+      btr.unblock();
+      FutureUtils.blockTillAllCompleteOrFirstError(futures);
+      
+      int highCount = 0;
+      for (int i = 0; i < 8; i++) {
+        if (runOrder.get(i) == TaskPriority.High) {
+          highCount++;
+        }
+      }
+      // high priority should get roughly three of every four executions
+      assertTrue(highCount >= 5 && highCount <= 7);
+      assertEquals(TEST_QTY + 1, scheduler.getPriorityClassExecutedCount(0));
+      assertEquals(TEST_QTY, scheduler.getPriorityClassExecutedCount(1));
+      assertTrue(scheduler.getPriorityClassAverageQueueDelay(1) >= 0);
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void deadlineShedByClaimingWorkerTest() throws InterruptedException {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      scheduler.execute(btr);
+      btr.blockTillStarted();
+      
+      ListenableFuture<?> lf = scheduler.submitWithDeadline(DoNothingRunnable.instance(), 1);
+      List<Thread> listenerThreads = Collections.synchronizedList(new ArrayList<>(1));
+      lf.addListener(() -> listenerThreads.add(Thread.currentThread()));
+      Thread.sleep(DELAY_TIME);
+      
+      // inspecting the queue must not shed the task
+      assertNotNull(scheduler.getQueueManager().getNextTask());
+      assertFalse(lf.isDone());
+      assertEquals(0, scheduler.getShedTaskCount());
+      
+      btr.unblock();
+      try {
+        lf.get();
+        fail("Exception should have thrown");
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof TimeoutException);
+      }
+      assertEquals(1, scheduler.getShedTaskCount());
+      // shed by the worker which claimed it
+      new TestCondition(() -> listenerThreads.size() == 1).blockTillTrue();
+      assertTrue(listenerThreads.get(0) != Thread.currentThread());
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void weightedPriorityClassesShedTest() throws InterruptedException {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      scheduler.enableWeightedPriorityClasses(1, 1);
+      scheduler.execute(btr);
+      btr.blockTillStarted();
+      
+      ListenableFuture<?> lf = scheduler.submitWithDeadline(DoNothingRunnable.instance(), 1, 
+                                                            TaskPriority.Low);
+      Thread.sleep(DELAY_TIME);
+      btr.unblock();
+      
+      try {
+        lf.get();
+        fail("Exception should have thrown");
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof TimeoutException);
+      }
+      assertEquals(1, scheduler.getShedTaskCount(TaskPriority.Low));
+      // shed task should be dropped before it is claimed, so never accounted to its class
+      assertEquals(0, scheduler.getPriorityClassExecutedCount(1));
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void priorityClassSchedulerTest() throws InterruptedException, ExecutionException {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      scheduler.enableWeightedPriorityClasses(4, 2, 1);
+      SubmitterScheduler classScheduler = scheduler.getPriorityClassScheduler(2);
+      assertEquals(-1, scheduler.getPriorityClassAverageQueueDelay(2), 0);
+      
+      scheduler.execute(btr);
+      btr.blockTillStarted();
+      TestRunnable removedTask = new TestRunnable();
+      classScheduler.execute(removedTask);
+      ListenableFuture<?> lf = classScheduler.submit(DoNothingRunnable.instance());
+      assertEquals(2, scheduler.getQueuedTaskCount());
+      assertTrue(scheduler.remove(removedTask));
+      assertEquals(1, scheduler.getQueuedTaskCount());
+      
+      btr.unblock();
+      lf.get();
+      assertEquals(1, scheduler.getPriorityClassExecutedCount(2));
+      assertTrue(scheduler.getPriorityClassAverageQueueDelay(2) >= 0);
+      
+      TestRunnable recurringTask = new TestRunnable();
+      classScheduler.scheduleWithFixedDelay(recurringTask, 0, 1);
+      recurringTask.blockTillFinished(10_000, 2);
+      assertTrue(scheduler.remove(recurringTask));
+      // recurring runs should be charged to the class they were scheduled in
+      assertTrue(scheduler.getPriorityClassExecutedCount(2) >= 3);
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void enableWeightedPriorityClassesFail() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      try {
+        scheduler.enableWeightedPriorityClasses(1);
+        fail("Exception should have thrown");
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+      try {
+        scheduler.enableWeightedPriorityClasses(1, 0);
+        fail("Exception should have thrown");
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+      try {
+        scheduler.getPriorityClassScheduler(0);
+        fail("Exception should have thrown");
+      } catch (IllegalStateException e) {
+        // expected
+      }
+      scheduler.enableWeightedPriorityClasses(2, 1);
+      try {
+        scheduler.enableWeightedPriorityClasses(2, 1);
+        fail("Exception should have thrown");
+      } catch (IllegalStateException e) {
+        // expected
+      }
+      try {
+        scheduler.getPriorityClassScheduler(2);
+        fail("Exception should have thrown");
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void reducePoolSizeRetiredCountTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(2);
+      scheduler.prestartAllThreads();
+      
+      scheduler.setPoolSize(1);
+      new TestCondition(() -> scheduler.getCurrentPoolSize() == 1).blockTillTrue();
+      
+      assertEquals(1, scheduler.getWorkerRetiredCount());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
   @Test
   public void increasePoolSizeWithWaitingTaskTest() {
     PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
@@ -182,7 +730,7 @@ public class PrioritySchedulerTest extends AbstractPrioritySchedulerTest {
       interruptSentAV.waitForTest(); // verify thread was interrupted as expected
       
       // verify worker was returned to pool
-      new TestCondition(() -> scheduler.workerPool.idleWorker.get() != null).blockTillTrue();
+      new TestCondition(() -> scheduler.workerPool.getIdleWorker() != null).blockTillTrue();
       // verify pool size is still correct
       assertEquals(1, scheduler.getCurrentPoolSize());
       
@@ -278,7 +826,7 @@ public class PrioritySchedulerTest extends AbstractPrioritySchedulerTest {
         // expected
       }
       try {
-        scheduler.schedule(DoNothingRunnable.instance(), 1000, null);
+        scheduler.schedule(DoNothingRunnable.instance(), 1000, (TaskPriority)null);
         fail("Execption should have been thrown");
       } catch (RejectedExecutionException e) {
         // expected
@@ -345,7 +893,7 @@ public class PrioritySchedulerTest extends AbstractPrioritySchedulerTest {
         // expected
       }
       try {
-        scheduler.schedule(DoNothingRunnable.instance(), 1000, null);
+        scheduler.schedule(DoNothingRunnable.instance(), 1000, (TaskPriority)null);
         fail("Execption should have been thrown");
       } catch (RejectedExecutionException e) {
         // expected
@@ -484,13 +1032,12 @@ public class PrioritySchedulerTest extends AbstractPrioritySchedulerTest {
       // schedule one task a ways out
       scheduler.schedule(DoNothingRunnable.instance(), 1000 * 60 * 10);
       // ensure first thread has blocked
-      new TestCondition(() -> scheduler.workerPool.idleWorker.get() != null).blockTillTrue();
+      new TestCondition(() -> scheduler.workerPool.getIdleWorker() != null).blockTillTrue();
       
       // start second thread
       scheduler.prestartAllThreads();
       // ensure second thread has blocked
-      new TestCondition(() -> scheduler.workerPool.idleWorker.get().nextIdleWorker != null)
-        .blockTillTrue();
+      new TestCondition(() -> scheduler.workerPool.idleWorkerCount.sum() == 2).blockTillTrue();
       
       // schedule soon to run task
       TestRunnable tr = new TestRunnable();
@@ -502,6 +1049,90 @@ public class PrioritySchedulerTest extends AbstractPrioritySchedulerTest {
     }
   }
   
+  @Test
+  public void timedWaitLeaderTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    final PriorityScheduler scheduler = factory.makePriorityScheduler(4);
+    try {
+      scheduler.prestartAllThreads();
+      scheduler.schedule(DoNothingRunnable.instance(), 1000 * 60 * 10);
+      // wait for one worker to lead the wait, and the rest to be parked without a timeout
+      new TestCondition(() -> scheduler.workerPool.timedWaitLeader.get() != null && 
+                                scheduler.workerPool.idleWorkerCount.sum() == 4).blockTillTrue();
+      Worker leader = scheduler.workerPool.timedWaitLeader.get();
+      long wakeCount = scheduler.getWorkerWakeCount();
+      
+      // a later task should not wake any worker
+      scheduler.schedule(DoNothingRunnable.instance(), 1000 * 60 * 20);
+      assertEquals(wakeCount, scheduler.getWorkerWakeCount());
+      assertTrue(leader == scheduler.workerPool.timedWaitLeader.get());
+      
+      // a sooner task must be handed to the leader so it can run on time
+      TestRunnable tr = new TestRunnable();
+      scheduler.schedule(tr, 10);
+      tr.blockTillStarted();
+      assertTrue(scheduler.getWorkerWakeCount() > wakeCount);
+      
+      // once run, a leader is again waiting for the remaining delayed tasks
+      new TestCondition(() -> scheduler.workerPool.timedWaitLeader.get() != null).blockTillTrue();
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void claimWithTimedWaitLeaderNoHandOffTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    final PriorityScheduler scheduler = factory.makePriorityScheduler(4);
+    try {
+      scheduler.prestartAllThreads();
+      scheduler.schedule(DoNothingRunnable.instance(), 1000 * 60 * 10);
+      new TestCondition(() -> scheduler.workerPool.timedWaitLeader.get() != null && 
+                                scheduler.workerPool.idleWorkerCount.sum() == 4).blockTillTrue();
+      long wakeCount = scheduler.getWorkerWakeCount();
+      
+      TestRunnable tr = new TestRunnable();
+      scheduler.execute(tr);
+      tr.blockTillFinished();
+      new TestCondition(() -> scheduler.workerPool.idleWorkerCount.sum() == 4).blockTillTrue();
+      
+      // only the follower woken for the task, it should not hand off since there is a leader
+      assertEquals(wakeCount + 1, scheduler.getWorkerWakeCount());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void timedWaitWakeCountTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    final PriorityScheduler scheduler = factory.makePriorityScheduler(8);
+    try {
+      scheduler.prestartAllThreads();
+      new TestCondition(() -> scheduler.workerPool.idleWorkerCount.sum() == 8).blockTillTrue();
+      long wakeCount = scheduler.getWorkerWakeCount();
+      
+      List<TestRunnable> runnables = new ArrayList<>(TEST_QTY * 10);
+      for (int i = 0; i < TEST_QTY * 10; i++) {
+        TestRunnable tr = new TestRunnable();
+        runnables.add(tr);
+        // added in the order they will run so the leader is not woken for each addition
+        scheduler.schedule(tr, DELAY_TIME + i);
+      }
+      for (TestRunnable tr : runnables) {
+        tr.blockTillFinished();
+      }
+      
+      // with a single leader waiting each delayed task should need only a few wake ups, where 
+      // waking every idle worker would cost the pool size for each task
+      long wakesPerTask = 
+          (scheduler.getWorkerWakeCount() - wakeCount) / runnables.size();
+      assertTrue(wakesPerTask < 4);
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
   public interface PrioritySchedulerServiceFactory extends AbstractPrioritySchedulerFactory {
     public PriorityScheduler makePriorityScheduler(int poolSize, TaskPriority defaultPriority, 
                                                    long maxWaitForLowPriority);
@@ -0,0 +1,212 @@
+package org.threadly.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.threadly.ThreadlyTester;
+import org.threadly.concurrent.AbstractPriorityScheduler.OneTimeTaskWrapper;
+import org.threadly.concurrent.AbstractPriorityScheduler.PromotionTaskWrapper;
+import org.threadly.concurrent.AbstractPriorityScheduler.QueueSet;
+import org.threadly.concurrent.AbstractPriorityScheduler.QueueSetListener;
+import org.threadly.concurrent.AbstractPriorityScheduler.TaskWrapper;
+import org.threadly.concurrent.future.ListenableFutureTask;
+import org.threadly.test.concurrent.TestRunnable;
+import org.threadly.test.concurrent.TestUtils;
+import org.threadly.util.Clock;
+
+@SuppressWarnings("javadoc")
+public class PrioritySchedulerTimingWheelTest extends ThreadlyTester {
+  private static final long FAR_DELAY = 1000 * 60;
+
+  private QueueSet queueSet;
+
+  @Before
+  public void setup() {
+    queueSet = new QueueSet(new QueueSetListener() {
+      @Override
+      public void handleQueueUpdate() {
+        // ignored
+      }
+    });
+    queueSet.enableTimingWheel(1, 16);
+  }
+
+  @After
+  public void cleanup() {
+    queueSet = null;
+  }
+
+  private OneTimeTaskWrapper makeTask(Runnable task, long runTime) {
+    return new OneTimeTaskWrapper(task, queueSet.scheduleQueue, runTime);
+  }
+
+  @Test (expected = IllegalStateException.class)
+  public void enableTwiceFail() {
+    queueSet.enableTimingWheel(1, 16);
+  }
+
+  @Test
+  public void addFarTaskToWheelTest() {
+    OneTimeTaskWrapper task = makeTask(DoNothingRunnable.instance(),
+                                       Clock.accurateForwardProgressingMillis() + FAR_DELAY);
+    queueSet.addScheduled(task);
+
+    // only the promotion task should be in the sorted queue
+    assertEquals(1, queueSet.scheduleQueue.size());
+    assertTrue(queueSet.scheduleQueue.get(0) instanceof PromotionTaskWrapper);
+    assertEquals(1, queueSet.queueSize());
+    assertTrue(queueSet.getNextTask().getRunTime() <= task.getRunTime());
+  }
+
+  @Test
+  public void addNearTaskToScheduleQueueTest() {
+    QueueSet queueSet = new QueueSet(() -> { /* ignored */ });
+    queueSet.enableTimingWheel(FAR_DELAY, 16);
+    OneTimeTaskWrapper task = new OneTimeTaskWrapper(DoNothingRunnable.instance(), 
+                                                     queueSet.scheduleQueue, 
+                                                     Clock.accurateForwardProgressingMillis() + 1);
+    queueSet.addScheduled(task);
+
+    assertEquals(1, queueSet.scheduleQueue.size());
+    assertTrue(queueSet.scheduleQueue.get(0) == task);
+    assertEquals(1, queueSet.queueSize());
+  }
+
+  @Test
+  public void promoteInOrderTest() {
+    long now = Clock.accurateForwardProgressingMillis();
+    List<OneTimeTaskWrapper> orderedList = new ArrayList<>(TEST_QTY);
+    for (int i = 0; i < TEST_QTY; i++) {
+      orderedList.add(makeTask(new TestRunnable(), now + 5 + (i * 2)));
+    }
+    List<OneTimeTaskWrapper> randomList = new ArrayList<>(orderedList);
+    Collections.shuffle(randomList);
+    for (OneTimeTaskWrapper tw : randomList) {
+      queueSet.addScheduled(tw);
+    }
+    assertEquals(TEST_QTY, queueSet.queueSize());
+
+    List<TaskWrapper> executedList = new ArrayList<>(TEST_QTY);
+    while (executedList.size() < TEST_QTY) {
+      TaskWrapper tw = queueSet.getNextTask();
+      long delay = tw.getScheduleDelay();
+      if (delay > 0) {
+        TestUtils.sleep(delay);
+      } else if (tw.canExecute(tw.getExecuteReference())) {
+        executedList.add(tw);
+      }
+    }
+
+    assertEquals(orderedList, executedList);
+    assertEquals(0, queueSet.queueSize());
+    assertNull(queueSet.getNextTask());
+  }
+
+  @Test
+  public void promoteDiscardsInvalidatedTest() {
+    OneTimeTaskWrapper task = makeTask(DoNothingRunnable.instance(),
+                                       Clock.accurateForwardProgressingMillis() + 5);
+    queueSet.addScheduled(task);
+    task.invalidate();
+
+    TaskWrapper promotionTask = queueSet.getNextTask();
+    TestUtils.blockTillClockAdvances();
+    while (promotionTask.getScheduleDelay() > 0) {
+      TestUtils.sleep(1);
+    }
+    assertFalse(promotionTask.canExecute(promotionTask.getExecuteReference()));
+
+    assertEquals(0, queueSet.queueSize());
+    assertNull(queueSet.getNextTask());
+  }
+
+  @Test
+  public void removeRunnableTest() {
+    TestRunnable runnable = new TestRunnable();
+    OneTimeTaskWrapper task = makeTask(runnable, Clock.accurateForwardProgressingMillis() + FAR_DELAY);
+    queueSet.addScheduled(task);
+
+    assertFalse(queueSet.remove(new TestRunnable()));
+    assertTrue(queueSet.remove(runnable));
+    assertFalse(queueSet.remove(runnable));
+    assertTrue(task.invalidated);
+  }
+
+  @Test
+  public void removeCallableTest() {
+    TestCallable callable = new TestCallable();
+    OneTimeTaskWrapper task =
+        makeTask(new ListenableFutureTask<>(false, callable),
+                 Clock.accurateForwardProgressingMillis() + FAR_DELAY);
+    queueSet.addScheduled(task);
+
+    assertFalse(queueSet.remove(new TestCallable()));
+    assertTrue(queueSet.remove(callable));
+    assertFalse(queueSet.remove(callable));
+  }
+
+  @Test
+  public void removeWrapperTest() {
+    OneTimeTaskWrapper task = makeTask(DoNothingRunnable.instance(),
+                                       Clock.accurateForwardProgressingMillis() + FAR_DELAY);
+    queueSet.addScheduled(task);
+
+    assertTrue(queueSet.timingWheel.remove(task));
+    assertFalse(queueSet.timingWheel.remove(task));
+  }
+
+  @Test
+  public void removeWrapperFromSharedBucketTest() {
+    long runTime = Clock.accurateForwardProgressingMillis() + FAR_DELAY;
+    List<OneTimeTaskWrapper> tasks = new ArrayList<>(3);
+    for (int i = 0; i < 3; i++) {
+      OneTimeTaskWrapper task = makeTask(DoNothingRunnable.instance(), runTime);
+      tasks.add(task);
+      queueSet.addScheduled(task);
+    }
+    
+    assertTrue(queueSet.timingWheel.remove(tasks.get(1)));
+    assertEquals(2, queueSet.queueSize());
+    assertTrue(queueSet.timingWheel.remove(tasks.get(0)));
+    assertTrue(queueSet.timingWheel.remove(tasks.get(2)));
+    assertFalse(queueSet.timingWheel.remove(tasks.get(1)));
+    assertEquals(0, queueSet.queueSize());
+  }
+  
+  @Test
+  public void removeScheduledFromWheelTest() {
+    OneTimeTaskWrapper task = makeTask(DoNothingRunnable.instance(),
+                                       Clock.accurateForwardProgressingMillis() + FAR_DELAY);
+    queueSet.addScheduled(task);
+    
+    assertTrue(queueSet.removeScheduled(task));
+    assertTrue(task.invalidated);
+    assertFalse(queueSet.removeScheduled(task));
+    assertEquals(0, queueSet.queueSize());
+  }
+  
+  @Test
+  public void drainQueueIntoTest() {
+    OneTimeTaskWrapper nearTask = makeTask(DoNothingRunnable.instance(),
+                                           Clock.lastKnownForwardProgressingMillis());
+    OneTimeTaskWrapper farTask = makeTask(DoNothingRunnable.instance(),
+                                          Clock.accurateForwardProgressingMillis() + FAR_DELAY);
+    queueSet.addScheduled(nearTask);
+    queueSet.addScheduled(farTask);
+
+    List<TaskWrapper> depositList = new ArrayList<>(2);
+    queueSet.drainQueueInto(depositList);
+
+    assertEquals(2, depositList.size());
+    assertTrue(depositList.get(0) == nearTask);
+    assertTrue(depositList.get(1) == farTask);
+    assertEquals(0, queueSet.queueSize());
+    assertNull(queueSet.getNextTask());
+  }
+}
@@ -0,0 +1,291 @@
+package org.threadly.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.threadly.BlockingTestRunnable;
+import org.threadly.concurrent.future.ListenableFuture;
+import org.threadly.concurrent.future.SettableListenableFuture;
+import org.threadly.test.concurrent.TestCondition;
+import org.threadly.test.concurrent.TestRunnable;
+
+@SuppressWarnings("javadoc")
+public class PrioritySchedulerWorkerLocalQueueTest extends PrioritySchedulerTest {
+  @Override
+  protected PrioritySchedulerServiceFactory getPrioritySchedulerFactory() {
+    return new WorkerLocalQueuePrioritySchedulerFactory();
+  }
+  
+  @Test
+  @Override
+  public void lowPriorityFlowControlTest() {
+    // overridden since high priority tasks executed from the pool are not in the shared queue
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    AtomicBoolean testRunning = new AtomicBoolean(true);
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1, TaskPriority.High, DELAY_TIME);
+      
+      new Runnable() {
+        @Override
+        public void run() {
+          if (testRunning.get()) {
+            while (scheduler.getQueuedTaskCount(TaskPriority.High) < 5) {
+              scheduler.execute(this, TaskPriority.High);
+            }
+          }
+        }
+      }.run();
+      
+      TestRunnable lowPriorityRunnable = new TestRunnable();
+      scheduler.execute(lowPriorityRunnable, TaskPriority.Low);
+      
+      assertTrue(lowPriorityRunnable.getDelayTillFirstRun() >= DELAY_TIME);
+    } finally {
+      testRunning.set(false);
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  @Override
+  public void claimWithTimedWaitLeaderNoHandOffTest() {
+    // overridden since workers always hand off when local queues are enabled, so idle workers 
+    // can steal from the worker which claimed the task
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    final PriorityScheduler scheduler = factory.makePriorityScheduler(4);
+    try {
+      scheduler.prestartAllThreads();
+      scheduler.schedule(DoNothingRunnable.instance(), 1000 * 60 * 10);
+      new TestCondition(() -> scheduler.workerPool.timedWaitLeader.get() != null && 
+                                scheduler.workerPool.idleWorkerCount.sum() == 4).blockTillTrue();
+      long wakeCount = scheduler.getWorkerWakeCount();
+      
+      TestRunnable tr = new TestRunnable();
+      scheduler.execute(tr);
+      tr.blockTillFinished();
+      new TestCondition(() -> scheduler.workerPool.idleWorkerCount.sum() == 4).blockTillTrue();
+      
+      // the hand off may find the next idle worker already woken, so only the first wake is known
+      assertTrue(scheduler.getWorkerWakeCount() > wakeCount);
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test (expected = IllegalStateException.class)
+  public void enableWorkerLocalQueuesTwiceFail() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      
+      scheduler.enableWorkerLocalQueues();
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void executeFromWorkerQueuesLocallyTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      List<TestRunnable> runnables = new ArrayList<>(TEST_QTY);
+      for (int i = 0; i < TEST_QTY; i++) {
+        runnables.add(new TestRunnable());
+      }
+      
+      scheduler.execute(() -> {
+        for (TestRunnable tr : runnables) {
+          scheduler.execute(tr);
+        }
+        btr.run();
+      });
+      btr.blockTillStarted();
+      
+      assertEquals(TEST_QTY, scheduler.workerPool.getWorkerLocalQueuedTaskCount());
+      assertEquals(TEST_QTY, scheduler.getQueuedTaskCount());
+      assertEquals(TEST_QTY, scheduler.getQueuedTaskCount(TaskPriority.High));
+      
+      btr.unblock();
+      for (TestRunnable tr : runnables) {
+        tr.blockTillFinished();
+      }
+      assertEquals(0, scheduler.workerPool.getWorkerLocalQueuedTaskCount());
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void executeLowPriorityFromWorkerUsesSharedQueueTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      TestRunnable tr = new TestRunnable();
+      
+      scheduler.execute(() -> {
+        scheduler.execute(tr, TaskPriority.Low);
+        btr.run();
+      });
+      btr.blockTillStarted();
+      
+      assertEquals(0, scheduler.workerPool.getWorkerLocalQueuedTaskCount());
+      assertEquals(1, scheduler.getQueuedTaskCount(TaskPriority.Low));
+      
+      btr.unblock();
+      tr.blockTillFinished();
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void stealFromBlockedWorkerTest() throws Exception {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(2);
+      scheduler.prestartAllThreads();
+      SettableListenableFuture<Thread> localRunThread = new SettableListenableFuture<>();
+      
+      ListenableFuture<?> outerFuture = scheduler.submit(() -> {
+        // will be queued locally, and can only complete if stolen by the other worker
+        scheduler.execute(() -> localRunThread.setResult(Thread.currentThread()));
+        try {
+          assertFalse(localRunThread.get() == Thread.currentThread());
+        } catch (Exception e) {
+          throw new RuntimeException(e);
+        }
+      });
+      
+      outerFuture.get();
+      assertTrue(localRunThread.isDone());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void removeFromWorkerLocalQueueTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      TestRunnable slotRunnable = new TestRunnable();
+      TestRunnable dequeRunnable = new TestRunnable();
+      
+      scheduler.execute(() -> {
+        scheduler.execute(dequeRunnable);
+        scheduler.execute(slotRunnable);
+        btr.run();
+      });
+      btr.blockTillStarted();
+      
+      assertFalse(scheduler.remove(new TestRunnable()));
+      assertTrue(scheduler.remove(dequeRunnable));
+      assertTrue(scheduler.remove(slotRunnable));
+      assertFalse(scheduler.remove(slotRunnable));
+      assertEquals(0, scheduler.getQueuedTaskCount());
+      
+      btr.unblock();
+      scheduler.shutdown();
+      scheduler.awaitTermination();
+      assertEquals(0, dequeRunnable.getRunCount());
+      assertEquals(0, slotRunnable.getRunCount());
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void shutdownNowReturnsWorkerLocalTasksTest() {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(1);
+      List<TestRunnable> runnables = new ArrayList<>(TEST_QTY);
+      for (int i = 0; i < TEST_QTY; i++) {
+        runnables.add(new TestRunnable());
+      }
+      
+      scheduler.execute(() -> {
+        for (TestRunnable tr : runnables) {
+          scheduler.execute(tr);
+        }
+        btr.run();
+      });
+      btr.blockTillStarted();
+      
+      List<Runnable> canceledRunnables = scheduler.shutdownNow();
+      btr.unblock();
+      
+      assertTrue(canceledRunnables.containsAll(runnables));
+      assertEquals(TEST_QTY, canceledRunnables.size());
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void shutdownRunsWorkerLocalTasksTest() throws InterruptedException {
+    PrioritySchedulerServiceFactory factory = getPrioritySchedulerFactory();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      PriorityScheduler scheduler = factory.makePriorityScheduler(2);
+      List<TestRunnable> runnables = new ArrayList<>(TEST_QTY);
+      for (int i = 0; i < TEST_QTY; i++) {
+        runnables.add(new TestRunnable());
+      }
+      
+      scheduler.execute(() -> {
+        for (TestRunnable tr : runnables) {
+          scheduler.execute(tr);
+        }
+        btr.run();
+      });
+      btr.blockTillStarted();
+      
+      scheduler.shutdown();
+      btr.unblock();
+      
+      assertTrue(scheduler.awaitTermination(10_000));
+      for (TestRunnable tr : runnables) {
+        assertEquals(1, tr.getRunCount());
+      }
+    } finally {
+      btr.unblock();
+      factory.shutdown();
+    }
+  }
+  
+  private static class WorkerLocalQueuePrioritySchedulerFactory extends PrioritySchedulerFactory {
+    @Override
+    public PriorityScheduler makePriorityScheduler(int poolSize, TaskPriority defaultPriority,
+                                                   long maxWaitForLowPriority) {
+      PriorityScheduler result =
+          super.makePriorityScheduler(poolSize, defaultPriority, maxWaitForLowPriority);
+      result.enableWorkerLocalQueues();
+      
+      return result;
+    }
+    
+    @Override
+    public PriorityScheduler makePriorityScheduler(int poolSize) {
+      PriorityScheduler result = super.makePriorityScheduler(poolSize);
+      result.enableWorkerLocalQueues();
+      
+      return result;
+    }
+  }
+}
@@ -99,15 +99,37 @@ public class PrioritySchedulerWorkerPoolTest extends ThreadlyTester {
     w.start();
 
     // wait for worker to become idle
-    new TestCondition(() -> workerPool.idleWorker.get(), (o) -> o == w).blockTillTrue();
+    new TestCondition(() -> workerPool.getIdleWorker(), (o) -> o == w).blockTillTrue();
     
     workerPool.startShutdown();
     workerPool.finishShutdown();
     
     // verify idle worker is gone
-    new TestCondition(() -> workerPool.idleWorker.get() == null).blockTillTrue();
+    new TestCondition(() -> workerPool.getIdleWorker() == null).blockTillTrue();
     
     // should return immediately now that we are shut down
     workerPool.workerIdle(new Worker(workerPool, workerPool.threadFactory));
   }
+  
+  @Test
+  public void idleWorkerSlotsTest() {
+    int poolSize = PriorityScheduler.IdleWorkerSegment.SLOT_COUNT + 2;
+    workerPool.setPoolSize(poolSize);
+    workerPool.prestartAllThreads();
+    
+    // wait for all workers to become idle
+    new TestCondition(() -> workerPool.idleWorkerCount.sum() == poolSize).blockTillTrue();
+    new TestCondition(() -> workerPool.getIdleWorker() != null).blockTillTrue();
+    
+    // workers beyond the first segment must still be reachable once the first segment is busy
+    PriorityScheduler.IdleWorkerSegment firstSegment = workerPool.getIdleWorker().idleSegment;
+    long firstSegmentMask = firstSegment.idleMask.getAndSet(0);
+    try {
+      Worker w = workerPool.getIdleWorker();
+      assertNotNull(w);
+      assertTrue(w.idleSegment != firstSegment);
+    } finally {
+      firstSegment.idleMask.set(firstSegmentMask);
+    }
+  }
 }
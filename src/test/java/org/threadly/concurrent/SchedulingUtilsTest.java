@@ -211,4 +211,24 @@ public class SchedulingUtilsTest extends ThreadlyTester {
       // expected
     }
   }
+  
+  @Test
+  public void toMillisRoundingUpTest() {
+    assertEquals(0, SchedulingUtils.toMillisRoundingUp(0, TimeUnit.NANOSECONDS));
+    assertEquals(1, SchedulingUtils.toMillisRoundingUp(1, TimeUnit.NANOSECONDS));
+    assertEquals(1, SchedulingUtils.toMillisRoundingUp(1_000_000, TimeUnit.NANOSECONDS));
+    assertEquals(2, SchedulingUtils.toMillisRoundingUp(1_000_001, TimeUnit.NANOSECONDS));
+    assertEquals(1, SchedulingUtils.toMillisRoundingUp(500, TimeUnit.MICROSECONDS));
+    assertEquals(2, SchedulingUtils.toMillisRoundingUp(2000, TimeUnit.MICROSECONDS));
+    assertEquals(10, SchedulingUtils.toMillisRoundingUp(10, TimeUnit.MILLISECONDS));
+    assertEquals(2000, SchedulingUtils.toMillisRoundingUp(2, TimeUnit.SECONDS));
+  }
+  
+  @Test
+  public void toMillisRoundingUpNegativeTest() {
+    assertEquals(-1, SchedulingUtils.toMillisRoundingUp(-1, TimeUnit.NANOSECONDS));
+    assertEquals(-1, SchedulingUtils.toMillisRoundingUp(-1_000_000, TimeUnit.NANOSECONDS));
+    assertEquals(-2, SchedulingUtils.toMillisRoundingUp(-1_000_001, TimeUnit.NANOSECONDS));
+    assertEquals(-1, SchedulingUtils.toMillisRoundingUp(-1, TimeUnit.MICROSECONDS));
+  }
 }
@@ -0,0 +1,224 @@
+package org.threadly.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.SelectionKey;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+import org.threadly.concurrent.future.ListenableFuture;
+import org.threadly.test.concurrent.AsyncVerifier;
+import org.threadly.test.concurrent.TestCondition;
+import org.threadly.test.concurrent.TestRunnable;
+
+@SuppressWarnings("javadoc")
+public class SelectorSchedulerTest extends AbstractPrioritySchedulerTest {
+  @Override
+  protected AbstractPrioritySchedulerFactory getAbstractPrioritySchedulerFactory() {
+    return new SelectorSchedulerFactory();
+  }
+  
+  @Override
+  protected boolean isSingleThreaded() {
+    return true;
+  }
+  
+  private static SelectorScheduler makeSelectorScheduler() {
+    try {
+      return new SelectorScheduler();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+  
+  @Test
+  public void pipeReadTest() throws IOException, InterruptedException, ExecutionException, 
+                                    TimeoutException {
+    SelectorScheduler scheduler = makeSelectorScheduler();
+    Pipe pipe = Pipe.open();
+    try {
+      pipe.source().configureBlocking(false);
+      AsyncVerifier av = new AsyncVerifier();
+      ByteBuffer readBuffer = ByteBuffer.allocate(4);
+      ListenableFuture<SelectionKey> keyFuture =
+          scheduler.register(pipe.source(), SelectionKey.OP_READ, (key) -> {
+            try {
+              av.assertTrue(scheduler.sManager.execThread == Thread.currentThread());
+              pipe.source().read(readBuffer);
+              if (! readBuffer.hasRemaining()) {
+                av.signalComplete();
+              }
+            } catch (IOException e) {
+              av.fail(e);
+            }
+          });
+      assertTrue(keyFuture.get().isValid());
+      
+      pipe.sink().write(ByteBuffer.wrap(new byte[] { 1, 2 }));
+      pipe.sink().write(ByteBuffer.wrap(new byte[] { 3, 4 }));
+      
+      av.waitForTest();
+      assertArrayEquals(new byte[] { 1, 2, 3, 4 }, readBuffer.array());
+    } finally {
+      scheduler.shutdownNow();
+      pipe.sink().close();
+      pipe.source().close();
+    }
+  }
+  
+  @Test
+  public void executeWakesSelectorTest() {
+    SelectorScheduler scheduler = makeSelectorScheduler();
+    try {
+      scheduler.prestartExecutionThread(true);
+      // wait for the thread to block in the select with no tasks queued
+      new TestCondition(() -> scheduler.selectorManager.selectorScheduler.selectingUntilNanos.get() == 
+                                Long.MAX_VALUE).blockTillTrue();
+      long wakeupCount = scheduler.getSelectorWakeupCount();
+      
+      TestRunnable tr = new TestRunnable();
+      scheduler.execute(tr);
+      tr.blockTillStarted();
+      
+      assertEquals(wakeupCount + 1, scheduler.getSelectorWakeupCount());
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void scheduleOnlyWakesWhenSoonerTest() {
+    SelectorScheduler scheduler = makeSelectorScheduler();
+    try {
+      scheduler.schedule(DoNothingRunnable.instance(), 1000 * 60 * 10);
+      new TestCondition(() -> scheduler.selectorManager.selectorScheduler.selectingUntilNanos.get() != 
+                                SelectorScheduler.SelectorNoThreadScheduler.NOT_SELECTING).blockTillTrue();
+      long wakeupCount = scheduler.getSelectorWakeupCount();
+      
+      // scheduled after the current head, so the select should not be woken
+      scheduler.schedule(DoNothingRunnable.instance(), 1000 * 60 * 20);
+      assertEquals(wakeupCount, scheduler.getSelectorWakeupCount());
+      
+      TestRunnable tr = new TestRunnable();
+      scheduler.schedule(tr, DELAY_TIME);
+      tr.blockTillStarted();
+      
+      assertEquals(wakeupCount + 1, scheduler.getSelectorWakeupCount());
+      assertTrue(tr.getDelayTillFirstRun() >= DELAY_TIME);
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void maxTasksPerSelectTest() {
+    SelectorScheduler scheduler = makeSelectorScheduler();
+    try {
+      assertEquals(SelectorScheduler.DEFAULT_MAX_TASKS_PER_SELECT, scheduler.getMaxTasksPerSelect());
+      scheduler.setMaxTasksPerSelect(1);
+      assertEquals(1, scheduler.getMaxTasksPerSelect());
+      
+      List<TestRunnable> runnables = new ArrayList<>(TEST_QTY);
+      for (int i = 0; i < TEST_QTY; i++) {
+        TestRunnable tr = new TestRunnable();
+        runnables.add(tr);
+        scheduler.execute(tr);
+      }
+      for (TestRunnable tr : runnables) {
+        tr.blockTillFinished();
+      }
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void setMaxTasksPerSelectFail() {
+    makeSelectorScheduler().setMaxTasksPerSelect(0);
+  }
+  
+  @Test
+  public void shutdownClosesSelectorTest() throws InterruptedException {
+    SelectorScheduler scheduler = makeSelectorScheduler();
+    scheduler.prestartExecutionThread(true);
+    scheduler.shutdown();
+    
+    assertTrue(scheduler.awaitTermination(10_000));
+    assertFalse(scheduler.getSelector().isOpen());
+    
+    // if never started the selector must still be closed
+    scheduler = makeSelectorScheduler();
+    scheduler.shutdownNow();
+    assertFalse(scheduler.getSelector().isOpen());
+  }
+  
+  @Test (expected = RejectedExecutionException.class)
+  public void registerAfterShutdownFail() throws IOException {
+    SelectorScheduler scheduler = makeSelectorScheduler();
+    scheduler.shutdown();
+    Pipe pipe = Pipe.open();
+    try {
+      scheduler.register(pipe.source(), SelectionKey.OP_READ, (key) -> { /* ignored */ });
+    } finally {
+      pipe.sink().close();
+      pipe.source().close();
+    }
+  }
+  
+  private class SelectorSchedulerFactory implements AbstractPrioritySchedulerFactory {
+    private final List<SelectorScheduler> schedulers = new ArrayList<>(1);
+    
+    @Override
+    public void shutdown() {
+      Iterator<SelectorScheduler> it = schedulers.iterator();
+      while (it.hasNext()) {
+        it.next().shutdown();
+        it.remove();
+      }
+    }
+    
+    @Override
+    public SchedulerService makeSchedulerService(int poolSize, boolean prestartIfAvailable) {
+      SelectorScheduler result = makeAbstractPriorityScheduler(poolSize);
+      if (prestartIfAvailable) {
+        result.prestartExecutionThread(true);
+      }
+      return result;
+    }
+    
+    @Override
+    public AbstractPriorityScheduler makeAbstractPriorityScheduler(int poolSize, 
+                                                                   TaskPriority defaultPriority, 
+                                                                   long maxWaitForLowPriority) {
+      try {
+        SelectorScheduler result =
+            new SelectorScheduler(defaultPriority, maxWaitForLowPriority, 
+                                  new ConfigurableThreadFactory(SelectorScheduler.class.getSimpleName() + "-", 
+                                                                true, true, Thread.NORM_PRIORITY, 
+                                                                null, null));
+        schedulers.add(result);
+        
+        return result;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    
+    @Override
+    public SelectorScheduler makeAbstractPriorityScheduler(int poolSize) {
+      SelectorScheduler result = makeSelectorScheduler();
+      schedulers.add(result);
+      
+      return result;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package org.threadly.concurrent;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.threadly.concurrent.collections.ConcurrentArrayList;
 
@@ -123,12 +124,12 @@ public class StrictPriorityScheduler extends PriorityScheduler {
       }
       if (task instanceof RecurringDelayTaskWrapper) {
         task = new StrictRecurringDelayTaskWrapper(task.task, recurringTask.queueSet, 
-                                                   recurringTask.nextRunTime, 
-                                                   ((RecurringDelayTaskWrapper)recurringTask).recurringDelay);
+                                                   recurringTask.nextRunTimeNanos, 
+                                                   ((RecurringDelayTaskWrapper)recurringTask).recurringDelayNanos);
       } else {
         task = new StrictRecurringRateTaskWrapper(task.task, recurringTask.queueSet, 
-                                                  recurringTask.nextRunTime, 
-                                                  ((RecurringRateTaskWrapper)recurringTask).period);
+                                                  recurringTask.nextRunTimeNanos, 
+                                                  ((RecurringRateTaskWrapper)recurringTask).periodNanos);
       }
     } else {
       throw new UnsupportedOperationException("Unhandled task type");
@@ -138,25 +139,22 @@ public class StrictPriorityScheduler extends PriorityScheduler {
   }
 
   protected static class StrictRecurringDelayTaskWrapper extends RecurringDelayTaskWrapper {
-    protected StrictRecurringDelayTaskWrapper(Runnable task, QueueSet queueSet, long firstRunTime,
-                                              long recurringDelay) {
-      super(task, queueSet, firstRunTime, recurringDelay);
+    protected StrictRecurringDelayTaskWrapper(Runnable task, QueueSet queueSet, long firstRunTimeNanos,
+                                              long recurringDelayNanos) {
+      super(task, queueSet, firstRunTimeNanos, recurringDelayNanos, TimeUnit.NANOSECONDS);
     }
 
     @Override
     public boolean canExecute(short executeReference) {
       synchronized (queueSet.scheduleQueue.getModificationLock()) {
         if (super.canExecute(executeReference)) {
-          int index = queueSet.scheduleQueue.lastIndexOf(this);
-          if (index != queueSet.scheduleQueue.size() - 1) {
-            for (int i = index + 1; i < queueSet.scheduleQueue.size(); i++) {
-              if (queueSet.scheduleQueue.get(i).getRunTime() != Long.MAX_VALUE) {
-                IllegalStateException e = 
-                    new IllegalStateException("Invalid queue state: " + queueSet.scheduleQueue);
-                e.printStackTrace();
-                throw e;
-              }
-            }
+          // once claimed the task must be moved from the queue into the executing tasks
+          if (queueSet.scheduleQueue.contains(this) || 
+              ! queueSet.executingRecurringTasks.contains(this)) {
+            IllegalStateException e = 
+                new IllegalStateException("Invalid queue state: " + queueSet.scheduleQueue);
+            e.printStackTrace();
+            throw e;
           }
           return true;
         } else {
@@ -167,25 +165,22 @@ public class StrictPriorityScheduler extends PriorityScheduler {
   }
 
   protected static class StrictRecurringRateTaskWrapper extends RecurringRateTaskWrapper {
-    protected StrictRecurringRateTaskWrapper(Runnable task, QueueSet queueSet, long firstRunTime,
-                                             long period) {
-      super(task, queueSet, firstRunTime, period);
+    protected StrictRecurringRateTaskWrapper(Runnable task, QueueSet queueSet, long firstRunTimeNanos,
+                                             long periodNanos) {
+      super(task, queueSet, firstRunTimeNanos, periodNanos, TimeUnit.NANOSECONDS);
     }
 
     @Override
     public boolean canExecute(short executeReference) {
       synchronized (queueSet.scheduleQueue.getModificationLock()) {
         if (super.canExecute(executeReference)) {
-          int index = queueSet.scheduleQueue.lastIndexOf(this);
-          if (index != queueSet.scheduleQueue.size() - 1) {
-            for (int i = index + 1; i < queueSet.scheduleQueue.size(); i++) {
-              if (queueSet.scheduleQueue.get(i).getRunTime() != Long.MAX_VALUE) {
-                IllegalStateException e = 
-                    new IllegalStateException("Invalid queue state: " + queueSet.scheduleQueue);
-                e.printStackTrace();
-                throw e;
-              }
-            }
+          // once claimed the task must be moved from the queue into the executing tasks
+          if (queueSet.scheduleQueue.contains(this) || 
+              ! queueSet.executingRecurringTasks.contains(this)) {
+            IllegalStateException e = 
+                new IllegalStateException("Invalid queue state: " + queueSet.scheduleQueue);
+            e.printStackTrace();
+            throw e;
           }
           return true;
         } else {
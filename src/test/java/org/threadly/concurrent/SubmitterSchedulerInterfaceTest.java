@@ -187,6 +187,103 @@ public abstract class SubmitterSchedulerInterfaceTest extends SubmitterExecutorI
     }
   }
   
+  @Test
+  public void scheduleTimeUnitTest() {
+    SubmitterSchedulerFactory factory = getSubmitterSchedulerFactory();
+    try {
+      SubmitterScheduler scheduler = factory.makeSubmitterScheduler(TEST_QTY, true);
+      
+      TestRunnable millisRunnable = new TestRunnable();
+      TestRunnable microsRunnable = new TestRunnable();
+      scheduler.schedule(millisRunnable, DELAY_TIME, TimeUnit.MILLISECONDS);
+      scheduler.schedule(microsRunnable, 500, TimeUnit.MICROSECONDS);
+      
+      assertTrue(millisRunnable.getDelayTillFirstRun() >= DELAY_TIME);
+      microsRunnable.blockTillStarted();
+      assertEquals(1, millisRunnable.getRunCount());
+      assertEquals(1, microsRunnable.getRunCount());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void submitScheduledTimeUnitTest() throws InterruptedException, ExecutionException {
+    SubmitterSchedulerFactory factory = getSubmitterSchedulerFactory();
+    try {
+      SubmitterScheduler scheduler = factory.makeSubmitterScheduler(TEST_QTY, true);
+      
+      Object result = new Object();
+      TestRunnable tr = new TestRunnable();
+      ListenableFuture<Object> runnableFuture = 
+          scheduler.submitScheduled(tr, result, 1500, TimeUnit.MICROSECONDS);
+      ListenableFuture<Object> callableFuture = 
+          scheduler.submitScheduled(() -> result, 250_000, TimeUnit.NANOSECONDS);
+      
+      assertTrue(runnableFuture.get() == result);
+      assertTrue(callableFuture.get() == result);
+      assertEquals(1, tr.getRunCount());
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void scheduleTimeUnitFail() {
+    SubmitterSchedulerFactory factory = getSubmitterSchedulerFactory();
+    try {
+      SubmitterScheduler scheduler = factory.makeSubmitterScheduler(1, false);
+      try {
+        scheduler.schedule(null, 1, TimeUnit.MICROSECONDS);
+        fail("Exception should have been thrown");
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+      try {
+        scheduler.schedule(DoNothingRunnable.instance(), -1, TimeUnit.NANOSECONDS);
+        fail("Exception should have been thrown");
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+      try {
+        scheduler.scheduleAtFixedRate(DoNothingRunnable.instance(), 0, -1, TimeUnit.MICROSECONDS);
+        fail("Exception should have been thrown");
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
+  @Test
+  public void scheduleWithFixedDelayTimeUnitTest() {
+    recurringTimeUnitExecutionTest(true);
+  }
+  
+  @Test
+  public void scheduleAtFixedRateTimeUnitTest() {
+    recurringTimeUnitExecutionTest(false);
+  }
+  
+  protected void recurringTimeUnitExecutionTest(boolean fixedDelay) {
+    SubmitterSchedulerFactory factory = getSubmitterSchedulerFactory();
+    try {
+      SubmitterScheduler scheduler = factory.makeSubmitterScheduler(TEST_QTY, true);
+      
+      TestRunnable tr = new TestRunnable();
+      if (fixedDelay) {
+        scheduler.scheduleWithFixedDelay(tr, 100, 500, TimeUnit.MICROSECONDS);
+      } else {
+        scheduler.scheduleAtFixedRate(tr, 100, 500, TimeUnit.MICROSECONDS);
+      }
+      
+      tr.blockTillFinished(10_000, CYCLE_COUNT);
+    } finally {
+      factory.shutdown();
+    }
+  }
+  
   @Test
   public void scheduleWithFixedDelayTest() {
     recurringExecutionTest(false, true);
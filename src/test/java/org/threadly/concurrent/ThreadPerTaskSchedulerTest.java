@@ -0,0 +1,153 @@
+package org.threadly.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+import org.threadly.BlockingTestRunnable;
+import org.threadly.test.concurrent.TestRunnable;
+import org.threadly.util.StringUtils;
+
+@SuppressWarnings("javadoc")
+public class ThreadPerTaskSchedulerTest extends AbstractPrioritySchedulerTest {
+  @Override
+  protected AbstractPrioritySchedulerFactory getAbstractPrioritySchedulerFactory() {
+    return new ThreadPerTaskSchedulerFactory();
+  }
+  
+  @Override
+  protected boolean isSingleThreaded() {
+    return false;
+  }
+  
+  @Test
+  public void tasksRunOnSeparateThreadsTest() {
+    ThreadPerTaskScheduler scheduler = new ThreadPerTaskScheduler();
+    List<BlockingTestRunnable> runnables = new ArrayList<>(TEST_QTY);
+    try {
+      for (int i = 0; i < TEST_QTY; i++) {
+        BlockingTestRunnable btr = new BlockingTestRunnable();
+        runnables.add(btr);
+        scheduler.execute(btr);
+      }
+      // all tasks must be able to start without any blocking tasks completing
+      for (BlockingTestRunnable btr : runnables) {
+        btr.blockTillStarted();
+      }
+      
+      assertEquals(TEST_QTY, scheduler.getActiveTaskCount());
+    } finally {
+      for (BlockingTestRunnable btr : runnables) {
+        btr.unblock();
+      }
+      scheduler.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void maxConcurrencyTest() {
+    ThreadPerTaskScheduler scheduler = new ThreadPerTaskScheduler();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      assertEquals(Integer.MAX_VALUE, scheduler.getMaxConcurrency());
+      scheduler.setMaxConcurrency(1);
+      assertEquals(1, scheduler.getMaxConcurrency());
+      
+      scheduler.execute(btr);
+      btr.blockTillStarted();
+      TestRunnable tr = new TestRunnable();
+      scheduler.execute(tr);
+      
+      assertEquals(1, scheduler.getActiveTaskCount());
+      assertEquals(1, scheduler.getQueuedTaskCount());
+      
+      // increasing the limit should allow the waiting task to start
+      scheduler.setMaxConcurrency(2);
+      tr.blockTillFinished();
+    } finally {
+      btr.unblock();
+      scheduler.shutdownNow();
+    }
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void setMaxConcurrencyFail() {
+    new ThreadPerTaskScheduler().setMaxConcurrency(0);
+  }
+  
+  @Test
+  public void taskThreadFactoryTest() throws InterruptedException, ExecutionException {
+    String threadPrefix = StringUtils.makeRandomString(5);
+    ThreadPerTaskScheduler scheduler =
+        new ThreadPerTaskScheduler(TaskPriority.High, DELAY_TIME,
+                                   new ConfigurableThreadFactory(threadPrefix, false));
+    try {
+      Thread t1 = scheduler.submit(() -> Thread.currentThread()).get();
+      Thread t2 = scheduler.submit(() -> Thread.currentThread()).get();
+      
+      assertTrue(t1.getName().startsWith(threadPrefix));
+      assertTrue(t2.getName().startsWith(threadPrefix));
+      assertNotSame(t1, t2);
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void awaitTerminationWaitsForRunningTasksTest() throws InterruptedException {
+    ThreadPerTaskScheduler scheduler = new ThreadPerTaskScheduler();
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      scheduler.execute(btr);
+      btr.blockTillStarted();
+      scheduler.shutdown();
+      
+      assertFalse(scheduler.awaitTermination(DELAY_TIME));
+      
+      btr.unblock();
+      
+      assertTrue(scheduler.awaitTermination(10_000));
+      assertEquals(0, scheduler.getActiveTaskCount());
+    } finally {
+      btr.unblock();
+      scheduler.shutdownNow();
+    }
+  }
+  
+  private static class ThreadPerTaskSchedulerFactory implements AbstractPrioritySchedulerFactory {
+    private final List<ThreadPerTaskScheduler> schedulers = new ArrayList<>(2);
+    
+    @Override
+    public AbstractPriorityScheduler makeAbstractPriorityScheduler(int poolSize,
+                                                                   TaskPriority defaultPriority,
+                                                                   long maxWaitForLowPriority) {
+      ThreadPerTaskScheduler result = new ThreadPerTaskScheduler(defaultPriority, maxWaitForLowPriority);
+      result.setMaxConcurrency(poolSize);
+      schedulers.add(result);
+      
+      return result;
+    }
+    
+    @Override
+    public AbstractPriorityScheduler makeAbstractPriorityScheduler(int poolSize) {
+      ThreadPerTaskScheduler result = new ThreadPerTaskScheduler();
+      result.setMaxConcurrency(poolSize);
+      schedulers.add(result);
+      
+      return result;
+    }
+    
+    @Override
+    public void shutdown() {
+      Iterator<ThreadPerTaskScheduler> it = schedulers.iterator();
+      while (it.hasNext()) {
+        it.next().shutdownNow();
+        it.remove();
+      }
+    }
+  }
+}
@@ -5,14 +5,20 @@ import static org.junit.Assert.*;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.Test;
 import org.threadly.BlockingTestRunnable;
 import org.threadly.ThreadlyTester;
 import org.threadly.concurrent.SubmitterExecutorInterfaceTest.SubmitterExecutorFactory;
+import org.threadly.concurrent.UnfairExecutor.OverflowPolicy;
+import org.threadly.concurrent.UnfairExecutor.TaskRingBuffer;
 import org.threadly.concurrent.UnfairExecutor.TaskStripeGenerator;
+import org.threadly.concurrent.future.FutureUtils;
+import org.threadly.concurrent.future.ListenableFuture;
 import org.threadly.test.concurrent.TestRunnable;
+import org.threadly.test.concurrent.TestUtils;
 import org.threadly.util.Clock;
 
 @SuppressWarnings("javadoc")
@@ -32,6 +38,20 @@ public class UnfairExecutorTest extends ThreadlyTester {
     } catch (IllegalArgumentException execpted) {
       // expected
     }
+    try {
+      new UnfairExecutor(13, new ConfigurableThreadFactory(), 
+                         UnfairExecutor.AtomicStripeGenerator.instance(), 0, OverflowPolicy.Reject);
+      fail("Exception should have thrown");
+    } catch (IllegalArgumentException execpted) {
+      // expected
+    }
+    try {
+      new UnfairExecutor(13, new ConfigurableThreadFactory(), 
+                         UnfairExecutor.AtomicStripeGenerator.instance(), 1, null);
+      fail("Exception should have thrown");
+    } catch (IllegalArgumentException execpted) {
+      // expected
+    }
   }
   
   @Test
@@ -160,6 +180,288 @@ public class UnfairExecutorTest extends ThreadlyTester {
     ue.execute(DoNothingRunnable.instance());
   }
 
+  private static UnfairExecutor makeSingleStripeExecutor(int threadCount, int workerQueueSize, 
+                                                         OverflowPolicy overflowPolicy) {
+    // distribute all tasks to the first worker
+    return new UnfairExecutor(threadCount, new ConfigurableThreadFactory(), (task) -> 0, 
+                              workerQueueSize, overflowPolicy);
+  }
+  
+  @Test
+  public void rejectOverflowTest() {
+    UnfairExecutor ue = makeSingleStripeExecutor(1, 2, OverflowPolicy.Reject);
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      ue.execute(btr);
+      btr.blockTillStarted();
+      
+      TestRunnable tr1 = new TestRunnable();
+      TestRunnable tr2 = new TestRunnable();
+      ue.execute(tr1);
+      ue.execute(tr2);
+      try {
+        ue.execute(DoNothingRunnable.instance());
+        fail("Exception should have thrown");
+      } catch (RejectedExecutionException expected) {
+        // expected
+      }
+      
+      btr.unblock();
+      tr1.blockTillFinished();
+      tr2.blockTillFinished();
+    } finally {
+      btr.unblock();
+      ue.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void callerRunsOverflowTest() {
+    UnfairExecutor ue = makeSingleStripeExecutor(1, 2, OverflowPolicy.CallerRuns);
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      ue.execute(btr);
+      btr.blockTillStarted();
+      
+      TestRunnable queuedRunnable = new TestRunnable();
+      ue.execute(queuedRunnable);
+      ue.execute(DoNothingRunnable.instance());
+      TestRunnable callerRunnable = new TestRunnable();
+      ue.execute(callerRunnable);
+      
+      assertTrue(callerRunnable.ranOnce());
+      assertFalse(queuedRunnable.ranOnce());
+    } finally {
+      btr.unblock();
+      ue.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void spillOverflowTest() {
+    UnfairExecutor ue = makeSingleStripeExecutor(1, 2, OverflowPolicy.SpillToSharedQueue);
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      ue.execute(btr);
+      btr.blockTillStarted();
+      
+      TestRunnable tr1 = new TestRunnable();
+      TestRunnable tr2 = new TestRunnable();
+      ue.execute(tr1);
+      ue.execute(tr2);
+      List<TestRunnable> runnables = SubmitterExecutorInterfaceTest.executeTestRunnables(ue, 0);
+      assertEquals(TEST_QTY, ue.overflowQueue.size());
+      runnables.add(tr1);
+      runnables.add(tr2);
+      
+      btr.unblock();
+      for (TestRunnable tr : runnables) {
+        tr.blockTillFinished();
+      }
+    } finally {
+      btr.unblock();
+      ue.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void spillOverflowShutdownNowTest() {
+    UnfairExecutor ue = makeSingleStripeExecutor(1, 2, OverflowPolicy.SpillToSharedQueue);
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      ue.execute(btr);
+      btr.blockTillStarted();
+      
+      List<TestRunnable> expectedRunnables = 
+          SubmitterExecutorInterfaceTest.executeTestRunnables(ue, 0);
+      List<Runnable> canceledRunnables = ue.shutdownNow();
+      
+      assertTrue(canceledRunnables.containsAll(expectedRunnables));
+      assertTrue(expectedRunnables.containsAll(canceledRunnables));
+      assertTrue(ue.overflowQueue.isEmpty());
+    } finally {
+      btr.unblock();
+    }
+  }
+  
+  @Test
+  public void stealFromBlockedWorkerTest() {
+    UnfairExecutor ue = makeSingleStripeExecutor(3, TEST_QTY, OverflowPolicy.Reject);
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      ue.execute(btr);
+      btr.blockTillStarted();
+      
+      // the first worker is blocked, so all of these must be stolen by the other workers
+      List<TestRunnable> runnables = SubmitterExecutorInterfaceTest.executeTestRunnables(ue, 0);
+      for (TestRunnable tr : runnables) {
+        tr.blockTillFinished();
+      }
+    } finally {
+      btr.unblock();
+      ue.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void executeByKeyInOrderTest() throws InterruptedException, ExecutionException {
+    UnfairExecutor ue = new UnfairExecutor(3);
+    try {
+      int keyCount = 5;
+      List<List<Integer>> results = new ArrayList<>(keyCount);
+      List<List<Thread>> threads = new ArrayList<>(keyCount);
+      List<ListenableFuture<?>> futures = new ArrayList<>();
+      for (int k = 0; k < keyCount; k++) {
+        results.add(new ArrayList<>());
+        threads.add(new ArrayList<>());
+      }
+      for (int i = 0; i < TEST_QTY * 10; i++) {
+        for (int k = 0; k < keyCount; k++) {
+          final List<Integer> keyResults = results.get(k);
+          final List<Thread> keyThreads = threads.get(k);
+          final int value = i;
+          futures.add(ue.submit(Integer.valueOf(k), () -> {
+            // not thread safe collections, relying on the key to run these serially
+            keyResults.add(value);
+            keyThreads.add(Thread.currentThread());
+          }));
+        }
+        // mix in tasks without a key which may be stolen
+        ue.execute(DoNothingRunnable.instance());
+      }
+      FutureUtils.makeFailurePropagatingCompleteFuture(futures).get();
+      
+      for (int k = 0; k < keyCount; k++) {
+        List<Integer> keyResults = results.get(k);
+        assertEquals(TEST_QTY * 10, keyResults.size());
+        for (int i = 0; i < keyResults.size(); i++) {
+          assertEquals(i, keyResults.get(i).intValue());
+        }
+        for (Thread t : threads.get(k)) {
+          assertTrue(t == threads.get(k).get(0));
+        }
+      }
+    } finally {
+      ue.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void pinnedTasksNotStolenTest() {
+    UnfairExecutor ue = new UnfairExecutor(3);
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      SubmitterExecutor keyExecutor = ue.getExecutorForKey("foo");
+      keyExecutor.execute(btr);
+      btr.blockTillStarted();
+      
+      List<TestRunnable> runnables = 
+          SubmitterExecutorInterfaceTest.executeTestRunnables(keyExecutor, 0);
+      TestUtils.sleep(DELAY_TIME);
+      // other workers are idle, but must not have taken the pinned tasks
+      for (TestRunnable tr : runnables) {
+        assertFalse(tr.ranOnce());
+      }
+      
+      btr.unblock();
+      for (TestRunnable tr : runnables) {
+        tr.blockTillFinished();
+      }
+    } finally {
+      btr.unblock();
+      ue.shutdownNow();
+    }
+  }
+  
+  @Test
+  public void pinnedTasksShutdownNowTest() {
+    UnfairExecutor ue = new UnfairExecutor(1);
+    BlockingTestRunnable btr = new BlockingTestRunnable();
+    try {
+      ue.execute(btr);
+      btr.blockTillStarted();
+      
+      List<TestRunnable> expectedRunnables = 
+          SubmitterExecutorInterfaceTest.executeTestRunnables(ue.getExecutorForKey("foo"), 0);
+      List<Runnable> canceledRunnables = ue.shutdownNow();
+      
+      assertTrue(canceledRunnables.containsAll(expectedRunnables));
+      assertTrue(expectedRunnables.containsAll(canceledRunnables));
+    } finally {
+      btr.unblock();
+    }
+  }
+  
+  @Test
+  public void pinnedTasksShutdownTest() {
+    UnfairExecutor ue = new UnfairExecutor(3);
+    List<TestRunnable> runnables = 
+        SubmitterExecutorInterfaceTest.executeTestRunnables(ue.getExecutorForKey("foo"), 2);
+    ue.shutdown();
+    
+    // queued pinned tasks should still run
+    for (TestRunnable tr : runnables) {
+      tr.blockTillFinished();
+    }
+  }
+  
+  @Test
+  public void executeByKeyFail() {
+    UnfairExecutor ue = new UnfairExecutor(1);
+    try {
+      ue.execute(null, DoNothingRunnable.instance());
+      fail("Exception should have thrown");
+    } catch (IllegalArgumentException expected) {
+      // expected
+    }
+    try {
+      ue.execute(new Object(), null);
+      fail("Exception should have thrown");
+    } catch (IllegalArgumentException expected) {
+      // expected
+    }
+    try {
+      ue.getExecutorForKey(null);
+      fail("Exception should have thrown");
+    } catch (IllegalArgumentException expected) {
+      // expected
+    }
+    ue.shutdown();
+    try {
+      ue.execute(new Object(), DoNothingRunnable.instance());
+      fail("Exception should have thrown");
+    } catch (RejectedExecutionException expected) {
+      // expected
+    }
+  }
+  
+  @Test
+  public void taskRingBufferTest() {
+    assertEquals(2, new TaskRingBuffer(1).getCapacity());
+    assertEquals(4, new TaskRingBuffer(3).getCapacity());
+    assertEquals(4, new TaskRingBuffer(4).getCapacity());
+    
+    TaskRingBuffer buffer = new TaskRingBuffer(4);
+    assertNull(buffer.poll());
+    // wrap around the buffer a few times to verify slots are reused
+    for (int lap = 0; lap < 3; lap++) {
+      List<Runnable> runnables = new ArrayList<>(4);
+      for (int i = 0; i < 4; i++) {
+        Runnable r = new TestRunnable();
+        runnables.add(r);
+        assertTrue(buffer.offer(r));
+      }
+      assertFalse(buffer.offer(DoNothingRunnable.instance()));
+      assertEquals(4, buffer.size());
+      
+      for (Runnable r : runnables) {
+        assertTrue(r == buffer.poll());
+      }
+      assertNull(buffer.poll());
+      assertEquals(0, buffer.size());
+    }
+  }
+  
   protected static class UnfairExecutorFactory implements SubmitterExecutorFactory {
     private final TaskStripeGenerator stripeGenerator;
     private List<UnfairExecutor> executors = new ArrayList<>(1);
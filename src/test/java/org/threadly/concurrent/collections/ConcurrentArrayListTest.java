@@ -3,6 +3,7 @@ package org.threadly.concurrent.collections;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -111,6 +112,112 @@ public class ConcurrentArrayListTest extends ThreadlyTester {
     // verify no-op if no trimming needed
     assertTrue(originalDS == testList.currentData);
   }
+  
+  @Test
+  public void mutateTest() {
+    testList.setFrontPadding(1);
+    testList.setRearPadding(2);
+    testList.add("a");
+    testList.add("c");
+    
+    testList.mutate((list) -> {
+      list.add(1, "b");
+      list.add(0, "0");
+      list.add("d");
+      list.remove("0");
+    });
+    
+    assertEquals(Arrays.asList("a", "b", "c", "d"), new ArrayList<>(testList));
+    assertEquals(1, testList.currentData.dataStartIndex);
+    assertEquals(7, testList.currentData.dataArray.length);
+    assertEquals(1, testList.getFrontPadding());
+    assertEquals(2, testList.getRearPadding());
+  }
+  
+  @Test
+  public void mutateSetTest() {
+    testList.add("foo");
+    
+    testList.mutate((list) -> list.set(0, "bar"));
+    
+    assertEquals("bar", testList.get(0));
+  }
+  
+  @Test
+  public void mutateUnmodifiedTest() {
+    testList.add("foo");
+    DataSet<?> originalDS = testList.currentData;
+    
+    testList.mutate((list) -> assertEquals(1, list.size()));
+    
+    // no update should be published if nothing changed
+    assertTrue(originalDS == testList.currentData);
+  }
+  
+  @Test
+  public void mutateClearTest() {
+    testList.setRearPadding(2);
+    testList.add("foo");
+    testList.add("bar");
+    
+    testList.mutate(List::clear);
+    
+    assertTrue(testList.isEmpty());
+    assertEquals(2, testList.getRearPadding());
+  }
+  
+  @Test
+  public void mutateAndGetTest() {
+    testList.add("foo");
+    
+    int result = testList.mutateAndGet((list) -> {
+      list.add("bar");
+      return list.size();
+    });
+    
+    assertEquals(2, result);
+    assertEquals(2, testList.size());
+    assertEquals("bar", testList.getLast());
+  }
+  
+  @Test
+  public void mutateFailureNotPublishedTest() {
+    testList.add("foo");
+    DataSet<?> originalDS = testList.currentData;
+    
+    try {
+      testList.mutate((list) -> {
+        list.add("bar");
+        throw new IllegalStateException();
+      });
+      fail("Exception should have thrown");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+    
+    assertTrue(originalDS == testList.currentData);
+    assertEquals(1, testList.size());
+  }
+  
+  @Test
+  public void mutateNullFail() {
+    testList.add("foo");
+    
+    try {
+      testList.mutate((list) -> list.add(null));
+      fail("Exception should have thrown");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    
+    assertEquals(1, testList.size());
+    assertFalse(testList.contains(null));
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void mutateNullMutatorFail() {
+    testList.mutate(null);
+  }
 
   @Test
   public void sizeTest() {
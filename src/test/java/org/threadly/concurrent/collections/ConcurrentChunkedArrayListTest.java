@@ -0,0 +1,425 @@
+package org.threadly.concurrent.collections;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.threadly.ThreadlyTester;
+import org.threadly.concurrent.PriorityScheduler;
+import org.threadly.concurrent.future.ListenableFuture;
+
+@SuppressWarnings("javadoc")
+public class ConcurrentChunkedArrayListTest extends ThreadlyTester {
+  // small chunk size so that tests span many chunks
+  private static final int CHUNK_SIZE = 4;
+  
+  private ConcurrentChunkedArrayList<String> testList;
+  
+  @Before
+  public void setup() {
+    testList = new ConcurrentChunkedArrayList<>(CHUNK_SIZE);
+  }
+  
+  @After
+  public void cleanup() {
+    testList = null;
+  }
+  
+  @SuppressWarnings("unused")
+  @Test (expected = IllegalArgumentException.class)
+  public void constructorFail() {
+    new ConcurrentChunkedArrayList<>(0);
+  }
+  
+  @Test
+  public void getChunkSizeTest() {
+    assertEquals(CHUNK_SIZE, testList.getChunkSize());
+    assertEquals(ConcurrentChunkedArrayList.DEFAULT_CHUNK_SIZE, 
+                 new ConcurrentChunkedArrayList<>().getChunkSize());
+  }
+  
+  @Test
+  public void getChunkCountTest() {
+    assertEquals(0, testList.getChunkCount());
+    
+    ListTests.populateIntStrings(testList, CHUNK_SIZE * 10);
+    
+    assertEquals(10, testList.getChunkCount());
+  }
+  
+  @Test
+  public void toStringTest() {
+    testList.add("foo");
+    testList.add("bar");
+    
+    assertEquals("[foo, bar]", testList.toString());
+  }
+  
+  @Test
+  public void sizeTest() {
+    ListTests.sizeTest(testList);
+  }
+  
+  @Test
+  public void isEmptyTest() {
+    ListTests.isEmptyTest(testList);
+  }
+  
+  @Test
+  public void getTest() {
+    ListTests.getTest(testList);
+  }
+  
+  @Test (expected = IndexOutOfBoundsException.class)
+  public void getInvalidIndexTest() {
+    testList.get(1);
+  }
+  
+  @Test
+  public void indexOfTest() {
+    ListTests.indexOfTest(testList);
+  }
+  
+  @Test
+  public void lastIndexOfTest() {
+    ListTests.lastIndexOfTest(testList);
+  }
+  
+  @Test
+  public void containsTest() {
+    ListTests.containsTest(testList);
+  }
+  
+  @Test
+  public void containsAllTest() {
+    ListTests.containsAllTest(testList);
+  }
+  
+  @Test
+  public void toArrayTest() {
+    ListTests.toArrayTest(testList);
+  }
+  
+  @Test
+  public void clearTest() {
+    ListTests.clearTest(testList);
+    
+    assertNull(testList.peek());
+  }
+  
+  @Test
+  public void addFirstTest() {
+    for (int i = 0; i < TEST_QTY; i++) {
+      String str = Integer.toString(i);
+      testList.addFirst(str);
+      assertEquals(str, testList.getFirst());
+    }
+    for (int i = 0; i < TEST_QTY; i++) {
+      assertEquals(Integer.toString(TEST_QTY - i - 1), testList.get(i));
+    }
+  }
+  
+  @Test
+  public void addLastTest() {
+    for (int i = 0; i < TEST_QTY; i++) {
+      String str = Integer.toString(i);
+      testList.addLast(str);
+      assertEquals(str, testList.getLast());
+    }
+    for (int i = 0; i < TEST_QTY; i++) {
+      assertEquals(Integer.toString(i), testList.get(i));
+    }
+  }
+  
+  @Test (expected = UnsupportedOperationException.class)
+  public void addFirstNullFail() {
+    testList.addFirst(null);
+  }
+  
+  @Test (expected = NoSuchElementException.class)
+  public void getFirstFail() {
+    testList.getFirst();
+  }
+  
+  @Test (expected = NoSuchElementException.class)
+  public void getLastFail() {
+    testList.getLast();
+  }
+  
+  @Test
+  public void addNullTest() {
+    ListTests.addNullTest(testList);
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void addIndexNullFail() {
+    testList.add(0, null);
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void addAllNullFail() {
+    testList.addAll(Arrays.asList("foo", null));
+  }
+  
+  @Test
+  public void addAllTest() {
+    ListTests.addAllTest(testList);
+  }
+  
+  @Test
+  public void addIndexTest() {
+    ListTests.addIndexTest(testList);
+  }
+  
+  @Test
+  public void addIndexFail() {
+    ListTests.addIndexFail(testList);
+  }
+  
+  @Test
+  public void addAllIndexTest() {
+    ListTests.addAllIndexTest(testList);
+  }
+  
+  @Test
+  public void addAllIndexFail() {
+    ListTests.addAllIndexFail(testList);
+  }
+  
+  @Test
+  public void pollFirstAndLastTest() {
+    ListTests.populateIntStrings(testList, TEST_QTY);
+    
+    for (int i = 0; i < TEST_QTY / 2; i++) {
+      assertEquals(Integer.toString(i), testList.pollFirst());
+      assertEquals(Integer.toString(TEST_QTY - i - 1), testList.pollLast());
+    }
+    if (TEST_QTY % 2 == 1) {
+      assertEquals(Integer.toString(TEST_QTY / 2), testList.poll());
+    }
+    
+    assertTrue(testList.isEmpty());
+    assertNull(testList.pollFirst());
+    assertNull(testList.pollLast());
+  }
+  
+  @Test (expected = NoSuchElementException.class)
+  public void removeFirstFail() {
+    testList.removeFirst();
+  }
+  
+  @Test
+  public void removeAllTest() {
+    ListTests.removeAllTest(testList);
+  }
+  
+  @Test
+  public void removeLastOccurrenceTest() {
+    testList.add("foo");
+    testList.add("bar");
+    testList.add("foo");
+    
+    assertTrue(testList.removeLastOccurrence("foo"));
+    assertEquals(Arrays.asList("foo", "bar"), testList);
+    assertFalse(testList.removeLastOccurrence("baz"));
+  }
+  
+  @Test
+  public void removeMissingObjectTest() {
+    ListTests.removeMissingObjectTest(testList);
+  }
+  
+  @Test
+  public void removeObjectTest() {
+    ListTests.removeObjectTest(testList);
+  }
+  
+  @Test
+  public void removeIndexTest() {
+    ListTests.removeIndexTest(testList);
+  }
+  
+  @Test
+  public void removeIndexFail() {
+    ListTests.removeIndexFail(testList);
+  }
+  
+  @Test
+  public void retainAllTest() {
+    ListTests.retainAllTest(testList);
+  }
+  
+  @Test
+  public void setTest() {
+    ListTests.populateIntStrings(testList, CHUNK_SIZE * 4);
+    
+    for (int i = 0; i < testList.size(); i++) {
+      assertEquals(Integer.toString(i), testList.set(i, "foo" + i));
+    }
+    for (int i = 0; i < testList.size(); i++) {
+      assertEquals("foo" + i, testList.get(i));
+    }
+  }
+  
+  @Test
+  public void setFail() {
+    ListTests.setFail(testList);
+  }
+  
+  @Test
+  public void iteratorTest() {
+    ListTests.iteratorTest(testList);
+  }
+  
+  @Test
+  public void listIteratorTest() {
+    ListTests.listIteratorTest(testList);
+  }
+  
+  @Test
+  public void listIteratorFail() {
+    ListTests.listIteratorFail(testList);
+  }
+  
+  @Test
+  public void iteratorSnapshotTest() {
+    ListTests.populateIntStrings(testList, CHUNK_SIZE * 3);
+    Iterator<String> it = testList.iterator();
+    
+    testList.addFirst("foo");
+    testList.add(CHUNK_SIZE, "bar");
+    testList.remove(CHUNK_SIZE * 2);
+    testList.addLast("baz");
+    
+    // iterator should only see the state when it was created
+    for (int i = 0; i < CHUNK_SIZE * 3; i++) {
+      assertEquals(Integer.toString(i), it.next());
+    }
+    assertFalse(it.hasNext());
+  }
+  
+  @Test
+  public void descendingIteratorTest() {
+    ListTests.populateIntStrings(testList, TEST_QTY);
+    
+    Iterator<String> it = testList.descendingIterator();
+    for (int i = TEST_QTY - 1; i >= 0; i--) {
+      assertEquals(Integer.toString(i), it.next());
+    }
+    assertFalse(it.hasNext());
+  }
+  
+  @Test
+  public void equalsTest() {
+    ListTests.equalsTest(testList);
+  }
+  
+  @Test
+  public void hashCodeTest() {
+    ListTests.hashCodeTest(testList);
+  }
+  
+  @Test
+  public void subListTest() {
+    ListTests.subListTest(testList);
+  }
+  
+  @Test
+  public void subListFail() {
+    ListTests.subListFail(testList);
+  }
+  
+  @Test
+  public void randomOperationsTest() {
+    randomOperationsTest(CHUNK_SIZE);
+  }
+  
+  @Test
+  public void randomOperationsSingleItemChunksTest() {
+    randomOperationsTest(1);
+  }
+  
+  @Test
+  public void randomOperationsLargeChunksTest() {
+    randomOperationsTest(64);
+  }
+  
+  private void randomOperationsTest(int chunkSize) {
+    testList = new ConcurrentChunkedArrayList<>(chunkSize);
+    Random random = new Random(chunkSize);
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      String str = Integer.toString(i);
+      int operation = random.nextInt(8);
+      if (expected.isEmpty() || operation == 0) {
+        expected.add(str);
+        testList.add(str);
+      } else if (operation == 1) {
+        expected.add(0, str);
+        testList.addFirst(str);
+      } else if (operation == 2) {
+        int index = random.nextInt(expected.size() + 1);
+        expected.add(index, str);
+        testList.add(index, str);
+      } else if (operation == 3) {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.remove(index), testList.remove(index));
+      } else if (operation == 4) {
+        assertEquals(expected.remove(0), testList.pollFirst());
+      } else if (operation == 5) {
+        assertEquals(expected.remove(expected.size() - 1), testList.pollLast());
+      } else if (operation == 6) {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.set(index, str), testList.set(index, str));
+      } else {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.get(index), testList.get(index));
+      }
+      assertEquals(expected.size(), testList.size());
+    }
+    
+    assertEquals(expected, testList);
+    assertEquals(expected, Arrays.asList(testList.toArray()));
+    assertEquals(expected.hashCode(), testList.hashCode());
+  }
+  
+  @Test
+  public void concurrentReadTest() throws Exception {
+    int itemCount = CHUNK_SIZE * TEST_QTY;
+    for (int i = 0; i < itemCount; i++) {
+      testList.add(Integer.toString(i));
+    }
+    PriorityScheduler scheduler = new PriorityScheduler(1);
+    try {
+      ListenableFuture<?> writerFuture = scheduler.submit(() -> {
+        for (int i = 0; i < itemCount; i++) {
+          synchronized (testList.getModificationLock()) {
+            testList.addLast(testList.pollFirst());
+            testList.add(itemCount / 2, testList.remove(itemCount / 2));
+          }
+        }
+      });
+      while (! writerFuture.isDone()) {
+        Object[] snapshot = testList.toArray();
+        // items are only moved, so every read must see a complete list
+        assertEquals(itemCount, snapshot.length);
+        for (Object o : snapshot) {
+          assertNotNull(o);
+        }
+      }
+      writerFuture.get();
+      
+      assertEquals(itemCount, testList.size());
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+}
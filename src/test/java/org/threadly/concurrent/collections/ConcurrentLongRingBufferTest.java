@@ -0,0 +1,145 @@
+package org.threadly.concurrent.collections;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.threadly.ThreadlyTester;
+import org.threadly.concurrent.PriorityScheduler;
+import org.threadly.concurrent.future.FutureUtils;
+import org.threadly.concurrent.future.ListenableFuture;
+
+@SuppressWarnings("javadoc")
+public class ConcurrentLongRingBufferTest extends ThreadlyTester {
+  private static final int CAPACITY = 10;
+  
+  private ConcurrentLongRingBuffer testBuffer;
+  
+  @Before
+  public void setup() {
+    testBuffer = new ConcurrentLongRingBuffer(CAPACITY);
+  }
+  
+  @After
+  public void cleanup() {
+    testBuffer = null;
+  }
+  
+  @SuppressWarnings("unused")
+  @Test (expected = IllegalArgumentException.class)
+  public void constructorFail() {
+    new ConcurrentLongRingBuffer(-1);
+  }
+  
+  @Test
+  public void emptyTest() {
+    assertEquals(CAPACITY, testBuffer.getCapacity());
+    assertTrue(testBuffer.isEmpty());
+    assertEquals(0, testBuffer.size());
+    assertEquals(0, testBuffer.toArray().length);
+    assertTrue(testBuffer.toList().isEmpty());
+  }
+  
+  @Test
+  public void addUnderCapacityTest() {
+    for (int i = 0; i < CAPACITY / 2; i++) {
+      testBuffer.add(i);
+    }
+    
+    assertFalse(testBuffer.isEmpty());
+    assertEquals(CAPACITY / 2, testBuffer.size());
+    assertArrayEquals(new long[] { 0, 1, 2, 3, 4 }, testBuffer.toArray());
+    assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L), testBuffer.toList());
+  }
+  
+  @Test
+  public void addOverCapacityTest() {
+    int addCount = CAPACITY * 3 + 5;
+    for (int i = 0; i < addCount; i++) {
+      testBuffer.add(i);
+    }
+    
+    assertEquals(CAPACITY, testBuffer.size());
+    long[] values = testBuffer.toArray();
+    assertEquals(CAPACITY, values.length);
+    for (int i = 0; i < CAPACITY; i++) {
+      // only the newest values should be retained, oldest first
+      assertEquals(addCount - CAPACITY + i, values[i]);
+    }
+  }
+  
+  @Test
+  public void addAllToTest() {
+    ConcurrentLongRingBuffer otherBuffer = new ConcurrentLongRingBuffer(CAPACITY);
+    testBuffer.add(1);
+    testBuffer.add(2);
+    otherBuffer.add(3);
+    
+    List<Long> result = new ArrayList<>();
+    testBuffer.addAllTo(result);
+    otherBuffer.addAllTo(result);
+    
+    assertEquals(Arrays.asList(1L, 2L, 3L), result);
+  }
+  
+  @Test
+  public void clearTest() {
+    for (int i = 0; i < CAPACITY * 2; i++) {
+      testBuffer.add(i);
+    }
+    testBuffer.clear();
+    
+    assertTrue(testBuffer.isEmpty());
+    assertEquals(0, testBuffer.toArray().length);
+    
+    testBuffer.add(100);
+    assertEquals(1, testBuffer.size());
+    assertArrayEquals(new long[] { 100 }, testBuffer.toArray());
+  }
+  
+  @Test
+  public void zeroCapacityTest() {
+    testBuffer = new ConcurrentLongRingBuffer(0);
+    testBuffer.add(1);
+    
+    assertTrue(testBuffer.isEmpty());
+    assertEquals(0, testBuffer.toArray().length);
+  }
+  
+  @Test
+  public void concurrentAddTest() throws Exception {
+    final int producerCount = 4;
+    final int valuesPerProducer = CAPACITY * TEST_QTY * 10;
+    PriorityScheduler scheduler = new PriorityScheduler(producerCount);
+    try {
+      List<ListenableFuture<?>> futures = new ArrayList<>(producerCount);
+      for (int p = 0; p < producerCount; p++) {
+        futures.add(scheduler.submit(() -> {
+          for (int i = 1; i <= valuesPerProducer; i++) {
+            testBuffer.add(i);
+          }
+        }));
+      }
+      ListenableFuture<?> producersFuture = FutureUtils.makeCompleteFuture(futures);
+      while (! producersFuture.isDone()) {
+        long[] snapshot = testBuffer.toArray();
+        assertTrue(snapshot.length <= CAPACITY);
+        for (long v : snapshot) {
+          // values are only ever read once fully written, so must be within the added range
+          assertTrue(v >= 1 && v <= valuesPerProducer);
+        }
+      }
+      FutureUtils.makeFailurePropagatingCompleteFuture(futures).get();
+      
+      assertEquals(CAPACITY, testBuffer.size());
+      assertEquals(CAPACITY, testBuffer.toArray().length);
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+}
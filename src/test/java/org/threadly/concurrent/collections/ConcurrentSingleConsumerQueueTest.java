@@ -0,0 +1,201 @@
+package org.threadly.concurrent.collections;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.threadly.ThreadlyTester;
+import org.threadly.concurrent.PriorityScheduler;
+import org.threadly.concurrent.future.FutureUtils;
+import org.threadly.concurrent.future.ListenableFuture;
+
+@SuppressWarnings("javadoc")
+public class ConcurrentSingleConsumerQueueTest extends ThreadlyTester {
+  private static final int CHUNK_SIZE = 4;
+  
+  private ConcurrentSingleConsumerQueue<String> testQueue;
+  
+  @Before
+  public void setup() {
+    testQueue = new ConcurrentSingleConsumerQueue<>(CHUNK_SIZE);
+  }
+  
+  @After
+  public void cleanup() {
+    testQueue = null;
+  }
+  
+  @SuppressWarnings("unused")
+  @Test (expected = IllegalArgumentException.class)
+  public void constructorFail() {
+    new ConcurrentSingleConsumerQueue<>(1);
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void offerNullFail() {
+    testQueue.offer(null);
+  }
+  
+  @Test
+  public void emptyTest() {
+    assertTrue(testQueue.isEmpty());
+    assertEquals(0, testQueue.size());
+    assertNull(testQueue.peek());
+    assertNull(testQueue.poll());
+    assertFalse(testQueue.iterator().hasNext());
+  }
+  
+  @Test
+  public void offerAndPollInOrderTest() {
+    int count = CHUNK_SIZE * 5 + 1;
+    for (int i = 0; i < count; i++) {
+      assertTrue(testQueue.offer(Integer.toString(i)));
+    }
+    
+    assertFalse(testQueue.isEmpty());
+    assertEquals(count, testQueue.size());
+    for (int i = 0; i < count; i++) {
+      assertEquals(Integer.toString(i), testQueue.peek());
+      assertEquals(Integer.toString(i), testQueue.poll());
+    }
+    assertTrue(testQueue.isEmpty());
+    assertNull(testQueue.poll());
+    
+    // queue should continue to work once drained
+    testQueue.add("foo");
+    assertEquals("foo", testQueue.poll());
+  }
+  
+  @Test
+  public void removeTest() {
+    for (int i = 0; i < CHUNK_SIZE * 2; i++) {
+      testQueue.add(Integer.toString(i));
+    }
+    
+    assertTrue(testQueue.remove("0"));
+    assertTrue(testQueue.remove(Integer.toString(CHUNK_SIZE)));
+    assertFalse(testQueue.remove(Integer.toString(CHUNK_SIZE)));
+    assertFalse(testQueue.remove("foo"));
+    assertFalse(testQueue.remove(null));
+    
+    assertEquals(CHUNK_SIZE * 2 - 2, testQueue.size());
+    assertFalse(testQueue.contains("0"));
+    assertTrue(testQueue.contains("1"));
+    assertEquals("1", testQueue.poll());
+    
+    // remove the rest of the first chunk so the consumer must skip over it
+    for (int i = 2; i < CHUNK_SIZE; i++) {
+      assertTrue(testQueue.remove(Integer.toString(i)));
+    }
+    assertEquals(Integer.toString(CHUNK_SIZE + 1), testQueue.peek());
+  }
+  
+  @Test
+  public void iteratorTest() {
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < CHUNK_SIZE * 3; i++) {
+      expected.add(Integer.toString(i));
+      testQueue.add(Integer.toString(i));
+    }
+    testQueue.poll();
+    expected.remove(0);
+    
+    Iterator<String> it = testQueue.iterator();
+    Iterator<String> expectedIt = expected.iterator();
+    while (expectedIt.hasNext()) {
+      assertTrue(it.hasNext());
+      assertEquals(expectedIt.next(), it.next());
+    }
+    assertFalse(it.hasNext());
+  }
+  
+  @Test
+  public void iteratorRemoveTest() {
+    for (int i = 0; i < CHUNK_SIZE * 3; i++) {
+      testQueue.add(Integer.toString(i));
+    }
+    
+    Iterator<String> it = testQueue.iterator();
+    while (it.hasNext()) {
+      if (Integer.parseInt(it.next()) % 2 == 0) {
+        it.remove();
+      }
+    }
+    
+    assertEquals((CHUNK_SIZE * 3) / 2, testQueue.size());
+    String item;
+    while ((item = testQueue.poll()) != null) {
+      assertEquals(1, Integer.parseInt(item) % 2);
+    }
+  }
+  
+  @Test (expected = IllegalStateException.class)
+  public void iteratorRemoveFail() {
+    testQueue.add("foo");
+    testQueue.iterator().remove();
+  }
+  
+  @Test (expected = NoSuchElementException.class)
+  public void iteratorNextFail() {
+    testQueue.iterator().next();
+  }
+  
+  @Test
+  public void concurrentProducersTest() throws Exception {
+    final int producerCount = 4;
+    final int itemsPerProducer = CHUNK_SIZE * TEST_QTY * 10;
+    PriorityScheduler scheduler = new PriorityScheduler(producerCount + 2);
+    try {
+      AtomicInteger removedCount = new AtomicInteger();
+      List<ListenableFuture<?>> futures = new ArrayList<>(producerCount);
+      for (int p = 0; p < producerCount; p++) {
+        final int producer = p;
+        futures.add(scheduler.submit(() -> {
+          for (int i = 0; i < itemsPerProducer; i++) {
+            testQueue.add(producer + "-" + i);
+          }
+        }));
+      }
+      // remove concurrently with the consumer so that only one may succeed for each item
+      ListenableFuture<?> removeFuture = scheduler.submit(() -> {
+        for (int i = 0; i < itemsPerProducer; i += 2) {
+          if (testQueue.remove("0-" + i)) {
+            removedCount.incrementAndGet();
+          }
+        }
+      });
+      
+      Set<String> polled = new HashSet<>();
+      int[] lastIndex = new int[producerCount];
+      for (int p = 0; p < producerCount; p++) {
+        lastIndex[p] = -1;
+      }
+      ListenableFuture<?> producersFuture = FutureUtils.makeCompleteFuture(futures);
+      while (! producersFuture.isDone() || ! removeFuture.isDone() || ! testQueue.isEmpty()) {
+        String item = testQueue.poll();
+        if (item != null) {
+          assertTrue(polled.add(item));
+          // items from each producer must be in the order they were added
+          int producer = Integer.parseInt(item.substring(0, item.indexOf('-')));
+          int index = Integer.parseInt(item.substring(item.indexOf('-') + 1));
+          assertTrue(index > lastIndex[producer]);
+          lastIndex[producer] = index;
+        }
+      }
+      FutureUtils.makeFailurePropagatingCompleteFuture(futures).get();
+      
+      assertEquals(producerCount * itemsPerProducer, polled.size() + removedCount.get());
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+}
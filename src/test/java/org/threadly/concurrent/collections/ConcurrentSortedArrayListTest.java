@@ -0,0 +1,397 @@
+package org.threadly.concurrent.collections;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.threadly.ThreadlyTester;
+
+@SuppressWarnings("javadoc")
+public class ConcurrentSortedArrayListTest extends ThreadlyTester {
+  private ConcurrentSortedArrayList<String> testList;
+  
+  @Before
+  public void setup() {
+    // sorting by length gives many items with equal keys
+    testList = new ConcurrentSortedArrayList<>(String::length);
+  }
+  
+  @After
+  public void cleanup() {
+    testList = null;
+  }
+  
+  @SuppressWarnings("unused")
+  @Test (expected = IllegalArgumentException.class)
+  public void constructorFail() {
+    new ConcurrentSortedArrayList<String>(null);
+  }
+  
+  @Test
+  public void sizeTest() {
+    ListTests.sizeTest(testList);
+  }
+  
+  @Test
+  public void isEmptyTest() {
+    ListTests.isEmptyTest(testList);
+  }
+  
+  @Test
+  public void getTest() {
+    ListTests.getTest(testList);
+  }
+  
+  @Test
+  public void indexOfTest() {
+    ListTests.indexOfTest(testList);
+  }
+  
+  @Test
+  public void lastIndexOfTest() {
+    ListTests.lastIndexOfTest(testList);
+  }
+  
+  @Test
+  public void containsTest() {
+    ListTests.containsTest(testList);
+  }
+  
+  @Test
+  public void containsAllTest() {
+    ListTests.containsAllTest(testList);
+  }
+  
+  @Test
+  public void toArrayTest() {
+    ListTests.toArrayTest(testList);
+  }
+  
+  @Test
+  public void clearTest() {
+    ListTests.clearTest(testList);
+  }
+  
+  @Test
+  public void addNullTest() {
+    ListTests.addNullTest(testList);
+  }
+  
+  @Test
+  public void addAllTest() {
+    ListTests.addAllTest(testList);
+  }
+  
+  @Test
+  public void removeObjectTest() {
+    ListTests.removeObjectTest(testList);
+  }
+  
+  @Test
+  public void removeAllTest() {
+    ListTests.removeAllTest(testList);
+  }
+  
+  @Test
+  public void removeIndexTest() {
+    ListTests.removeIndexTest(testList);
+  }
+  
+  @Test
+  public void removeIndexFail() {
+    ListTests.removeIndexFail(testList);
+  }
+  
+  @Test
+  public void retainAllTest() {
+    ListTests.retainAllTest(testList);
+  }
+  
+  @Test
+  public void iteratorTest() {
+    ListTests.iteratorTest(testList);
+  }
+  
+  @Test
+  public void equalsTest() {
+    ListTests.equalsTest(testList);
+  }
+  
+  @Test
+  public void hashCodeTest() {
+    ListTests.hashCodeTest(testList);
+  }
+  
+  @Test
+  public void addSortedTest() {
+    testList.add("ccc");
+    testList.add("a");
+    testList.add("bb");
+    testList.add("b");
+    testList.offer("aa");
+    
+    // items with equal keys should retain the order they were added
+    assertEquals(Arrays.asList("a", "b", "bb", "aa", "ccc"), testList);
+  }
+  
+  @Test
+  public void addAndGetIndexTest() {
+    assertEquals(0, testList.addAndGetIndex("bb"));
+    assertEquals(0, testList.addAndGetIndex("a"));
+    assertEquals(2, testList.addAndGetIndex("ccc"));
+    assertEquals(2, testList.addAndGetIndex("cc"));
+    assertEquals(1, testList.addAndGetIndex("b"));
+    
+    assertEquals(Arrays.asList("a", "b", "bb", "cc", "ccc"), testList);
+  }
+  
+  @Test
+  public void getInsertionIndexTest() {
+    assertEquals(0, testList.getInsertionIndex(1));
+    
+    testList.addAll(Arrays.asList("a", "b", "cc", "dddd"));
+    
+    assertEquals(0, testList.getInsertionIndex(0));
+    assertEquals(2, testList.getInsertionIndex(1));
+    assertEquals(3, testList.getInsertionIndex(2));
+    assertEquals(3, testList.getInsertionIndex(3));
+    assertEquals(4, testList.getInsertionIndex(4));
+    assertEquals(4, testList.getInsertionIndex(Long.MAX_VALUE));
+  }
+  
+  @Test
+  public void indexOfWithEqualKeysTest() {
+    testList.addAll(Arrays.asList("a", "aa", "bb", "cc", "bb", "ccc"));
+    
+    assertEquals(1, testList.indexOf("aa"));
+    assertEquals(2, testList.indexOf("bb"));
+    assertEquals(4, testList.lastIndexOf("bb"));
+    assertEquals(-1, testList.indexOf("dd"));
+    assertEquals(-1, testList.indexOf(null));
+    assertFalse(testList.contains("dd"));
+    assertFalse(testList.containsAll(Arrays.asList("a", "d")));
+    
+    assertTrue(testList.removeLastOccurrence("bb"));
+    assertEquals(Arrays.asList("a", "aa", "bb", "cc", "ccc"), testList);
+  }
+  
+  @Test
+  public void indexOfIdentityTest() {
+    String first = new String("foo");
+    String second = new String("foo");
+    testList.add("a");
+    testList.add(first);
+    testList.add("bar");
+    testList.add(second);
+    
+    assertEquals(1, testList.indexOfIdentity(first));
+    assertEquals(3, testList.indexOfIdentity(second));
+    assertEquals(-1, testList.indexOfIdentity(new String("foo")));
+    assertEquals(-1, testList.indexOfIdentity(null));
+    assertEquals(3, testList.indexOfIdentity(second, 3));
+    // equals based search should find the first equal item
+    assertEquals(1, testList.indexOf(second));
+  }
+  
+  @Test
+  public void addAllMergeTest() {
+    testList.addAll(Arrays.asList("bb", "a", "dddd"));
+    testList.addAll(Arrays.asList("ccc", "b", "cc", "eeeee", "c"));
+    
+    assertEquals(Arrays.asList("a", "b", "c", "bb", "cc", "ccc", "dddd", "eeeee"), testList);
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void addAllNullFail() {
+    testList.addAll(Arrays.asList("foo", null));
+  }
+  
+  @Test
+  public void addIndexTest() {
+    testList.addAll(Arrays.asList("a", "ccc"));
+    testList.add(1, "bb");
+    testList.add(0, "b");
+    testList.addFirst("");
+    testList.addLast("ddd");
+    testList.set(1, "c");
+    testList.addAll(2, Arrays.asList("d", "e"));
+    
+    assertEquals(Arrays.asList("", "c", "d", "e", "a", "bb", "ccc", "ddd"), testList);
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void addIndexOutOfOrderFail() {
+    testList.addAll(Arrays.asList("a", "ccc"));
+    testList.add(0, "bb");
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void addFirstOutOfOrderFail() {
+    testList.add("a");
+    testList.addFirst("bb");
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void addLastOutOfOrderFail() {
+    testList.add("bb");
+    testList.addLast("a");
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void setOutOfOrderFail() {
+    testList.addAll(Arrays.asList("a", "bb", "ccc"));
+    testList.set(1, "dddd");
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void addAllIndexOutOfOrderFail() {
+    testList.addAll(Arrays.asList("a", "ccc"));
+    testList.addAll(1, Arrays.asList("bb", "b"));
+  }
+  
+  @Test (expected = UnsupportedOperationException.class)
+  public void repositionIndexFail() {
+    testList.add("a");
+    testList.reposition(0, 1);
+  }
+  
+  @Test (expected = UnsupportedOperationException.class)
+  public void repositionItemIndexFail() {
+    testList.add("a");
+    testList.reposition("a", 1);
+  }
+  
+  @Test
+  public void repositionTest() {
+    ConcurrentSortedArrayList<KeyedItem> list = new ConcurrentSortedArrayList<>((ki) -> ki.key);
+    List<KeyedItem> items = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      KeyedItem ki = new KeyedItem(i * 10);
+      items.add(ki);
+      list.add(ki);
+    }
+    KeyedItem tie = new KeyedItem(40);
+    list.add(tie);
+    // order: 0, 10, 20, 30, 40, tie(40), 50
+    
+    KeyedItem moved = items.get(1);
+    moved.key = 45;
+    assertEquals(5, list.reposition(moved, 10L));
+    assertEquals(Arrays.asList(items.get(0), items.get(2), items.get(3), items.get(4), tie, 
+                               moved, items.get(5)), 
+                 list);
+    
+    moved.key = 20;
+    // should be placed after the existing item with an equal key
+    assertEquals(2, list.reposition(moved, 45L));
+    assertEquals(Arrays.asList(items.get(0), items.get(2), moved, items.get(3), items.get(4), 
+                               tie, items.get(5)), 
+                 list);
+    
+    moved.key = 25;
+    assertEquals(2, list.reposition(moved, 20L));
+    assertEquals(2, list.indexOfIdentity(moved));
+    
+    items.get(0).key = 100;
+    assertEquals(6, list.reposition(items.get(0), 0L));
+    assertTrue(list.getLast() == items.get(0));
+  }
+  
+  @Test (expected = NoSuchElementException.class)
+  public void repositionMissingFail() {
+    ConcurrentSortedArrayList<KeyedItem> list = new ConcurrentSortedArrayList<>((ki) -> ki.key);
+    list.add(new KeyedItem(10));
+    
+    list.reposition(new KeyedItem(10), 10L);
+  }
+  
+  @Test
+  public void mutateTest() {
+    testList.addAll(Arrays.asList("a", "bb", "ccc"));
+    
+    boolean headChanged = testList.mutateAndGet((list) -> {
+      assertTrue(list.remove("bb"));
+      list.add("dd");
+      list.add("");
+      list.addAll(Arrays.asList("eeee", "e"));
+      assertEquals(2, list.indexOf("e"));
+      return list.get(0).equals("");
+    });
+    
+    assertTrue(headChanged);
+    assertEquals(Arrays.asList("", "a", "e", "dd", "ccc", "eeee"), testList);
+  }
+  
+  @Test
+  public void mutateOutOfOrderFail() {
+    testList.addAll(Arrays.asList("a", "bb", "ccc"));
+    
+    try {
+      testList.mutate((list) -> list.set(0, "dddd"));
+      fail("Exception should have thrown");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    
+    assertEquals(Arrays.asList("a", "bb", "ccc"), testList);
+  }
+  
+  @Test
+  public void randomOperationsTest() {
+    ConcurrentSortedArrayList<KeyedItem> list = new ConcurrentSortedArrayList<>((ki) -> ki.key);
+    List<KeyedItem> expected = new ArrayList<>();
+    Random random = new Random(1);
+    for (int i = 0; i < 10_000; i++) {
+      int operation = random.nextInt(4);
+      if (expected.isEmpty() || operation == 0) {
+        // small key range so there are many items with equal keys
+        KeyedItem ki = new KeyedItem(random.nextInt(50));
+        int index = expectedInsertionIndex(expected, ki.key);
+        expected.add(index, ki);
+        assertEquals(index, list.addAndGetIndex(ki));
+      } else if (operation == 1) {
+        KeyedItem ki = expected.remove(random.nextInt(expected.size()));
+        assertTrue(list.remove(ki));
+      } else if (operation == 2) {
+        int index = random.nextInt(expected.size());
+        KeyedItem ki = expected.get(index);
+        assertEquals(index, list.indexOfIdentity(ki));
+      } else {
+        KeyedItem ki = expected.remove(random.nextInt(expected.size()));
+        long previousKey = ki.key;
+        ki.key = random.nextInt(50);
+        int index = expectedInsertionIndex(expected, ki.key);
+        expected.add(index, ki);
+        assertEquals(index, list.reposition(ki, previousKey));
+      }
+    }
+    
+    assertEquals(expected.size(), list.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertTrue(expected.get(i) == list.get(i));
+    }
+  }
+  
+  private static int expectedInsertionIndex(List<KeyedItem> list, long key) {
+    int index = 0;
+    while (index < list.size() && list.get(index).key <= key) {
+      index++;
+    }
+    return index;
+  }
+  
+  private static class KeyedItem {
+    private long key;
+    
+    public KeyedItem(long key) {
+      this.key = key;
+    }
+  }
+}
@@ -1279,7 +1279,7 @@ public class FutureUtilsTest extends ThreadlyTester {
     assertEquals(1, scheduler.advance(1));
     int startCount = runCount.get();
     f.cancel(false);
-    assertEquals(1, scheduler.advance(1));  // should be task realizing it was canceled
+    assertEquals(0, scheduler.advance(1));  // canceled task is removed from the queue on cancel
     // verify task did not run
     assertEquals(startCount, runCount.get());
     assertEquals(0, scheduler.advance(100));  // should never run again
@@ -1494,7 +1494,7 @@ public class FutureUtilsTest extends ThreadlyTester {
     assertEquals(1, scheduler.advance(1));
     int startCount = runCount.get();
     f.cancel(false);
-    assertEquals(1, scheduler.advance(1));  // should be task realizing it was canceled
+    assertEquals(0, scheduler.advance(1));  // canceled task is removed from the queue on cancel
     // verify task did not run
     assertEquals(startCount, runCount.get());
     assertEquals(0, scheduler.advance(100));  // should never run again
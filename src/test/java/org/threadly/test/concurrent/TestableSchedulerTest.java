@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.After;
@@ -58,6 +59,25 @@ public class TestableSchedulerTest extends ThreadlyTester {
     assertFalse(scheduler.isShutdown());
   }
   
+  @Test
+  public void timingWheelScheduleTest() {
+    scheduler.enableScheduleTimingWheel(10, 8);
+    TestRunnable nearRunnable = new TestRunnable();
+    TestRunnable farRunnable = new TestRunnable();
+    scheduler.schedule(nearRunnable, 50);
+    // more than a full rotation of the wheel away
+    scheduler.schedule(farRunnable, 1000);
+    
+    assertEquals(2, scheduler.getQueuedTaskCount());
+    assertEquals(0, scheduler.advance(49));
+    assertEquals(1, scheduler.advance(1));
+    assertEquals(1, nearRunnable.getRunCount());
+    assertEquals(0, scheduler.advance(949));
+    assertEquals(1, scheduler.advance(1));
+    assertEquals(1, farRunnable.getRunCount());
+    assertEquals(0, scheduler.getQueuedTaskCount());
+  }
+  
   @Test
   public void lastTickTimeTest() {
     long now = Clock.lastKnownTimeMillis();
@@ -261,6 +281,29 @@ public class TestableSchedulerTest extends ThreadlyTester {
     assertEquals(1, scheduleRun.getRunCount());  // should NOT have run again
   }
   
+  @Test
+  public void scheduleRunnableTimeUnitTest() {
+    TestRunnable scheduleRun = new TestRunnable();
+    
+    scheduler.schedule(scheduleRun, 1500, TimeUnit.MICROSECONDS);
+    
+    assertEquals(0, scheduler.advance(0));
+    assertEquals(0, scheduler.advance(1));  // only 1000 micros have passed
+    assertEquals(1, scheduler.advance(1));
+    assertEquals(1, scheduleRun.getRunCount());
+  }
+  
+  @Test
+  public void scheduleAtFixedRateTimeUnitTest() {
+    TestRunnable scheduleRun = new TestRunnable();
+    
+    scheduler.scheduleAtFixedRate(scheduleRun, 0, 500, TimeUnit.MICROSECONDS);
+    
+    assertEquals(1, scheduler.advance(0));
+    assertEquals(2, scheduler.advance(1));  // runs at 500 and 1000 micros
+    assertEquals(3, scheduleRun.getRunCount());
+  }
+  
   @Test
   public void submitScheduledRunnableTest() {
     long scheduleDelay = 1000 * 10;
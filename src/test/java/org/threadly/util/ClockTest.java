@@ -72,6 +72,22 @@ public class ClockTest extends ThreadlyTester {
         .blockTillTrue(200);
   }
   
+  @Test
+  public void lastKnownForwardProgressingNanosTest() {
+    long nanos = Clock.accurateForwardProgressingNanos();
+    assertEquals(nanos, Clock.lastKnownForwardProgressingNanos());
+    assertEquals(nanos / Clock.NANOS_IN_MILLISECOND, Clock.lastKnownForwardProgressingMillis());
+  }
+  
+  @Test
+  public void accurateForwardProgressingNanosTest() {
+    final long timeSinceClockStartNanos = Clock.accurateForwardProgressingNanos();
+    assertTrue(timeSinceClockStartNanos >= 0);
+    
+    new TestCondition(() -> Clock.accurateForwardProgressingNanos() > timeSinceClockStartNanos)
+        .blockTillTrue(200);
+  }
+  
   @Test
   public void forwardProgressingDurationTest() {
     long startTime = Clock.lastKnownForwardProgressingMillis();
@@ -0,0 +1,66 @@
+package org.threadly.util;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.threadly.ThreadlyTester;
+import org.threadly.concurrent.DoNothingRunnable;
+import org.threadly.test.concurrent.TestCondition;
+import org.threadly.util.ReferenceCleaner.Cleanable;
+
+@SuppressWarnings("javadoc")
+public class ReferenceCleanerTest extends ThreadlyTester {
+  @After
+  public void cleanup() {
+    ExceptionUtils.setDefaultExceptionHandler(null);
+  }
+  
+  @Test
+  public void cleanExplicitlyTest() {
+    Object obj = new Object();
+    AtomicInteger runCount = new AtomicInteger();
+    Cleanable c = ReferenceCleaner.register(obj, runCount::incrementAndGet);
+    
+    c.clean();
+    assertEquals(1, runCount.get());
+    // only the first clean should invoke the action
+    c.clean();
+    assertEquals(1, runCount.get());
+  }
+  
+  @Test
+  public void cleanOnGarbageCollectionTest() {
+    AtomicInteger runCount = new AtomicInteger();
+    ReferenceCleaner.register(new Object(), runCount::incrementAndGet);
+    
+    new TestCondition(() -> {
+      System.gc();
+      return runCount.get() == 1;
+    }).blockTillTrue(10_000, 100);
+  }
+  
+  @Test
+  public void cleanExceptionHandledTest() {
+    TestExceptionHandler teh = new TestExceptionHandler();
+    ExceptionUtils.setDefaultExceptionHandler(teh);
+    RuntimeException failure = new SuppressedStackRuntimeException();
+    
+    ReferenceCleaner.register(new Object(), () -> { throw failure; }).clean();
+    
+    assertEquals(1, teh.getCallCount());
+    assertTrue(failure == teh.getLastThrowable());
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void registerNullObjectFail() {
+    ReferenceCleaner.register(null, DoNothingRunnable.instance());
+  }
+  
+  @Test (expected = IllegalArgumentException.class)
+  public void registerNullActionFail() {
+    ReferenceCleaner.register(new Object(), null);
+  }
+}